@@ -0,0 +1,232 @@
+/*
+ * Copyright 2023 The Fury Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fury.aot;
+
+import com.google.common.base.Preconditions;
+import com.google.common.reflect.TypeToken;
+import io.fury.Fury;
+import io.fury.builder.AccessorHelper;
+import io.fury.builder.BaseObjectCodecBuilder;
+import io.fury.builder.CompatibleCodecBuilder;
+import io.fury.builder.Generated;
+import io.fury.builder.MetaSharedCodecBuilder;
+import io.fury.builder.ObjectCodecBuilder;
+import io.fury.codegen.CodeGenerator;
+import io.fury.codegen.CompileUnit;
+import io.fury.codegen.JaninoUtils;
+import io.fury.config.CompatibleMode;
+import io.fury.resolver.FieldResolver;
+import io.fury.serializer.CodegenSerializer;
+import io.fury.type.ClassDef;
+import io.fury.util.LoggerFactory;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+
+/**
+ * Generate and compile jit serializers ahead of time, so that {@link
+ * io.fury.resolver.ClassResolver} can load them from the classloader of serialized classes instead
+ * of generating and compiling them at runtime.
+ *
+ * <p>Generated serializers are bound to the {@link io.fury.config.Config} of {@link Fury} and fury
+ * version, they will be ignored if the config is different, and must be regenerated when fury is
+ * upgraded. So the {@link Fury} used for generation should be created by the same code as
+ * production.
+ *
+ * <p>It can be invoked by exec-maven-plugin in process-classes phase, so generated classes will be
+ * packaged into the jar:
+ *
+ * <pre>{@code
+ * <plugin>
+ *   <groupId>org.codehaus.mojo</groupId>
+ *   <artifactId>exec-maven-plugin</artifactId>
+ *   <executions>
+ *     <execution>
+ *       <phase>process-classes</phase>
+ *       <goals><goal>java</goal></goals>
+ *       <configuration>
+ *         <mainClass>io.fury.aot.FuryAotCompiler</mainClass>
+ *         <arguments>
+ *           <argument>--fury-factory</argument>
+ *           <argument>com.example.FuryFactory</argument>
+ *           <argument>--class-list</argument>
+ *           <argument>${project.basedir}/src/main/resources/fury-classes.txt</argument>
+ *           <argument>--output</argument>
+ *           <argument>${project.build.outputDirectory}</argument>
+ *         </arguments>
+ *       </configuration>
+ *     </execution>
+ *   </executions>
+ * </plugin>
+ * }</pre>
+ *
+ * <p>The fury factory must be a {@code Supplier<Fury>} with a public no-arg constructor, the class
+ * list file contains a class name per line, lines start with {@code #} are ignored.
+ *
+ * @author chaokunyang
+ */
+public class FuryAotCompiler {
+  private static final Logger LOG = LoggerFactory.getLogger(FuryAotCompiler.class);
+
+  private final Fury fury;
+
+  public FuryAotCompiler(Fury fury) {
+    Preconditions.checkArgument(
+        fury.getConfig().isCodeGenEnabled(), "Codegen is disabled for fury %s", fury);
+    this.fury = fury;
+  }
+
+  /**
+   * Generate and compile serializers of <code>cls</code> for current fury config.
+   *
+   * @return bytecode of generated classes, keyed by class file path relative to classpath root.
+   */
+  public Map<String, byte[]> compile(Class<?> cls) {
+    Preconditions.checkArgument(
+        CodegenSerializer.supportCodegenForJavaSerialization(cls),
+        "Class %s doesn't support jit serialization",
+        cls);
+    Map<String, byte[]> classes = new LinkedHashMap<>();
+    boolean shareMeta = fury.getConfig().shareMetaContext();
+    if (fury.getCompatibleMode() == CompatibleMode.COMPATIBLE && !shareMeta) {
+      FieldResolver resolver = FieldResolver.of(fury, cls, true, false);
+      compile(
+          cls,
+          new CompatibleCodecBuilder(
+              TypeToken.of(cls), fury, resolver, Generated.GeneratedSerializer.class),
+          classes);
+    } else {
+      compile(cls, new ObjectCodecBuilder(cls, fury), classes);
+    }
+    if (shareMeta) {
+      ClassDef classDef = ClassDef.buildClassDef(cls, fury);
+      compile(cls, new MetaSharedCodecBuilder(TypeToken.of(cls), fury, classDef), classes);
+    }
+    // Generated serializers may access non-public members by accessors defined in the same
+    // package, which must be shipped together.
+    for (Class<?> c = cls; c != null && c != Object.class; c = c.getSuperclass()) {
+      ClassLoader loader = c.getClassLoader();
+      if (loader == null) {
+        continue;
+      }
+      try {
+        loader.loadClass(AccessorHelper.qualifiedAccessorClassName(c));
+      } catch (ClassNotFoundException e) {
+        continue;
+      }
+      CompileUnit unit =
+          new CompileUnit(
+              CodeGenerator.getPackage(c),
+              AccessorHelper.accessorClassName(c),
+              AccessorHelper.genCode(c));
+      classes.putAll(JaninoUtils.toBytecode(loader, unit));
+    }
+    return classes;
+  }
+
+  /** Generate and compile serializers of <code>classes</code> for current fury config. */
+  public Map<String, byte[]> compile(List<Class<?>> classes) {
+    Map<String, byte[]> result = new LinkedHashMap<>();
+    for (Class<?> cls : classes) {
+      result.putAll(compile(cls));
+    }
+    return result;
+  }
+
+  private void compile(
+      Class<?> cls, BaseObjectCodecBuilder codecBuilder, Map<String, byte[]> classes) {
+    codecBuilder.useStableClassName();
+    CompileUnit unit =
+        new CompileUnit(
+            CodeGenerator.getPackage(cls),
+            codecBuilder.codecClassName(cls),
+            codecBuilder.genCode());
+    ClassLoader loader = cls.getClassLoader();
+    if (loader == null) {
+      loader = FuryAotCompiler.class.getClassLoader();
+    }
+    classes.putAll(JaninoUtils.toBytecode(loader, unit));
+  }
+
+  /** Write class files into <code>outputDir</code>. */
+  public static void writeClasses(Map<String, byte[]> classes, Path outputDir) {
+    for (Map.Entry<String, byte[]> entry : classes.entrySet()) {
+      Path path = outputDir.resolve(entry.getKey());
+      try {
+        Files.createDirectories(path.getParent());
+        Files.write(path, entry.getValue());
+      } catch (IOException e) {
+        throw new RuntimeException(String.format("Write class file %s failed", path), e);
+      }
+      LOG.info("Write generated class file {}", path);
+    }
+  }
+
+  public static void main(String[] args) throws Exception {
+    String furyFactory = null;
+    String output = null;
+    List<String> classNames = new ArrayList<>();
+    for (int i = 0; i < args.length; i++) {
+      switch (args[i]) {
+        case "--fury-factory":
+          furyFactory = args[++i];
+          break;
+        case "--output":
+          output = args[++i];
+          break;
+        case "--classes":
+          for (String name : args[++i].split(",")) {
+            if (!name.trim().isEmpty()) {
+              classNames.add(name.trim());
+            }
+          }
+          break;
+        case "--class-list":
+          for (String line : Files.readAllLines(Paths.get(args[++i]), StandardCharsets.UTF_8)) {
+            line = line.trim();
+            if (!line.isEmpty() && !line.startsWith("#")) {
+              classNames.add(line);
+            }
+          }
+          break;
+        default:
+          throw new IllegalArgumentException("Unknown argument " + args[i]);
+      }
+    }
+    Preconditions.checkArgument(
+        furyFactory != null && output != null,
+        "Usage: FuryAotCompiler --fury-factory <class> --output <dir> "
+            + "[--classes <c1,c2>] [--class-list <file>]");
+    ClassLoader loader = Thread.currentThread().getContextClassLoader();
+    Supplier<?> supplier =
+        (Supplier<?>) loader.loadClass(furyFactory).getDeclaredConstructor().newInstance();
+    FuryAotCompiler compiler = new FuryAotCompiler((Fury) supplier.get());
+    List<Class<?>> classes = new ArrayList<>();
+    for (String className : classNames) {
+      classes.add(loader.loadClass(className));
+    }
+    writeClasses(compiler.compile(classes), Paths.get(output));
+  }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2023 The Fury Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fury.aot;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import io.fury.Fury;
+import io.fury.builder.AccessorHelper;
+import io.fury.builder.CodecUtils;
+import io.fury.builder.Generated;
+import io.fury.config.CompatibleMode;
+import io.fury.config.FuryBuilder;
+import io.fury.config.Language;
+import io.fury.serializer.Serializer;
+import io.fury.type.ClassDef;
+import io.fury.util.FuryVersion;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+public class FuryAotCompilerTest {
+
+  public static class AotBean {
+    public int f1;
+    String f2;
+    public List<String> f3;
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      AotBean aotBean = (AotBean) o;
+      return f1 == aotBean.f1 && Objects.equals(f2, aotBean.f2) && Objects.equals(f3, aotBean.f3);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(f1, f2, f3);
+    }
+  }
+
+  // Codec classes of this bean are only loaded by the version mismatch test, since a class loaded
+  // by the application classloader can't be replaced.
+  public static class VersionBean {
+    public int f1;
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof VersionBean && ((VersionBean) o).f1 == f1;
+    }
+
+    @Override
+    public int hashCode() {
+      return f1;
+    }
+  }
+
+  private static FuryBuilder furyBuilder(CompatibleMode mode, boolean shareMeta) {
+    return Fury.builder()
+        .withLanguage(Language.JAVA)
+        .requireClassRegistration(false)
+        .withCompatibleMode(mode)
+        .withMetaContextShare(shareMeta)
+        .withAsyncCompilation(true);
+  }
+
+  @DataProvider
+  public static Object[][] furyConfig() {
+    return new Object[][] {
+      {CompatibleMode.SCHEMA_CONSISTENT, false},
+      {CompatibleMode.COMPATIBLE, false},
+      {CompatibleMode.COMPATIBLE, true}
+    };
+  }
+
+  @Test(dataProvider = "furyConfig")
+  public void testCompile(CompatibleMode mode, boolean shareMeta) throws Exception {
+    FuryAotCompiler compiler = new FuryAotCompiler(furyBuilder(mode, shareMeta).build());
+    Map<String, byte[]> classes = compiler.compile(AotBean.class);
+    String accessorFile =
+        AccessorHelper.qualifiedAccessorClassName(AotBean.class).replace(".", "/") + ".class";
+    assertTrue(classes.containsKey(accessorFile), classes.keySet().toString());
+    assertEquals(classes.size(), shareMeta ? 3 : 2);
+    Path outputDir =
+        Paths.get(AotBean.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+    List<File> files = new ArrayList<>();
+    for (String key : classes.keySet()) {
+      File file = outputDir.resolve(key).toFile();
+      assertFalse(file.exists(), file.toString());
+      files.add(file);
+    }
+    try {
+      FuryAotCompiler.writeClasses(classes, outputDir);
+      Fury fury = furyBuilder(mode, shareMeta).build();
+      Class<? extends Serializer> serializerClass =
+          fury.getClassResolver().getSerializerClass(AotBean.class);
+      // Loaded from classloader of bean class instead of compiled at runtime.
+      assertTrue(Generated.class.isAssignableFrom(serializerClass));
+      assertSame(serializerClass.getClassLoader(), AotBean.class.getClassLoader());
+      if (shareMeta) {
+        assertNotNull(
+            CodecUtils.loadPrecompiledMetaSharedCodecClass(
+                fury, AotBean.class, ClassDef.buildClassDef(AotBean.class, fury)));
+      } else {
+        AotBean bean = new AotBean();
+        bean.f1 = 10;
+        bean.f2 = "abc";
+        bean.f3 = Arrays.asList("a", "b");
+        assertEquals(fury.deserialize(fury.serialize(bean)), bean);
+      }
+    } finally {
+      files.forEach(File::delete);
+    }
+  }
+
+  @Test
+  public void testVersionMismatch() throws Exception {
+    FuryAotCompiler compiler =
+        new FuryAotCompiler(furyBuilder(CompatibleMode.SCHEMA_CONSISTENT, false).build());
+    Map<String, byte[]> classes = compiler.compile(VersionBean.class);
+    // Patch recorded fury version in constant pool to simulate codec generated by another fury.
+    byte[] version = FuryVersion.VERSION.getBytes(StandardCharsets.UTF_8);
+    byte[] otherVersion = new byte[version.length];
+    Arrays.fill(otherVersion, (byte) 'x');
+    int patched = 0;
+    for (byte[] bytes : classes.values()) {
+      for (int i = 0; i + version.length <= bytes.length; i++) {
+        if (Arrays.equals(Arrays.copyOfRange(bytes, i, i + version.length), version)) {
+          System.arraycopy(otherVersion, 0, bytes, i, version.length);
+          patched++;
+        }
+      }
+    }
+    assertTrue(patched > 0);
+    Path outputDir =
+        Paths.get(VersionBean.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+    List<File> files = new ArrayList<>();
+    for (String key : classes.keySet()) {
+      files.add(outputDir.resolve(key).toFile());
+    }
+    try {
+      FuryAotCompiler.writeClasses(classes, outputDir);
+      Fury fury = furyBuilder(CompatibleMode.SCHEMA_CONSISTENT, false).build();
+      assertNull(CodecUtils.loadPrecompiledObjectCodecClass(VersionBean.class, fury));
+      // Fallback to serializer generated at runtime.
+      VersionBean bean = new VersionBean();
+      bean.f1 = 10;
+      assertEquals(fury.deserialize(fury.serialize(bean)), bean);
+    } finally {
+      files.forEach(File::delete);
+    }
+  }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2023 The Fury Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fury.benchmark;
+
+import io.fury.memory.MemoryBuffer;
+import io.fury.util.Platform;
+import java.util.Random;
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.CompilerControl;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Reads of a heap {@link MemoryBuffer} which has no {@link io.fury.memory.MemoryBufferSource}, the
+ * `unchecked` benchmarks read same data by unsafe directly as the upper bound, so the cost of the
+ * lazy fill check for stream reads can be compared.
+ *
+ * @author chaokunyang
+ */
+@BenchmarkMode(Mode.Throughput)
+@CompilerControl(value = CompilerControl.Mode.INLINE)
+public class BufferReadSuite {
+  private static final int SIZE = 4096;
+
+  @State(Scope.Thread)
+  public static class BufferState {
+    public byte[] bytes;
+    public MemoryBuffer buffer;
+    public MemoryBuffer varIntBuffer;
+    public int numVarInts;
+
+    @Setup(Level.Trial)
+    public void setup() {
+      bytes = new byte[SIZE];
+      new Random(0).nextBytes(bytes);
+      buffer = MemoryBuffer.fromByteArray(bytes);
+      varIntBuffer = MemoryBuffer.newHeapBuffer(SIZE * 5);
+      Random random = new Random(0);
+      numVarInts = SIZE;
+      for (int i = 0; i < numVarInts; i++) {
+        varIntBuffer.writeVarInt(random.nextInt(1 << 20));
+      }
+    }
+  }
+
+  @Benchmark
+  public Object readInts(BufferState state) {
+    MemoryBuffer buffer = state.buffer;
+    buffer.readerIndex(0);
+    int x = 0;
+    for (int i = 0; i < SIZE / 4; i++) {
+      x += buffer.readInt();
+    }
+    return x;
+  }
+
+  @Benchmark
+  public Object uncheckedReadInts(BufferState state) {
+    byte[] bytes = state.bytes;
+    int x = 0;
+    for (int i = 0; i < SIZE / 4; i++) {
+      x += Platform.getInt(bytes, Platform.BYTE_ARRAY_OFFSET + i * 4L);
+    }
+    return x;
+  }
+
+  @Benchmark
+  public Object readLongs(BufferState state) {
+    MemoryBuffer buffer = state.buffer;
+    buffer.readerIndex(0);
+    long x = 0;
+    for (int i = 0; i < SIZE / 8; i++) {
+      x += buffer.readLong();
+    }
+    return x;
+  }
+
+  @Benchmark
+  public Object uncheckedReadLongs(BufferState state) {
+    byte[] bytes = state.bytes;
+    long x = 0;
+    for (int i = 0; i < SIZE / 8; i++) {
+      x += Platform.getLong(bytes, Platform.BYTE_ARRAY_OFFSET + i * 8L);
+    }
+    return x;
+  }
+
+  @Benchmark
+  public Object readBytes(BufferState state) {
+    MemoryBuffer buffer = state.buffer;
+    buffer.readerIndex(0);
+    int x = 0;
+    for (int i = 0; i < SIZE; i++) {
+      x += buffer.readByte();
+    }
+    return x;
+  }
+
+  @Benchmark
+  public Object readVarInts(BufferState state) {
+    MemoryBuffer buffer = state.varIntBuffer;
+    buffer.readerIndex(0);
+    int x = 0;
+    for (int i = 0; i < state.numVarInts; i++) {
+      x += buffer.readVarInt();
+    }
+    return x;
+  }
+
+  public static void main(String[] args) throws Exception {
+    if (args.length == 0) {
+      String commandLine = "io.*BufferReadSuite.* -f 1 -wi 3 -i 3 -t 1 -w 2s -r 2s -rf csv";
+      System.out.println(commandLine);
+      args = commandLine.split(" ");
+    }
+    Main.main(args);
+  }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2023 The Fury Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fury.benchmark;
+
+import io.fury.Fury;
+import io.fury.ThreadSafeFury;
+import io.fury.benchmark.data.Sample;
+import io.fury.cache.FuryCache;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.CompilerControl;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compare {@link FuryCache} with an on-heap {@link ConcurrentHashMap} holding same number of
+ * values. Every value of the heap map is a distinct object graph, so the live heap is large. Run
+ * with `-prof gc` to compare gc time and allocation.
+ *
+ * @author chaokunyang
+ */
+@BenchmarkMode(Mode.Throughput)
+@CompilerControl(value = CompilerControl.Mode.INLINE)
+public class CacheSuite {
+
+  public static void main(String[] args) throws Exception {
+    if (args.length == 0) {
+      String commandLine =
+          "io.*CacheSuite.* -f 1 -wi 3 -i 5 -t 8 -w 2s -r 2s -prof gc -jvmArgs -Xmx4g -rf csv";
+      System.out.println(commandLine);
+      args = commandLine.split(" ");
+    }
+    Main.main(args);
+  }
+
+  @State(Scope.Benchmark)
+  public static class CacheState {
+    @Param({"fury", "heap"})
+    public String impl;
+
+    @Param({"200000"})
+    public int numKeys;
+
+    public ThreadSafeFury fury;
+    public Object object;
+    public FuryCache<Integer, Object> furyCache;
+    public ConcurrentHashMap<Integer, Object> heapCache;
+
+    @Setup(Level.Trial)
+    public void setup() {
+      fury = Fury.builder().requireClassRegistration(false).buildThreadSafeFury();
+      object = new Sample().populate(false);
+      int size = fury.serialize(object).length;
+      if (impl.equals("fury")) {
+        // Leave room so no value is evicted.
+        furyCache = new FuryCache<>(fury, (long) size * numKeys * 2);
+        for (int i = 0; i < numKeys; i++) {
+          furyCache.put(i, object);
+        }
+      } else {
+        heapCache = new ConcurrentHashMap<>();
+        for (int i = 0; i < numKeys; i++) {
+          heapCache.put(i, fury.copy(object));
+        }
+      }
+    }
+  }
+
+  @Benchmark
+  public Object get(CacheState state) {
+    int key = ThreadLocalRandom.current().nextInt(state.numKeys);
+    if (state.furyCache != null) {
+      return state.furyCache.get(key);
+    } else {
+      return state.heapCache.get(key);
+    }
+  }
+
+  @Benchmark
+  public Object put(CacheState state) {
+    int key = ThreadLocalRandom.current().nextInt(state.numKeys);
+    if (state.furyCache != null) {
+      return state.furyCache.put(key, state.object);
+    } else {
+      // Heap map needs a copy to avoid sharing mutable value with caller.
+      return state.heapCache.put(key, state.fury.copy(state.object));
+    }
+  }
+}
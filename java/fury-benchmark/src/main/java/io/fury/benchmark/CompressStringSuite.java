@@ -21,6 +21,7 @@ import io.fury.serializer.StringSerializer;
 import io.fury.util.Platform;
 import io.fury.util.StringUtils;
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import org.openjdk.jmh.Main;
 import org.openjdk.jmh.annotations.Benchmark;
 
@@ -32,6 +33,8 @@ public class CompressStringSuite {
   private static char[] utf16StrChars = utf16Str.toCharArray();
   private static String latinStr = StringUtils.random(utf16StrChars.length, 0);
   private static char[] latinStrChars = latinStr.toCharArray();
+  private static byte[] latinStrBytes = latinStr.getBytes(StandardCharsets.ISO_8859_1);
+  private static char[] charsBuffer = new char[latinStrBytes.length];
 
   @Benchmark
   public Object compressLatinCharsToHeap() {
@@ -45,6 +48,15 @@ public class CompressStringSuite {
     return directBuffer;
   }
 
+  @Benchmark
+  public Object compressLatinCharsSuperWordToHeap() {
+    char[] latinStrChars = CompressStringSuite.latinStrChars;
+    StringSerializer.compressLatin1(latinStrChars, heapBuffer, 0, latinStrChars.length);
+    directBuffer.writerIndex(0);
+    directBuffer.writePrimitiveArray(heapBuffer, Platform.BYTE_ARRAY_OFFSET, latinStrChars.length);
+    return directBuffer;
+  }
+
   @Benchmark
   public Object compressLatinCharsToOffHeap() {
     MemoryBuffer directBuffer = CompressStringSuite.directBuffer;
@@ -84,6 +96,23 @@ public class CompressStringSuite {
     return directBuffer;
   }
 
+  @Benchmark
+  public Object inflateLatinBytesScalar() {
+    byte[] latinStrBytes = CompressStringSuite.latinStrBytes;
+    char[] chars = charsBuffer;
+    for (int i = 0; i < latinStrBytes.length; i++) {
+      chars[i] = (char) (latinStrBytes[i] & 0xff);
+    }
+    return chars;
+  }
+
+  @Benchmark
+  public Object inflateLatinBytesSuperWord() {
+    byte[] latinStrBytes = CompressStringSuite.latinStrBytes;
+    StringSerializer.inflateLatin1(latinStrBytes, 0, charsBuffer, latinStrBytes.length);
+    return charsBuffer;
+  }
+
   @Benchmark
   public Object asciiScalarCheck() {
     char[] chars = latinStrChars;
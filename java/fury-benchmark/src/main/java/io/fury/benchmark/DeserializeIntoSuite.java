@@ -0,0 +1,135 @@
+/*
+ * Copyright 2023 The Fury Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fury.benchmark;
+
+import io.fury.Fury;
+import io.fury.benchmark.data.MediaContent;
+import io.fury.memory.MemoryBuffer;
+import io.fury.memory.MemoryUtils;
+import java.util.ArrayList;
+import java.util.List;
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.CompilerControl;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compare {@link Fury#deserialize} with {@link Fury#deserializeInto} which reuses a mutable target.
+ * Run with `-prof gc` to compare allocation rate.
+ *
+ * @author chaokunyang
+ */
+@BenchmarkMode(Mode.Throughput)
+@CompilerControl(value = CompilerControl.Mode.INLINE)
+public class DeserializeIntoSuite {
+
+  public static void main(String[] args) throws Exception {
+    if (args.length == 0) {
+      String commandLine =
+          "io.*DeserializeIntoSuite.* -f 1 -wi 3 -i 5 -t 1 -w 2s -r 2s -prof gc -rf csv";
+      System.out.println(commandLine);
+      args = commandLine.split(" ");
+    }
+    Main.main(args);
+  }
+
+  public static class Quote {
+    public int instrumentId;
+    public long timestamp;
+    public double bidPrice;
+    public double askPrice;
+    public long bidSize;
+    public long askSize;
+    public List<PriceLevel> levels;
+  }
+
+  public static class PriceLevel {
+    public double price;
+    public long size;
+  }
+
+  @State(Scope.Thread)
+  public static class DeserializeIntoState {
+    @Param({"quote", "mediaContent"})
+    public String objectType;
+
+    @Param({"true", "false"})
+    public boolean codegen;
+
+    public Fury fury;
+    public MemoryBuffer buffer;
+    public Object target;
+
+    @Setup(Level.Trial)
+    public void setup() {
+      fury = Fury.builder().withCodegen(codegen).requireClassRegistration(false).build();
+      Object object;
+      switch (objectType) {
+        case "quote":
+          object = createQuote();
+          target = createQuote();
+          break;
+        case "mediaContent":
+          object = new MediaContent().populate(false);
+          target = new MediaContent().populate(false);
+          break;
+        default:
+          throw new IllegalArgumentException(objectType);
+      }
+      buffer = MemoryUtils.buffer(256);
+      fury.serialize(buffer, object);
+    }
+
+    private static Quote createQuote() {
+      Quote quote = new Quote();
+      quote.instrumentId = 1001;
+      quote.timestamp = System.currentTimeMillis();
+      quote.bidPrice = 100.25;
+      quote.askPrice = 100.5;
+      quote.bidSize = 1000;
+      quote.askSize = 2000;
+      quote.levels = new ArrayList<>();
+      for (int i = 0; i < 5; i++) {
+        PriceLevel level = new PriceLevel();
+        level.price = 100 - i * 0.25;
+        level.size = 100L * i;
+        quote.levels.add(level);
+      }
+      return quote;
+    }
+  }
+
+  @Benchmark
+  public Object deserialize(DeserializeIntoState state) {
+    MemoryBuffer buffer = state.buffer;
+    buffer.readerIndex(0);
+    return state.fury.deserialize(buffer);
+  }
+
+  @Benchmark
+  public Object deserializeInto(DeserializeIntoState state) {
+    MemoryBuffer buffer = state.buffer;
+    buffer.readerIndex(0);
+    return state.fury.deserializeInto(buffer, state.target);
+  }
+}
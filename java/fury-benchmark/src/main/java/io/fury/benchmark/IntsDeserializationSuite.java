@@ -44,6 +44,12 @@ public class IntsDeserializationSuite {
     return state.fury.deserialize(state.buffer);
   }
 
+  @Benchmark
+  public Object fury_deserializePackedInts(FuryState.ReadPackedIntsState state) {
+    state.buffer.readerIndex(0);
+    return state.fury.deserialize(state.buffer);
+  }
+
   @Benchmark
   public Object fst_deserializeInts(FstState.ReadIntsState state, Blackhole bh) {
     return FstState.FstBenchmarkState.deserialize(bh, state);
@@ -47,6 +47,13 @@ public class IntsSerializationSuite {
     return state.buffer;
   }
 
+  @Benchmark
+  public Object fury_serializePackedInts(FuryState.PackedDataState state) {
+    state.buffer.writerIndex(0);
+    state.fury.serialize(state.buffer, state.data.ints);
+    return state.buffer;
+  }
+
   @Benchmark
   public byte[] fst_serializeInts(FstState.DataState state, Blackhole bh) {
     return FstState.FstBenchmarkState.serialize(bh, state, state.data.ints);
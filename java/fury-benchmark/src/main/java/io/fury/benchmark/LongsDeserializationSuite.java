@@ -39,6 +39,12 @@ public class LongsDeserializationSuite {
     return state.fury.deserialize(state.buffer);
   }
 
+  @Benchmark
+  public Object fury_deserializePackedLongs(FuryState.ReadPackedLongsState state) {
+    state.buffer.readerIndex(0);
+    return state.fury.deserialize(state.buffer);
+  }
+
   @Benchmark
   public Object fst_deserializeLongs(FstState.ReadLongsState state, Blackhole bh) {
     return FstState.FstBenchmarkState.deserialize(bh, state);
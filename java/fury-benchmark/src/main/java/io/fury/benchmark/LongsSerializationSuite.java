@@ -46,6 +46,13 @@ public class LongsSerializationSuite {
     return state.buffer;
   }
 
+  @Benchmark
+  public Object fury_serializePackedLongs(FuryState.PackedDataState state) {
+    state.buffer.writerIndex(0);
+    state.fury.serialize(state.buffer, state.data.longs);
+    return state.buffer;
+  }
+
   @Benchmark
   public byte[] fst_serializeLongs(FstState.DataState state, Blackhole bh) {
     return FstState.FstBenchmarkState.serialize(bh, state, state.data.longs);
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2023 The Fury Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fury.benchmark;
+
+import io.fury.Fury;
+import io.fury.ThreadSafeFury;
+import io.fury.benchmark.data.Sample;
+import io.fury.config.FuryBuilder;
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.CompilerControl;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compare {@link ThreadSafeFury} implementations under contention. Run with more threads than cores
+ * by `-t` to simulate many threads sharing few carriers.
+ *
+ * @author chaokunyang
+ */
+@BenchmarkMode(Mode.Throughput)
+@CompilerControl(value = CompilerControl.Mode.INLINE)
+public class ThreadSafeFurySuite {
+
+  public static void main(String[] args) throws Exception {
+    if (args.length == 0) {
+      String commandLine = "io.*ThreadSafeFurySuite.* -f 1 -wi 3 -i 5 -t 32 -w 2s -r 2s -rf csv";
+      System.out.println(commandLine);
+      args = commandLine.split(" ");
+    }
+    Main.main(args);
+  }
+
+  @State(Scope.Benchmark)
+  public static class ThreadSafeFuryState {
+    @Param({"threadLocal", "threadPool", "striped"})
+    public String impl;
+
+    public ThreadSafeFury fury;
+    public Object object;
+    public byte[] bytes;
+
+    @Setup(Level.Trial)
+    public void setup() {
+      FuryBuilder builder = Fury.builder().requireClassRegistration(false);
+      switch (impl) {
+        case "threadLocal":
+          fury = builder.buildThreadLocalFury();
+          break;
+        case "threadPool":
+          int parallelism = Runtime.getRuntime().availableProcessors();
+          fury = builder.buildThreadSafeFuryPool(parallelism, parallelism * 2);
+          break;
+        case "striped":
+          fury = builder.buildStripedThreadSafeFury();
+          break;
+        default:
+          throw new IllegalArgumentException(impl);
+      }
+      object = new Sample().populate(false);
+      bytes = fury.serialize(object);
+    }
+  }
+
+  @Benchmark
+  public Object serialize(ThreadSafeFuryState state) {
+    return state.fury.serialize(state.object);
+  }
+
+  @Benchmark
+  public Object deserialize(ThreadSafeFuryState state) {
+    return state.fury.deserialize(state.bytes);
+  }
+}
@@ -220,6 +220,38 @@ public class FuryState {
     public Data data = new Data();
   }
 
+  /** Fury which writes int[]/long[] with delta/frame-of-reference bit-packing. */
+  public static class PackedDataState extends DataState {
+    @Override
+    public void setup() {
+      fury =
+          Fury.builder()
+              .withLanguage(Language.JAVA)
+              .withClassVersionCheck(false)
+              .withRefTracking(references)
+              .withArrayPacked(true)
+              .requireClassRegistration(false)
+              .build();
+      setupBuffer();
+    }
+  }
+
+  public static class ReadPackedIntsState extends PackedDataState {
+    @Override
+    public void setup() {
+      super.setup();
+      new IntsSerializationSuite().fury_serializePackedInts(this);
+    }
+  }
+
+  public static class ReadPackedLongsState extends PackedDataState {
+    @Override
+    public void setup() {
+      super.setup();
+      new LongsSerializationSuite().fury_serializePackedLongs(this);
+    }
+  }
+
   public static class ReadIntsState extends DataState {
     @Override
     public void setup() {
@@ -0,0 +1,375 @@
+/*
+ * Copyright 2023 The Fury Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fury.cache;
+
+import com.google.common.base.Preconditions;
+import io.fury.ThreadSafeFury;
+import io.fury.memory.MemoryBuffer;
+import io.fury.memory.MemoryUtils;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A concurrent key-value cache which stores values as bytes serialized by {@link ThreadSafeFury} in
+ * off-heap slabs, so cached values don't add objects for GC to trace. Values are deserialized
+ * lazily by every {@link #get}, so the returned object is a copy of the cached value.
+ *
+ * <p>The cache is split into segments by key hash, every segment is guarded by its own lock and
+ * owns a fixed number of slabs. A segment writes values sequentially into its slabs as a circular
+ * log. Values are deserialized directly from slabs while the segment lock is held, so reading
+ * doesn't copy bytes. When all slabs are full, the oldest slab is reclaimed: values which have been
+ * read since written are moved to the start of the slab and kept (CLOCK second chance), other
+ * values are evicted. So the off-heap memory is bounded by <code>maxBytes</code>, and recently read
+ * values are retained like LRU.
+ *
+ * <p>Keys and small index entries are kept on heap. A value larger than the slab size won't be
+ * cached.
+ *
+ * @author chaokunyang
+ */
+@ThreadSafe
+public class FuryCache<K, V> {
+  private static final int DEFAULT_SLAB_SIZE = 4 * 1024 * 1024;
+
+  private final ThreadSafeFury fury;
+  private final Segment<K>[] segments;
+  private final int segmentMask;
+  private final int slabSize;
+  private final ThreadLocal<MemoryBuffer> bufferLocal =
+      ThreadLocal.withInitial(() -> MemoryUtils.buffer(64));
+
+  /**
+   * Create a cache whose off-heap memory is bounded by <code>maxBytes</code>.
+   *
+   * @param fury fury to serialize and deserialize values.
+   * @param maxBytes max bytes of slabs, rounded to multiple of slab size.
+   */
+  public FuryCache(ThreadSafeFury fury, long maxBytes) {
+    this(fury, maxBytes, DEFAULT_SLAB_SIZE, 16);
+  }
+
+  /**
+   * Create a cache whose off-heap memory is bounded by <code>maxBytes</code>.
+   *
+   * @param fury fury to serialize and deserialize values.
+   * @param maxBytes max bytes of slabs, rounded to multiple of slab size.
+   * @param slabSize size of every slab, this is also the max size of a cached value.
+   * @param concurrencyLevel max number of segments which can be updated concurrently, the number
+   *     will be rounded to a power of two and capped by number of slabs.
+   */
+  @SuppressWarnings("unchecked")
+  public FuryCache(ThreadSafeFury fury, long maxBytes, int slabSize, int concurrencyLevel) {
+    Preconditions.checkArgument(slabSize > 0, "Slab size %s should be positive.", slabSize);
+    Preconditions.checkArgument(
+        maxBytes >= slabSize, "Max bytes %s should be not less than slab size.", maxBytes);
+    Preconditions.checkArgument(concurrencyLevel > 0);
+    this.fury = fury;
+    this.slabSize = slabSize;
+    long numSlabs = maxBytes / slabSize;
+    int numSegments = 1;
+    while (numSegments < concurrencyLevel && numSegments * 2L <= numSlabs) {
+      numSegments <<= 1;
+    }
+    segments = new Segment[numSegments];
+    for (int i = 0; i < numSegments; i++) {
+      // Distribute remaining slabs to first segments.
+      long slabs = numSlabs / numSegments + (i < numSlabs % numSegments ? 1 : 0);
+      segments[i] = new Segment<>(Math.toIntExact(slabs), slabSize);
+    }
+    segmentMask = numSegments - 1;
+  }
+
+  /** Returns a deserialized copy of the value for <code>key</code>, or null if not cached. */
+  @SuppressWarnings("unchecked")
+  public V get(K key) {
+    return (V) segmentFor(key).read(key, fury);
+  }
+
+  /**
+   * Serialize <code>value</code> and cache it for <code>key</code>, old value for <code>key</code>
+   * will be replaced. Null value removes the key.
+   *
+   * @return false if the value is larger than slab size and not cached.
+   */
+  public boolean put(K key, V value) {
+    Preconditions.checkNotNull(key);
+    if (value == null) {
+      remove(key);
+      return true;
+    }
+    MemoryBuffer buffer = bufferLocal.get();
+    buffer.writerIndex(0);
+    fury.serialize(buffer, value);
+    int size = buffer.writerIndex();
+    Segment<K> segment = segmentFor(key);
+    if (size > slabSize) {
+      segment.remove(key);
+      shrinkBuffer(buffer);
+      return false;
+    }
+    segment.write(key, buffer, size);
+    return true;
+  }
+
+  /** Remove cached value for <code>key</code>, returns whether the key is cached. */
+  public boolean remove(K key) {
+    return segmentFor(key).remove(key);
+  }
+
+  public boolean containsKey(K key) {
+    return segmentFor(key).containsKey(key);
+  }
+
+  /** Returns number of cached values. */
+  public int size() {
+    int size = 0;
+    for (Segment<K> segment : segments) {
+      size += segment.size();
+    }
+    return size;
+  }
+
+  /** Returns bytes of cached values. */
+  public long usedBytes() {
+    long bytes = 0;
+    for (Segment<K> segment : segments) {
+      bytes += segment.usedBytes();
+    }
+    return bytes;
+  }
+
+  /** Returns number of values evicted to make room for new values. */
+  public long evictionCount() {
+    long count = 0;
+    for (Segment<K> segment : segments) {
+      count += segment.evictionCount();
+    }
+    return count;
+  }
+
+  /** Remove all values and release slabs, slabs will be allocated again when needed. */
+  public void clear() {
+    for (Segment<K> segment : segments) {
+      segment.clear();
+    }
+  }
+
+  private Segment<K> segmentFor(Object key) {
+    int h = key.hashCode();
+    h ^= h >>> 16;
+    return segments[h & segmentMask];
+  }
+
+  private void shrinkBuffer(MemoryBuffer buffer) {
+    // Don't retain buffer of big value.
+    if (buffer.size() > slabSize) {
+      bufferLocal.set(MemoryUtils.buffer(64));
+    }
+  }
+
+  private static final class Entry<K> {
+    private final K key;
+    private final int slab;
+    private int offset;
+    private final int length;
+    private boolean accessed;
+    private boolean live = true;
+
+    private Entry(K key, int slab, int offset, int length) {
+      this.key = key;
+      this.slab = slab;
+      this.offset = offset;
+      this.length = length;
+    }
+  }
+
+  private static final class Segment<K> extends ReentrantLock {
+    private final int slabSize;
+    private final MemoryBuffer[] slabs;
+    // Entries in every slab ordered by offset, including removed entries.
+    private final List<Entry<K>>[] slabEntries;
+    private final Map<K, Entry<K>> index = new HashMap<>();
+    private int headSlab;
+    private int headOffset;
+    private long usedBytes;
+    private long evictionCount;
+
+    @SuppressWarnings("unchecked")
+    private Segment(int numSlabs, int slabSize) {
+      this.slabSize = slabSize;
+      slabs = new MemoryBuffer[numSlabs];
+      slabEntries = new List[numSlabs];
+      for (int i = 0; i < numSlabs; i++) {
+        slabEntries[i] = new ArrayList<>();
+      }
+    }
+
+    private Object read(K key, ThreadSafeFury fury) {
+      lock();
+      try {
+        Entry<K> entry = index.get(key);
+        if (entry == null) {
+          return null;
+        }
+        entry.accessed = true;
+        // Slab bytes can't be moved or overwritten until the lock is released.
+        return fury.deserialize(slabs[entry.slab].slice(entry.offset, entry.length));
+      } finally {
+        unlock();
+      }
+    }
+
+    private void write(K key, MemoryBuffer buffer, int length) {
+      lock();
+      try {
+        removeEntry(index.get(key));
+        int slab = allocate(length);
+        MemoryBuffer slabBuffer = slabs[slab];
+        buffer.copyTo(0, slabBuffer, headOffset, length);
+        Entry<K> entry = new Entry<>(key, slab, headOffset, length);
+        headOffset += length;
+        slabEntries[slab].add(entry);
+        index.put(key, entry);
+        usedBytes += length;
+      } finally {
+        unlock();
+      }
+    }
+
+    private boolean remove(K key) {
+      lock();
+      try {
+        Entry<K> entry = index.get(key);
+        removeEntry(entry);
+        return entry != null;
+      } finally {
+        unlock();
+      }
+    }
+
+    private boolean containsKey(K key) {
+      lock();
+      try {
+        return index.containsKey(key);
+      } finally {
+        unlock();
+      }
+    }
+
+    private int size() {
+      lock();
+      try {
+        return index.size();
+      } finally {
+        unlock();
+      }
+    }
+
+    private long usedBytes() {
+      lock();
+      try {
+        return usedBytes;
+      } finally {
+        unlock();
+      }
+    }
+
+    private long evictionCount() {
+      lock();
+      try {
+        return evictionCount;
+      } finally {
+        unlock();
+      }
+    }
+
+    private void clear() {
+      lock();
+      try {
+        index.clear();
+        for (int i = 0; i < slabs.length; i++) {
+          slabs[i] = null;
+          slabEntries[i].clear();
+        }
+        headSlab = 0;
+        headOffset = 0;
+        usedBytes = 0;
+      } finally {
+        unlock();
+      }
+    }
+
+    private void removeEntry(Entry<K> entry) {
+      if (entry != null) {
+        entry.live = false;
+        index.remove(entry.key);
+        usedBytes -= entry.length;
+      }
+    }
+
+    /** Make room for <code>length</code> bytes at head offset of head slab. */
+    private int allocate(int length) {
+      if (slabs[headSlab] == null) {
+        slabs[headSlab] = MemoryBuffer.fromByteBuffer(ByteBuffer.allocateDirect(slabSize));
+      }
+      while (headOffset + length > slabSize) {
+        headSlab = (headSlab + 1) % slabs.length;
+        if (slabs[headSlab] == null) {
+          slabs[headSlab] = MemoryBuffer.fromByteBuffer(ByteBuffer.allocateDirect(slabSize));
+          headOffset = 0;
+        } else {
+          headOffset = reclaim(headSlab);
+        }
+      }
+      return headSlab;
+    }
+
+    /**
+     * Move values read since last reclaim to the start of <code>slab</code> and evict others.
+     * Returns end offset of moved values.
+     */
+    private int reclaim(int slab) {
+      MemoryBuffer slabBuffer = slabs[slab];
+      List<Entry<K>> entries = slabEntries[slab];
+      List<Entry<K>> retained = new ArrayList<>();
+      int offset = 0;
+      for (Entry<K> entry : entries) {
+        if (!entry.live) {
+          continue;
+        }
+        if (entry.accessed && offset + entry.length <= slabSize) {
+          // Entries are ordered by offset, so moved bytes won't overwrite unmoved entries.
+          slabBuffer.copyTo(entry.offset, slabBuffer, offset, entry.length);
+          entry.offset = offset;
+          entry.accessed = false;
+          offset += entry.length;
+          retained.add(entry);
+        } else {
+          removeEntry(entry);
+          evictionCount++;
+        }
+      }
+      slabEntries[slab] = retained;
+      return offset;
+    }
+  }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2023 The Fury Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fury.cache;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import io.fury.Fury;
+import io.fury.ThreadSafeFury;
+import io.fury.test.bean.BeanA;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.testng.annotations.Test;
+
+public class FuryCacheTest {
+  private static final ThreadSafeFury FURY =
+      Fury.builder().requireClassRegistration(false).buildThreadSafeFury();
+
+  @Test
+  public void testPutGet() {
+    FuryCache<String, Object> cache = new FuryCache<>(FURY, 1 << 20, 1 << 16, 4);
+    BeanA beanA = BeanA.createBeanA(2);
+    assertTrue(cache.put("a", beanA));
+    assertTrue(cache.put("b", "str"));
+    assertEquals(cache.get("a"), beanA);
+    assertEquals(cache.get("b"), "str");
+    assertNull(cache.get("c"));
+    assertEquals(cache.size(), 2);
+    assertTrue(cache.put("b", 1));
+    assertEquals(cache.get("b"), 1);
+    assertEquals(cache.size(), 2);
+    assertTrue(cache.remove("a"));
+    assertFalse(cache.remove("a"));
+    assertFalse(cache.containsKey("a"));
+    assertTrue(cache.put("b", null));
+    assertEquals(cache.size(), 0);
+    assertEquals(cache.usedBytes(), 0);
+    // Value larger than slab size is not cached.
+    assertFalse(cache.put("big", new byte[1 << 16]));
+    assertNull(cache.get("big"));
+    cache.put("a", beanA);
+    cache.clear();
+    assertNull(cache.get("a"));
+    cache.put("a", beanA);
+    assertEquals(cache.get("a"), beanA);
+  }
+
+  @Test
+  public void testEviction() {
+    int slabSize = 1024;
+    FuryCache<Integer, byte[]> cache = new FuryCache<>(FURY, 4 * slabSize, slabSize, 1);
+    cache.put(-1, new byte[100]);
+    for (int i = 0; i < 1000; i++) {
+      cache.put(i, new byte[100]);
+      // Keep reading -1, so it won't be evicted.
+      assertEquals(cache.get(-1), new byte[100]);
+    }
+    assertTrue(cache.evictionCount() > 0);
+    assertTrue(cache.usedBytes() <= 4 * slabSize);
+    assertTrue(cache.containsKey(-1));
+    assertTrue(cache.containsKey(999));
+    assertFalse(cache.containsKey(0));
+    for (int i = 0; i < 1000; i++) {
+      if (cache.containsKey(i)) {
+        assertEquals(cache.get(i), new byte[100]);
+      }
+    }
+  }
+
+  @Test
+  public void testConcurrentAccess() throws Exception {
+    FuryCache<Integer, BeanA> cache = new FuryCache<>(FURY, 1 << 20, 1 << 14, 8);
+    BeanA beanA = BeanA.createBeanA(2);
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    List<Future<?>> futures = new ArrayList<>();
+    for (int t = 0; t < 8; t++) {
+      int base = t * 1000;
+      futures.add(
+          executor.submit(
+              () -> {
+                for (int i = 0; i < 1000; i++) {
+                  cache.put(base + i, beanA);
+                  BeanA value = cache.get(base + i / 2);
+                  if (value != null) {
+                    assertEquals(value, beanA);
+                  }
+                }
+              }));
+    }
+    for (Future<?> future : futures) {
+      future.get();
+    }
+    executor.shutdown();
+    assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    assertTrue(cache.size() > 0);
+    assertTrue(cache.usedBytes() <= 1 << 20);
+  }
+}
@@ -18,12 +18,18 @@ package io.fury;
 
 import com.google.common.base.Preconditions;
 import io.fury.builder.JITContext;
+import io.fury.collection.IdentityMap;
+import io.fury.compress.BlockCompressor;
 import io.fury.config.CompatibleMode;
 import io.fury.config.Config;
 import io.fury.config.FuryBuilder;
 import io.fury.config.Language;
 import io.fury.config.LongEncoding;
+import io.fury.io.InputStreamSource;
+import io.fury.io.OutputStreamSink;
+import io.fury.memory.ByteBuffersSource;
 import io.fury.memory.MemoryBuffer;
+import io.fury.memory.MemoryBufferPool;
 import io.fury.memory.MemoryUtils;
 import io.fury.resolver.ClassInfo;
 import io.fury.resolver.ClassInfoHolder;
@@ -33,11 +39,14 @@ import io.fury.resolver.MapRefResolver;
 import io.fury.resolver.NoRefResolver;
 import io.fury.resolver.RefResolver;
 import io.fury.resolver.SerializationContext;
+import io.fury.resolver.StringTable;
 import io.fury.serializer.ArraySerializers;
 import io.fury.serializer.BufferCallback;
 import io.fury.serializer.BufferObject;
 import io.fury.serializer.OpaqueObjects;
+import io.fury.serializer.ParallelSerialization;
 import io.fury.serializer.PrimitiveSerializers.LongSerializer;
+import io.fury.serializer.ProjectionReader;
 import io.fury.serializer.Serializer;
 import io.fury.serializer.SerializerFactory;
 import io.fury.serializer.StringSerializer;
@@ -49,10 +58,13 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import javax.annotation.concurrent.NotThreadSafe;
@@ -87,13 +99,18 @@ public final class Fury {
   private static final byte isLittleEndianFlag = 1 << 1;
   private static final byte isCrossLanguageFlag = 1 << 2;
   private static final byte isOutOfBandFlag = 1 << 3;
+  private static final byte isCompressedFlag = 1 << 4;
   private static final boolean isLittleEndian = ByteOrder.nativeOrder() == ByteOrder.LITTLE_ENDIAN;
+  private static final int INITIAL_BUFFER_SIZE = 32;
+  // Window size for reading data from stream if stream buffer size is not configured.
+  private static final int STREAM_CHUNK_SIZE = 4096;
 
   private final Config config;
   private final boolean refTracking;
   private final RefResolver refResolver;
   private final ClassResolver classResolver;
   private final EnumStringResolver enumStringResolver;
+  private final StringTable stringTable;
   private final SerializationContext serializationContext;
   private final ClassLoader classLoader;
   private final JITContext jitContext;
@@ -104,6 +121,14 @@ public final class Fury {
   private final boolean compressInt;
   private final LongEncoding longEncoding;
   private final Generics generics;
+  private final BlockCompressor compressor;
+  private Map<Projection<?>, ProjectionReader<?>> projectionReaders;
+  private final IdentityMap<Object, Object> originToCopyMap;
+  private MemoryBuffer copyBuffer;
+  private ParallelSerialization parallelSerialization;
+  private OutputStreamSink streamSink;
+  private InputStreamSource streamSource;
+  private int pooledBufferSize = INITIAL_BUFFER_SIZE;
   private Language peerLanguage;
   private BufferCallback bufferCallback;
   private Iterator<MemoryBuffer> outOfBandBuffers;
@@ -123,16 +148,28 @@ public final class Fury {
     } else {
       this.refResolver = new NoRefResolver();
     }
+    if (language == Language.JAVA && config.getStringTableSize() > 0) {
+      stringTable = new StringTable(config.getStringTableSize());
+    } else {
+      stringTable = null;
+    }
     jitContext = new JITContext(this);
     enumStringResolver = new EnumStringResolver();
     classResolver = new ClassResolver(this);
     classResolver.initialize();
     serializationContext = new SerializationContext();
     this.classLoader = classLoader;
-    buffer = MemoryUtils.buffer(32);
+    buffer = MemoryUtils.buffer(INITIAL_BUFFER_SIZE);
     nativeObjects = new ArrayList<>();
+    originToCopyMap = new IdentityMap<>();
     generics = new Generics(this);
     stringSerializer = new StringSerializer(this);
+    if (config.getCompressionCodec() != null) {
+      compressor =
+          new BlockCompressor(config.getCompressionCodec(), config.getCompressionBlockSize());
+    } else {
+      compressor = null;
+    }
     LOG.info("Created new fury {}", this);
   }
 
@@ -163,6 +200,18 @@ public final class Fury {
     classResolver.setSerializerFactory(serializerFactory);
   }
 
+  /**
+   * Set a {@link ParallelSerialization} to serialize and deserialize elements of large root
+   * collections and object arrays in parallel, or null to disable parallel serialization.
+   */
+  public void setParallelSerialization(ParallelSerialization parallelSerialization) {
+    this.parallelSerialization = parallelSerialization;
+  }
+
+  public ParallelSerialization getParallelSerialization() {
+    return parallelSerialization;
+  }
+
   public SerializerFactory getSerializerFactory() {
     return classResolver.getSerializerFactory();
   }
@@ -181,22 +230,57 @@ public final class Fury {
   public byte[] serialize(Object obj) {
     buffer.writerIndex(0);
     serialize(buffer, obj, null);
-    return buffer.getBytes(0, buffer.writerIndex());
+    return getBytesAndShrinkBuffer();
   }
 
   /** Return serialized <code>obj</code> as a byte array. */
   public byte[] serialize(Object obj, BufferCallback callback) {
     buffer.writerIndex(0);
     serialize(buffer, obj, callback);
-    return buffer.getBytes(0, buffer.writerIndex());
+    return getBytesAndShrinkBuffer();
   }
 
   public MemoryBuffer serialize(MemoryBuffer buffer, Object obj) {
     return serialize(buffer, obj, null);
   }
 
+  /**
+   * Serialize <code>obj</code> to a buffer acquired from <code>pool</code> instead of copying
+   * serialized data into a new byte array. The returned buffer should be released by {@link
+   * MemoryBufferPool#release} after the data is consumed.
+   */
+  public MemoryBuffer serialize(MemoryBufferPool pool, Object obj) {
+    // Acquire a buffer of last serialized size to avoid growing buffer repeatedly.
+    MemoryBuffer buffer = pool.acquire(pooledBufferSize);
+    try {
+      serialize(buffer, obj, null);
+    } catch (Throwable t) {
+      pool.release(buffer);
+      throw t;
+    }
+    pooledBufferSize = buffer.writerIndex();
+    return buffer;
+  }
+
+  private byte[] getBytesAndShrinkBuffer() {
+    byte[] bytes = buffer.getBytes(0, buffer.writerIndex());
+    shrinkBuffer();
+    return bytes;
+  }
+
+  private void shrinkBuffer() {
+    // Internal buffer larger than the limit will be shrunk after serialization, so the memory
+    // won't be retained forever after serializing a big object. Shrink to the limit instead of
+    // initial size to avoid growing the buffer from scratch for next object.
+    int bufferSizeLimitBytes = config.getBufferSizeLimitBytes();
+    if (buffer.size() > bufferSizeLimitBytes) {
+      buffer.pointTo(new byte[bufferSizeLimitBytes], 0, bufferSizeLimitBytes);
+    }
+  }
+
   /** Serialize <code>obj</code> to a <code>buffer</code>. */
   public MemoryBuffer serialize(MemoryBuffer buffer, Object obj, BufferCallback callback) {
+    checkSinkSupported(buffer);
     try {
       jitContext.lock();
       this.bufferCallback = callback;
@@ -224,6 +308,7 @@ public final class Fury {
         bitmap |= isOutOfBandFlag;
       }
       buffer.put(maskIndex, bitmap);
+      int dataIndex = buffer.writerIndex();
       if (language == Language.JAVA) {
         if (config.shareMetaContext()) {
           int startOffset = buffer.writerIndex();
@@ -237,6 +322,9 @@ public final class Fury {
       } else {
         xserializeInternal(buffer, obj);
       }
+      if (compressor != null && compressor.compress(buffer, dataIndex)) {
+        buffer.put(maskIndex, (byte) (bitmap | isCompressedFlag));
+      }
       return buffer;
     } finally {
       resetWrite();
@@ -248,17 +336,13 @@ public final class Fury {
     serialize(outputStream, obj, null);
   }
 
+  /**
+   * Serialize <code>obj</code> to <code>outputStream</code>. If {@link
+   * Config#getStreamBufferSize()} is positive, data will be written to the stream in chunks while
+   * serializing instead of being buffered fully in memory.
+   */
   public void serialize(OutputStream outputStream, Object obj, BufferCallback callback) {
-    buffer.writerIndex(0);
-    buffer.writeInt(-1);
-    serialize(buffer, obj, callback);
-
-    buffer.putInt(0, buffer.writerIndex() - 4);
-    try {
-      outputStream.write(buffer.getBytes(0, buffer.writerIndex()));
-    } catch (IOException e) {
-      throw new RuntimeException(e);
-    }
+    serializeToStream(outputStream, buf -> serialize(buf, obj, callback));
   }
 
   private void xserializeInternal(MemoryBuffer buffer, Object obj) {
@@ -547,6 +631,10 @@ public final class Fury {
       } else {
         size = buffer.readPositiveVarInt();
       }
+      if (buffer.getSource() != null) {
+        // Bytes before reader index may be discarded when pulling more data from source.
+        return MemoryBuffer.fromByteArray(buffer.readBytes(size));
+      }
       MemoryBuffer slice = buffer.slice(buffer.readerIndex(), size);
       buffer.readerIndex(buffer.readerIndex() + size);
       return slice;
@@ -601,6 +689,16 @@ public final class Fury {
     }
   }
 
+  /** Skip a string written by {@link #writeJavaStringRef}. */
+  public void skipJavaStringRef(MemoryBuffer buffer) {
+    if (stringSerializer.needToWriteRef()) {
+      // skipped string may be referenced by later objects.
+      readJavaStringRef(buffer);
+    } else if (buffer.readByte() != Fury.NULL_FLAG) {
+      stringSerializer.skipJavaString(buffer);
+    }
+  }
+
   public void writeJavaString(MemoryBuffer buffer, String str) {
     stringSerializer.writeJavaString(buffer, str);
   }
@@ -653,6 +751,83 @@ public final class Fury {
    *     produced with a non-null `bufferCallback`.
    */
   public Object deserialize(MemoryBuffer buffer, Iterable<MemoryBuffer> outOfBandBuffers) {
+    return deserialize(buffer, outOfBandBuffers, null, null);
+  }
+
+  /**
+   * Deserialize <code>obj</code> from data scattered in <code>fragments</code> without
+   * concatenating the fragments, only values which straddle fragments will be copied. See {@link
+   * ByteBuffersSource}. Fragments are concatenated if data needs to be read by absolute offset.
+   */
+  public Object deserialize(ByteBuffer[] fragments) {
+    if (fragments.length == 1) {
+      return deserialize(MemoryUtils.wrap(fragments[0]));
+    }
+    MemoryBuffer buffer = MemoryUtils.buffer(32);
+    if (language != Language.JAVA || config.shareMetaContext() || compressor != null) {
+      for (ByteBuffer fragment : fragments) {
+        buffer.write(fragment.duplicate());
+      }
+    } else {
+      new ByteBuffersSource(fragments).bind(buffer);
+    }
+    return deserialize(buffer);
+  }
+
+  /** Deserialize projected fields of an object from a byte array, see {@link Projection}. */
+  public <T> T deserializeProjected(byte[] bytes, Projection<T> projection) {
+    return deserializeProjected(MemoryUtils.wrap(bytes), projection);
+  }
+
+  /**
+   * Deserialize an object of {@link Projection#getType()} from <code>buffer</code>, only fields in
+   * <code>projection</code> will be set, other fields will be skipped. Primitive and string fields
+   * are skipped without decoding, other unwanted fields of schema consistent data are still read
+   * since their sizes are unknown.
+   *
+   * <p>If the object is written by a custom serializer or is a record, the whole object will be
+   * read.
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T deserializeProjected(MemoryBuffer buffer, Projection<T> projection) {
+    Preconditions.checkNotNull(projection);
+    return (T) deserialize(buffer, null, projection, null);
+  }
+
+  /**
+   * Deserialize an object from a byte array into <code>target</code>, see {@link
+   * #deserializeInto(MemoryBuffer, Object)}.
+   */
+  public <T> T deserializeInto(byte[] bytes, T target) {
+    return deserializeInto(MemoryUtils.wrap(bytes), target);
+  }
+
+  /**
+   * Deserialize an object from <code>buffer</code> into <code>target</code> to reuse it instead of
+   * allocating a new object graph. If the serialized object has the same class as <code>target
+   * </code> and its serializer supports reusing, primitive fields of <code>target</code> will be
+   * overwritten in place and collection/map fields will be cleared and refilled if they have the
+   * same classes as serialized values, other fields will be set to newly deserialized objects.
+   * Otherwise a new object will be returned.
+   *
+   * <p>Containers reachable from <code>target</code> shouldn't be shared between fields, since they
+   * may be refilled with values of different fields. Cross-language data is always deserialized to
+   * new objects.
+   *
+   * @return <code>target</code> if it's reused, or a newly deserialized object.
+   * @see Serializer#readInto
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T deserializeInto(MemoryBuffer buffer, T target) {
+    Preconditions.checkNotNull(target);
+    return (T) deserialize(buffer, null, null, target);
+  }
+
+  private Object deserialize(
+      MemoryBuffer buffer,
+      Iterable<MemoryBuffer> outOfBandBuffers,
+      Projection<?> projection,
+      Object target) {
     try {
       jitContext.lock();
       byte bitmap = buffer.readByte();
@@ -680,14 +855,30 @@ public final class Fury {
             "outOfBandBuffers should be null when the serialized stream is "
                 + "produced with bufferCallback null.");
       }
+      if ((bitmap & isCompressedFlag) == isCompressedFlag) {
+        Preconditions.checkNotNull(
+            compressor,
+            "Compression codec should be configured when the serialized stream is compressed.");
+        // Cross-language and meta share data records offsets in original buffer.
+        int targetIndex = isTargetXLang || config.shareMetaContext() ? buffer.readerIndex() : 0;
+        buffer = compressor.decompress(buffer, targetIndex);
+      }
       Object obj;
       if (isTargetXLang) {
+        Preconditions.checkArgument(
+            projection == null, "Projection on cross-language data is not supported.");
         obj = xdeserializeInternal(buffer);
       } else {
         if (config.shareMetaContext()) {
           classResolver.readClassDefs(buffer);
         }
-        obj = readRef(buffer);
+        if (projection != null) {
+          obj = readProjection(buffer, projection);
+        } else if (target != null) {
+          obj = readRefInto(buffer, target);
+        } else {
+          obj = readRef(buffer);
+        }
       }
       return obj;
     } finally {
@@ -696,23 +887,50 @@ public final class Fury {
     }
   }
 
+  private Object readProjection(MemoryBuffer buffer, Projection<?> projection) {
+    RefResolver refResolver = this.refResolver;
+    int nextReadRefId = refResolver.tryPreserveRefId(buffer);
+    if (nextReadRefId >= NOT_NULL_VALUE_FLAG) {
+      ClassInfo classInfo = classResolver.readClassInfo(buffer);
+      if (classInfo.getCls() != projection.getType()) {
+        throw new IllegalArgumentException(
+            String.format(
+                "Expect object of %s but got %s", projection.getType(), classInfo.getCls()));
+      }
+      if (projectionReaders == null) {
+        projectionReaders = new HashMap<>();
+      }
+      ProjectionReader<?> reader = projectionReaders.get(projection);
+      if (reader == null) {
+        reader = new ProjectionReader<>(this, projection, classInfo.getSerializer());
+        projectionReaders.put(projection, reader);
+      }
+      Object o;
+      if (reader.isProjectable()) {
+        depth++;
+        o = reader.read(buffer);
+        depth--;
+      } else {
+        o = readData(buffer, classInfo);
+      }
+      refResolver.setReadObject(nextReadRefId, o);
+      return o;
+    } else {
+      return refResolver.getReadObject();
+    }
+  }
+
   public Object deserialize(InputStream inputStream) {
     return deserialize(inputStream, null);
   }
 
+  /**
+   * Deserialize <code>obj</code> from <code>inputStream</code>. Data written in chunks by a fury
+   * with {@link Config#getStreamBufferSize()} positive will be read from the stream lazily, only
+   * bytes of current object will be read from the stream.
+   */
   public Object deserialize(InputStream inputStream, Iterable<MemoryBuffer> outOfBandBuffers) {
-    buffer.readerIndex(0);
-    try {
-      int read = inputStream.read(buffer.getHeapMemory(), 0, 4);
-      Preconditions.checkArgument(read == 4);
-      int size = buffer.readInt();
-      buffer.ensure(size + 4);
-      read = inputStream.read(buffer.getHeapMemory(), 4, size);
-      Preconditions.checkArgument(read == size);
-      return deserialize(buffer, outOfBandBuffers);
-    } catch (IOException e) {
-      throw new RuntimeException(e);
-    }
+    return deserializeFromStream(inputStream, buf -> deserialize(buf, outOfBandBuffers));
   }
 
   private Object xdeserializeInternal(MemoryBuffer buffer) {
@@ -786,6 +1004,54 @@ public final class Fury {
     }
   }
 
+  /**
+   * Deserialize nullable referencable object from <code>buffer</code> into <code>target</code> if
+   * possible, see {@link Serializer#readInto}.
+   */
+  public Object readRefInto(MemoryBuffer buffer, Object target) {
+    RefResolver refResolver = this.refResolver;
+    int nextReadRefId = refResolver.tryPreserveRefId(buffer);
+    if (nextReadRefId >= NOT_NULL_VALUE_FLAG) {
+      Object o = readDataInto(buffer, classResolver.readClassInfo(buffer), target);
+      refResolver.setReadObject(nextReadRefId, o);
+      return o;
+    } else {
+      return refResolver.getReadObject();
+    }
+  }
+
+  public Object readRefInto(MemoryBuffer buffer, ClassInfoHolder classInfoHolder, Object target) {
+    RefResolver refResolver = this.refResolver;
+    int nextReadRefId = refResolver.tryPreserveRefId(buffer);
+    if (nextReadRefId >= NOT_NULL_VALUE_FLAG) {
+      Object o = readDataInto(buffer, classResolver.readClassInfo(buffer, classInfoHolder), target);
+      refResolver.setReadObject(nextReadRefId, o);
+      return o;
+    } else {
+      return refResolver.getReadObject();
+    }
+  }
+
+  /**
+   * Deserialize not-null and non-reference object from <code>buffer</code> into <code>target
+   * </code> if possible, see {@link Serializer#readInto}.
+   */
+  public Object readNonRefInto(
+      MemoryBuffer buffer, ClassInfoHolder classInfoHolder, Object target) {
+    return readDataInto(buffer, classResolver.readClassInfo(buffer, classInfoHolder), target);
+  }
+
+  @SuppressWarnings("unchecked")
+  private Object readDataInto(MemoryBuffer buffer, ClassInfo classInfo, Object target) {
+    if (target == null || target.getClass() != classInfo.getCls()) {
+      return readDataInternal(buffer, classInfo);
+    }
+    depth++;
+    Object read = ((Serializer<Object>) classInfo.getSerializer()).readInto(buffer, target);
+    depth--;
+    return read;
+  }
+
   /** Deserialize not-null and non-reference object from <code>buffer</code>. */
   public Object readNonRef(MemoryBuffer buffer) {
     return readDataInternal(buffer, classResolver.readClassInfo(buffer));
@@ -929,6 +1195,79 @@ public final class Fury {
     }
   }
 
+  /**
+   * Deep copy <code>obj</code> by serializers directly instead of serializing it into bytes and
+   * deserializing it back. Immutable objects such as strings, boxed primitives and {@code
+   * java.time} values are shared instead of copied. Shared and cyclic references are preserved only
+   * if reference tracking is enabled.
+   *
+   * <p>Objects whose serializers don't implement {@link Serializer#copy} are copied by a
+   * serialization round trip, references from them to objects copied directly won't be shared.
+   */
+  public <T> T copy(T obj) {
+    try {
+      jitContext.lock();
+      return copyObject(obj);
+    } finally {
+      originToCopyMap.clear();
+      if (copyBuffer != null && copyBuffer.writerIndex() > 0) {
+        copyBuffer.readerIndex(0);
+        copyBuffer.writerIndex(0);
+        resetWrite();
+        resetRead();
+      }
+      jitContext.unlock();
+    }
+  }
+
+  /** Deep copy nested object <code>obj</code>, this should be called by {@link Serializer#copy}. */
+  @SuppressWarnings("unchecked")
+  public <T> T copyObject(T obj) {
+    if (obj == null) {
+      return null;
+    }
+    Serializer<T> serializer = classResolver.getOrUpdateClassInfo(obj.getClass()).getSerializer();
+    if (serializer.isImmutable()) {
+      return obj;
+    }
+    if (refTracking) {
+      Object copied = originToCopyMap.get(obj);
+      if (copied != null) {
+        return (T) copied;
+      }
+    }
+    T copied = serializer.copy(obj);
+    if (refTracking) {
+      originToCopyMap.put(obj, copied);
+    }
+    return copied;
+  }
+
+  /**
+   * Record <code>copied</code> as the copy of <code>origin</code>. Serializers should call this
+   * before copying nested objects so that cyclic references to <code>origin</code> can be resolved.
+   */
+  public void reference(Object origin, Object copied) {
+    if (refTracking) {
+      originToCopyMap.put(origin, copied);
+    }
+  }
+
+  /**
+   * Copy <code>obj</code> by writing it into an internal buffer by <code>serializer</code> and
+   * reading it back.
+   */
+  public <T> T copyBySerialization(Serializer<T> serializer, T obj) {
+    MemoryBuffer buffer = copyBuffer;
+    if (buffer == null) {
+      copyBuffer = buffer = MemoryUtils.buffer(INITIAL_BUFFER_SIZE);
+    }
+    buffer.readerIndex(0);
+    buffer.writerIndex(0);
+    writeRef(buffer, obj, serializer);
+    return readRef(buffer, serializer);
+  }
+
   /**
    * Serialize java object without class info, deserialization should use {@link
    * #deserializeJavaObject}.
@@ -936,7 +1275,7 @@ public final class Fury {
   public byte[] serializeJavaObject(Object obj) {
     buffer.writerIndex(0);
     serializeJavaObject(buffer, obj);
-    return buffer.getBytes(0, buffer.writerIndex());
+    return getBytesAndShrinkBuffer();
   }
 
   /**
@@ -944,6 +1283,7 @@ public final class Fury {
    * #deserializeJavaObject}.
    */
   public void serializeJavaObject(MemoryBuffer buffer, Object obj) {
+    checkSinkSupported(buffer);
     try {
       jitContext.lock();
       if (config.shareMetaContext()) {
@@ -1022,7 +1362,7 @@ public final class Fury {
   public byte[] serializeJavaObjectAndClass(Object obj) {
     buffer.writerIndex(0);
     serializeJavaObjectAndClass(buffer, obj);
-    return buffer.getBytes(0, buffer.writerIndex());
+    return getBytesAndShrinkBuffer();
   }
 
   /**
@@ -1030,6 +1370,7 @@ public final class Fury {
    * #deserializeJavaObjectAndClass}.
    */
   public void serializeJavaObjectAndClass(MemoryBuffer buffer, Object obj) {
+    checkSinkSupported(buffer);
     try {
       jitContext.lock();
       if (config.shareMetaContext()) {
@@ -1088,14 +1429,49 @@ public final class Fury {
     return deserializeFromStream(inputStream, this::deserializeJavaObjectAndClass);
   }
 
+  /**
+   * Bytes drained to a {@link io.fury.memory.MemoryBufferSink} can't be updated by index any more,
+   * so protocols which update written bytes by index must fail fast instead of writing to memory
+   * out of current buffer window.
+   */
+  private void checkSinkSupported(MemoryBuffer buffer) {
+    if (buffer.getSink() != null) {
+      Preconditions.checkArgument(
+          language == Language.JAVA
+              && !config.shareMetaContext()
+              && !config.isFieldSizeWritten()
+              && compressor == null,
+          "Writing to a buffer with sink is not supported for cross-language, meta share, "
+              + "field size or compression, which update written bytes by index.");
+    }
+  }
+
   private void serializeToStream(OutputStream outputStream, Consumer<MemoryBuffer> function) {
-    if (outputStream.getClass() == ByteArrayOutputStream.class) {
+    if (config.getStreamBufferSize() > 0
+        && language == Language.JAVA
+        && !config.shareMetaContext()
+        && !config.isFieldSizeWritten()
+        && compressor == null) {
+      byte[] oldBytes = buffer.getHeapMemory(); // Note: This should not be null.
+      OutputStreamSink sink = streamSink;
+      if (sink == null) {
+        streamSink = sink = new OutputStreamSink(config.getStreamBufferSize());
+      }
+      sink.bind(buffer, outputStream);
+      try {
+        function.accept(buffer);
+        sink.finish(buffer);
+      } finally {
+        sink.unbind(buffer);
+        buffer.pointTo(oldBytes, 0, oldBytes.length);
+      }
+    } else if (outputStream.getClass() == ByteArrayOutputStream.class) {
       byte[] oldBytes = buffer.getHeapMemory(); // Note: This should not be null.
       MemoryUtils.wrap((ByteArrayOutputStream) outputStream, buffer);
       int writerIndex = buffer.writerIndex();
       buffer.writeInt(-1);
       function.accept(buffer);
-      buffer.putInt(writerIndex, buffer.writerIndex() - writerIndex);
+      buffer.putInt(writerIndex, buffer.writerIndex() - writerIndex - 4);
       MemoryUtils.wrap(buffer, (ByteArrayOutputStream) outputStream);
       buffer.pointTo(oldBytes, 0, oldBytes.length);
     } else {
@@ -1114,35 +1490,45 @@ public final class Fury {
       } catch (IOException e) {
         throw new RuntimeException(e);
       }
+      shrinkBuffer();
     }
   }
 
   private Object deserializeFromStream(
       InputStream inputStream, Function<MemoryBuffer, Object> function) {
     buffer.readerIndex(0);
-    try {
-      boolean isBis = inputStream.getClass() == ByteArrayInputStream.class;
-      byte[] oldBytes = null;
-      if (isBis) {
-        oldBytes = buffer.getHeapMemory(); // Note: This should not be null.
-        MemoryUtils.wrap((ByteArrayInputStream) inputStream, buffer);
+    if (inputStream.getClass() == ByteArrayInputStream.class) {
+      byte[] oldBytes = buffer.getHeapMemory(); // Note: This should not be null.
+      MemoryUtils.wrap((ByteArrayInputStream) inputStream, buffer);
+      int readerIndex = buffer.readerIndex();
+      // Chunked data has a negative header, which needs to be read by a stream source.
+      if (buffer.remaining() < 4 || buffer.getInt(readerIndex) >= 0) {
         buffer.increaseReaderIndex(4); // skip size.
-      } else {
-        int read = inputStream.read(buffer.getHeapMemory(), 0, 4);
-        Preconditions.checkArgument(read == 4);
-        int size = buffer.readInt();
-        buffer.ensure(4 + size);
-        read = inputStream.read(buffer.getHeapMemory(), 4, size);
-        Preconditions.checkArgument(read == size);
-      }
-      Object o = function.apply(buffer);
-      if (isBis) {
-        inputStream.skip(buffer.readerIndex());
+        Object o = function.apply(buffer);
+        ((ByteArrayInputStream) inputStream).skip(buffer.readerIndex() - readerIndex);
         buffer.pointTo(oldBytes, 0, oldBytes.length);
+        return o;
       }
+      buffer.pointTo(oldBytes, 0, oldBytes.length);
+    }
+    byte[] oldBytes = buffer.getHeapMemory(); // Note: This should not be null.
+    InputStreamSource source = streamSource;
+    if (source == null) {
+      streamSource =
+          source = new InputStreamSource(Math.max(config.getStreamBufferSize(), STREAM_CHUNK_SIZE));
+    }
+    source.bind(buffer, inputStream);
+    try {
+      if (!source.isChunked() || language != Language.JAVA || config.shareMetaContext()) {
+        // Data needs to be read by absolute offset.
+        source.fillAll(buffer);
+      }
+      Object o = function.apply(buffer);
+      source.finish(buffer);
       return o;
-    } catch (IOException e) {
-      throw new RuntimeException(e);
+    } finally {
+      source.unbind(buffer);
+      buffer.pointTo(oldBytes, 0, oldBytes.length);
     }
   }
 
@@ -1150,6 +1536,10 @@ public final class Fury {
     refResolver.reset();
     classResolver.reset();
     enumStringResolver.reset();
+    if (stringTable != null) {
+      stringTable.resetWrite();
+      stringTable.resetRead();
+    }
     serializationContext.reset();
     nativeObjects.clear();
     peerOutOfBandEnabled = false;
@@ -1161,6 +1551,9 @@ public final class Fury {
     refResolver.resetWrite();
     classResolver.resetWrite();
     enumStringResolver.resetWrite();
+    if (stringTable != null) {
+      stringTable.resetWrite();
+    }
     serializationContext.reset();
     nativeObjects.clear();
     bufferCallback = null;
@@ -1171,6 +1564,9 @@ public final class Fury {
     refResolver.resetRead();
     classResolver.resetRead();
     enumStringResolver.resetRead();
+    if (stringTable != null) {
+      stringTable.resetRead();
+    }
     serializationContext.reset();
     nativeObjects.clear();
     peerOutOfBandEnabled = false;
@@ -1226,6 +1622,11 @@ public final class Fury {
     return stringSerializer;
   }
 
+  /** Returns table for string deduplication, or null if string deduplication is disabled. */
+  public StringTable getStringTable() {
+    return stringTable;
+  }
+
   public ClassLoader getClassLoader() {
     return classLoader;
   }
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2023 The Fury Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fury;
+
+import com.google.common.base.Preconditions;
+import io.fury.annotation.Public;
+import io.fury.memory.MemoryBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Fields to deserialize for an object of {@link #getType()}. Deserialization by {@link
+ * Fury#deserializeProjected(MemoryBuffer, Projection)} sets only projected fields, other fields are
+ * skipped and keep default values.
+ *
+ * <pre>
+ *   Foo foo = fury.deserializeProjected(buffer, Projection.of(Foo.class, "id", "ts"));
+ * </pre>
+ *
+ * @author chaokunyang
+ */
+@Public
+public final class Projection<T> {
+  private final Class<T> type;
+  private final Set<String> fieldNames;
+
+  private Projection(Class<T> type, Set<String> fieldNames) {
+    this.type = type;
+    this.fieldNames = fieldNames;
+  }
+
+  /** Create a projection on fields <code>fieldNames</code> of <code>type</code>. */
+  public static <T> Projection<T> of(Class<T> type, String... fieldNames) {
+    Preconditions.checkNotNull(type);
+    Preconditions.checkArgument(fieldNames.length > 0, "Projected fields shouldn't be empty.");
+    return new Projection<>(
+        type, Collections.unmodifiableSet(new LinkedHashSet<>(Arrays.asList(fieldNames))));
+  }
+
+  public Class<T> getType() {
+    return type;
+  }
+
+  public Set<String> getFieldNames() {
+    return fieldNames;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    Projection<?> that = (Projection<?>) o;
+    return type == that.type && fieldNames.equals(that.fieldNames);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(type, fieldNames);
+  }
+
+  @Override
+  public String toString() {
+    return "Projection{" + "type=" + type + ", fieldNames=" + fieldNames + '}';
+  }
+}
@@ -17,6 +17,7 @@
 package io.fury;
 
 import io.fury.memory.MemoryBuffer;
+import io.fury.memory.MemoryBufferPool;
 import io.fury.memory.MemoryUtils;
 import io.fury.util.LoaderBinding;
 import io.fury.util.LoaderBinding.StagingType;
@@ -34,9 +35,6 @@ import javax.annotation.concurrent.ThreadSafe;
 @ThreadSafe
 public class ThreadLocalFury implements ThreadSafeFury {
 
-  private final ThreadLocal<MemoryBuffer> bufferLocal =
-      ThreadLocal.withInitial(() -> MemoryUtils.buffer(32));
-
   private final ThreadLocal<LoaderBinding> bindingThreadLocal;
 
   public ThreadLocalFury(Function<ClassLoader, Fury> furyFactory) {
@@ -59,10 +57,7 @@ public class ThreadLocalFury implements ThreadSafeFury {
   }
 
   public byte[] serialize(Object obj) {
-    MemoryBuffer buffer = bufferLocal.get();
-    buffer.writerIndex(0);
-    bindingThreadLocal.get().get().serialize(buffer, obj);
-    return buffer.getBytes(0, buffer.writerIndex());
+    return bindingThreadLocal.get().get().serialize(obj);
   }
 
   @Override
@@ -70,6 +65,11 @@ public class ThreadLocalFury implements ThreadSafeFury {
     return bindingThreadLocal.get().get().serialize(obj, address, size);
   }
 
+  @Override
+  public MemoryBuffer serialize(MemoryBufferPool pool, Object obj) {
+    return bindingThreadLocal.get().get().serialize(pool, obj);
+  }
+
   public MemoryBuffer serialize(MemoryBuffer buffer, Object obj) {
     return bindingThreadLocal.get().get().serialize(buffer, obj);
   }
@@ -90,6 +90,11 @@ public class ThreadLocalFury implements ThreadSafeFury {
     return bindingThreadLocal.get().get().deserialize(MemoryUtils.wrap(byteBuffer));
   }
 
+  @Override
+  public <T> T copy(T obj) {
+    return bindingThreadLocal.get().get().copy(obj);
+  }
+
   @Override
   public byte[] serializeJavaObject(Object obj) {
     return bindingThreadLocal.get().get().serializeJavaObject(obj);
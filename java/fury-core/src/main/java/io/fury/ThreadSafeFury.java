@@ -17,6 +17,7 @@
 package io.fury;
 
 import io.fury.memory.MemoryBuffer;
+import io.fury.memory.MemoryBufferPool;
 import io.fury.util.LoaderBinding;
 import java.nio.ByteBuffer;
 import java.util.function.Function;
@@ -44,6 +45,16 @@ public interface ThreadSafeFury {
    */
   MemoryBuffer serialize(Object obj, long address, int size);
 
+  /**
+   * Serialize <code>obj</code> to a buffer acquired from <code>pool</code>, the buffer should be
+   * released to the pool after the data is consumed.
+   *
+   * @see Fury#serialize(MemoryBufferPool, Object)
+   */
+  default MemoryBuffer serialize(MemoryBufferPool pool, Object obj) {
+    return execute(fury -> fury.serialize(pool, obj));
+  }
+
   /** Serialize data into buffer. */
   MemoryBuffer serialize(MemoryBuffer buffer, Object obj);
 
@@ -62,6 +73,11 @@ public interface ThreadSafeFury {
   /** Deserialize <code>obj</code> from a {@link ByteBuffer}. */
   Object deserialize(ByteBuffer byteBuffer);
 
+  /** Deep copy <code>obj</code>, see {@link Fury#copy}. */
+  default <T> T copy(T obj) {
+    return execute(fury -> fury.copy(obj));
+  }
+
   /**
    * Serialize java object without class info, deserialization should use {@link
    * #deserializeJavaObject}.
@@ -62,6 +62,7 @@ import io.fury.codegen.Expression.If;
 import io.fury.codegen.Expression.Invoke;
 import io.fury.codegen.Expression.ListExpression;
 import io.fury.codegen.Expression.Literal;
+import io.fury.codegen.Expression.NewInstance;
 import io.fury.codegen.Expression.Reference;
 import io.fury.codegen.Expression.Return;
 import io.fury.codegen.Expression.StaticInvoke;
@@ -73,6 +74,7 @@ import io.fury.resolver.ClassInfo;
 import io.fury.resolver.ClassInfoHolder;
 import io.fury.resolver.ClassResolver;
 import io.fury.resolver.RefResolver;
+import io.fury.serializer.ArraySerializers;
 import io.fury.serializer.CollectionSerializers;
 import io.fury.serializer.CollectionSerializers.CollectionSerializer;
 import io.fury.serializer.CompatibleSerializer;
@@ -82,6 +84,7 @@ import io.fury.serializer.PrimitiveSerializers.LongSerializer;
 import io.fury.serializer.Serializer;
 import io.fury.serializer.Serializers;
 import io.fury.serializer.StringSerializer;
+import io.fury.type.Descriptor;
 import io.fury.type.FinalObjectTypeStub;
 import io.fury.type.TypeUtils;
 import io.fury.util.ReflectionUtils;
@@ -128,7 +131,10 @@ public abstract class BaseObjectCodecBuilder extends CodecBuilder {
   private final Map<String, Object> sharedFieldMap = new HashMap<>();
   protected final Class<?> parentSerializerClass;
   private final Map<String, String> jitCallbackUpdateFields;
+  private boolean stableClassName;
   protected LinkedList<String> walkPath = new LinkedList<>();
+  // Runtime field types recorded in interpreter mode, null if not profiled.
+  protected FieldTypeProfile fieldTypeProfile;
 
   public BaseObjectCodecBuilder(TypeToken<?> beanType, Fury fury, Class<?> parentSerializerClass) {
     super(new CodegenContext(), beanType);
@@ -159,6 +165,12 @@ public abstract class BaseObjectCodecBuilder extends CodecBuilder {
   }
 
   public String codecClassName(Class<?> beanClass) {
+    String classUniqueId = stableClassName ? "" : CodeGenerator.getClassUniqueId(beanClass);
+    return codecClassName(beanClass, fury, codecSuffix(), classUniqueId);
+  }
+
+  static String codecClassName(
+      Class<?> beanClass, Fury fury, String codecSuffix, String classUniqueId) {
     String name = ReflectionUtils.getClassNameWithoutPackage(beanClass).replace("$", "_");
     StringBuilder nameBuilder = new StringBuilder(name);
     if (fury.trackingRef()) {
@@ -168,9 +180,8 @@ public abstract class BaseObjectCodecBuilder extends CodecBuilder {
     } else {
       nameBuilder.append("Fury");
     }
-    nameBuilder.append(codecSuffix()).append("Codec");
+    nameBuilder.append(codecSuffix).append("Codec");
     nameBuilder.append('_').append(fury.getConfig().getConfigHash());
-    String classUniqueId = CodeGenerator.getClassUniqueId(beanClass);
     if (StringUtils.isNotBlank(classUniqueId)) {
       nameBuilder.append('_').append(classUniqueId);
     }
@@ -178,16 +189,56 @@ public abstract class BaseObjectCodecBuilder extends CodecBuilder {
   }
 
   public String codecQualifiedClassName(Class<?> beanClass) {
-    String pkg = getPackage(beanClass);
+    return qualifiedClassName(getPackage(beanClass), codecClassName(beanClass));
+  }
+
+  static String qualifiedClassName(String pkg, String className) {
     if (StringUtils.isNotBlank(pkg)) {
-      return pkg + "." + codecClassName(beanClass);
+      return pkg + "." + className;
     } else {
-      return codecClassName(beanClass);
+      return className;
+    }
+  }
+
+  /**
+   * Generate codec with a class name which doesn't contain classloader-specific unique id, and
+   * don't reference other generated serializers directly. Used for generating codec ahead of time,
+   * which will be found by {@link CodecUtils#loadPrecompiledObjectCodecClass} and similar methods
+   * at runtime.
+   */
+  public void useStableClassName() {
+    stableClassName = true;
+  }
+
+  /**
+   * Records fury version and class version hash in the generated class so that {@link CodecUtils}
+   * can reject a precompiled codec which doesn't match current runtime.
+   */
+  protected void addPrecompiledVersionFields() {
+    if (stableClassName) {
+      CodecUtils.addVersionFields(ctx, fury, beanClass);
     }
   }
 
   protected abstract String codecSuffix();
 
+  /**
+   * Returns an expression to deserialize data into an existing object named {@link
+   * #TARGET_OBJECT_NAME}, or null if the generated serializer doesn't override {@link
+   * Serializer#readInto}.
+   */
+  protected Expression buildDecodeIntoExpression() {
+    return null;
+  }
+
+  /**
+   * Returns an expression to deep copy object named {@link #ROOT_OBJECT_NAME}, or null if the
+   * generated serializer doesn't override {@link Serializer#copy}.
+   */
+  protected Expression buildCopyExpression() {
+    return null;
+  }
+
   <T> T visitFury(Function<Fury, T> function) {
     return fury.getJITContext().asyncVisitFury(function);
   }
@@ -201,8 +252,11 @@ public abstract class BaseObjectCodecBuilder extends CodecBuilder {
     ctx.extendsClasses(ctx.type(parentSerializerClass));
     ctx.reserveName(POJO_CLASS_TYPE_NAME);
     ctx.addField(ctx.type(Fury.class), FURY_NAME);
+    addPrecompiledVersionFields();
     Expression encodeExpr = buildEncodeExpression();
     Expression decodeExpr = buildDecodeExpression();
+    Expression decodeIntoExpr = buildDecodeIntoExpression();
+    Expression copyExpr = buildCopyExpression();
     String constructorCode =
         StringUtils.format(
             ""
@@ -229,6 +283,25 @@ public abstract class BaseObjectCodecBuilder extends CodecBuilder {
         Object.class,
         ROOT_OBJECT_NAME);
     ctx.overrideMethod("read", decodeCode, Object.class, MemoryBuffer.class, BUFFER_NAME);
+    if (decodeIntoExpr != null) {
+      ctx.clearExprState();
+      String decodeIntoCode = decodeIntoExpr.genCode(ctx).code();
+      decodeIntoCode = ctx.optimizeMethodCode(decodeIntoCode);
+      ctx.overrideMethod(
+          "readInto",
+          decodeIntoCode,
+          Object.class,
+          MemoryBuffer.class,
+          BUFFER_NAME,
+          Object.class,
+          TARGET_OBJECT_NAME);
+    }
+    if (copyExpr != null) {
+      ctx.clearExprState();
+      String copyCode = copyExpr.genCode(ctx).code();
+      copyCode = ctx.optimizeMethodCode(copyCode);
+      ctx.overrideMethod("copy", copyCode, Object.class, Object.class, ROOT_OBJECT_NAME);
+    }
     registerJITNotifyCallback();
     ctx.addConstructor(constructorCode, Fury.class, "fury", Class.class, POJO_CLASS_TYPE_NAME);
     return ctx.genCode();
@@ -456,6 +529,32 @@ public abstract class BaseObjectCodecBuilder extends CodecBuilder {
             PRIMITIVE_VOID_TYPE,
             buffer,
             inputObject));
+    Class<?> profiledType = getProfiledType(clz);
+    if (profiledType != null) {
+      // Guard on dominant type observed in interpreter mode, so that class info is written as
+      // constant and the serializer call can be inlined.
+      ListExpression writeProfiled = new ListExpression();
+      Short classId = visitFury(f -> f.getClassResolver().getRegisteredClassId(profiledType));
+      if (classId != null && classId != ClassResolver.NO_CLASS_ID) {
+        writeProfiled.add(fury.getClassResolver().writeClassExpr(buffer, classId));
+      } else {
+        writeProfiled.add(
+            fury.getClassResolver()
+                .writeClassExpr(classResolverRef, buffer, addConstClassInfoField(profiledType)));
+      }
+      writeProfiled.add(
+          new Invoke(
+              getOrCreateSerializer(profiledType),
+              "write",
+              buffer,
+              new Cast(inputObject, TypeToken.of(profiledType))));
+      return invokeGenerated(
+          ctx,
+          ImmutableSet.of(buffer, inputObject),
+          new If(eq(clsExpr, Literal.ofClass(profiledType)), writeProfiled, writeClassAndObject),
+          "writeClassAndObject",
+          false);
+    }
     return invokeGenerated(
         ctx,
         ImmutableSet.of(buffer, inputObject),
@@ -464,6 +563,41 @@ public abstract class BaseObjectCodecBuilder extends CodecBuilder {
         false);
   }
 
+  /**
+   * Returns dominant runtime type of current field recorded by {@link #fieldTypeProfile}, or null
+   * if current position is not a field of bean class, or the type can't be accessed from generated
+   * code.
+   */
+  protected Class<?> getProfiledType(Class<?> declaredType) {
+    if (fieldTypeProfile == null || walkPath.size() != 1) {
+      return null;
+    }
+    Class<?> type = fieldTypeProfile.getDominantType(walkPath.getFirst());
+    if (type == null
+        || type.isArray()
+        || type.getCanonicalName() == null
+        || !declaredType.isAssignableFrom(type)) {
+      return null;
+    }
+    for (Class<?> c = type; c != null; c = c.getEnclosingClass()) {
+      if (!ReflectionUtils.isPublic(c)) {
+        return null;
+      }
+    }
+    ClassLoader beanClassLoader =
+        beanClass.getClassLoader() == null
+            ? Thread.currentThread().getContextClassLoader()
+            : beanClass.getClassLoader();
+    try {
+      if (beanClassLoader.loadClass(type.getName()) != type) {
+        return null;
+      }
+    } catch (ClassNotFoundException e) {
+      return null;
+    }
+    return type;
+  }
+
   /**
    * Returns a serializer expression which will be used to call write/read method to avoid virtual
    * methods calls in most situations.
@@ -490,7 +624,8 @@ public abstract class BaseObjectCodecBuilder extends CodecBuilder {
       }
       if (serializerClass == LazyInitBeanSerializer.class
           || serializerClass == ObjectSerializer.class
-          || serializerClass == CompatibleSerializer.class) {
+          || serializerClass == CompatibleSerializer.class
+          || (stableClassName && Generated.class.isAssignableFrom(serializerClass))) {
         // field init may get jit serializer, which will cause cast exception if not use base type.
         serializerClass = Serializer.class;
       }
@@ -554,12 +689,7 @@ public abstract class BaseObjectCodecBuilder extends CodecBuilder {
       return classInfoRef;
     }
     if (!needUpdate) {
-      Expression clsExpr = new Literal(cls, CLASS_TYPE);
-      classInfoExpr = inlineInvoke(classResolverRef, "getClassInfo", classInfoTypeToken, clsExpr);
-      // Use `ctx.freshName(cls)` to avoid wrong name for arr type.
-      String name = ctx.newName(ctx.newName(cls) + "ClassInfo");
-      ctx.addField(ctx.type(ClassInfo.class), name, classInfoExpr, true);
-      classInfoRef = Tuple2.of(fieldRef(name, classInfoTypeToken), false);
+      classInfoRef = Tuple2.of(addConstClassInfoField(cls), false);
     } else {
       classInfoExpr = inlineInvoke(classResolverRef, "nilClassInfo", classInfoTypeToken);
       String name = ctx.newName(StringUtils.uncapitalize(cls.getSimpleName()) + "ClassInfo");
@@ -571,6 +701,47 @@ public abstract class BaseObjectCodecBuilder extends CodecBuilder {
     return classInfoRef;
   }
 
+  /**
+   * Returns a serializer field for <code>descriptor</code> specified by field annotation such as
+   * {@link io.fury.annotation.Packed}, or null if the field should use the registered serializer.
+   */
+  protected Reference getFieldSerializer(Descriptor descriptor) {
+    Serializer<?> serializer =
+        visitFury(f -> ArraySerializers.getPackedFieldSerializer(f, descriptor.getField()));
+    if (serializer == null) {
+      return null;
+    }
+    Class<?> serializerClass = serializer.getClass();
+    String key = "packedSerializer:" + serializerClass;
+    Reference serializerRef = (Reference) sharedFieldMap.get(key);
+    if (serializerRef == null) {
+      TypeToken<?> serializerType = TypeToken.of(serializerClass);
+      Expression newSerializer = new NewInstance(serializerType, furyRef, Literal.True);
+      String name = ctx.newName("packed" + serializerClass.getSimpleName());
+      ctx.addField(ctx.type(serializerClass), name, newSerializer, true);
+      serializerRef = fieldRef(name, serializerType);
+      sharedFieldMap.put(key, serializerRef);
+    }
+    return serializerRef;
+  }
+
+  /** Add a field for classinfo of <code>cls</code>, which won't be updated. */
+  protected Reference addConstClassInfoField(Class<?> cls) {
+    String key = "constClassInfo:" + cls;
+    Reference classInfoRef = (Reference) sharedFieldMap.get(key);
+    if (classInfoRef == null) {
+      Expression clsExpr = new Literal(cls, CLASS_TYPE);
+      Expression classInfoExpr =
+          inlineInvoke(classResolverRef, "getClassInfo", classInfoTypeToken, clsExpr);
+      // Use `ctx.freshName(cls)` to avoid wrong name for arr type.
+      String name = ctx.newName(ctx.newName(cls) + "ClassInfo");
+      ctx.addField(ctx.type(ClassInfo.class), name, classInfoExpr, true);
+      classInfoRef = fieldRef(name, classInfoTypeToken);
+      sharedFieldMap.put(key, classInfoRef);
+    }
+    return classInfoRef;
+  }
+
   protected Reference addClassInfoHolderField(Class<?> cls) {
     // Final type need to write classinfo when meta share enabled.
     String key;
@@ -1083,9 +1254,19 @@ public abstract class BaseObjectCodecBuilder extends CodecBuilder {
       TypeToken<?> typeToken,
       Function<Expression, Expression> callback,
       CutPoint cutPoint) {
+    return deserializeFor(buffer, typeToken, callback, null, cutPoint);
+  }
+
+  protected Expression deserializeFor(
+      Expression buffer,
+      TypeToken<?> typeToken,
+      Function<Expression, Expression> callback,
+      Expression serializer,
+      CutPoint cutPoint) {
     Class<?> rawType = getRawType(typeToken);
     if (visitFury(f -> f.getClassResolver().needToWriteRef(rawType))) {
-      return readRef(buffer, callback, () -> deserializeForNotNull(buffer, typeToken, cutPoint));
+      return readRef(
+          buffer, callback, () -> deserializeForNotNull(buffer, typeToken, serializer, cutPoint));
     } else {
       if (typeToken.isPrimitive()) {
         Expression value = deserializeForNotNull(buffer, typeToken, cutPoint);
@@ -1093,7 +1274,27 @@ public abstract class BaseObjectCodecBuilder extends CodecBuilder {
         return new ListExpression(value, callback.apply(value));
       }
       return readNullable(
-          buffer, typeToken, callback, () -> deserializeForNotNull(buffer, typeToken, cutPoint));
+          buffer,
+          typeToken,
+          callback,
+          () -> deserializeForNotNull(buffer, typeToken, serializer, cutPoint));
+    }
+  }
+
+  /**
+   * Returns an expression that reads ref or null flag of <code>typeToken</code>, then deserialize
+   * not null value by <code>deserializeForNotNull</code>.
+   */
+  protected Expression deserializeNullableFor(
+      Expression buffer,
+      TypeToken<?> typeToken,
+      Function<Expression, Expression> callback,
+      Supplier<Expression> deserializeForNotNull) {
+    Class<?> rawType = getRawType(typeToken);
+    if (visitFury(f -> f.getClassResolver().needToWriteRef(rawType))) {
+      return readRef(buffer, callback, deserializeForNotNull);
+    } else {
+      return readNullable(buffer, typeToken, callback, deserializeForNotNull);
     }
   }
 
@@ -1179,8 +1380,9 @@ public abstract class BaseObjectCodecBuilder extends CodecBuilder {
         obj = deserializeForMap(buffer, typeToken, serializer, cutPoint);
       } else {
         if (isFinal(cls)) {
-          Preconditions.checkState(serializer == null);
-          serializer = getOrCreateSerializer(cls);
+          if (serializer == null) {
+            serializer = getOrCreateSerializer(cls);
+          }
           Class<?> returnType =
               ReflectionUtils.getReturnType(getRawType(serializer.type()), "read");
           obj = new Invoke(serializer, "read", TypeToken.of(returnType), buffer);
@@ -1195,8 +1397,21 @@ public abstract class BaseObjectCodecBuilder extends CodecBuilder {
   protected Expression readForNotNullNonFinal(
       Expression buffer, TypeToken<?> typeToken, Expression serializer) {
     if (serializer == null) {
-      Expression classInfo = readClassInfo(getRawType(typeToken), buffer);
+      Class<?> profiledType = getProfiledType(getRawType(typeToken));
+      // classinfo is used by guard and fallback path, it can't be inlined when profiled.
+      Expression classInfo = readClassInfo(getRawType(typeToken), buffer, profiledType == null);
       serializer = inlineInvoke(classInfo, "getSerializer", SERIALIZER_TYPE);
+      if (profiledType != null) {
+        Expression profiledSerializer = getOrCreateSerializer(profiledType);
+        Class<?> returnType =
+            ReflectionUtils.getReturnType(getRawType(profiledSerializer.type()), "read");
+        return new If(
+            eq(inlineInvoke(classInfo, "getCls", CLASS_TYPE), Literal.ofClass(profiledType)),
+            new Invoke(profiledSerializer, "read", TypeToken.of(returnType), buffer),
+            new Invoke(serializer, "read", OBJECT_TYPE, buffer),
+            false,
+            OBJECT_TYPE);
+      }
     }
     return new Invoke(serializer, "read", OBJECT_TYPE, buffer);
   }
@@ -1207,6 +1422,21 @@ public abstract class BaseObjectCodecBuilder extends CodecBuilder {
    */
   protected Expression deserializeForCollection(
       Expression buffer, TypeToken<?> typeToken, Expression serializer, CutPoint cutPoint) {
+    return deserializeForCollection(buffer, typeToken, serializer, cutPoint, null);
+  }
+
+  /**
+   * Return an expression to deserialize a collection from <code>buffer</code> into <code>
+   * reusedCollection</code> if it's not null and can be reused by the collection serializer.
+   *
+   * @see CollectionSerializer#clearOrNewCollection
+   */
+  protected Expression deserializeForCollection(
+      Expression buffer,
+      TypeToken<?> typeToken,
+      Expression serializer,
+      CutPoint cutPoint,
+      Expression reusedCollection) {
     TypeToken<?> elementType = getElementType(typeToken);
     if (serializer == null) {
       Class<?> cls = getRawType(typeToken);
@@ -1226,7 +1456,14 @@ public abstract class BaseObjectCodecBuilder extends CodecBuilder {
     }
     Invoke supportHook = inlineInvoke(serializer, "supportCodegenHook", PRIMITIVE_BOOLEAN_TYPE);
     Expression size = new Invoke(buffer, "readPositiveVarInt", "size", PRIMITIVE_INT_TYPE);
-    Expression collection = new Invoke(serializer, "newCollection", COLLECTION_TYPE, buffer, size);
+    Expression collection;
+    if (reusedCollection == null) {
+      collection = new Invoke(serializer, "newCollection", COLLECTION_TYPE, buffer, size);
+    } else {
+      collection =
+          new Invoke(
+              serializer, "clearOrNewCollection", COLLECTION_TYPE, buffer, size, reusedCollection);
+    }
     // if add branch by `ArrayList`, generated code will be > 325 bytes.
     // and List#add is more likely be inlined if there is only one subclass.
     Expression hookRead = readCollectionCodegen(buffer, collection, size, elementType);
@@ -1239,6 +1476,9 @@ public abstract class BaseObjectCodecBuilder extends CodecBuilder {
             false);
     if (cutPoint != null && cutPoint.genNewMethod) {
       cutPoint.add(buffer);
+      if (reusedCollection != null) {
+        cutPoint.add(reusedCollection);
+      }
       return invokeGenerated(
           ctx,
           cutPoint.cutPoints,
@@ -1433,6 +1673,21 @@ public abstract class BaseObjectCodecBuilder extends CodecBuilder {
    */
   protected Expression deserializeForMap(
       Expression buffer, TypeToken<?> typeToken, Expression serializer, CutPoint cutPoint) {
+    return deserializeForMap(buffer, typeToken, serializer, cutPoint, null);
+  }
+
+  /**
+   * Return an expression to deserialize a map from <code>buffer</code> into <code>reusedMap</code>
+   * if it's not null and can be reused by the map serializer.
+   *
+   * @see MapSerializer#clearOrNewMap
+   */
+  protected Expression deserializeForMap(
+      Expression buffer,
+      TypeToken<?> typeToken,
+      Expression serializer,
+      CutPoint cutPoint,
+      Expression reusedMap) {
     Tuple2<TypeToken<?>, TypeToken<?>> keyValueType = TypeUtils.getMapKeyValueType(typeToken);
     TypeToken<?> keyType = keyValueType.f0;
     TypeToken<?> valueType = keyValueType.f1;
@@ -1453,7 +1708,12 @@ public abstract class BaseObjectCodecBuilder extends CodecBuilder {
     }
     Invoke supportHook = inlineInvoke(serializer, "supportCodegenHook", PRIMITIVE_BOOLEAN_TYPE);
     Expression size = new Invoke(buffer, "readPositiveVarInt", "size", PRIMITIVE_INT_TYPE);
-    Expression newMap = new Invoke(serializer, "newMap", MAP_TYPE, buffer, size);
+    Expression newMap;
+    if (reusedMap == null) {
+      newMap = new Invoke(serializer, "newMap", MAP_TYPE, buffer, size);
+    } else {
+      newMap = new Invoke(serializer, "clearOrNewMap", MAP_TYPE, buffer, size, reusedMap);
+    }
     Expression start = new Literal(0, PRIMITIVE_INT_TYPE);
     Expression step = new Literal(1, PRIMITIVE_INT_TYPE);
     ExprHolder exprHolder = ExprHolder.of("map", newMap, "buffer", buffer);
@@ -1486,6 +1746,9 @@ public abstract class BaseObjectCodecBuilder extends CodecBuilder {
         new If(supportHook, hookRead, new Invoke(serializer, "read", MAP_TYPE, buffer), false);
     if (cutPoint != null && cutPoint.genNewMethod) {
       cutPoint.add(buffer);
+      if (reusedMap != null) {
+        cutPoint.add(reusedMap);
+      }
       return invokeGenerated(
           ctx,
           cutPoint.cutPoints,
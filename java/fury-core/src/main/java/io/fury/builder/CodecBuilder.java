@@ -75,6 +75,7 @@ import sun.misc.Unsafe;
 @SuppressWarnings("UnstableApiUsage")
 public abstract class CodecBuilder {
   protected static final String ROOT_OBJECT_NAME = "obj";
+  protected static final String TARGET_OBJECT_NAME = "target";
   // avoid user class has field with name fury.
   protected static final String FURY_NAME = "fury";
   static TypeToken<Object[]> objectArrayTypeToken = TypeToken.of(Object[].class);
@@ -105,6 +106,7 @@ public abstract class CodecBuilder {
     // don't ctx.addImport beanClass, because it maybe causes name collide.
     ctx.reserveName(FURY_NAME);
     ctx.reserveName(ROOT_OBJECT_NAME);
+    ctx.reserveName(TARGET_OBJECT_NAME);
     // Don't import other packages to avoid class conflicts.
     // For example user class named as `Date`/`List`/`MemoryBuffer`
   }
@@ -20,11 +20,17 @@ import com.google.common.base.Preconditions;
 import com.google.common.reflect.TypeToken;
 import io.fury.Fury;
 import io.fury.codegen.CodeGenerator;
+import io.fury.codegen.CodegenContext;
 import io.fury.codegen.CompileUnit;
 import io.fury.resolver.FieldResolver;
+import io.fury.serializer.ObjectSerializer;
 import io.fury.serializer.Serializer;
 import io.fury.type.ClassDef;
+import io.fury.util.FuryVersion;
+import io.fury.util.LoggerFactory;
+import java.lang.reflect.Field;
 import java.util.Collections;
+import org.slf4j.Logger;
 
 /**
  * Codec util to create and load jit serializer class.
@@ -32,6 +38,9 @@ import java.util.Collections;
  * @author chaokunyang
  */
 public class CodecUtils {
+  private static final Logger LOG = LoggerFactory.getLogger(CodecUtils.class);
+  static final String FURY_VERSION_FIELD = "FURY_VERSION";
+  static final String CLASS_VERSION_HASH_FIELD = "CLASS_VERSION_HASH";
 
   public static <T> Class<? extends Serializer<T>> loadOrGenObjectCodecClass(
       Class<T> cls, Fury fury) {
@@ -62,6 +71,111 @@ public class CodecUtils {
     return loadOrGenCodecClass(cls, fury, codecBuilder);
   }
 
+  /** Load or generate cross-language struct serializer class for <code>cls</code>. */
+  public static <T> Class<? extends Serializer<T>> loadOrGenStructCodecClass(
+      Class<T> cls, Fury fury) {
+    Preconditions.checkNotNull(fury);
+    BaseObjectCodecBuilder codecBuilder = new StructCodecBuilder(cls, fury);
+    return loadOrGenCodecClass(cls, fury, codecBuilder);
+  }
+
+  /**
+   * Load object codec generated ahead of time for <code>cls</code> from the classloader of <code>
+   * cls</code>, returns null if not exist.
+   */
+  public static <T> Class<? extends Serializer<T>> loadPrecompiledObjectCodecClass(
+      Class<T> cls, Fury fury) {
+    return loadPrecompiledCodecClass(cls, fury, ObjectCodecBuilder.CODEC_SUFFIX);
+  }
+
+  /**
+   * Load compatible codec generated ahead of time for <code>cls</code>, returns null if not exist.
+   */
+  public static <T> Class<? extends Serializer<T>> loadPrecompiledCompatibleCodecClass(
+      Class<T> cls, Fury fury) {
+    return loadPrecompiledCodecClass(cls, fury, CompatibleCodecBuilder.CODEC_SUFFIX);
+  }
+
+  /**
+   * Load meta shared codec generated ahead of time for <code>cls</code> and <code>classDef</code>,
+   * returns null if not exist.
+   */
+  public static <T> Class<? extends Serializer<T>> loadPrecompiledMetaSharedCodecClass(
+      Fury fury, Class<T> cls, ClassDef classDef) {
+    return loadPrecompiledCodecClass(cls, fury, MetaSharedCodecBuilder.codecSuffix(classDef));
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> Class<? extends Serializer<T>> loadPrecompiledCodecClass(
+      Class<T> cls, Fury fury, String codecSuffix) {
+    ClassLoader classLoader = cls.getClassLoader();
+    if (classLoader == null) {
+      return null;
+    }
+    String className =
+        BaseObjectCodecBuilder.qualifiedClassName(
+            CodeGenerator.getPackage(cls),
+            BaseObjectCodecBuilder.codecClassName(cls, fury, codecSuffix, ""));
+    Class<?> codecClass;
+    try {
+      codecClass = classLoader.loadClass(className);
+    } catch (ClassNotFoundException e) {
+      return null;
+    }
+    if (!Generated.class.isAssignableFrom(codecClass)
+        || !Serializer.class.isAssignableFrom(codecClass)) {
+      LOG.warn("Class {} isn't a generated serializer, skip it.", codecClass);
+      return null;
+    }
+    Object furyVersion = readStaticField(codecClass, FURY_VERSION_FIELD);
+    if (!FuryVersion.VERSION.equals(furyVersion)) {
+      LOG.warn(
+          "Precompiled serializer {} is generated by fury {} but current fury is {}, "
+              + "use jit serializer instead.",
+          codecClass,
+          furyVersion,
+          FuryVersion.VERSION);
+      return null;
+    }
+    Object classVersionHash = readStaticField(codecClass, CLASS_VERSION_HASH_FIELD);
+    int currentHash = computeClassVersionHash(fury, cls);
+    if (!Integer.valueOf(currentHash).equals(classVersionHash)) {
+      LOG.warn(
+          "Precompiled serializer {} is generated for class version {} but {} version is {}, "
+              + "use jit serializer instead.",
+          codecClass,
+          classVersionHash,
+          cls,
+          currentHash);
+      return null;
+    }
+    return (Class<? extends Serializer<T>>) codecClass;
+  }
+
+  private static Object readStaticField(Class<?> cls, String fieldName) {
+    try {
+      Field field = cls.getDeclaredField(fieldName);
+      return field.get(null);
+    } catch (NoSuchFieldException | IllegalAccessException e) {
+      return null;
+    }
+  }
+
+  /** Hash of fields layout of <code>cls</code>, same as the hash checked by class version check. */
+  static int computeClassVersionHash(Fury fury, Class<?> cls) {
+    return ObjectSerializer.computeVersionHash(
+        fury.getClassResolver().getAllDescriptorsMap(cls, true).values());
+  }
+
+  /** Add fury version and class version hash to a codec generated ahead of time. */
+  static void addVersionFields(CodegenContext ctx, Fury fury, Class<?> cls) {
+    // Use qualified name since user package may contain a class named `String`.
+    String version = FuryVersion.VERSION.replace("\\", "\\\\").replace("\"", "\\\"");
+    ctx.addStaticField("java.lang.String", FURY_VERSION_FIELD, "\"" + version + "\"");
+    ctx.addStaticField(
+        "int", CLASS_VERSION_HASH_FIELD, String.valueOf(computeClassVersionHash(fury, cls)));
+  }
+
   @SuppressWarnings("unchecked")
   static <T> Class<? extends Serializer<T>> loadOrGenCodecClass(
       Class<T> beanClass, Fury fury, BaseObjectCodecBuilder codecBuilder) {
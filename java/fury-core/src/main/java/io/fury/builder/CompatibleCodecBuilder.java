@@ -84,6 +84,7 @@ import java.util.stream.Collectors;
  * @author chaokunyang
  */
 public class CompatibleCodecBuilder extends BaseObjectCodecBuilder {
+  static final String CODEC_SUFFIX = "Compatible";
   public static final String FIELD_RESOLVER_NAME = "fieldResolver";
   private final FieldResolver fieldResolver;
   private Map<String, Integer> recordReversedMapping;
@@ -126,7 +127,7 @@ public class CompatibleCodecBuilder extends BaseObjectCodecBuilder {
 
   @Override
   protected String codecSuffix() {
-    return "Compatible";
+    return CODEC_SUFFIX;
   }
 
   @Override
@@ -332,7 +333,7 @@ public class CompatibleCodecBuilder extends BaseObjectCodecBuilder {
                                   "writeField",
                                   fieldInfo.getEncodedFieldInfo());
                           walkPath.removeLast();
-                          groupExpressions.add(writeFieldAction);
+                          groupExpressions.add(writeFieldSize(buffer, fieldInfo, writeFieldAction));
                         }
                         return groupExpressions;
                       },
@@ -351,7 +352,37 @@ public class CompatibleCodecBuilder extends BaseObjectCodecBuilder {
     walkPath.add(descriptor.getDeclaringClass() + descriptor.getName());
     Expression fieldValue = getFieldValue(bean, descriptor);
     walkPath.removeLast();
-    return serializeFor(fieldValue, buffer, descriptor.getTypeToken());
+    return writeFieldSize(
+        buffer, fieldInfo, serializeFor(fieldValue, buffer, descriptor.getTypeToken()));
+  }
+
+  /** Write size of field value after <code>writeFieldValue</code> if field size is enabled. */
+  private Expression writeFieldSize(
+      Expression buffer, FieldInfo fieldInfo, Expression writeFieldValue) {
+    if (!fieldInfo.isSizeWritten()) {
+      return writeFieldValue;
+    }
+    Expression sizeIndex =
+        new StaticInvoke(
+            FieldResolver.class,
+            "preserveFieldSize",
+            "sizeIndex",
+            PRIMITIVE_INT_TYPE,
+            false,
+            buffer);
+    return new ListExpression(
+        sizeIndex,
+        writeFieldValue,
+        new StaticInvoke(FieldResolver.class, "writeFieldSize", buffer, sizeIndex));
+  }
+
+  /** Skip size of a known field value, the value will be deserialized by <code>readField</code>. */
+  private Expression skipFieldSize(Expression buffer, Descriptor descriptor, Expression readField) {
+    if (!fury.getConfig().isFieldSizeWritten() || descriptor.getRawType().isPrimitive()) {
+      return readField;
+    }
+    return new ListExpression(
+        new Invoke(buffer, "increaseReaderIndex", new Literal(4, PRIMITIVE_INT_TYPE)), readField);
   }
 
   @Override
@@ -514,7 +545,7 @@ public class CompatibleCodecBuilder extends BaseObjectCodecBuilder {
             expr ->
                 setFieldValue(bean, descriptor, tryInlineCast(expr, descriptor.getTypeToken())));
     return new ListExpression(
-        deserializeAction,
+        skipFieldSize(buffer, descriptor, deserializeAction),
         new Assign(partFieldInfo, inlineInvoke(buffer, "readInt", PRIMITIVE_LONG_TYPE)));
   }
 
@@ -718,7 +749,7 @@ public class CompatibleCodecBuilder extends BaseObjectCodecBuilder {
             expr ->
                 setFieldValue(bean, descriptor, tryInlineCast(expr, descriptor.getTypeToken())));
     return new ListExpression(
-        deserializeAction,
+        skipFieldSize(buffer, descriptor, deserializeAction),
         new Assign(partFieldInfo, inlineInvoke(buffer, "readLong", PRIMITIVE_LONG_TYPE)));
   }
 
@@ -866,7 +897,7 @@ public class CompatibleCodecBuilder extends BaseObjectCodecBuilder {
             "readField",
             fieldInfo.getEncodedFieldInfo());
     return new ListExpression(
-        new Expression.ForceEvaluate(readAction),
+        skipFieldSize(buffer, descriptor, new Expression.ForceEvaluate(readAction)),
         new Assign(partFieldInfo, inlineInvoke(buffer, "readLong", PRIMITIVE_LONG_TYPE)));
   }
 
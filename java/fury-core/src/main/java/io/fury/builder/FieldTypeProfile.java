@@ -0,0 +1,97 @@
+/*
+ * Copyright 2023 The Fury Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fury.builder;
+
+import io.fury.annotation.Internal;
+import java.util.Arrays;
+
+/**
+ * Runtime types of non-final fields observed by interpreter mode serializer before the class is
+ * promoted to jit serializer by tiered compilation. Codec builders use it to generate a class
+ * guarded fast path for the dominant type of a field, and fallback to generic class dispatch when
+ * the guard misses.
+ *
+ * <p>Dominant type is tracked by Boyer-Moore majority vote, so no map lookup or allocation is
+ * needed when recording. Note that the vote is a single pass without counting, so the elected type
+ * is only a candidate: it's the majority type if some type takes more than half of the values,
+ * otherwise it can be any recorded type. That's fine for a guarded fast path, a wrong candidate
+ * only makes the guard miss more often. This profile is not thread safe, it should be updated by
+ * the thread which owns the fury instance only, and read by jit thread after the jit task is
+ * submitted.
+ *
+ * @author chaokunyang
+ */
+@Internal
+public final class FieldTypeProfile {
+  private final String[] fieldKeys;
+  private final Class<?>[] candidates;
+  private final int[] votes;
+
+  /**
+   * Create a profile for fields.
+   *
+   * @param fieldKeys key of fields, must be same as the walk path of {@link BaseObjectCodecBuilder}
+   *     when generating code for those fields.
+   */
+  public FieldTypeProfile(String[] fieldKeys) {
+    this.fieldKeys = fieldKeys;
+    candidates = new Class<?>[fieldKeys.length];
+    votes = new int[fieldKeys.length];
+  }
+
+  /** Record runtime type of field value at <code>index</code>. */
+  public void record(int index, Object value) {
+    if (value == null) {
+      return;
+    }
+    Class<?> cls = value.getClass();
+    if (candidates[index] == cls) {
+      votes[index]++;
+    } else if (votes[index] == 0) {
+      candidates[index] = cls;
+      votes[index] = 1;
+    } else {
+      votes[index]--;
+    }
+  }
+
+  /**
+   * Returns the candidate dominant runtime type of field elected by majority vote, or null if no
+   * value is recorded or the votes cancel out. The candidate is guaranteed to be the majority type
+   * only if such a type exists.
+   */
+  public Class<?> getDominantType(String fieldKey) {
+    for (int i = 0; i < fieldKeys.length; i++) {
+      if (fieldKeys[i].equals(fieldKey)) {
+        return votes[i] > 0 ? candidates[i] : null;
+      }
+    }
+    return null;
+  }
+
+  @Override
+  public String toString() {
+    return "FieldTypeProfile{"
+        + "fieldKeys="
+        + Arrays.toString(fieldKeys)
+        + ", candidates="
+        + Arrays.toString(candidates)
+        + ", votes="
+        + Arrays.toString(votes)
+        + '}';
+  }
+}
@@ -17,10 +17,14 @@
 package io.fury.builder;
 
 import com.google.common.base.Preconditions;
+import com.google.common.reflect.TypeToken;
 import io.fury.Fury;
+import io.fury.exception.ClassNotCompatibleException;
 import io.fury.memory.MemoryBuffer;
 import io.fury.serializer.CompatibleSerializerBase;
 import io.fury.serializer.Serializer;
+import io.fury.serializer.StructSerializer;
+import io.fury.type.GenericType;
 import io.fury.util.Platform;
 import io.fury.util.ReflectionUtils;
 import java.lang.reflect.Field;
@@ -119,6 +123,78 @@ public interface Generated {
     }
   }
 
+  /**
+   * Base class for all cross-language struct serializers, must produce same binary as {@link
+   * StructSerializer}.
+   */
+  abstract class GeneratedStructSerializer extends GeneratedSerializer implements Generated {
+    private final String typeTag;
+    // Generic types of fields in serialization order.
+    private final GenericType[] fieldGenerics;
+
+    private int typeHash;
+
+    public GeneratedStructSerializer(Fury fury, Class<?> cls) {
+      super(fury, cls);
+      typeTag = Preconditions.checkNotNull(fury.getClassResolver().getTypeTag(cls), cls);
+      fieldGenerics =
+          StructSerializer.buildFieldGenerics(
+              TypeToken.of(cls), StructSerializer.getSortedFields(cls));
+    }
+
+    // Invoked by generated code.
+    protected GenericType getFieldGeneric(int index) {
+      return fieldGenerics[index];
+    }
+
+    // Invoked by generated code.
+    protected void writeTypeHash(MemoryBuffer buffer) {
+      buffer.writeInt(getTypeHash());
+    }
+
+    // Invoked by generated code.
+    protected void readAndCheckTypeHash(MemoryBuffer buffer) {
+      int newHash = buffer.readInt();
+      int typeHash = getTypeHash();
+      if (newHash != typeHash) {
+        throw new ClassNotCompatibleException(
+            String.format(
+                "Hash %d is not consistent with %s for class %s",
+                newHash, typeHash, fury.getClassResolver().getCurrentReadClass()));
+      }
+    }
+
+    private int getTypeHash() {
+      int typeHash = this.typeHash;
+      if (typeHash == 0) {
+        // Compute lazily since serializers of field types may be not registered yet.
+        typeHash = StructSerializer.computeStructHash(fury, fieldGenerics);
+        this.typeHash = typeHash;
+      }
+      return typeHash;
+    }
+
+    @Override
+    public short getXtypeId() {
+      return Fury.FURY_TYPE_TAG_ID;
+    }
+
+    @Override
+    public String getCrossLanguageTypeTag() {
+      return typeTag;
+    }
+
+    @Override
+    public void xwrite(MemoryBuffer buffer, Object value) {
+      write(buffer, value);
+    }
+
+    @Override
+    public Object xread(MemoryBuffer buffer) {
+      return read(buffer);
+    }
+  }
+
   /** Base class for all compatible serializers. */
   abstract class GeneratedCompatibleSerializer extends CompatibleSerializerBase
       implements Generated {
@@ -49,6 +49,10 @@ public class JITContext {
   private int furyVisitState;
   private int numRunningTask;
   private final Map<Object, List<NotifyCallback>> hasJITResult;
+  private final int jitThreshold;
+  private final Map<Object, TieredTask> tieredTasks;
+  private final Map<Class<?>, FieldTypeProfile> fieldTypeProfiles;
+  private int numPromoted;
 
   public JITContext(Fury fury) {
     this.fury = fury;
@@ -57,6 +61,10 @@ public class JITContext {
     // It's ok the cost for fail lock is slightly higher than no-fair lock.
     jitLock = new ReentrantLock(true);
     hasJITResult = new HashMap<>();
+    // Tiered compilation relies on async jit callbacks to switch serializers.
+    jitThreshold = asyncCompilationEnabled ? fury.getConfig().getJITThreshold() : 0;
+    tieredTasks = new HashMap<>();
+    fieldTypeProfiles = new HashMap<>();
   }
 
   /**
@@ -84,49 +92,8 @@ public class JITContext {
         // TODO(chaokunyang) Submit nested object field serializers jit task to executor,
         //  and update serializer field when jit finished.
         if (fury.getConfig().isAsyncCompilationEnabled() && !isAsyncVisitingFury()) {
-          // TODO(chaokunyang) stash callbacks and submit jit task if the serialization speed
-          // is really needed.
-          ListeningExecutorService compilationService = CodeGenerator.getCompilationService();
-          ListenableFuture<T> future;
           hasJITResult.put(callback.id(), new ArrayList<>());
-          numRunningTask++;
-          future = compilationService.submit(jitAction);
-          Futures.addCallback(
-              future,
-              new FutureCallback<T>() {
-                @Override
-                public void onSuccess(T result) {
-                  try {
-                    lock();
-                    callback.onSuccess(result);
-                    for (NotifyCallback notifyCallback : hasJITResult.get(callback.id())) {
-                      notifyCallback.onNotifyResult(result);
-                    }
-                  } finally {
-                    numRunningTask--;
-                    if (numRunningTask == 0) {
-                      hasJITResult.clear();
-                    }
-                    unlock();
-                  }
-                }
-
-                @Override
-                public void onFailure(Throwable t) {
-                  try {
-                    lock();
-                    callback.onFailure(t);
-                    // ignore onNotifyResult in failed case.
-                  } finally {
-                    numRunningTask--;
-                    if (numRunningTask == 0) {
-                      hasJITResult.clear();
-                    }
-                    unlock();
-                  }
-                }
-              },
-              compilationService);
+          submitJITTask(jitAction, callback);
           return interpreterModeAction.call();
         } else {
           return jitAction.call();
@@ -142,6 +109,182 @@ public class JITContext {
     }
   }
 
+  /**
+   * Register a jit callback for tiered compilation. If tiered compilation is enabled, <code>
+   * interpreterModeAction</code> will be returned and the jit task will be pending until the {@link
+   * TieredTask} got by {@link #getTieredTask} for <code>callback.id()</code> is hit {@link
+   * Config#getJITThreshold()} times. Otherwise it's same as {@link #registerSerializerJITCallback}.
+   */
+  @Internal
+  public <T> T registerTieredSerializerJITCallback(
+      Callable<T> interpreterModeAction, Callable<T> jitAction, SerializerJITCallback<T> callback) {
+    if (jitThreshold <= 0 || !fury.getConfig().isCodeGenEnabled() || callback.id() == null) {
+      return registerSerializerJITCallback(interpreterModeAction, jitAction, callback);
+    }
+    try {
+      lock();
+      if (isAsyncVisitingFury()) {
+        return registerSerializerJITCallback(interpreterModeAction, jitAction, callback);
+      }
+      hasJITResult.put(callback.id(), new ArrayList<>());
+      tieredTasks.put(callback.id(), new TieredTask(this, callback.id(), jitAction, callback));
+      return interpreterModeAction.call();
+    } catch (Exception e) {
+      Platform.throwException(e);
+      throw new IllegalStateException("unreachable");
+    } finally {
+      unlock();
+    }
+  }
+
+  /** Returns pending tiered task for <code>id</code>, or null if not exist. */
+  @Internal
+  public TieredTask getTieredTask(Object id) {
+    if (jitThreshold <= 0) {
+      return null;
+    }
+    try {
+      lock();
+      return tieredTasks.get(id);
+    } finally {
+      unlock();
+    }
+  }
+
+  /**
+   * Register <code>profile</code> for runtime field types of <code>cls</code> if the tiered task of
+   * <code>cls</code> is pending and no profile is registered before.
+   *
+   * @return true if the profile is registered and should be updated by the caller.
+   */
+  @Internal
+  public boolean registerFieldTypeProfile(Class<?> cls, FieldTypeProfile profile) {
+    if (jitThreshold <= 0) {
+      return false;
+    }
+    try {
+      lock();
+      if (!tieredTasks.containsKey(cls) || fieldTypeProfiles.containsKey(cls)) {
+        return false;
+      }
+      fieldTypeProfiles.put(cls, profile);
+      return true;
+    } finally {
+      unlock();
+    }
+  }
+
+  /** Returns field types profile recorded in interpreter mode for <code>cls</code>. */
+  @Internal
+  public FieldTypeProfile getFieldTypeProfile(Class<?> cls) {
+    if (jitThreshold <= 0) {
+      return null;
+    }
+    try {
+      lock();
+      return fieldTypeProfiles.get(cls);
+    } finally {
+      unlock();
+    }
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private void promote(TieredTask task) {
+    try {
+      lock();
+      if (tieredTasks.get(task.id) != task) {
+        task.promoted = true;
+        return;
+      }
+      if (numRunningTask >= fury.getConfig().getMaxJITQueueSize()) {
+        // Compilation queue is full, retry after another `jitThreshold` invocations.
+        task.count = 0;
+        return;
+      }
+      tieredTasks.remove(task.id);
+      task.promoted = true;
+      numPromoted++;
+      submitJITTask(task.jitAction, (SerializerJITCallback) task.callback);
+    } finally {
+      unlock();
+    }
+  }
+
+  private <T> void submitJITTask(Callable<T> jitAction, SerializerJITCallback<T> callback) {
+    ListeningExecutorService compilationService = CodeGenerator.getCompilationService();
+    numRunningTask++;
+    ListenableFuture<T> future = compilationService.submit(jitAction);
+    Futures.addCallback(
+        future,
+        new FutureCallback<T>() {
+          @Override
+          public void onSuccess(T result) {
+            try {
+              lock();
+              callback.onSuccess(result);
+              for (NotifyCallback notifyCallback : hasJITResult.get(callback.id())) {
+                notifyCallback.onNotifyResult(result);
+              }
+            } finally {
+              finishJITTask();
+              unlock();
+            }
+          }
+
+          @Override
+          public void onFailure(Throwable t) {
+            try {
+              lock();
+              callback.onFailure(t);
+              // ignore onNotifyResult in failed case.
+            } finally {
+              finishJITTask();
+              unlock();
+            }
+          }
+        },
+        compilationService);
+  }
+
+  private void finishJITTask() {
+    numRunningTask--;
+    if (numRunningTask == 0) {
+      // Keep states of pending tiered tasks, so that generated serializers can still subscribe
+      // their jit results.
+      hasJITResult.keySet().retainAll(tieredTasks.keySet());
+    }
+  }
+
+  /** Returns number of classes promoted to jit serializer by tiered compilation. */
+  public int getNumPromoted() {
+    try {
+      lock();
+      return numPromoted;
+    } finally {
+      unlock();
+    }
+  }
+
+  /** Returns number of classes waiting to cross jit threshold in tiered compilation. */
+  public int getNumPending() {
+    try {
+      lock();
+      return tieredTasks.size();
+    } finally {
+      unlock();
+    }
+  }
+
+  /** Returns number of submitted jit tasks which are not finished yet. */
+  public int getNumRunning() {
+    try {
+      lock();
+      return numRunningTask;
+    } finally {
+      unlock();
+    }
+  }
+
   /** Subscribe jit notify callback to be invoked after target jit finished. */
   public void registerJITNotifyCallback(Object id, NotifyCallback notifyCallback) {
     Preconditions.checkNotNull(id);
@@ -230,6 +373,44 @@ public class JITContext {
     }
   }
 
+  /**
+   * A pending jit task of tiered compilation. Interpreter mode serializers should invoke {@link
+   * #hit} for every serialization/deserialization, the jit task will be submitted when {@link
+   * Config#getJITThreshold()} is reached.
+   */
+  @Internal
+  public static final class TieredTask {
+    private final JITContext jitContext;
+    private final Object id;
+    private final Callable<?> jitAction;
+    private final SerializerJITCallback<?> callback;
+    private int count;
+    private volatile boolean promoted;
+
+    private TieredTask(
+        JITContext jitContext,
+        Object id,
+        Callable<?> jitAction,
+        SerializerJITCallback<?> callback) {
+      this.jitContext = jitContext;
+      this.id = id;
+      this.jitAction = jitAction;
+      this.callback = callback;
+    }
+
+    /**
+     * Record an invocation of interpreter mode serializer.
+     *
+     * @return false if this task is promoted, the caller should stop invoking this method.
+     */
+    public boolean hit() {
+      if (++count >= jitContext.jitThreshold) {
+        jitContext.promote(this);
+      }
+      return !promoted;
+    }
+  }
+
   @Internal
   public interface NotifyCallback {
     default void onNotifyResult(Object result) {
@@ -81,6 +81,10 @@ public class MetaSharedCodecBuilder extends ObjectCodecBuilder {
 
   @Override
   protected String codecSuffix() {
+    return codecSuffix(classDef);
+  }
+
+  static String codecSuffix(ClassDef classDef) {
     // For every class def sent from different peer, if the class def are different, then
     // a new serializer needs being generated.
     return "MetaShared" + classDef.getId();
@@ -96,6 +100,7 @@ public class MetaSharedCodecBuilder extends ObjectCodecBuilder {
     ctx.reserveName(POJO_CLASS_TYPE_NAME);
     ctx.reserveName(SERIALIZER_FIELD_NAME);
     ctx.addField(ctx.type(Fury.class), FURY_NAME);
+    addPrecompiledVersionFields();
     String constructorCode =
         StringUtils.format(
             ""
@@ -32,6 +32,7 @@ import static io.fury.type.TypeUtils.isPrimitive;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
+import com.google.common.primitives.Primitives;
 import com.google.common.reflect.TypeToken;
 import io.fury.Fury;
 import io.fury.codegen.Code;
@@ -79,6 +80,7 @@ import java.util.TreeMap;
  * @author chaokunyang
  */
 public class ObjectCodecBuilder extends BaseObjectCodecBuilder {
+  static final String CODEC_SUFFIX = "";
   public static final String BUFFER_NAME = "buffer";
   private final Literal classVersionHash;
   protected ObjectCodecOptimizer objectCodecOptimizer;
@@ -95,6 +97,7 @@ public class ObjectCodecBuilder extends BaseObjectCodecBuilder {
             descriptors, false, fury.compressInt(), fury.compressLong());
     objectCodecOptimizer =
         new ObjectCodecOptimizer(beanClass, grouper, !fury.isBasicTypesRefIgnored(), ctx);
+    fieldTypeProfile = fury.getJITContext().getFieldTypeProfile(beanClass);
     if (isRecord) {
       if (!recordCtrAccessible) {
         buildRecordComponentDefaultValues();
@@ -116,7 +119,7 @@ public class ObjectCodecBuilder extends BaseObjectCodecBuilder {
 
   @Override
   protected String codecSuffix() {
-    return "";
+    return CODEC_SUFFIX;
   }
 
   @Override
@@ -185,7 +188,8 @@ public class ObjectCodecBuilder extends BaseObjectCodecBuilder {
             // `bean` will be replaced by `Reference` to cut-off expr dependency.
             Expression fieldValue = getFieldValue(bean, d);
             walkPath.add(d.getDeclaringClass() + d.getName());
-            Expression fieldExpr = serializeFor(fieldValue, buffer, d.getTypeToken());
+            Expression fieldExpr =
+                serializeFor(fieldValue, buffer, d.getTypeToken(), getFieldSerializer(d), false);
             walkPath.removeLast();
             groupExpressions.add(fieldExpr);
           }
@@ -464,6 +468,145 @@ public class ObjectCodecBuilder extends BaseObjectCodecBuilder {
     return expressions;
   }
 
+  /**
+   * Return an expression that deserialize data into an existing java bean of type {@link
+   * CodecBuilder#beanClass}. Primitive fields are overwritten in place, collection/map fields are
+   * cleared and refilled if the serializers support reusing them.
+   */
+  @Override
+  protected Expression buildDecodeIntoExpression() {
+    if (isRecord) {
+      return null;
+    }
+    Reference target = new Reference(TARGET_OBJECT_NAME, OBJECT_TYPE, false);
+    Reference buffer = new Reference(BUFFER_NAME, bufferTypeToken, false);
+    ListExpression expressions = new ListExpression();
+    if (fury.checkClassVersion()) {
+      expressions.add(checkClassVersion(buffer));
+    }
+    Expression bean = tryCastIfPublic(target, beanType, ctx.newName(beanClass));
+    expressions.add(bean);
+    expressions.add(new Invoke(refResolverRef, "reference", PRIMITIVE_VOID_TYPE, bean));
+    expressions.addAll(deserializePrimitives(bean, buffer, objectCodecOptimizer.primitiveGroups));
+    int numGroups = getNumGroups(objectCodecOptimizer);
+    for (List<Descriptor> group :
+        Iterables.concat(
+            objectCodecOptimizer.boxedReadGroups,
+            objectCodecOptimizer.finalReadGroups,
+            objectCodecOptimizer.otherReadGroups)) {
+      if (group.isEmpty()) {
+        continue;
+      }
+      boolean inline = group.size() == 1 && numGroups < 10;
+      expressions.add(deserializeGroup(group, bean, buffer, inline));
+    }
+    for (Descriptor d :
+        Iterables.concat(
+            objectCodecOptimizer.descriptorGrouper.getCollectionDescriptors(),
+            objectCodecOptimizer.descriptorGrouper.getMapDescriptors())) {
+      expressions.add(deserializeContainerInto(d, bean, buffer));
+    }
+    expressions.add(new Expression.Return(bean));
+    return expressions;
+  }
+
+  /** Deserialize collection/map field into current field value if it can be reused. */
+  private Expression deserializeContainerInto(Descriptor d, Expression bean, Expression buffer) {
+    SerializableSupplier<Expression> exprSupplier =
+        () -> {
+          ExpressionVisitor.ExprHolder exprHolder = ExpressionVisitor.ExprHolder.of("bean", bean);
+          walkPath.add(d.getDeclaringClass() + d.getName());
+          TypeToken<?> typeToken = d.getTypeToken();
+          Expression serializer = getFieldSerializer(d);
+          Expression action =
+              deserializeNullableFor(
+                  buffer,
+                  typeToken,
+                  expr -> setFieldValue(exprHolder.get("bean"), d, tryInlineCast(expr, typeToken)),
+                  () -> {
+                    Expression fieldValue = getFieldValue(exprHolder.get("bean"), d);
+                    if (useCollectionSerialization(typeToken)) {
+                      return deserializeForCollection(
+                          buffer, typeToken, serializer, null, fieldValue);
+                    } else {
+                      return deserializeForMap(buffer, typeToken, serializer, null, fieldValue);
+                    }
+                  });
+          walkPath.removeLast();
+          return action;
+        };
+    return objectCodecOptimizer.invokeGenerated(exprSupplier, "readFieldsInto");
+  }
+
+  /**
+   * Return an expression that deep copies a java bean of type {@link CodecBuilder#beanClass}.
+   * Primitive, boxed and string fields are assigned directly, other fields are copied by {@link
+   * Fury#copyObject}.
+   */
+  @Override
+  protected Expression buildCopyExpression() {
+    if (isRecord) {
+      return null;
+    }
+    Reference root = new Reference(ROOT_OBJECT_NAME, OBJECT_TYPE, false);
+    ListExpression expressions = new ListExpression();
+    Expression origin = tryCastIfPublic(root, beanType, ctx.newName(beanClass));
+    Expression bean = newBean();
+    expressions.add(origin);
+    expressions.add(bean);
+    expressions.add(new Invoke(furyRef, "reference", PRIMITIVE_VOID_TYPE, root, bean));
+    int numGroups = getNumGroups(objectCodecOptimizer);
+    for (List<Descriptor> group :
+        Iterables.concat(
+            objectCodecOptimizer.primitiveGroups,
+            objectCodecOptimizer.boxedReadGroups,
+            objectCodecOptimizer.finalReadGroups,
+            objectCodecOptimizer.otherReadGroups)) {
+      if (group.isEmpty()) {
+        continue;
+      }
+      boolean inline = group.size() == 1 && numGroups < 10;
+      expressions.add(copyGroup(group, origin, bean, inline));
+    }
+    for (Descriptor d :
+        Iterables.concat(
+            objectCodecOptimizer.descriptorGrouper.getCollectionDescriptors(),
+            objectCodecOptimizer.descriptorGrouper.getMapDescriptors())) {
+      expressions.add(copyGroup(Collections.singletonList(d), origin, bean, false));
+    }
+    expressions.add(new Expression.Return(bean));
+    return expressions;
+  }
+
+  private Expression copyGroup(
+      List<Descriptor> group, Expression origin, Expression bean, boolean inline) {
+    SerializableSupplier<Expression> exprSupplier =
+        () -> {
+          ListExpression groupExpressions = new ListExpression();
+          ExpressionVisitor.ExprHolder exprHolder =
+              ExpressionVisitor.ExprHolder.of("origin", origin, "bean", bean);
+          for (Descriptor d : group) {
+            TypeToken<?> typeToken = d.getTypeToken();
+            Class<?> rawType = getRawType(typeToken);
+            Expression fieldValue = getFieldValue(exprHolder.get("origin"), d);
+            if (!rawType.isPrimitive()
+                && rawType != String.class
+                && !Primitives.isWrapperType(rawType)) {
+              fieldValue =
+                  tryInlineCast(
+                      new Invoke(furyRef, "copyObject", OBJECT_TYPE, fieldValue), typeToken);
+            }
+            groupExpressions.add(setFieldValue(exprHolder.get("bean"), d, fieldValue));
+          }
+          return groupExpressions;
+        };
+    if (inline) {
+      return exprSupplier.get();
+    } else {
+      return objectCodecOptimizer.invokeGenerated(exprSupplier, "copyFields");
+    }
+  }
+
   protected Expression buildComponentsArray() {
     new NewArray(
         OBJECT_TYPE,
@@ -530,7 +673,9 @@ public class ObjectCodecBuilder extends BaseObjectCodecBuilder {
                     // dependency.
                     expr ->
                         setFieldValue(
-                            exprHolder.get("bean"), d, tryInlineCast(expr, d.getTypeToken())));
+                            exprHolder.get("bean"), d, tryInlineCast(expr, d.getTypeToken())),
+                    getFieldSerializer(d),
+                    null);
             walkPath.removeLast();
             groupExpressions.add(action);
           }
@@ -548,7 +693,8 @@ public class ObjectCodecBuilder extends BaseObjectCodecBuilder {
     ListExpression groupExpressions = new ListExpression();
     // use Reference to cut-off expr dependency.
     for (Descriptor d : group) {
-      Expression v = deserializeFor(buffer, d.getTypeToken(), expr -> expr);
+      Expression v =
+          deserializeFor(buffer, d.getTypeToken(), expr -> expr, getFieldSerializer(d), null);
       Expression action = setFieldValue(bean, d, tryInlineCast(v, d.getTypeToken()));
       groupExpressions.add(action);
     }
@@ -588,14 +734,15 @@ public class ObjectCodecBuilder extends BaseObjectCodecBuilder {
     List<Expression> expressions = new ArrayList<>();
     int numPrimitiveFields = getNumPrimitiveFields(primitiveGroups);
     Literal totalSizeLiteral = Literal.ofInt(totalSize);
+    // After this check, following read can be totally unsafe without checks. The check may pull
+    // data from buffer source and switch heap memory, so it must be done before getting address.
+    expressions.add(new Invoke(buffer, "checkReadableBytes", totalSizeLiteral));
     Expression heapBuffer =
         new Invoke(buffer, "getHeapMemory", "heapBuffer", PRIMITIVE_BYTE_ARRAY_TYPE);
     Expression readerAddr =
         new Invoke(buffer, "getUnsafeReaderAddress", "readerAddr", PRIMITIVE_LONG_TYPE);
     expressions.add(heapBuffer);
     expressions.add(readerAddr);
-    // After this check, following read can be totally unsafe without checks
-    expressions.add(new Invoke(buffer, "checkReadableBytes", totalSizeLiteral));
     int acc = 0;
     for (List<Descriptor> group : primitiveGroups) {
       ListExpression groupExpressions = new ListExpression();
@@ -653,11 +800,12 @@ public class ObjectCodecBuilder extends BaseObjectCodecBuilder {
       Expression bean, Expression buffer, List<List<Descriptor>> primitiveGroups) {
     List<Expression> expressions = new ArrayList<>();
     int numPrimitiveFields = getNumPrimitiveFields(primitiveGroups);
-    Expression heapBuffer =
-        new Invoke(buffer, "getHeapMemory", "heapBuffer", PRIMITIVE_BYTE_ARRAY_TYPE);
-    expressions.add(heapBuffer);
     for (List<Descriptor> group : primitiveGroups) {
       ListExpression groupExpressions = new ListExpression();
+      // Compressed reads of previous group may pull data from buffer source and switch heap
+      // memory, so heap memory must be got for every group.
+      Expression heapBuffer =
+          new Invoke(buffer, "getHeapMemory", "heapBuffer", PRIMITIVE_BYTE_ARRAY_TYPE);
       Expression readerAddr =
           new Invoke(buffer, "getUnsafeReaderAddress", "readerAddr", PRIMITIVE_LONG_TYPE);
       // After this check, following read can be totally unsafe without checks.
@@ -0,0 +1,256 @@
+/*
+ * Copyright 2023 The Fury Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fury.builder;
+
+import static io.fury.codegen.ExpressionOptimizer.invokeGenerated;
+import static io.fury.type.TypeUtils.OBJECT_TYPE;
+import static io.fury.type.TypeUtils.PRIMITIVE_VOID_TYPE;
+import static io.fury.type.TypeUtils.getRawType;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.reflect.TypeToken;
+import io.fury.Fury;
+import io.fury.codegen.Expression;
+import io.fury.codegen.Expression.Cast;
+import io.fury.codegen.Expression.Invoke;
+import io.fury.codegen.Expression.ListExpression;
+import io.fury.codegen.Expression.Literal;
+import io.fury.codegen.Expression.Reference;
+import io.fury.codegen.Expression.StaticInvoke;
+import io.fury.serializer.Serializer;
+import io.fury.serializer.StructSerializer;
+import io.fury.type.Descriptor;
+import io.fury.type.GenericType;
+import io.fury.type.Generics;
+import io.fury.type.TypeUtils;
+import io.fury.util.Platform;
+import io.fury.util.ReflectionUtils;
+import io.fury.util.record.RecordUtils;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Generate cross-language struct serializer which writes same binary as {@link StructSerializer}.
+ * Fields are read/written in sorted order without reflection, and field generic types and
+ * serializers are resolved when building code instead of for every field read/write.
+ *
+ * <p>Generics for {@code SomeClass<T>} are not supported, {@link StructSerializer} should be used
+ * for such classes.
+ *
+ * @see StructSerializer
+ * @see Generated.GeneratedStructSerializer
+ * @author chaokunyang
+ */
+public class StructCodecBuilder extends BaseObjectCodecBuilder {
+  static final String CODEC_SUFFIX = "Struct";
+  // Split methods every `NUM_FIELDS_PER_METHOD` fields to keep method small enough for jit inline.
+  private static final int NUM_FIELDS_PER_METHOD = 8;
+  private static final TypeToken<?> GENERIC_TYPE_TOKEN = TypeToken.of(GenericType.class);
+  private static final TypeToken<?> SERIALIZER_TYPE_TOKEN = TypeToken.of(Serializer.class);
+
+  private final List<Descriptor> descriptors;
+  private final GenericType[] fieldGenerics;
+  private final Reference selfRef;
+  private final Reference genericsRef;
+
+  public StructCodecBuilder(Class<?> beanClass, Fury fury) {
+    super(TypeToken.of(beanClass), fury, Generated.GeneratedStructSerializer.class);
+    Map<Field, Descriptor> descriptorsMap = Descriptor.getAllDescriptorsMap(beanClass);
+    List<Field> fields = StructSerializer.getSortedFields(beanClass);
+    descriptors = new ArrayList<>(fields.size());
+    for (Field field : fields) {
+      descriptors.add(descriptorsMap.get(field));
+    }
+    fieldGenerics = StructSerializer.buildFieldGenerics(beanType, fields);
+    selfRef = new Reference("this", TypeToken.of(Generated.GeneratedStructSerializer.class));
+    String genericsName = ctx.newName("generics");
+    ctx.addField(
+        ctx.type(Generics.class),
+        genericsName,
+        new Invoke(furyRef, "getGenerics", TypeToken.of(Generics.class)));
+    genericsRef = Reference.fieldRef(genericsName, TypeToken.of(Generics.class));
+  }
+
+  /** Whether cross-language serializer of <code>cls</code> can be generated. */
+  public static boolean supportCodegen(Class<?> cls) {
+    return cls.getTypeParameters().length == 0
+        && !cls.isInterface()
+        && !Modifier.isAbstract(cls.getModifiers())
+        && !cls.isEnum()
+        && !cls.isArray()
+        && !TypeUtils.isBoxed(cls)
+        && cls.getCanonicalName() != null
+        && !RecordUtils.isRecord(cls);
+  }
+
+  @Override
+  protected String codecSuffix() {
+    return CODEC_SUFFIX;
+  }
+
+  @Override
+  protected void addCommonImports() {
+    super.addCommonImports();
+    ctx.addImports(Generated.GeneratedStructSerializer.class, GenericType.class, Generics.class);
+  }
+
+  @Override
+  protected boolean isFinal(Class<?> clz) {
+    return ReflectionUtils.isFinal(clz);
+  }
+
+  @Override
+  public Expression buildEncodeExpression() {
+    Reference inputObject = new Reference(ROOT_OBJECT_NAME, OBJECT_TYPE, false);
+    Reference buffer = new Reference(BUFFER_NAME, bufferTypeToken, false);
+    ListExpression expressions = new ListExpression();
+    Expression bean = tryCastIfPublic(inputObject, beanType, ctx.newName(beanClass));
+    expressions.add(bean);
+    expressions.add(new Invoke(selfRef, "writeTypeHash", buffer));
+    for (int start = 0; start < descriptors.size(); start += NUM_FIELDS_PER_METHOD) {
+      ListExpression groupExpressions = new ListExpression();
+      int end = Math.min(start + NUM_FIELDS_PER_METHOD, descriptors.size());
+      for (int i = start; i < end; i++) {
+        groupExpressions.add(writeField(bean, buffer, i));
+      }
+      expressions.add(splitIfNeeded(bean, buffer, groupExpressions, "writeFields"));
+    }
+    return expressions;
+  }
+
+  private Expression writeField(Expression bean, Expression buffer, int index) {
+    Descriptor descriptor = descriptors.get(index);
+    GenericType fieldGeneric = fieldGenerics[index];
+    Expression fieldValue = getFieldValue(bean, descriptor);
+    Class<?> rawType = getRawType(fieldValue.type());
+    if (rawType.isPrimitive()) {
+      TypeToken<?> boxedType = TypeToken.of(rawType).wrap();
+      fieldValue = new StaticInvoke(getRawType(boxedType), "valueOf", boxedType, fieldValue);
+    }
+    ListExpression expressions = new ListExpression();
+    Expression fieldGenericRef = getFieldGeneric(index);
+    if (fieldGeneric.hasGenericParameters()) {
+      expressions.add(new Invoke(genericsRef, "pushGenericType", fieldGenericRef));
+    }
+    if (fieldGeneric.isFinal()) {
+      Expression serializer =
+          new Invoke(fieldGenericRef, "getSerializer", SERIALIZER_TYPE_TOKEN, classResolverRef);
+      expressions.add(new Invoke(furyRef, "xwriteRef", buffer, fieldValue, serializer));
+    } else {
+      expressions.add(new Invoke(furyRef, "xwriteRef", buffer, fieldValue));
+    }
+    if (fieldGeneric.hasGenericParameters()) {
+      expressions.add(new Invoke(genericsRef, "popGenericType"));
+    }
+    return expressions;
+  }
+
+  @Override
+  public Expression buildDecodeExpression() {
+    Reference buffer = new Reference(BUFFER_NAME, bufferTypeToken, false);
+    ListExpression expressions = new ListExpression();
+    expressions.add(new Invoke(selfRef, "readAndCheckTypeHash", buffer));
+    Expression bean = newBean();
+    expressions.add(bean);
+    expressions.add(new Invoke(refResolverRef, "reference", PRIMITIVE_VOID_TYPE, bean));
+    for (int start = 0; start < descriptors.size(); start += NUM_FIELDS_PER_METHOD) {
+      ListExpression groupExpressions = new ListExpression();
+      int end = Math.min(start + NUM_FIELDS_PER_METHOD, descriptors.size());
+      for (int i = start; i < end; i++) {
+        groupExpressions.add(readField(bean, buffer, i));
+      }
+      expressions.add(splitIfNeeded(bean, buffer, groupExpressions, "readFields"));
+    }
+    expressions.add(new Expression.Return(bean));
+    return expressions;
+  }
+
+  private Expression readField(Expression bean, Expression buffer, int index) {
+    Descriptor descriptor = descriptors.get(index);
+    GenericType fieldGeneric = fieldGenerics[index];
+    ListExpression expressions = new ListExpression();
+    Expression fieldGenericRef = getFieldGeneric(index);
+    if (fieldGeneric.hasGenericParameters()) {
+      expressions.add(new Invoke(genericsRef, "pushGenericType", fieldGenericRef));
+    }
+    Expression value;
+    if (fieldGeneric.isFinal()) {
+      Expression serializer =
+          new Invoke(fieldGenericRef, "getSerializer", SERIALIZER_TYPE_TOKEN, classResolverRef);
+      value = new Invoke(furyRef, "xreadRef", OBJECT_TYPE, buffer, serializer);
+    } else {
+      value = new Invoke(furyRef, "xreadRef", OBJECT_TYPE, buffer);
+    }
+    TypeToken<?> fieldType = descriptor.getTypeToken();
+    Class<?> rawType = getRawType(fieldType);
+    if (rawType.isPrimitive()) {
+      TypeToken<?> boxedType = fieldType.wrap();
+      value = new Invoke(new Cast(value, boxedType), rawType.getName() + "Value", fieldType);
+    } else {
+      value = tryInlineCast(value, fieldType);
+    }
+    expressions.add(setFieldValue(bean, descriptor, value));
+    if (fieldGeneric.hasGenericParameters()) {
+      expressions.add(new Invoke(genericsRef, "popGenericType"));
+    }
+    return expressions;
+  }
+
+  /** Returns field generic type which is built in {@link Generated.GeneratedStructSerializer}. */
+  private Expression getFieldGeneric(int index) {
+    String name = "fieldGeneric" + index;
+    if (!ctx.containName(name)) {
+      ctx.reserveName(name);
+      ctx.addField(
+          ctx.type(GenericType.class),
+          name,
+          new Invoke(selfRef, "getFieldGeneric", GENERIC_TYPE_TOKEN, Literal.ofInt(index)));
+    }
+    return Reference.fieldRef(name, GENERIC_TYPE_TOKEN);
+  }
+
+  private Expression splitIfNeeded(
+      Expression bean, Expression buffer, ListExpression groupExpressions, String methodPrefix) {
+    if (descriptors.size() <= NUM_FIELDS_PER_METHOD) {
+      return groupExpressions;
+    }
+    return invokeGenerated(
+        ctx, ImmutableSet.of(bean, buffer), groupExpressions, methodPrefix, false);
+  }
+
+  @Override
+  protected Expression newBean() {
+    if (Modifier.isPublic(beanClass.getModifiers())) {
+      try {
+        if (Modifier.isPublic(beanClass.getConstructor().getModifiers())) {
+          return new Expression.NewInstance(beanType);
+        }
+      } catch (NoSuchMethodException e) {
+        // fallback to allocate instance without constructor, same as StructSerializer.
+      }
+    }
+    Expression newInstance =
+        new StaticInvoke(Platform.class, "newInstance", OBJECT_TYPE, beanClassExpr());
+    if (Modifier.isPublic(beanClass.getModifiers())) {
+      return new Cast(newInstance, beanType);
+    }
+    return newInstance;
+  }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2023 The Fury Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fury.codegen;
+
+import io.fury.Fury;
+import io.fury.util.LoggerFactory;
+import io.fury.util.MurmurHash3;
+import io.fury.util.StringUtils;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.slf4j.Logger;
+
+/**
+ * A persistent cache of compiled bytecode, so that a restarted process can define previously
+ * compiled classes directly without invoking janino. Enabled by setting system property or env
+ * {@code FURY_CODE_CACHE_DIR} to a directory.
+ *
+ * <p>The cache is content-addressed: the key is a murmurhash3 of generated source code and fury
+ * version. Generated code embeds fury config hash in class name and every field of the serialized
+ * class, so a changed class shape or config produces a new key and stale entries are never used.
+ *
+ * @author chaokunyang
+ */
+public class CodeCache {
+  private static final Logger LOG = LoggerFactory.getLogger(CodeCache.class);
+  private static final String CODE_CACHE_DIR_KEY = "FURY_CODE_CACHE_DIR";
+  private static final int MAGIC_NUMBER = 0x46434343;
+  private static final String FURY_VERSION = furyVersion();
+
+  public static String getCodeCacheDir() {
+    return System.getProperty(CODE_CACHE_DIR_KEY, System.getenv(CODE_CACHE_DIR_KEY));
+  }
+
+  /** Returns the content-addressed cache key of <code>compileUnits</code>. */
+  public static String cacheKey(CompileUnit... compileUnits) {
+    StringBuilder builder = new StringBuilder(FURY_VERSION);
+    for (CompileUnit unit : compileUnits) {
+      builder.append('\n').append(unit.getQualifiedClassName());
+      builder.append('\n').append(unit.getCode());
+    }
+    byte[] bytes = builder.toString().getBytes(StandardCharsets.UTF_8);
+    long[] hash = MurmurHash3.murmurhash3_x64_128(bytes, 0, bytes.length, 47);
+    return String.format("%016x%016x", hash[0], hash[1]);
+  }
+
+  /**
+   * Load compiled classes of <code>compileUnits</code> from <code>cacheDir</code>.
+   *
+   * @return a map from class file path to bytecode, or null if not cached.
+   */
+  public static Map<String, byte[]> load(String cacheDir, String key, CompileUnit... compileUnits) {
+    Path path = Paths.get(cacheDir, key + ".classes");
+    if (!Files.exists(path)) {
+      return null;
+    }
+    Map<String, byte[]> classes = new LinkedHashMap<>();
+    try (DataInputStream stream =
+        new DataInputStream(new ByteArrayInputStream(Files.readAllBytes(path)))) {
+      if (stream.readInt() != MAGIC_NUMBER) {
+        LOG.warn("Code cache file {} is corrupted, ignore it.", path);
+        return null;
+      }
+      int numClasses = stream.readInt();
+      for (int i = 0; i < numClasses; i++) {
+        String classFilepath = stream.readUTF();
+        byte[] bytecode = new byte[stream.readInt()];
+        stream.readFully(bytecode);
+        classes.put(classFilepath, bytecode);
+      }
+    } catch (IOException e) {
+      LOG.warn("Read code cache file {} failed, ignore it.", path, e);
+      return null;
+    }
+    for (CompileUnit unit : compileUnits) {
+      if (!classes.containsKey(CodeGenerator.classFilepath(unit))) {
+        LOG.warn("Code cache file {} doesn't contain class {}.", path, unit);
+        return null;
+      }
+    }
+    LOG.info("Load compiled classes {} from code cache {}", classes.keySet(), path);
+    return classes;
+  }
+
+  /** Store compiled <code>classes</code> into <code>cacheDir</code> under <code>key</code>. */
+  public static void store(String cacheDir, String key, Map<String, byte[]> classes) {
+    Path path = Paths.get(cacheDir, key + ".classes");
+    Path tmpPath = null;
+    try {
+      ByteArrayOutputStream bas = new ByteArrayOutputStream();
+      DataOutputStream stream = new DataOutputStream(bas);
+      stream.writeInt(MAGIC_NUMBER);
+      stream.writeInt(classes.size());
+      for (Map.Entry<String, byte[]> entry : classes.entrySet()) {
+        stream.writeUTF(entry.getKey());
+        stream.writeInt(entry.getValue().length);
+        stream.write(entry.getValue());
+      }
+      stream.flush();
+      Files.createDirectories(path.getParent());
+      // Write to a temp file then rename, so concurrent processes never see a partial file.
+      tmpPath = Files.createTempFile(path.getParent(), key, ".tmp");
+      Files.write(tmpPath, bas.toByteArray());
+      Files.move(
+          tmpPath, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    } catch (IOException e) {
+      LOG.warn("Write code cache file {} failed.", path, e);
+      if (tmpPath != null) {
+        tmpPath.toFile().delete();
+      }
+    }
+  }
+
+  private static String furyVersion() {
+    String version = Fury.class.getPackage().getImplementationVersion();
+    if (StringUtils.isNotBlank(version) && !version.endsWith("SNAPSHOT")) {
+      return version;
+    }
+    // Snapshot or development build, use timestamp of fury classes to invalidate cache.
+    URL url = Fury.class.getResource(Fury.class.getSimpleName() + ".class");
+    long lastModified = 0;
+    if (url != null) {
+      try {
+        lastModified = url.openConnection().getLastModified();
+      } catch (IOException e) {
+        LOG.warn("Get timestamp of {} failed.", url, e);
+      }
+    }
+    return version + "_" + lastModified;
+  }
+}
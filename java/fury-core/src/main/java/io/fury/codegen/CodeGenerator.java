@@ -79,7 +79,10 @@ public class CodeGenerator {
   private static ListeningExecutorService compilationExecutorService;
 
   static {
-    boolean useUniqueId = StringUtils.isBlank(CodeGenerator.getCodeDir());
+    // Class names must be stable across processes for dumped code and code cache.
+    boolean useUniqueId =
+        StringUtils.isBlank(CodeGenerator.getCodeDir())
+            && StringUtils.isBlank(CodeCache.getCodeCacheDir());
     String flagValue =
         System.getProperty(
             "fury.enable_fury_generated_class_unique_id",
@@ -133,6 +133,7 @@ public class CodegenContext {
   String[] superClasses;
   String[] interfaces;
   List<Tuple3<Boolean, String, String>> fields = new ArrayList<>();
+  List<Tuple3<String, String, String>> staticFields = new ArrayList<>();
   /**
    * all initCodes would be placed into a method called initialize(), which will be called by
    * constructor.
@@ -558,6 +559,18 @@ public class CodegenContext {
     fields.add(Tuple3.of(true, type, fieldName));
   }
 
+  /**
+   * Add a public static final field to class, which can be read by reflection from the generated
+   * class without instantiating it.
+   *
+   * @param type type
+   * @param fieldName field name
+   * @param initCode java literal or constant expression used to initialize the field
+   */
+  public void addStaticField(String type, String fieldName, String initCode) {
+    staticFields.add(Tuple3.of(type, fieldName, initCode));
+  }
+
   /** Generate code for class. */
   public String genCode() {
     StringBuilder codeBuilder = new StringBuilder();
@@ -580,6 +593,16 @@ public class CodegenContext {
     }
     codeBuilder.append("{\n");
 
+    // static fields
+    if (!staticFields.isEmpty()) {
+      codeBuilder.append('\n');
+      for (Tuple3<String, String, String> field : staticFields) {
+        codeBuilder.append(
+            indent(
+                String.format("public static final %s %s = %s;\n", field.f0, field.f1, field.f2)));
+      }
+    }
+
     // fields
     if (!fields.isEmpty()) {
       codeBuilder.append('\n');
@@ -88,6 +88,15 @@ public class JaninoUtils {
       }
     }
 
+    String cacheDir = CodeCache.getCodeCacheDir();
+    String cacheKey = null;
+    if (StringUtils.isNotBlank(cacheDir)) {
+      cacheKey = CodeCache.cacheKey(compileUnits);
+      Map<String, byte[]> cachedClasses = CodeCache.load(cacheDir, cacheKey, compileUnits);
+      if (cachedClasses != null) {
+        return cachedClasses;
+      }
+    }
     long startTime = System.nanoTime();
     // Storage for generated bytecode
     final Map<String, byte[]> classes = new HashMap<>();
@@ -133,6 +142,9 @@ public class JaninoUtils {
         classLoader,
         ReflectionUtils.getFieldOffset(classLoader.getClass(), "loadedIClasses"),
         new HashMap<>());
+    if (cacheKey != null) {
+      CodeCache.store(cacheDir, cacheKey, classes);
+    }
     return classes;
   }
 
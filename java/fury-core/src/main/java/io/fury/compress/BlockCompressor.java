@@ -0,0 +1,213 @@
+/*
+ * Copyright 2023 The Fury Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fury.compress;
+
+import com.google.common.base.Preconditions;
+import io.fury.annotation.Internal;
+import io.fury.exception.FuryException;
+import io.fury.memory.MemoryBuffer;
+import io.fury.memory.MemoryUtils;
+
+/**
+ * Compress a region of {@link MemoryBuffer} in blocks by a {@link CompressionCodec}.
+ *
+ * <p>Compressed data format: | codec id (1 byte) | uncompressed size (varint) | blocks |. Every
+ * block is | uncompressed block size (varint) | compressed block size << 1 | stored flag (varint) |
+ * block data |. A block which can't be compressed to a smaller size will be stored as it is.
+ *
+ * <p>This class is not thread-safe, every fury instance should have its own compressor.
+ *
+ * @author chaokunyang
+ */
+@Internal
+public final class BlockCompressor {
+  // Data smaller than this size is written as it is, since the compression gain is negligible.
+  public static final int MIN_COMPRESSION_SIZE = 64;
+  private static final int MAX_RETAINED_BUFFER_SIZE = 1 << 20;
+
+  private final CompressionCodec codec;
+  private final int blockSize;
+  private MemoryBuffer output;
+  private byte[] srcBlock;
+  private byte[] dstBlock;
+  private Object compressContext;
+
+  public BlockCompressor(CompressionCodec codec, int blockSize) {
+    Preconditions.checkNotNull(codec);
+    Preconditions.checkArgument(blockSize > 0, "Block size %s should be positive.", blockSize);
+    this.codec = codec;
+    this.blockSize = blockSize;
+    compressContext = codec.newCompressContext();
+  }
+
+  public CompressionCodec getCodec() {
+    return codec;
+  }
+
+  /**
+   * Compress data of <code>buffer</code> in <code>[startIndex, buffer.writerIndex())</code> in
+   * place.
+   *
+   * @return false if compressed data isn't smaller than original data, the buffer will be left
+   *     unchanged in such cases.
+   */
+  public boolean compress(MemoryBuffer buffer, int startIndex) {
+    int size = buffer.writerIndex() - startIndex;
+    if (size < MIN_COMPRESSION_SIZE) {
+      return false;
+    }
+    MemoryBuffer output = this.output;
+    if (output == null) {
+      this.output = output = MemoryUtils.buffer(Math.min(size, blockSize) + 16);
+    }
+    output.writerIndex(0);
+    output.writeByte(codec.getCodecId());
+    output.writePositiveVarInt(size);
+    byte[] heapMemory = buffer.getHeapMemory();
+    int heapOffset = buffer.unsafeHeapWriterIndex() - buffer.writerIndex();
+    try {
+      for (int offset = 0; offset < size; offset += blockSize) {
+        int length = Math.min(blockSize, size - offset);
+        byte[] src;
+        int srcOffset;
+        if (heapMemory != null) {
+          src = heapMemory;
+          srcOffset = heapOffset + startIndex + offset;
+        } else {
+          src = getSrcBlock(length);
+          srcOffset = 0;
+          buffer.get(startIndex + offset, src, 0, length);
+        }
+        byte[] dst = getDstBlock(codec.maxCompressedLength(length));
+        int compressedLength = codec.compress(src, srcOffset, length, dst, 0, compressContext);
+        output.writePositiveVarInt(length);
+        if (compressedLength < length) {
+          output.writePositiveVarInt(compressedLength << 1);
+          output.writeBytes(dst, 0, compressedLength);
+        } else {
+          output.writePositiveVarInt(length << 1 | 1);
+          output.writeBytes(src, srcOffset, length);
+        }
+        if (output.writerIndex() >= size) {
+          return false;
+        }
+      }
+      buffer.writerIndex(startIndex);
+      buffer.writeBytes(output.getHeapMemory(), 0, output.writerIndex());
+      return true;
+    } finally {
+      if (output.size() > MAX_RETAINED_BUFFER_SIZE) {
+        this.output = null;
+      }
+    }
+  }
+
+  /**
+   * Decompress data written by {@link #compress} from <code>buffer.readerIndex()</code>. The <code>
+   * buffer</code> reader index will be moved to the end of compressed data.
+   *
+   * @param targetIndex index to put decompressed data in returned buffer, so that data which
+   *     records absolute offsets of original buffer can still be read.
+   * @return a new buffer whose reader index is <code>targetIndex</code>.
+   */
+  public MemoryBuffer decompress(MemoryBuffer buffer, int targetIndex) {
+    byte codecId = buffer.readByte();
+    if (codecId != codec.getCodecId()) {
+      throw new FuryException(
+          String.format(
+              "Data is compressed by codec %s, but current codec is %s with id %s.",
+              codecId, codec, codec.getCodecId()));
+    }
+    int size = buffer.readPositiveVarInt();
+    if (size < 0
+        || size > Integer.MAX_VALUE - targetIndex
+        || (buffer.getSource() == null && size > codec.maxDecompressedLength(buffer.remaining()))) {
+      throw new FuryException(
+          String.format(
+              "Illegal uncompressed size %s for %s compressed bytes.", size, buffer.remaining()));
+    }
+    byte[] bytes = new byte[targetIndex + size];
+    int offset = targetIndex;
+    int end = targetIndex + size;
+    while (offset < end) {
+      int length = buffer.readPositiveVarInt();
+      int header = buffer.readPositiveVarInt();
+      int compressedLength = header >>> 1;
+      if (length <= 0 || length > end - offset) {
+        throw new FuryException(
+            String.format("Illegal block size %s for remaining size %s.", length, end - offset));
+      }
+      if ((header & 1) == 1 ? compressedLength != length : compressedLength <= 0) {
+        throw new FuryException(
+            String.format(
+                "Illegal compressed block size %s for block size %s.", compressedLength, length));
+      }
+      checkReadableBytes(buffer, compressedLength);
+      if ((header & 1) == 1) {
+        buffer.readBytes(bytes, offset, length);
+      } else {
+        byte[] heapMemory = buffer.getHeapMemory();
+        if (heapMemory != null) {
+          codec.decompress(
+              heapMemory, buffer.unsafeHeapReaderIndex(), compressedLength, bytes, offset, length);
+          buffer.increaseReaderIndex(compressedLength);
+        } else {
+          byte[] src = getSrcBlock(compressedLength);
+          buffer.readBytes(src, 0, compressedLength);
+          codec.decompress(src, 0, compressedLength, bytes, offset, length);
+        }
+      }
+      offset += length;
+    }
+    MemoryBuffer result = MemoryUtils.wrap(bytes);
+    result.readerIndex(targetIndex);
+    return result;
+  }
+
+  private static void checkReadableBytes(MemoryBuffer buffer, int length) {
+    if (buffer.remaining() < length) {
+      try {
+        // Read more data if the buffer is backed by a stream.
+        buffer.checkReadableBytes(length);
+      } catch (IndexOutOfBoundsException e) {
+        throw new FuryException(
+            String.format("Compressed block size %s exceeds remaining data.", length), e);
+      }
+      if (buffer.remaining() < length) {
+        throw new FuryException(
+            String.format(
+                "Compressed block size %s exceeds remaining size %s.", length, buffer.remaining()));
+      }
+    }
+  }
+
+  private byte[] getSrcBlock(int length) {
+    byte[] block = srcBlock;
+    if (block == null || block.length < length) {
+      srcBlock = block = new byte[length];
+    }
+    return block;
+  }
+
+  private byte[] getDstBlock(int length) {
+    byte[] block = dstBlock;
+    if (block == null || block.length < length) {
+      dstBlock = block = new byte[length];
+    }
+    return block;
+  }
+}
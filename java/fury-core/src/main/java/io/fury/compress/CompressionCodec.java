@@ -0,0 +1,85 @@
+/*
+ * Copyright 2023 The Fury Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fury.compress;
+
+import io.fury.annotation.Public;
+
+/**
+ * Codec to compress a block of serialized bytes. A codec can be configured by {@link
+ * io.fury.config.FuryBuilder#withCompressionCodec}, then the in-band data of every serialized
+ * object will be compressed in blocks, and decompressed by {@link io.fury.Fury#deserialize}
+ * transparently. Out-of-band buffers are not compressed.
+ *
+ * <p>Codec may be shared by multiple fury instances, implementations must be thread-safe.
+ *
+ * @author chaokunyang
+ */
+@Public
+public interface CompressionCodec {
+
+  /**
+   * Returns an id which will be written into the compressed data, so that data compressed by a
+   * different codec can be detected when reading.
+   */
+  byte getCodecId();
+
+  /** Returns max number of bytes which compressing <code>length</code> bytes may produce. */
+  int maxCompressedLength(int length);
+
+  /**
+   * Returns max number of bytes which decompressing <code>compressedLength</code> bytes may
+   * produce. It's used to reject malformed data before allocating memory for decompressed data.
+   */
+  default long maxDecompressedLength(int compressedLength) {
+    return Long.MAX_VALUE;
+  }
+
+  /**
+   * Returns a reusable context for {@link #compress(byte[], int, int, byte[], int, Object)}, such
+   * as a hash table, or null if the codec doesn't need one. The context is used by one thread at a
+   * time only.
+   */
+  default Object newCompressContext() {
+    return null;
+  }
+
+  /**
+   * Compress <code>srcLength</code> bytes of <code>src</code> from <code>srcOffset</code> into
+   * <code>dst</code> from <code>dstOffset</code>. The <code>dst</code> must have at least {@link
+   * #maxCompressedLength} bytes available.
+   *
+   * @return number of compressed bytes written into <code>dst</code>.
+   */
+  int compress(byte[] src, int srcOffset, int srcLength, byte[] dst, int dstOffset);
+
+  /**
+   * Same as {@link #compress(byte[], int, int, byte[], int)}, but reuses a <code>context</code>
+   * created by {@link #newCompressContext} to avoid allocation for every block.
+   */
+  default int compress(
+      byte[] src, int srcOffset, int srcLength, byte[] dst, int dstOffset, Object context) {
+    return compress(src, srcOffset, srcLength, dst, dstOffset);
+  }
+
+  /**
+   * Decompress <code>srcLength</code> bytes of <code>src</code> from <code>srcOffset</code> into
+   * <code>dst</code> from <code>dstOffset</code>, the decompressed data must be exactly <code>
+   * dstLength</code> bytes.
+   */
+  void decompress(
+      byte[] src, int srcOffset, int srcLength, byte[] dst, int dstOffset, int dstLength);
+}
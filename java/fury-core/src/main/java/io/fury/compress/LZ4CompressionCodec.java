@@ -0,0 +1,233 @@
+/*
+ * Copyright 2023 The Fury Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fury.compress;
+
+import io.fury.annotation.Public;
+import io.fury.exception.FuryException;
+
+/**
+ * A pure java {@link CompressionCodec} which produces data in the LZ4 block format. Compression
+ * uses a single-probe hash table and greedy matching, which trades compression ratio for speed.
+ *
+ * @author chaokunyang
+ */
+@Public
+public final class LZ4CompressionCodec implements CompressionCodec {
+  public static final byte CODEC_ID = 1;
+  public static final LZ4CompressionCodec INSTANCE = new LZ4CompressionCodec();
+
+  private static final int MIN_MATCH = 4;
+  // The last 5 bytes are always literals.
+  private static final int LAST_LITERALS = 5;
+  // The last match must start at least 12 bytes before the end of block.
+  private static final int MF_LIMIT = 12;
+  private static final int MAX_DISTANCE = 65535;
+  private static final int HASH_LOG = 12;
+  private static final int RUN_MASK = 15;
+  private static final int ML_MASK = 15;
+  // Increase search step when no match is found for a long time.
+  private static final int SKIP_STRENGTH = 6;
+
+  @Override
+  public byte getCodecId() {
+    return CODEC_ID;
+  }
+
+  @Override
+  public int maxCompressedLength(int length) {
+    return length + length / 255 + 16;
+  }
+
+  @Override
+  public long maxDecompressedLength(int compressedLength) {
+    // Every extra length byte of a match encodes at most 255 bytes.
+    return (long) compressedLength * 255;
+  }
+
+  @Override
+  public Object newCompressContext() {
+    return new int[1 << HASH_LOG];
+  }
+
+  @Override
+  public int compress(byte[] src, int srcOffset, int srcLength, byte[] dst, int dstOffset) {
+    return compress(src, srcOffset, srcLength, dst, dstOffset, null);
+  }
+
+  /**
+   * Compress with a hash table created by {@link #newCompressContext}. The table doesn't need to be
+   * cleared between blocks.
+   */
+  @Override
+  public int compress(
+      byte[] src, int srcOffset, int srcLength, byte[] dst, int dstOffset, Object context) {
+    int srcEnd = srcOffset + srcLength;
+    int anchor = srcOffset;
+    int dp = dstOffset;
+    if (srcLength > MF_LIMIT) {
+      // Positions are stored relative to `srcOffset`, a stale or empty slot only leads to a
+      // failed match check, so the table can be reused by next block without clearing.
+      int[] hashTable = context == null ? new int[1 << HASH_LOG] : (int[]) context;
+      int matchLimit = srcEnd - LAST_LITERALS;
+      int mfLimit = srcEnd - MF_LIMIT;
+      int sp = srcOffset;
+      int searchMatchCount = 1 << SKIP_STRENGTH;
+      while (sp < mfLimit) {
+        int seq = readInt(src, sp);
+        int h = hash(seq);
+        int ref = srcOffset + hashTable[h];
+        hashTable[h] = sp - srcOffset;
+        if (ref >= sp || sp - ref > MAX_DISTANCE || readInt(src, ref) != seq) {
+          sp += searchMatchCount++ >>> SKIP_STRENGTH;
+          continue;
+        }
+        searchMatchCount = 1 << SKIP_STRENGTH;
+        while (sp > anchor && ref > srcOffset && src[sp - 1] == src[ref - 1]) {
+          sp--;
+          ref--;
+        }
+        int matchLen = MIN_MATCH;
+        while (sp + matchLen < matchLimit && src[sp + matchLen] == src[ref + matchLen]) {
+          matchLen++;
+        }
+        dp = writeLiterals(src, anchor, sp - anchor, dst, dp, sp - ref, matchLen - MIN_MATCH);
+        sp += matchLen;
+        anchor = sp;
+      }
+    }
+    int literalLen = srcEnd - anchor;
+    if (literalLen >= RUN_MASK) {
+      dst[dp++] = (byte) (RUN_MASK << 4);
+      dp = writeLength(dst, dp, literalLen - RUN_MASK);
+    } else {
+      dst[dp++] = (byte) (literalLen << 4);
+    }
+    System.arraycopy(src, anchor, dst, dp, literalLen);
+    return dp + literalLen - dstOffset;
+  }
+
+  /** Write a sequence of literals followed by a match. */
+  private static int writeLiterals(
+      byte[] src, int anchor, int literalLen, byte[] dst, int dp, int offset, int matchLen) {
+    int tokenIndex = dp++;
+    int token;
+    if (literalLen >= RUN_MASK) {
+      token = RUN_MASK << 4;
+      dp = writeLength(dst, dp, literalLen - RUN_MASK);
+    } else {
+      token = literalLen << 4;
+    }
+    System.arraycopy(src, anchor, dst, dp, literalLen);
+    dp += literalLen;
+    dst[dp++] = (byte) offset;
+    dst[dp++] = (byte) (offset >>> 8);
+    if (matchLen >= ML_MASK) {
+      token |= ML_MASK;
+      dp = writeLength(dst, dp, matchLen - ML_MASK);
+    } else {
+      token |= matchLen;
+    }
+    dst[tokenIndex] = (byte) token;
+    return dp;
+  }
+
+  private static int writeLength(byte[] dst, int dp, int length) {
+    while (length >= 255) {
+      dst[dp++] = (byte) 255;
+      length -= 255;
+    }
+    dst[dp++] = (byte) length;
+    return dp;
+  }
+
+  @Override
+  public void decompress(
+      byte[] src, int srcOffset, int srcLength, byte[] dst, int dstOffset, int dstLength) {
+    int srcEnd = srcOffset + srcLength;
+    int dstEnd = dstOffset + dstLength;
+    int sp = srcOffset;
+    int dp = dstOffset;
+    try {
+      while (true) {
+        int token = src[sp++] & 0xFF;
+        int literalLen = token >>> 4;
+        if (literalLen == RUN_MASK) {
+          int b;
+          do {
+            b = src[sp++] & 0xFF;
+            literalLen += b;
+          } while (b == 255);
+        }
+        if (literalLen > srcEnd - sp || literalLen > dstEnd - dp) {
+          throw corrupted(sp);
+        }
+        System.arraycopy(src, sp, dst, dp, literalLen);
+        sp += literalLen;
+        dp += literalLen;
+        if (sp == srcEnd) {
+          break;
+        }
+        int offset = (src[sp] & 0xFF) | ((src[sp + 1] & 0xFF) << 8);
+        sp += 2;
+        int matchLen = token & ML_MASK;
+        if (matchLen == ML_MASK) {
+          int b;
+          do {
+            b = src[sp++] & 0xFF;
+            matchLen += b;
+          } while (b == 255);
+        }
+        matchLen += MIN_MATCH;
+        int ref = dp - offset;
+        if (offset == 0 || ref < dstOffset || matchLen > dstEnd - dp) {
+          throw corrupted(sp);
+        }
+        if (offset >= matchLen) {
+          System.arraycopy(dst, ref, dst, dp, matchLen);
+          dp += matchLen;
+        } else {
+          // Overlapped match repeats the last `offset` bytes.
+          int end = dp + matchLen;
+          while (dp < end) {
+            dst[dp++] = dst[ref++];
+          }
+        }
+      }
+    } catch (ArrayIndexOutOfBoundsException e) {
+      throw corrupted(sp);
+    }
+    if (dp != dstEnd) {
+      throw new FuryException(
+          String.format("Decompressed size %s doesn't match %s.", dp - dstOffset, dstLength));
+    }
+  }
+
+  private static FuryException corrupted(int index) {
+    return new FuryException(String.format("Malformed lz4 block at index %s.", index));
+  }
+
+  private static int readInt(byte[] bytes, int index) {
+    return (bytes[index] & 0xFF)
+        | ((bytes[index + 1] & 0xFF) << 8)
+        | ((bytes[index + 2] & 0xFF) << 16)
+        | ((bytes[index + 3] & 0xFF) << 24);
+  }
+
+  private static int hash(int seq) {
+    return (seq * -1640531535) >>> (32 - HASH_LOG);
+  }
+}
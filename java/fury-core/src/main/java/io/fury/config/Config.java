@@ -18,6 +18,7 @@ package io.fury.config;
 
 import com.google.common.base.Preconditions;
 import io.fury.Fury;
+import io.fury.compress.CompressionCodec;
 import io.fury.serializer.Serializer;
 import io.fury.serializer.TimeSerializers;
 import io.fury.util.MurmurHash3;
@@ -46,12 +47,22 @@ public class Config implements Serializable {
   private final boolean compressString;
   private final boolean compressInt;
   private final boolean compressLong;
+  private final boolean packArray;
+  private final int stringTableSize;
+  private final boolean fieldSizeWritten;
   private final LongEncoding longEncoding;
   private final boolean requireClassRegistration;
   private final boolean registerGuavaTypes;
   private final boolean shareMetaContext;
   private final boolean asyncCompilationEnabled;
   private final boolean deserializeUnexistedClass;
+  private final int streamBufferSize;
+  private final int bufferSizeLimitBytes;
+  private final int jitThreshold;
+  private final int maxJITQueueSize;
+  // Compression doesn't affect generated serializers, so it's excluded from config hash.
+  private final transient CompressionCodec compressionCodec;
+  private final int compressionBlockSize;
   private transient int configHash;
 
   public Config(FuryBuilder builder) {
@@ -64,6 +75,9 @@ public class Config implements Serializable {
     compressInt = builder.compressInt;
     longEncoding = builder.longEncoding;
     compressLong = longEncoding != LongEncoding.LE_RAW_BYTES;
+    packArray = builder.packArray;
+    stringTableSize = builder.deduplicateString ? builder.stringTableSize : 0;
+    fieldSizeWritten = builder.fieldSizeWritten;
     requireClassRegistration = builder.requireClassRegistration;
     registerGuavaTypes = builder.registerGuavaTypes;
     codeGenEnabled = builder.codeGenEnabled;
@@ -79,6 +93,12 @@ public class Config implements Serializable {
       Preconditions.checkArgument(shareMetaContext || compatibleMode == CompatibleMode.COMPATIBLE);
     }
     asyncCompilationEnabled = builder.asyncCompilationEnabled;
+    streamBufferSize = builder.streamBufferSize;
+    bufferSizeLimitBytes = builder.bufferSizeLimitBytes;
+    jitThreshold = builder.jitThreshold;
+    maxJITQueueSize = builder.maxJITQueueSize;
+    compressionCodec = builder.compressionCodec;
+    compressionBlockSize = builder.compressionBlockSize;
   }
 
   public Language getLanguage() {
@@ -190,6 +210,73 @@ public class Config implements Serializable {
     return asyncCompilationEnabled;
   }
 
+  /**
+   * Returns chunk size for stream serialization, zero means the data will be buffered fully before
+   * written to stream.
+   *
+   * <p>Chunked stream is only used for java serialization without meta share, since other protocols
+   * need to update data at written offsets.
+   */
+  public int getStreamBufferSize() {
+    return streamBufferSize;
+  }
+
+  /** Returns max size of the internal buffer retained by {@link Fury} after serialization. */
+  public int getBufferSizeLimitBytes() {
+    return bufferSizeLimitBytes;
+  }
+
+  /**
+   * Returns number of invocations of interpreter mode serializer before a class gets jit serializer
+   * in tiered compilation, zero means tiered compilation is disabled. Tiered compilation takes
+   * effect only when async compilation is enabled.
+   */
+  public int getJITThreshold() {
+    return jitThreshold;
+  }
+
+  /** Returns max number of pending jit tasks submitted by tiered compilation. */
+  public int getMaxJITQueueSize() {
+    return maxJITQueueSize;
+  }
+
+  /**
+   * Whether write <code>int[]</code>/<code>long[]</code> with delta/frame-of-reference bit-packing.
+   */
+  public boolean packArray() {
+    return packArray;
+  }
+
+  /**
+   * Returns max number of distinct strings deduplicated by value in a serialization, 0 means string
+   * deduplication is disabled.
+   */
+  public int getStringTableSize() {
+    return stringTableSize;
+  }
+
+  /**
+   * Whether write size of every non-primitive field value in {@link CompatibleMode#COMPATIBLE}
+   * mode, so that unknown fields can be skipped without deserialization.
+   */
+  public boolean isFieldSizeWritten() {
+    return fieldSizeWritten;
+  }
+
+  /**
+   * Returns codec to compress serialized in-band data, null means compression is disabled.
+   * Compression takes effect only for {@link Fury#serialize} and {@link Fury#deserialize}, data
+   * written without header such as {@link Fury#serializeJavaObject} won't be compressed.
+   */
+  public CompressionCodec getCompressionCodec() {
+    return compressionCodec;
+  }
+
+  /** Returns max number of uncompressed bytes in a compression block. */
+  public int getCompressionBlockSize() {
+    return compressionBlockSize;
+  }
+
   public int getConfigHash() {
     if (configHash == 0) {
       // TODO use a custom encoding to ensure different config hash different hash.
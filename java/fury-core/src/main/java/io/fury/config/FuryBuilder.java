@@ -16,17 +16,26 @@
 
 package io.fury.config;
 
+import com.google.common.base.Preconditions;
 import io.fury.Fury;
 import io.fury.ThreadLocalFury;
 import io.fury.ThreadSafeFury;
+import io.fury.annotation.Packed;
+import io.fury.compress.CompressionCodec;
+import io.fury.compress.LZ4CompressionCodec;
+import io.fury.pool.StripedFuryPool;
+import io.fury.pool.StripedPoolFury;
 import io.fury.pool.ThreadPoolFury;
 import io.fury.resolver.ClassResolver;
+import io.fury.resolver.MetaContext;
 import io.fury.serializer.JavaSerializer;
 import io.fury.serializer.ObjectStreamSerializer;
 import io.fury.serializer.Serializer;
 import io.fury.serializer.TimeSerializers;
 import io.fury.util.LoggerFactory;
 import io.fury.util.Platform;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 import org.slf4j.Logger;
@@ -63,6 +72,10 @@ public final class FuryBuilder {
   boolean compressInt = true;
   public LongEncoding longEncoding = LongEncoding.SLI;
   boolean compressString = true;
+  boolean packArray = false;
+  boolean deduplicateString = false;
+  int stringTableSize = 1 << 12;
+  boolean fieldSizeWritten = false;
   CompatibleMode compatibleMode = CompatibleMode.SCHEMA_CONSISTENT;
   boolean checkJdkClassSerializable = true;
   Class<? extends Serializer> defaultJDKStreamSerializerType = ObjectStreamSerializer.class;
@@ -72,6 +85,12 @@ public final class FuryBuilder {
   public boolean deserializeUnexistedClass = false;
   public boolean asyncCompilationEnabled = false;
   public boolean registerGuavaTypes = true;
+  int streamBufferSize = 0;
+  int bufferSizeLimitBytes = 1 << 20;
+  int jitThreshold = 0;
+  int maxJITQueueSize = 16;
+  CompressionCodec compressionCodec;
+  int compressionBlockSize = 1 << 16;
 
   public FuryBuilder() {}
 
@@ -140,6 +159,53 @@ public final class FuryBuilder {
     return this;
   }
 
+  /**
+   * Whether write <code>int[]</code>/<code>long[]</code> with delta/frame-of-reference bit-packing
+   * instead of raw memory. Packing is opt-in for single fields by {@link Packed} too. Out-of-band
+   * buffers and cross-language data are not packed.
+   */
+  public FuryBuilder withArrayPacked(boolean arrayPacked) {
+    this.packArray = arrayPacked;
+    return this;
+  }
+
+  /**
+   * Whether deduplicate strings by value in a serialization. Equal strings will be written only
+   * once, later occurrences will be written as an id of the first one. Strings are shared across
+   * serializations by {@link MetaContext} if meta share is enabled by {@link
+   * #withMetaContextShare}. This only takes effect for {@link Language#JAVA}.
+   *
+   * @see #withStringTableSize
+   */
+  public FuryBuilder withStringDeduplication(boolean deduplicateString) {
+    this.deduplicateString = deduplicateString;
+    return this;
+  }
+
+  /**
+   * Set max number of distinct strings can be deduplicated, strings beyond this limit will be
+   * written in full every time.
+   */
+  public FuryBuilder withStringTableSize(int stringTableSize) {
+    Preconditions.checkArgument(
+        stringTableSize > 0, "String table size %s should be positive.", stringTableSize);
+    this.stringTableSize = stringTableSize;
+    return this;
+  }
+
+  /**
+   * Whether write a 4-byte size before every non-primitive field value in {@link
+   * CompatibleMode#COMPATIBLE} mode. Peers which don't have a field can skip its value by the size
+   * instead of deserializing it, skipping by size happens only when reference tracking and string
+   * deduplication are disabled and class registration is required, since otherwise the skipped data
+   * may carry references or class names used by later data. Data written with size can't be read by
+   * fury without this option, and won't be written to stream in chunks.
+   */
+  public FuryBuilder withFieldSizeWritten(boolean fieldSizeWritten) {
+    this.fieldSizeWritten = fieldSizeWritten;
+    return this;
+  }
+
   /** Whether compress string for small size. */
   public FuryBuilder withStringCompressed(boolean stringCompressed) {
     this.compressString = stringCompressed;
@@ -247,6 +313,90 @@ public final class FuryBuilder {
     return this;
   }
 
+  /**
+   * Enable tiered compilation when async compilation is enabled: a class will be serialized in
+   * interpreter mode first and get its jit serializer only after it's serialized or deserialized
+   * <code>jitThreshold</code> times, so rarely used classes won't burn cpu and metaspace for jit.
+   * Zero means generating jit serializer when a class is seen for the first time.
+   *
+   * @see Config#getJITThreshold()
+   */
+  public FuryBuilder withJITThreshold(int jitThreshold) {
+    Preconditions.checkArgument(
+        jitThreshold >= 0, "JIT threshold %s should be non-negative.", jitThreshold);
+    this.jitThreshold = jitThreshold;
+    return this;
+  }
+
+  /**
+   * Set max number of jit tasks submitted by tiered compilation and not finished yet, classes
+   * crossing jit threshold when the queue is full will be submitted after more invocations.
+   *
+   * @see #withJITThreshold(int)
+   */
+  public FuryBuilder withMaxJITQueueSize(int maxJITQueueSize) {
+    Preconditions.checkArgument(
+        maxJITQueueSize > 0, "Max jit queue size %s should be positive.", maxJITQueueSize);
+    this.maxJITQueueSize = maxJITQueueSize;
+    return this;
+  }
+
+  /**
+   * Set chunk size for stream serialization. If positive, {@link Fury#serialize(OutputStream,
+   * Object)} will write data to the stream in chunks of at most this size instead of buffering the
+   * whole object graph in memory, and {@link Fury#deserialize(InputStream)} will read data from the
+   * stream lazily. If zero, data will be buffered fully and prefixed with a 4-byte size header.
+   *
+   * @see Config#getStreamBufferSize()
+   */
+  public FuryBuilder withStreamBufferSize(int streamBufferSize) {
+    Preconditions.checkArgument(
+        streamBufferSize >= 0, "Stream buffer size %s should be non-negative.", streamBufferSize);
+    this.streamBufferSize = streamBufferSize;
+    return this;
+  }
+
+  /**
+   * Set max size of the internal buffer retained by {@link Fury} after serialization. If the buffer
+   * grew larger than this size when serializing a big object, it will be shrunk to this size, so
+   * the memory won't be retained forever. Increase it if big objects are serialized frequently to
+   * avoid growing the buffer repeatedly.
+   *
+   * @see Config#getBufferSizeLimitBytes()
+   */
+  public FuryBuilder withBufferSizeLimitBytes(int bufferSizeLimitBytes) {
+    Preconditions.checkArgument(
+        bufferSizeLimitBytes > 0, "Buffer size limit %s should be positive.", bufferSizeLimitBytes);
+    this.bufferSizeLimitBytes = bufferSizeLimitBytes;
+    return this;
+  }
+
+  /**
+   * Set codec to compress serialized in-band data in blocks, {@link Fury#deserialize} will
+   * decompress the data transparently. Out-of-band buffers won't be compressed. Null disables
+   * compression.
+   *
+   * <p>Note that chunked stream serialization configured by {@link #withStreamBufferSize} will be
+   * disabled when compression is enabled, since compressed data is produced after the whole object
+   * graph is written.
+   *
+   * @see LZ4CompressionCodec
+   */
+  public FuryBuilder withCompressionCodec(CompressionCodec compressionCodec) {
+    this.compressionCodec = compressionCodec;
+    return this;
+  }
+
+  /** Set max number of uncompressed bytes in a compression block. */
+  public FuryBuilder withCompressionBlockSize(int compressionBlockSize) {
+    Preconditions.checkArgument(
+        compressionBlockSize > 0 && compressionBlockSize <= 1 << 30,
+        "Compression block size %s should be in (0, 2^30].",
+        compressionBlockSize);
+    this.compressionBlockSize = compressionBlockSize;
+    return this;
+  }
+
   private void finish() {
     if (classLoader == null) {
       classLoader = Thread.currentThread().getContextClassLoader();
@@ -322,6 +472,31 @@ public final class FuryBuilder {
     return threadSafeFury;
   }
 
+  /**
+   * Build thread safe fury backed by {@link StripedPoolFury}, which shares a lock-free pool of
+   * {@link Fury} sized by carrier parallelism between all threads. Prefer this to {@link
+   * #buildThreadLocalFury} when serialization is invoked from many virtual threads.
+   */
+  public ThreadSafeFury buildStripedThreadSafeFury() {
+    return buildStripedThreadSafeFury(StripedFuryPool.defaultMaxSize());
+  }
+
+  /**
+   * Build thread safe fury backed by {@link StripedPoolFury}.
+   *
+   * @param maxPoolSize max number of {@link Fury} created for every classloader, borrowers will
+   *     block when all instances are in use
+   */
+  public ThreadSafeFury buildStripedThreadSafeFury(int maxPoolSize) {
+    if (maxPoolSize <= 0) {
+      throw new IllegalArgumentException(String.format("Illegal max pool size %s", maxPoolSize));
+    }
+    finish();
+    ClassLoader loader = this.classLoader;
+    this.classLoader = null;
+    return new StripedPoolFury(classLoader -> newFury(this, classLoader), loader, maxPoolSize);
+  }
+
   /**
    * Build pooled ThreadSafeFury.
    *
@@ -344,6 +519,25 @@ public final class FuryBuilder {
    */
   public ThreadSafeFury buildThreadSafeFuryPool(
       int minPoolSize, int maxPoolSize, long expireTime, TimeUnit timeUnit) {
+    return buildThreadSafeFuryPool(minPoolSize, maxPoolSize, expireTime, timeUnit, false);
+  }
+
+  /**
+   * Build pooled ThreadSafeFury.
+   *
+   * @param minPoolSize min pool size
+   * @param maxPoolSize max pool size
+   * @param expireTime cache expire time, default 5's
+   * @param timeUnit TimeUnit, default SECONDS
+   * @param threadAffinity whether a thread prefers the fury instance it used last time
+   * @return ThreadSafeFuryPool
+   */
+  public ThreadSafeFury buildThreadSafeFuryPool(
+      int minPoolSize,
+      int maxPoolSize,
+      long expireTime,
+      TimeUnit timeUnit,
+      boolean threadAffinity) {
     if (minPoolSize < 0 || maxPoolSize < 0 || minPoolSize > maxPoolSize) {
       throw new IllegalArgumentException(
           String.format(
@@ -359,7 +553,8 @@ public final class FuryBuilder {
             minPoolSize,
             maxPoolSize,
             expireTime,
-            timeUnit);
+            timeUnit,
+            threadAffinity);
     threadSafeFury.setClassLoader(loader);
     return threadSafeFury;
   }
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2023 The Fury Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fury.io;
+
+import io.fury.Fury;
+import io.fury.memory.MemoryBuffer;
+import io.fury.memory.MemoryUtils;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.List;
+
+/**
+ * A non-blocking decoder which accepts bytes of payloads written by {@link
+ * Fury#serialize(java.io.OutputStream, Object)} as they arrive, and produces objects once all bytes
+ * of a payload are received. This is suitable for event loops such as netty/nio which can't block
+ * on {@link Fury#deserialize(java.io.InputStream)}.
+ *
+ * <p>Both payloads with a 4-byte size header and payloads written in chunks by {@link
+ * OutputStreamSink} are supported. Decoding state is kept between calls, received bytes are
+ * de-framed into a payload buffer incrementally and won't be parsed again, the payload is
+ * deserialized when its last chunk arrives. A complete size-prefixed payload in the input will be
+ * deserialized in place without copying.
+ *
+ * <p>Create a decoder for every connection, decoders on same thread can share one {@link Fury}.
+ * This class is not thread-safe.
+ *
+ * @author chaokunyang
+ */
+public class FuryDecoder {
+  private final Fury fury;
+  private final MemoryBuffer header = MemoryUtils.buffer(4);
+  private final MemoryBuffer payload;
+  // Remaining bytes of current frame, -1 if the frame header is not read.
+  private int frameRemaining = -1;
+  // Whether current frame is the last frame of the payload.
+  private boolean lastFrame;
+
+  public FuryDecoder(Fury fury) {
+    this(fury, 64);
+  }
+
+  public FuryDecoder(Fury fury, int initialPayloadSize) {
+    this.fury = fury;
+    this.payload = MemoryUtils.buffer(initialPayloadSize);
+  }
+
+  /**
+   * Consume all readable bytes of <code>input</code>, and add decoded objects to <code>out</code>.
+   *
+   * @return number of objects decoded, 0 if more bytes are needed.
+   */
+  public int decode(ByteBuffer input, List<Object> out) {
+    int count = 0;
+    while (input.hasRemaining()) {
+      if (frameRemaining < 0) {
+        if (header.writerIndex() == 0 && tryDecodeInPlace(input, out)) {
+          count++;
+          continue;
+        }
+        int n = Math.min(4 - header.writerIndex(), input.remaining());
+        header.write(input, n);
+        if (header.writerIndex() < 4) {
+          break;
+        }
+        readFrameHeader(header.getInt(0));
+        header.writerIndex(0);
+      }
+      int n = Math.min(frameRemaining, input.remaining());
+      payload.write(input, n);
+      frameRemaining -= n;
+      if (frameRemaining == 0) {
+        frameRemaining = -1;
+        if (lastFrame) {
+          out.add(decodePayload());
+          count++;
+        }
+      }
+    }
+    return count;
+  }
+
+  public int decode(byte[] bytes, int offset, int length, List<Object> out) {
+    return decode(ByteBuffer.wrap(bytes, offset, length), out);
+  }
+
+  /** Returns whether bytes of an incomplete payload are buffered in this decoder. */
+  public boolean hasPartialPayload() {
+    return header.writerIndex() > 0 || frameRemaining >= 0 || payload.writerIndex() > 0;
+  }
+
+  /** Discard buffered bytes, this should be invoked when the connection is reset. */
+  public void reset() {
+    header.writerIndex(0);
+    payload.writerIndex(0);
+    payload.readerIndex(0);
+    frameRemaining = -1;
+  }
+
+  private boolean tryDecodeInPlace(ByteBuffer input, List<Object> out) {
+    int remaining = input.remaining();
+    // Read-only heap buffer can't be wrapped.
+    if (remaining < 4 || payload.writerIndex() > 0 || !(input.isDirect() || input.hasArray())) {
+      return false;
+    }
+    int position = input.position();
+    ByteBuffer buf = input.duplicate();
+    buf.order(ByteOrder.LITTLE_ENDIAN);
+    int size = buf.getInt(position);
+    if (size < 0 || size > remaining - 4) {
+      return false;
+    }
+    buf.position(position + 4).limit(position + 4 + size);
+    out.add(fury.deserialize(MemoryUtils.wrap(buf)));
+    input.position(position + 4 + size);
+    return true;
+  }
+
+  private void readFrameHeader(int frameHeader) {
+    if (frameHeader >= 0) {
+      // size of whole payload.
+      frameRemaining = frameHeader;
+      lastFrame = true;
+    } else {
+      frameRemaining = ~frameHeader;
+      lastFrame = frameHeader == OutputStreamSink.END_MARK;
+    }
+  }
+
+  private Object decodePayload() {
+    MemoryBuffer payload = this.payload;
+    try {
+      payload.readerIndex(0);
+      return fury.deserialize(payload);
+    } finally {
+      payload.writerIndex(0);
+      payload.readerIndex(0);
+    }
+  }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2023 The Fury Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fury.io;
+
+import com.google.common.base.Preconditions;
+import io.fury.Fury;
+import io.fury.memory.MemoryBuffer;
+import io.fury.resolver.MetaContext;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Reader for data written by {@link FuryStreamWriter}. The footer index is read when the reader is
+ * created, so object N can be read by seeking to its chunk directly, only class meta of previous
+ * objects in same chunk will be read, previous objects won't be decoded.
+ *
+ * <p>Chunks can be decoded independently, so chunks can be scanned in parallel. This class is not
+ * thread-safe, every thread needs its own reader and {@link Fury}, which can be created by {@link
+ * #newReader(Fury)} without parsing the footer again.
+ *
+ * @author chaokunyang
+ */
+public class FuryStreamReader {
+  private final Fury fury;
+  private final MemoryBuffer buffer;
+  private final boolean shareMeta;
+  private final long[] chunkOffsets;
+  // Index of first object for every chunk, the last element is number of objects.
+  private final long[] chunkStartIndices;
+  private int chunkIndex = -1;
+  private MemoryBuffer chunkBody;
+  private int chunkHeaderOffset;
+  private MetaContext metaContext;
+  // Index of next object in current chunk whose class meta is not read.
+  private int nextIndexInChunk;
+  // Global index of next object for sequential read.
+  private long nextIndex;
+
+  public FuryStreamReader(Fury fury, byte[] data) {
+    this(fury, MemoryBuffer.fromByteArray(data));
+  }
+
+  /**
+   * Create a reader on `buffer`, the data must be started at index 0 of `buffer`. A file can be
+   * read by mapping it into a {@link java.nio.MappedByteBuffer}.
+   */
+  public FuryStreamReader(Fury fury, MemoryBuffer buffer) {
+    this.fury = fury;
+    this.buffer = buffer;
+    shareMeta = fury.getConfig().shareMetaContext();
+    int size = buffer.size();
+    Preconditions.checkArgument(size >= 8, "Data of size %s is truncated.", size);
+    Preconditions.checkArgument(
+        buffer.getInt(size - 4) == FuryStreamWriter.MAGIC_NUMBER,
+        "Data doesn't end with a footer, the writer may not be closed.");
+    int numChunks = buffer.getInt(size - 8);
+    int footerOffset = size - 8 - numChunks * 12;
+    Preconditions.checkArgument(numChunks >= 0 && footerOffset >= 0, "Invalid footer.");
+    chunkOffsets = new long[numChunks];
+    chunkStartIndices = new long[numChunks + 1];
+    for (int i = 0; i < numChunks; i++) {
+      int offset = footerOffset + i * 12;
+      chunkOffsets[i] = buffer.getLong(offset);
+      chunkStartIndices[i + 1] = chunkStartIndices[i] + buffer.getInt(offset + 8);
+    }
+  }
+
+  private FuryStreamReader(FuryStreamReader reader, Fury fury) {
+    this.fury = fury;
+    this.buffer = reader.buffer;
+    shareMeta = reader.shareMeta;
+    chunkOffsets = reader.chunkOffsets;
+    chunkStartIndices = reader.chunkStartIndices;
+  }
+
+  /**
+   * Create a reader on same data which reads by <code>fury</code>, the footer index is shared. This
+   * can be used to read chunks in another thread.
+   */
+  public FuryStreamReader newReader(Fury fury) {
+    return new FuryStreamReader(this, fury);
+  }
+
+  public int getNumChunks() {
+    return chunkOffsets.length;
+  }
+
+  public long getNumObjects() {
+    return chunkStartIndices[chunkOffsets.length];
+  }
+
+  /** Returns index of first object in chunk `chunkIndex`. */
+  public long getChunkStartIndex(int chunkIndex) {
+    return chunkStartIndices[chunkIndex];
+  }
+
+  public boolean hasNext() {
+    return nextIndex < getNumObjects();
+  }
+
+  /** Read next object, reading starts from the first object or the object after last read. */
+  public Object next() {
+    return read(nextIndex);
+  }
+
+  /** Read object at `index`. */
+  public Object read(long index) {
+    if (index < 0 || index >= getNumObjects()) {
+      throw new IndexOutOfBoundsException(
+          String.format("Index %d out of range [0, %d)", index, getNumObjects()));
+    }
+    int chunk = chunkIndex;
+    if (chunk < 0 || index < chunkStartIndices[chunk] || index >= chunkStartIndices[chunk + 1]) {
+      chunk = Arrays.binarySearch(chunkStartIndices, index);
+      if (chunk < 0) {
+        // Chunks are never empty, so start indices are strictly increasing.
+        chunk = -chunk - 2;
+      }
+      loadChunk(chunk);
+    }
+    int indexInChunk = (int) (index - chunkStartIndices[chunk]);
+    if (indexInChunk < nextIndexInChunk) {
+      // Class meta of objects read already, need to read chunk meta from beginning.
+      loadChunk(chunk);
+    }
+    for (int i = nextIndexInChunk; i < indexInChunk; i++) {
+      skipObject(i);
+    }
+    MemoryBuffer body = chunkBody;
+    body.readerIndex(objectOffset(indexInChunk));
+    setMetaContext();
+    Object obj = fury.deserialize(body);
+    nextIndexInChunk = indexInChunk + 1;
+    nextIndex = index + 1;
+    return obj;
+  }
+
+  /** Read all objects in chunk `chunkIndex`. */
+  public List<Object> readChunk(int chunkIndex) {
+    long start = chunkStartIndices[chunkIndex];
+    long end = chunkStartIndices[chunkIndex + 1];
+    List<Object> objects = new ArrayList<>((int) (end - start));
+    for (long i = start; i < end; i++) {
+      objects.add(read(i));
+    }
+    return objects;
+  }
+
+  private void loadChunk(int chunk) {
+    MemoryBuffer buffer = this.buffer;
+    int offset = Math.toIntExact(chunkOffsets[chunk]);
+    int bodySize = buffer.getInt(offset);
+    int numObjects = buffer.getInt(offset + 4);
+    chunkHeaderOffset = offset + 8;
+    // Class meta offsets are written relative to chunk body.
+    chunkBody = buffer.slice(chunkHeaderOffset + numObjects * 4, bodySize);
+    chunkIndex = chunk;
+    metaContext = shareMeta ? new MetaContext() : null;
+    nextIndexInChunk = 0;
+  }
+
+  private int objectOffset(int indexInChunk) {
+    return buffer.getInt(chunkHeaderOffset + indexInChunk * 4);
+  }
+
+  /** Read class meta of an object without deserializing the object. */
+  private void skipObject(int indexInChunk) {
+    if (shareMeta) {
+      MemoryBuffer body = chunkBody;
+      body.readerIndex(objectOffset(indexInChunk));
+      // skip bitmap, null object doesn't have class meta.
+      if ((body.readByte() & 1) == 0) {
+        setMetaContext();
+        try {
+          fury.getClassResolver().readClassDefs(body);
+        } finally {
+          fury.getSerializationContext().setMetaContext(null);
+        }
+      }
+    }
+    nextIndexInChunk = indexInChunk + 1;
+  }
+
+  private void setMetaContext() {
+    if (shareMeta) {
+      fury.getSerializationContext().setMetaContext(metaContext);
+    }
+  }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2023 The Fury Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fury.io;
+
+import com.google.common.base.Preconditions;
+import io.fury.Fury;
+import io.fury.collection.IntArray;
+import io.fury.memory.MemoryBuffer;
+import io.fury.memory.MemoryUtils;
+import io.fury.resolver.MetaContext;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writer which writes a sequence of objects to an {@link OutputStream} in chunks, and appends a
+ * footer index of chunks when closed. Data can be read by {@link FuryStreamReader}.
+ *
+ * <p>Objects are serialized by {@link Fury#serialize(MemoryBuffer, Object)} one by one into a
+ * chunk, and the chunk is written to stream when its size exceeds `chunkSize`. If meta share is
+ * enabled for {@link Fury}, all objects in a chunk share one {@link MetaContext}, so class meta are
+ * written only once for every chunk. Every chunk can be decoded independently.
+ *
+ * <p>Data layout:
+ *
+ * <pre>
+ * | chunk 0 | chunk 1 | ... | footer |
+ * chunk: | 4-byte body size | 4-byte num objects | 4-byte object offset * num objects | body |
+ * footer: | (8-byte chunk offset, 4-byte num objects) * num chunks | 4-byte num chunks | magic |
+ * </pre>
+ *
+ * @author chaokunyang
+ */
+public class FuryStreamWriter implements Closeable {
+  static final int MAGIC_NUMBER = 0x46535452;
+  static final int DEFAULT_CHUNK_SIZE = 64 * 1024;
+
+  private final Fury fury;
+  private final OutputStream stream;
+  private final int chunkSize;
+  private final boolean shareMeta;
+  private final MemoryBuffer chunkBuffer;
+  private final MemoryBuffer headerBuffer;
+  private final MemoryBuffer footerBuffer;
+  private final IntArray objectOffsets = new IntArray(16);
+  private MetaContext metaContext;
+  private long position;
+  private int numChunks;
+  private boolean closed;
+
+  public FuryStreamWriter(Fury fury, OutputStream stream) {
+    this(fury, stream, DEFAULT_CHUNK_SIZE);
+  }
+
+  public FuryStreamWriter(Fury fury, OutputStream stream, int chunkSize) {
+    Preconditions.checkArgument(chunkSize > 0, "Chunk size %s should be positive.", chunkSize);
+    this.fury = fury;
+    this.stream = stream;
+    this.chunkSize = chunkSize;
+    shareMeta = fury.getConfig().shareMetaContext();
+    chunkBuffer = MemoryUtils.buffer(chunkSize);
+    headerBuffer = MemoryUtils.buffer(64);
+    footerBuffer = MemoryUtils.buffer(64);
+  }
+
+  /**
+   * Serialize `obj` into current chunk, and write the chunk to stream if it's full. If the
+   * serialization fails, partial data of `obj` will be discarded and previous objects are kept.
+   */
+  public void write(Object obj) {
+    Preconditions.checkState(!closed, "Writer is closed.");
+    MemoryBuffer buffer = chunkBuffer;
+    int writerIndex = buffer.writerIndex();
+    objectOffsets.add(writerIndex);
+    if (shareMeta) {
+      if (metaContext == null) {
+        metaContext = new MetaContext();
+      }
+      fury.getSerializationContext().setMetaContext(metaContext);
+    }
+    try {
+      fury.serialize(buffer, obj);
+    } catch (Throwable t) {
+      objectOffsets.pop();
+      buffer.writerIndex(writerIndex);
+      if (shareMeta) {
+        // Meta context may have recorded class defs written by the discarded data, start a new
+        // chunk with a new context.
+        flushChunk();
+      }
+      throw t;
+    }
+    if (buffer.writerIndex() >= chunkSize) {
+      flushChunk();
+    }
+  }
+
+  /** Write current chunk to stream even if it's not full, following objects go to a new chunk. */
+  public void flush() throws IOException {
+    Preconditions.checkState(!closed, "Writer is closed.");
+    flushChunk();
+    stream.flush();
+  }
+
+  /** Returns number of chunks written to stream. */
+  public int getNumChunks() {
+    return numChunks;
+  }
+
+  /** Write remaining objects and the footer index, then close the stream. */
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    flushChunk();
+    MemoryBuffer footer = footerBuffer;
+    footer.writeInt(numChunks);
+    footer.writeInt(MAGIC_NUMBER);
+    writeToStream(footer);
+    closed = true;
+    stream.close();
+  }
+
+  private void flushChunk() {
+    IntArray offsets = objectOffsets;
+    int numObjects = offsets.size;
+    if (numObjects == 0) {
+      return;
+    }
+    MemoryBuffer header = headerBuffer;
+    header.writerIndex(0);
+    header.writeInt(chunkBuffer.writerIndex());
+    header.writeInt(numObjects);
+    for (int i = 0; i < numObjects; i++) {
+      header.writeInt(offsets.elementData[i]);
+    }
+    footerBuffer.writeLong(position);
+    footerBuffer.writeInt(numObjects);
+    writeToStream(header);
+    writeToStream(chunkBuffer);
+    chunkBuffer.writerIndex(0);
+    offsets.clear();
+    metaContext = null;
+    numChunks++;
+  }
+
+  private void writeToStream(MemoryBuffer buffer) {
+    int size = buffer.writerIndex();
+    try {
+      // Buffers are heap buffers allocated by this writer.
+      stream.write(buffer.getHeapMemory(), 0, size);
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+    position += size;
+  }
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright 2023 The Fury Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fury.io;
+
+import com.google.common.base.Preconditions;
+import io.fury.memory.MemoryBuffer;
+import io.fury.memory.MemoryBufferSource;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * A {@link MemoryBufferSource} which pulls bytes from an {@link InputStream} lazily when the
+ * readable bytes of the buffer are exhausted. Consumed bytes will be discarded when the window is
+ * full, so the memory used for reading is bounded by the chunk size instead of the serialized data
+ * size, unless a single value such as a big primitive array is larger than the chunk size.
+ *
+ * <p>Both data written by {@link OutputStreamSink} and data with a legacy 4-byte size header are
+ * supported. Bytes of next payload in the stream will never be read.
+ *
+ * <p>Note that bytes before reader index may be discarded when filling the buffer, so slices of the
+ * buffer must be copied before reading more data.
+ *
+ * @author chaokunyang
+ */
+public class InputStreamSource implements MemoryBufferSource {
+  private final byte[] chunk;
+  private final byte[] header = new byte[4];
+  private InputStream stream;
+  private byte[] window;
+  private int windowStart;
+  // Remaining bytes of current stream chunk.
+  private int chunkRemaining;
+  // Whether current stream chunk is the last chunk of the payload.
+  private boolean lastChunk;
+  // Whether current payload has a legacy 4-byte size header.
+  private boolean legacy;
+
+  /** Create a source whose buffer window has size `chunkSize`. */
+  public InputStreamSource(int chunkSize) {
+    Preconditions.checkArgument(chunkSize > 0, "Chunk size %s should be positive.", chunkSize);
+    this.chunk = new byte[chunkSize];
+  }
+
+  /**
+   * Read the payload header from `stream` and point `buffer` to the source window, following reads
+   * of `buffer` will pull data of the payload from `stream`.
+   */
+  public void bind(MemoryBuffer buffer, InputStream stream) {
+    this.stream = stream;
+    window = chunk;
+    windowStart = 0;
+    int header = readInt();
+    legacy = header >= 0;
+    readHeader(header);
+    buffer.pointToWindow(window, 0, 0);
+    buffer.readerIndex(0);
+    buffer.setSource(this);
+  }
+
+  /** Returns whether data of current payload is written by {@link OutputStreamSink}. */
+  public boolean isChunked() {
+    return !legacy;
+  }
+
+  @Override
+  public void fill(MemoryBuffer buffer, int length) {
+    int readerIndex = buffer.readerIndex();
+    int windowEnd = buffer.size();
+    int required = readerIndex + length;
+    byte[] window = this.window;
+    if (required - windowStart > window.length) {
+      // Discard consumed bytes to make room for new bytes.
+      int retained = windowEnd - readerIndex;
+      byte[] newWindow = length > chunk.length ? new byte[length] : chunk;
+      System.arraycopy(window, readerIndex - windowStart, newWindow, 0, retained);
+      this.window = window = newWindow;
+      windowStart = readerIndex;
+    }
+    windowEnd = readChunks(window, windowEnd, required);
+    buffer.pointToWindow(window, windowStart, windowEnd - windowStart);
+  }
+
+  /**
+   * Read all remaining data of the payload into `buffer` without discarding any bytes, this is
+   * needed by protocol which reads data by absolute offset.
+   */
+  public void fillAll(MemoryBuffer buffer) {
+    int windowEnd = buffer.size();
+    while (chunkRemaining > 0 || !lastChunk) {
+      if (chunkRemaining == 0) {
+        readHeader(readInt());
+        continue;
+      }
+      int required = windowEnd + chunkRemaining;
+      if (required - windowStart > window.length) {
+        byte[] newWindow = new byte[Math.max(required - windowStart, window.length << 1)];
+        System.arraycopy(window, 0, newWindow, 0, windowEnd - windowStart);
+        window = newWindow;
+      }
+      windowEnd = readChunks(window, windowEnd, required);
+    }
+    buffer.pointToWindow(window, windowStart, windowEnd - windowStart);
+  }
+
+  /**
+   * Skip unread data of the payload in the stream, so the stream will be at the start of next
+   * payload, then unbind `buffer` from this source.
+   */
+  public void finish(MemoryBuffer buffer) {
+    try {
+      while (chunkRemaining > 0 || !lastChunk) {
+        if (chunkRemaining == 0) {
+          readHeader(readInt());
+        } else {
+          long skipped = stream.skip(chunkRemaining);
+          if (skipped <= 0) {
+            if (stream.read() < 0) {
+              throw new EOFException("Unexpected end of stream");
+            }
+            skipped = 1;
+          }
+          chunkRemaining -= (int) skipped;
+        }
+      }
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    } finally {
+      unbind(buffer);
+    }
+  }
+
+  /** Unbind `buffer` from this source without consuming remaining data in the stream. */
+  public void unbind(MemoryBuffer buffer) {
+    buffer.setSource(null);
+    stream = null;
+    window = chunk;
+  }
+
+  private int readChunks(byte[] window, int windowEnd, int required) {
+    try {
+      while (windowEnd < required) {
+        if (chunkRemaining == 0) {
+          if (lastChunk) {
+            throw new IndexOutOfBoundsException(
+                String.format(
+                    "Need %d bytes, but payload ends at %d", required - windowEnd, windowEnd));
+          }
+          readHeader(readInt());
+          continue;
+        }
+        int offset = windowEnd - windowStart;
+        int read = stream.read(window, offset, Math.min(chunkRemaining, window.length - offset));
+        if (read < 0) {
+          throw new EOFException("Unexpected end of stream");
+        }
+        chunkRemaining -= read;
+        windowEnd += read;
+      }
+      return windowEnd;
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private void readHeader(int header) {
+    if (header >= 0) {
+      // legacy header: size of whole payload.
+      chunkRemaining = header;
+      lastChunk = true;
+    } else {
+      chunkRemaining = ~header;
+      lastChunk = header == OutputStreamSink.END_MARK;
+    }
+  }
+
+  private int readInt() {
+    byte[] header = this.header;
+    try {
+      int offset = 0;
+      while (offset < 4) {
+        int read = stream.read(header, offset, 4 - offset);
+        if (read < 0) {
+          throw new EOFException("Unexpected end of stream");
+        }
+        offset += read;
+      }
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+    return (header[0] & 0xFF)
+        | ((header[1] & 0xFF) << 8)
+        | ((header[2] & 0xFF) << 16)
+        | ((header[3] & 0xFF) << 24);
+  }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2023 The Fury Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fury.io;
+
+import com.google.common.base.Preconditions;
+import io.fury.memory.MemoryBuffer;
+import io.fury.memory.MemoryBufferSink;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * A {@link MemoryBufferSink} which drains written bytes to an {@link OutputStream} in chunks when
+ * the buffer is full, so the memory used for writing is bounded by the chunk size instead of the
+ * serialized data size.
+ *
+ * <p>Every drained chunk is written as a 4-byte little-endian header `~chunkSize` followed by chunk
+ * bytes, and an empty chunk is written as the end mark. The header is always negative, so it can be
+ * distinguished from the legacy non-negative 4-byte size header of a whole payload. See {@link
+ * InputStreamSource} for reading.
+ *
+ * <p>Note that written bytes can't be updated by index after they are drained. Data which needs
+ * back-patching such as meta share or cross-language out-of-band offsets is not supported.
+ *
+ * @author chaokunyang
+ */
+public class OutputStreamSink implements MemoryBufferSink {
+  static final int END_MARK = ~0;
+
+  private final byte[] chunk;
+  private final byte[] header = new byte[4];
+  private OutputStream stream;
+  private byte[] window;
+  private int windowStart;
+
+  /** Create a sink whose buffer window has size `chunkSize`. */
+  public OutputStreamSink(int chunkSize) {
+    Preconditions.checkArgument(chunkSize > 0, "Chunk size %s should be positive.", chunkSize);
+    this.chunk = new byte[chunkSize];
+  }
+
+  /** Point `buffer` to the sink window, and write following data to `stream`. */
+  public void bind(MemoryBuffer buffer, OutputStream stream) {
+    this.stream = stream;
+    window = chunk;
+    windowStart = 0;
+    buffer.pointToWindow(window, 0, window.length);
+    buffer.writerIndex(0);
+    buffer.setSink(this);
+  }
+
+  @Override
+  public void drain(MemoryBuffer buffer, int minSize) {
+    int writerIndex = buffer.writerIndex();
+    writeChunk(writerIndex - windowStart);
+    windowStart = writerIndex;
+    int needed = minSize - writerIndex;
+    // A value which is larger than chunk, such as a big primitive array, is written in a
+    // temporary window, and the window will be switched back to chunk at next drain.
+    if (needed > chunk.length) {
+      window = new byte[needed];
+    } else {
+      window = chunk;
+    }
+    buffer.pointToWindow(window, windowStart, window.length);
+  }
+
+  /** Drain remaining bytes in `buffer`, write the end mark and unbind the buffer from sink. */
+  public void finish(MemoryBuffer buffer) {
+    try {
+      writeChunk(buffer.writerIndex() - windowStart);
+      writeHeader(END_MARK);
+      stream.flush();
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    } finally {
+      unbind(buffer);
+    }
+  }
+
+  /** Unbind `buffer` from this sink without writing pending data. */
+  public void unbind(MemoryBuffer buffer) {
+    buffer.setSink(null);
+    stream = null;
+    window = chunk;
+  }
+
+  private void writeChunk(int size) {
+    // An empty chunk is the end mark.
+    if (size > 0) {
+      try {
+        writeHeader(~size);
+        stream.write(window, 0, size);
+      } catch (IOException e) {
+        throw new RuntimeException(e);
+      }
+    }
+  }
+
+  private void writeHeader(int value) throws IOException {
+    byte[] header = this.header;
+    header[0] = (byte) value;
+    header[1] = (byte) (value >>> 8);
+    header[2] = (byte) (value >>> 16);
+    header[3] = (byte) (value >>> 24);
+    stream.write(header, 0, 4);
+  }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2023 The Fury Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fury.memory;
+
+import com.google.common.base.Preconditions;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A {@link MemoryBufferSource} which reads data scattered in multiple {@link ByteBuffer} fragments,
+ * such as a message received by a network stack, without concatenating the fragments.
+ *
+ * <p>The buffer is pointed to a fragment directly, so reads in a fragment take the fast path of
+ * {@link MemoryBuffer}. Only a value which straddles fragments will be copied into a temporary
+ * window, then reading switches back to the fragment.
+ *
+ * <p>Data must be read sequentially, protocols which read data by absolute offsets such as meta
+ * share or cross-language serialization are not supported. Positions of fragments are not changed.
+ *
+ * @author chaokunyang
+ */
+public class ByteBuffersSource implements MemoryBufferSource {
+  private final ByteBuffer[] fragments;
+  // Logical start index of every fragment, the last element is total size.
+  private final int[] fragmentStarts;
+
+  /** Create a source of <code>[position, limit)</code> of every fragment. */
+  public ByteBuffersSource(ByteBuffer... fragments) {
+    List<ByteBuffer> nonEmptyFragments = new ArrayList<>(fragments.length);
+    long size = 0;
+    for (ByteBuffer fragment : fragments) {
+      if (fragment.hasRemaining()) {
+        if (!fragment.isDirect() && !fragment.hasArray()) {
+          // Read-only heap buffer can't be accessed directly.
+          byte[] bytes = new byte[fragment.remaining()];
+          fragment.duplicate().get(bytes);
+          nonEmptyFragments.add(ByteBuffer.wrap(bytes));
+        } else {
+          nonEmptyFragments.add(fragment.duplicate());
+        }
+        size += fragment.remaining();
+      }
+    }
+    Preconditions.checkArgument(size <= Integer.MAX_VALUE, "Size %s exceeds 2GB.", size);
+    this.fragments = nonEmptyFragments.toArray(new ByteBuffer[0]);
+    this.fragmentStarts = new int[this.fragments.length + 1];
+    for (int i = 0; i < this.fragments.length; i++) {
+      fragmentStarts[i + 1] = fragmentStarts[i] + this.fragments[i].remaining();
+    }
+  }
+
+  /** Returns total size of all fragments. */
+  public int size() {
+    return fragmentStarts[fragments.length];
+  }
+
+  /** Point <code>buffer</code> to the first fragment and read following data from fragments. */
+  public void bind(MemoryBuffer buffer) {
+    if (fragments.length == 0) {
+      buffer.pointToWindow(new byte[0], 0, 0);
+    } else {
+      buffer.pointToWindow(fragments[0], 0);
+    }
+    buffer.readerIndex(0);
+    buffer.setSource(this);
+  }
+
+  @Override
+  public void fill(MemoryBuffer buffer, int length) {
+    int readerIndex = buffer.readerIndex();
+    int[] fragmentStarts = this.fragmentStarts;
+    int size = fragmentStarts[fragments.length];
+    if (readerIndex > size - length) {
+      throw new IndexOutOfBoundsException(
+          String.format("Need %d bytes at %d, but data ends at %d", length, readerIndex, size));
+    }
+    int index = fragmentIndex(readerIndex);
+    if (readerIndex + length <= fragmentStarts[index + 1]) {
+      buffer.pointToWindow(fragments[index], fragmentStarts[index]);
+      return;
+    }
+    // Stitch bytes of the straddling value.
+    byte[] window = new byte[length];
+    int offset = 0;
+    int position = readerIndex;
+    while (offset < length) {
+      ByteBuffer fragment = fragments[index].duplicate();
+      fragment.position(fragment.position() + position - fragmentStarts[index]);
+      int n = Math.min(fragment.remaining(), length - offset);
+      fragment.get(window, offset, n);
+      offset += n;
+      position += n;
+      index++;
+    }
+    buffer.pointToWindow(window, readerIndex, length);
+  }
+
+  private int fragmentIndex(int readerIndex) {
+    int index = Arrays.binarySearch(fragmentStarts, 0, fragments.length, readerIndex);
+    // Fragments are not empty, so start indices are strictly increasing.
+    return index >= 0 ? index : -index - 2;
+  }
+}
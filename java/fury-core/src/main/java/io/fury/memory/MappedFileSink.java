@@ -0,0 +1,120 @@
+/*
+ * Copyright 2023 The Fury Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fury.memory;
+
+import com.google.common.base.Preconditions;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * A {@link MemoryBufferSink} which writes data to a memory-mapped region of a file. When the buffer
+ * is full, the region will be remapped with a larger size in multiple of `chunkSize` instead of
+ * copying data into a heap buffer, and written bytes are kept in place.
+ *
+ * <p>Usage:
+ *
+ * <pre>{@code
+ * MappedFileSink sink = new MappedFileSink(channel, 0, 1 << 20);
+ * MemoryBuffer buffer = sink.map();
+ * fury.serialize(buffer, obj);
+ * sink.finish(buffer, true); // truncate the file to written size.
+ * }</pre>
+ *
+ * <p>Note that a buffer is indexed by int, so at most 2GB data can be written by one sink. Larger
+ * files can be written by multiple sinks one after another: finish a sink without truncating, then
+ * create next sink at the end of its written data. The region of a sink grows in multiple of
+ * `chunkSize`, so sinks shouldn't write to the file concurrently, or the region may overlap data
+ * after it.
+ *
+ * <p>Fury rejects protocols which update written bytes by index when writing to a buffer with a
+ * sink, such as cross-language, meta share and compression.
+ *
+ * @author chaokunyang
+ */
+public class MappedFileSink implements MemoryBufferSink {
+  private final FileChannel channel;
+  private final long position;
+  private final int chunkSize;
+
+  /**
+   * Create a sink which writes data to `channel` from file `position`.
+   *
+   * @param channel a channel opened for reading and writing.
+   * @param position start position of the region in the file.
+   * @param chunkSize initial size of the region, the region grows in multiple of this size.
+   */
+  public MappedFileSink(FileChannel channel, long position, int chunkSize) {
+    Preconditions.checkArgument(position >= 0, "Position %s should be non-negative.", position);
+    Preconditions.checkArgument(chunkSize > 0, "Chunk size %s should be positive.", chunkSize);
+    this.channel = channel;
+    this.position = position;
+    this.chunkSize = chunkSize;
+  }
+
+  /** Map a region of `chunkSize` and returns a buffer whose writes will grow the region. */
+  public MemoryBuffer map() {
+    MemoryBuffer buffer = MemoryBuffer.fromByteBuffer(map(chunkSize));
+    buffer.setSink(this);
+    return buffer;
+  }
+
+  @Override
+  public void drain(MemoryBuffer buffer, int minSize) {
+    // Round up to a multiple of chunk size to avoid remapping for every write.
+    long newSize = ((long) minSize + chunkSize - 1) / chunkSize * chunkSize;
+    if (newSize > Integer.MAX_VALUE) {
+      newSize = Integer.MAX_VALUE;
+    }
+    buffer.pointTo(map((int) newSize));
+  }
+
+  /**
+   * Flush written data to the file, `buffer` won't grow any more. The mapped region after written
+   * data is kept, see {@link #finish(MemoryBuffer, boolean)}.
+   */
+  public void finish(MemoryBuffer buffer) {
+    finish(buffer, false);
+  }
+
+  /**
+   * Flush written data to the file, `buffer` won't grow any more.
+   *
+   * @param truncate whether to truncate the file to the end of written data, all data after it will
+   *     be removed from the file.
+   */
+  public void finish(MemoryBuffer buffer, boolean truncate) {
+    buffer.setSink(null);
+    try {
+      MappedByteBuffer mappedBuffer = (MappedByteBuffer) buffer.getOffHeapBuffer();
+      mappedBuffer.force();
+      if (truncate) {
+        channel.truncate(position + buffer.writerIndex());
+      }
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private MappedByteBuffer map(int size) {
+    try {
+      return channel.map(FileChannel.MapMode.READ_WRITE, position, size);
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+}
@@ -89,6 +89,11 @@ public final class MemoryBuffer {
   private int size;
   private int readerIndex;
   private int writerIndex;
+  // If not null, readable bytes will be pulled from this source lazily when they are exhausted.
+  private MemoryBufferSource source;
+  // If not null, written bytes will be drained to this sink when the buffer is full instead of
+  // growing the buffer.
+  private MemoryBufferSink sink;
 
   /**
    * Creates a new memory buffer that represents the memory of the byte array.
@@ -130,6 +135,10 @@ public final class MemoryBuffer {
    *     the memory being released.
    */
   private MemoryBuffer(long offHeapAddress, int size, ByteBuffer offHeapBuffer) {
+    initDirectBuffer(offHeapAddress, size, offHeapBuffer);
+  }
+
+  private void initDirectBuffer(long offHeapAddress, int size, ByteBuffer offHeapBuffer) {
     this.offHeapBuffer = offHeapBuffer;
     if (offHeapAddress <= 0) {
       throw new IllegalArgumentException("negative pointer or size");
@@ -144,6 +153,7 @@ public final class MemoryBuffer {
     }
 
     this.heapMemory = null;
+    this.heapOffset = 0;
     this.address = offHeapAddress;
     this.addressLimit = this.address + size;
     this.size = size;
@@ -985,6 +995,9 @@ public final class MemoryBuffer {
 
   public void increaseReaderIndex(int diff) {
     int readerIdx = readerIndex + diff;
+    if (readerIdx > size && diff > 0 && source != null) {
+      source.fill(this, diff);
+    }
     if (readerIdx < 0 || readerIdx > size) {
       throw new IndexOutOfBoundsException(
           String.format(
@@ -1573,10 +1586,9 @@ public final class MemoryBuffer {
   public int readPositiveAlignedVarInt() {
     int readerIdx = readerIndex;
     // use subtract to avoid overflow
-    if (readerIdx > size - 1) {
-      throw new IndexOutOfBoundsException(
-          String.format(
-              "readerIndex(%d) + length(%d) exceeds size(%d): %s", readerIdx, 1, size, this));
+    if (readerIdx > size - 9) {
+      // An aligned varint takes at most 9 bytes(6 data bytes and 3 padding bytes).
+      return readPositiveAlignedVarIntSlow();
     }
     long pos = address + readerIdx;
     long startPos = pos;
@@ -1609,6 +1621,42 @@ public final class MemoryBuffer {
     return result;
   }
 
+  private int readPositiveAlignedVarIntSlow() {
+    int b = readByte();
+    int result = b & 0x3F;
+    if ((b & 0x80) != 0) {
+      b = readByte();
+      result |= (b & 0x3F) << 6;
+      if ((b & 0x80) != 0) {
+        b = readByte();
+        result |= (b & 0x3F) << 12;
+        if ((b & 0x80) != 0) {
+          b = readByte();
+          result |= (b & 0x3F) << 18;
+          if ((b & 0x80) != 0) {
+            b = readByte();
+            result |= (b & 0x3F) << 24;
+            if ((b & 0x80) != 0) {
+              b = readByte();
+              result |= (b & 0x3F) << 30;
+            }
+          }
+        }
+      }
+    }
+    if ((b & 0x40) == 0) {
+      b = readByte();
+      if ((b & 0x40) == 0) {
+        b = readByte();
+        if ((b & 0x40) == 0) {
+          b = readByte();
+          Preconditions.checkArgument((b & 0x40) != 0, "At most 3 padding bytes.");
+        }
+      }
+    }
+    return result;
+  }
+
   private long skipPadding(long pos, int b) {
     // bit 7 `unset` indicates have next padding bytes,
     if ((b & 0x40) == 0) { // has first padding bytes
@@ -1869,20 +1917,21 @@ public final class MemoryBuffer {
   /** Read fury SLI(Small Long as Int) encoded long. */
   public long readSliLong() {
     final int readIdx = readerIndex;
+    if ((BoundsChecking.BOUNDS_CHECKING_ENABLED || source != null) && readIdx > size - 4) {
+      fillBuffer(4);
+    }
     final long pos = address + readIdx;
-    final int size = this.size;
     final byte[] heapMemory = this.heapMemory;
-    if (BoundsChecking.BOUNDS_CHECKING_ENABLED && readIdx > size - 4) {
-      throwIndexOutOfBoundsException(readIdx, size, 4);
-    }
     if (LITTLE_ENDIAN) {
       int i = UNSAFE.getInt(heapMemory, pos);
       if ((i & 0b1) != 0b1) {
         readerIndex = readIdx + 4;
         return i >> 1;
       } else {
-        if (BoundsChecking.BOUNDS_CHECKING_ENABLED && readIdx > size - 9) {
-          throwIndexOutOfBoundsException(readIdx, size, 9);
+        if ((BoundsChecking.BOUNDS_CHECKING_ENABLED || source != null) && readIdx > size - 9) {
+          fillBuffer(9);
+          // Filling may point this buffer to a new memory region.
+          return readBigSliLong(readIdx);
         }
         readerIndex = readIdx + 9;
         return UNSAFE.getLong(heapMemory, pos + 1);
@@ -1893,8 +1942,9 @@ public final class MemoryBuffer {
         readerIndex = readIdx + 4;
         return i >> 1;
       } else {
-        if (BoundsChecking.BOUNDS_CHECKING_ENABLED && readIdx > size - 9) {
-          throwIndexOutOfBoundsException(readIdx, size, 9);
+        if ((BoundsChecking.BOUNDS_CHECKING_ENABLED || source != null) && readIdx > size - 9) {
+          fillBuffer(9);
+          return readBigSliLong(readIdx);
         }
         readerIndex = readIdx + 9;
         return Long.reverseBytes(UNSAFE.getLong(heapMemory, pos + 1));
@@ -1902,6 +1952,12 @@ public final class MemoryBuffer {
     }
   }
 
+  private long readBigSliLong(int readIdx) {
+    readerIndex = readIdx + 9;
+    long value = UNSAFE.getLong(heapMemory, address + readIdx + 1);
+    return LITTLE_ENDIAN ? value : Long.reverseBytes(value);
+  }
+
   private void throwIndexOutOfBoundsException(int readIdx, int size, int need) {
     throw new IndexOutOfBoundsException(
         String.format(
@@ -1970,22 +2026,40 @@ public final class MemoryBuffer {
     ensure(writerIndex + neededSize);
   }
 
-  /** For off-heap buffer, this will make a heap buffer internally. */
+  /**
+   * For off-heap buffer, this will make a heap buffer internally. If a {@link MemoryBufferSink} is
+   * set, written bytes will be drained to the sink instead.
+   */
   public void ensure(int length) {
     if (length > size) {
+      if (sink != null) {
+        sink.drain(this, length);
+        return;
+      }
       byte[] data = new byte[length * 2];
       copyToUnsafe(0, data, BYTE_ARRAY_BASE_OFFSET, size());
       initHeapBuffer(data, 0, data.length);
     }
   }
 
+  /**
+   * Slow path of reads when there are not enough readable bytes: pull bytes from the {@link
+   * MemoryBufferSource} if set, otherwise throw an {@link IndexOutOfBoundsException}.
+   */
+  private void fillBuffer(int length) {
+    MemoryBufferSource source = this.source;
+    if (source != null) {
+      source.fill(this, length);
+    } else if (BoundsChecking.BOUNDS_CHECKING_ENABLED) {
+      throwIndexOutOfBoundsException(readerIndex, size, length);
+    }
+  }
+
   public boolean readBoolean() {
     int readerIdx = readerIndex;
     // use subtract to avoid overflow
-    if (BoundsChecking.BOUNDS_CHECKING_ENABLED && readerIdx > size - 1) {
-      throw new IndexOutOfBoundsException(
-          String.format(
-              "readerIndex(%d) + length(%d) exceeds size(%d): %s", readerIdx, 1, size, this));
+    if ((BoundsChecking.BOUNDS_CHECKING_ENABLED || source != null) && readerIdx > size - 1) {
+      fillBuffer(1);
     }
     readerIndex = readerIdx + 1;
     return UNSAFE.getByte(heapMemory, address + readerIdx) != 0;
@@ -1993,10 +2067,8 @@ public final class MemoryBuffer {
 
   public byte readByte() {
     int readerIdx = readerIndex;
-    if (BoundsChecking.BOUNDS_CHECKING_ENABLED && readerIdx > size - 1) {
-      throw new IndexOutOfBoundsException(
-          String.format(
-              "readerIndex(%d) + length(%d) exceeds size(%d): %s", readerIdx, 1, size, this));
+    if ((BoundsChecking.BOUNDS_CHECKING_ENABLED || source != null) && readerIdx > size - 1) {
+      fillBuffer(1);
     }
     readerIndex = readerIdx + 1;
     return UNSAFE.getByte(heapMemory, address + readerIdx);
@@ -2005,10 +2077,8 @@ public final class MemoryBuffer {
   public char readChar() {
     int readerIdx = readerIndex;
     // use subtract to avoid overflow
-    if (BoundsChecking.BOUNDS_CHECKING_ENABLED && readerIdx > size - 2) {
-      throw new IndexOutOfBoundsException(
-          String.format(
-              "readerIndex(%d) + length(%d) exceeds size(%d): %s", readerIdx, 2, size, this));
+    if ((BoundsChecking.BOUNDS_CHECKING_ENABLED || source != null) && readerIdx > size - 2) {
+      fillBuffer(2);
     }
     readerIndex = readerIdx + 2;
     final long pos = address + readerIdx;
@@ -2022,10 +2092,8 @@ public final class MemoryBuffer {
   public short readShort() {
     int readerIdx = readerIndex;
     // use subtract to avoid overflow
-    if (BoundsChecking.BOUNDS_CHECKING_ENABLED && readerIdx > size - 2) {
-      throw new IndexOutOfBoundsException(
-          String.format(
-              "readerIndex(%d) + length(%d) exceeds size(%d): %s", readerIdx, 2, size, this));
+    if ((BoundsChecking.BOUNDS_CHECKING_ENABLED || source != null) && readerIdx > size - 2) {
+      fillBuffer(2);
     }
     readerIndex = readerIdx + 2;
     final long pos = address + readerIdx;
@@ -2039,10 +2107,8 @@ public final class MemoryBuffer {
   public int readInt() {
     int readerIdx = readerIndex;
     // use subtract to avoid overflow
-    if (BoundsChecking.BOUNDS_CHECKING_ENABLED && readerIdx > size - 4) {
-      throw new IndexOutOfBoundsException(
-          String.format(
-              "readerIndex(%d) + length(%d) exceeds size(%d): %s", readerIdx, 4, size, this));
+    if ((BoundsChecking.BOUNDS_CHECKING_ENABLED || source != null) && readerIdx > size - 4) {
+      fillBuffer(4);
     }
     readerIndex = readerIdx + 4;
     final long pos = address + readerIdx;
@@ -2056,10 +2122,8 @@ public final class MemoryBuffer {
   public long readLong() {
     int readerIdx = readerIndex;
     // use subtract to avoid overflow
-    if (BoundsChecking.BOUNDS_CHECKING_ENABLED && readerIdx > size - 8) {
-      throw new IndexOutOfBoundsException(
-          String.format(
-              "readerIndex(%d) + length(%d) exceeds size(%d): %s", readerIdx, 8, size, this));
+    if ((BoundsChecking.BOUNDS_CHECKING_ENABLED || source != null) && readerIdx > size - 8) {
+      fillBuffer(8);
     }
     readerIndex = readerIdx + 8;
     final long pos = address + readerIdx;
@@ -2073,10 +2137,8 @@ public final class MemoryBuffer {
   public float readFloat() {
     int readerIdx = readerIndex;
     // use subtract to avoid overflow
-    if (BoundsChecking.BOUNDS_CHECKING_ENABLED && readerIdx > size - 4) {
-      throw new IndexOutOfBoundsException(
-          String.format(
-              "readerIndex(%d) + length(%d) exceeds size(%d): %s", readerIdx, 4, size, this));
+    if ((BoundsChecking.BOUNDS_CHECKING_ENABLED || source != null) && readerIdx > size - 4) {
+      fillBuffer(4);
     }
     readerIndex = readerIdx + 4;
     final long pos = address + readerIdx;
@@ -2090,10 +2152,8 @@ public final class MemoryBuffer {
   public double readDouble() {
     int readerIdx = readerIndex;
     // use subtract to avoid overflow
-    if (BoundsChecking.BOUNDS_CHECKING_ENABLED && readerIdx > size - 8) {
-      throw new IndexOutOfBoundsException(
-          String.format(
-              "readerIndex(%d) + length(%d) exceeds size(%d): %s", readerIdx, 8, size, this));
+    if ((BoundsChecking.BOUNDS_CHECKING_ENABLED || source != null) && readerIdx > size - 8) {
+      fillBuffer(8);
     }
     readerIndex = readerIdx + 8;
     final long pos = address + readerIdx;
@@ -2107,10 +2167,8 @@ public final class MemoryBuffer {
   public byte[] readBytes(int length) {
     int readerIdx = readerIndex;
     // use subtract to avoid overflow
-    if (BoundsChecking.BOUNDS_CHECKING_ENABLED && readerIdx > size - length) {
-      throw new IndexOutOfBoundsException(
-          String.format(
-              "readerIndex(%d) + length(%d) exceeds size(%d): %s", readerIdx, length, size, this));
+    if ((BoundsChecking.BOUNDS_CHECKING_ENABLED || source != null) && readerIdx > size - length) {
+      fillBuffer(length);
     }
     byte[] heapMemory = this.heapMemory;
     final byte[] bytes = new byte[length];
@@ -2127,10 +2185,8 @@ public final class MemoryBuffer {
   public void readBytes(byte[] dst, int dstIndex, int length) {
     int readerIdx = readerIndex;
     // use subtract to avoid overflow
-    if (BoundsChecking.BOUNDS_CHECKING_ENABLED && readerIdx > size - length) {
-      throw new IndexOutOfBoundsException(
-          String.format(
-              "readerIndex(%d) + length(%d) exceeds size(%d): %s", readerIdx, length, size, this));
+    if ((BoundsChecking.BOUNDS_CHECKING_ENABLED || source != null) && readerIdx > size - length) {
+      fillBuffer(length);
     }
     if (dstIndex > dst.length - length) {
       throw new IndexOutOfBoundsException();
@@ -2160,11 +2216,8 @@ public final class MemoryBuffer {
     final int numBytes = readPositiveVarInt();
     int readerIdx = readerIndex;
     // use subtract to avoid overflow
-    if (BoundsChecking.BOUNDS_CHECKING_ENABLED && readerIdx > size - numBytes) {
-      throw new IndexOutOfBoundsException(
-          String.format(
-              "readerIndex(%d) + length(%d) exceeds size(%d): %s",
-              readerIdx, numBytes, size, this));
+    if ((BoundsChecking.BOUNDS_CHECKING_ENABLED || source != null) && readerIdx > size - numBytes) {
+      fillBuffer(numBytes);
     }
     final byte[] arr = new byte[numBytes];
     byte[] heapMemory = this.heapMemory;
@@ -2182,11 +2235,8 @@ public final class MemoryBuffer {
     final int numBytes = readPositiveAlignedVarInt();
     int readerIdx = readerIndex;
     // use subtract to avoid overflow
-    if (BoundsChecking.BOUNDS_CHECKING_ENABLED && readerIdx > size - numBytes) {
-      throw new IndexOutOfBoundsException(
-          String.format(
-              "readerIndex(%d) + length(%d) exceeds size(%d): %s",
-              readerIdx, numBytes, size, this));
+    if ((BoundsChecking.BOUNDS_CHECKING_ENABLED || source != null) && readerIdx > size - numBytes) {
+      fillBuffer(numBytes);
     }
     final byte[] arr = new byte[numBytes];
     Platform.UNSAFE.copyMemory(
@@ -2203,10 +2253,8 @@ public final class MemoryBuffer {
     final int numBytes = readPositiveVarInt();
     int readerIdx = readerIndex;
     // use subtract to avoid overflow
-    if (BoundsChecking.BOUNDS_CHECKING_ENABLED && readerIdx > size - numBytes) {
-      throw new IndexOutOfBoundsException(
-          String.format(
-              "readerIdx(%d) + length(%d) exceeds size(%d): %s", readerIdx, numBytes, size, this));
+    if ((BoundsChecking.BOUNDS_CHECKING_ENABLED || source != null) && readerIdx > size - numBytes) {
+      fillBuffer(numBytes);
     }
     final char[] chars = new char[numBytes / 2];
     Platform.copyMemory(
@@ -2219,10 +2267,8 @@ public final class MemoryBuffer {
     final int numBytes = readPositiveAlignedVarInt();
     final int readerIdx = readerIndex;
     // use subtract to avoid overflow
-    if (BoundsChecking.BOUNDS_CHECKING_ENABLED && readerIdx > size - numBytes) {
-      throw new IndexOutOfBoundsException(
-          String.format(
-              "readerIdx(%d) + length(%d) exceeds size(%d): %s", readerIdx, numBytes, size, this));
+    if ((BoundsChecking.BOUNDS_CHECKING_ENABLED || source != null) && readerIdx > size - numBytes) {
+      fillBuffer(numBytes);
     }
     final char[] chars = new char[numBytes / 2];
     Platform.copyMemory(
@@ -2235,10 +2281,8 @@ public final class MemoryBuffer {
     final int numBytes = readPositiveVarInt();
     int readerIdx = readerIndex;
     // use subtract to avoid overflow
-    if (readerIdx > size - numBytes) {
-      throw new IndexOutOfBoundsException(
-          String.format(
-              "readerIdx(%d) + length(%d) exceeds size(%d): %s", readerIdx, numBytes, size, this));
+    if ((BoundsChecking.BOUNDS_CHECKING_ENABLED || source != null) && readerIdx > size - numBytes) {
+      fillBuffer(numBytes);
     }
     final long[] longs = new long[numBytes / 8];
     Platform.copyMemory(
@@ -2250,10 +2294,8 @@ public final class MemoryBuffer {
   public void readChars(char[] chars, int offset, int numBytes) {
     final int readerIdx = readerIndex;
     // use subtract to avoid overflow
-    if (BoundsChecking.BOUNDS_CHECKING_ENABLED && readerIdx > size - numBytes) {
-      throw new IndexOutOfBoundsException(
-          String.format(
-              "readerIdx(%d) + length(%d) exceeds size(%d): %s", readerIdx, numBytes, size, this));
+    if ((BoundsChecking.BOUNDS_CHECKING_ENABLED || source != null) && readerIdx > size - numBytes) {
+      fillBuffer(numBytes);
     }
     Platform.copyMemory(heapMemory, address + readerIdx, chars, offset, numBytes);
     readerIndex = readerIdx + numBytes;
@@ -2261,11 +2303,9 @@ public final class MemoryBuffer {
 
   public void checkReadableBytes(int minimumReadableBytes) {
     // use subtract to avoid overflow
-    if (BoundsChecking.BOUNDS_CHECKING_ENABLED && readerIndex > size - minimumReadableBytes) {
-      throw new IndexOutOfBoundsException(
-          String.format(
-              "readerIndex(%d) + length(%d) exceeds size(%d): %s",
-              readerIndex, minimumReadableBytes, size, this));
+    if ((BoundsChecking.BOUNDS_CHECKING_ENABLED || source != null)
+        && readerIndex > size - minimumReadableBytes) {
+      fillBuffer(minimumReadableBytes);
     }
   }
 
@@ -2526,6 +2566,93 @@ public final class MemoryBuffer {
     initHeapBuffer(buffer, offset, length);
   }
 
+  /**
+   * Point this buffer to the memory backing the given byte buffer section of {@code
+   * [buffer.position(), buffer.limit())}. Reader index and writer index are not changed, so a
+   * buffer can be remapped to a larger region of same data, such as a larger mapped region of a
+   * file.
+   *
+   * @param buffer a direct buffer or heap buffer
+   */
+  public void pointTo(ByteBuffer buffer) {
+    if (buffer.isDirect()) {
+      initDirectBuffer(Platform.getAddress(buffer) + buffer.position(), buffer.remaining(), buffer);
+    } else {
+      offHeapBuffer = null;
+      initHeapBuffer(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+    }
+  }
+
+  /**
+   * Point this buffer to a window of a larger logical byte sequence such as a stream. The byte at
+   * logical index {@code windowStart} will be mapped to {@code buffer[0]}, and the buffer size will
+   * be {@code windowStart + length}, so {@code readerIndex/writerIndex} keep their logical
+   * positions while the window slides. Bytes before {@code windowStart} are not accessible any
+   * more.
+   *
+   * <p>This is used by {@link MemoryBufferSource} and {@link MemoryBufferSink} to slide the window
+   * when the buffer is exhausted or full.
+   */
+  public void pointToWindow(byte[] buffer, int windowStart, int length) {
+    Preconditions.checkArgument(windowStart >= 0 && length >= 0 && length <= buffer.length);
+    this.heapMemory = buffer;
+    this.offHeapBuffer = null;
+    this.heapOffset = -windowStart;
+    this.address = BYTE_ARRAY_BASE_OFFSET - windowStart;
+    this.size = windowStart + length;
+    this.addressLimit = address + size;
+  }
+
+  /**
+   * Point this buffer to a window of a larger logical byte sequence, the byte at logical index
+   * {@code windowStart} will be mapped to {@code buffer.position()}, and the buffer size will be
+   * {@code windowStart + buffer.remaining()}. See {@link #pointToWindow(byte[], int, int)}.
+   *
+   * @param buffer a direct buffer or a heap buffer which has an accessible array
+   */
+  public void pointToWindow(ByteBuffer buffer, int windowStart) {
+    Preconditions.checkArgument(windowStart >= 0);
+    int length = buffer.remaining();
+    if (buffer.isDirect()) {
+      this.heapMemory = null;
+      this.offHeapBuffer = buffer;
+      this.heapOffset = 0;
+      this.address = Platform.getAddress(buffer) + buffer.position() - windowStart;
+    } else {
+      int offset = buffer.arrayOffset() + buffer.position();
+      this.heapMemory = buffer.array();
+      this.offHeapBuffer = null;
+      this.heapOffset = offset - windowStart;
+      this.address = BYTE_ARRAY_BASE_OFFSET + offset - windowStart;
+    }
+    this.size = windowStart + length;
+    this.addressLimit = address + size;
+  }
+
+  public MemoryBufferSource getSource() {
+    return source;
+  }
+
+  /**
+   * Set a source to pull readable bytes from lazily when they are exhausted. Set to null to disable
+   * lazy pulling.
+   */
+  public void setSource(MemoryBufferSource source) {
+    this.source = source;
+  }
+
+  public MemoryBufferSink getSink() {
+    return sink;
+  }
+
+  /**
+   * Set a sink to drain written bytes to when the buffer is full instead of growing the buffer. Set
+   * to null to disable draining.
+   */
+  public void setSink(MemoryBufferSink sink) {
+    this.sink = sink;
+  }
+
   /** Creates a new memory buffer that targets to the given heap memory region. */
   public static MemoryBuffer fromByteArray(byte[] buffer, int offset, int length) {
     return new MemoryBuffer(buffer, offset, length);
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2023 The Fury Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fury.memory;
+
+import com.google.common.base.Preconditions;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A pool of {@link MemoryBuffer} with power-of-two size classes. Every thread has its own cache, so
+ * acquiring and releasing buffers doesn't need synchronization.
+ *
+ * <p>Buffers larger than `maxPooledSize` are not retained when released, so a pooled buffer which
+ * grew for a large object won't stay huge forever.
+ *
+ * <p>A buffer must not be used after it's released, and must be released at most once.
+ *
+ * @author chaokunyang
+ */
+@ThreadSafe
+public final class MemoryBufferPool {
+  private static final int MIN_SIZE_CLASS = 6; // 64 bytes
+  public static final int DEFAULT_MAX_POOLED_SIZE = 1 << 20;
+  public static final int DEFAULT_MAX_CACHED_PER_CLASS = 8;
+
+  private final boolean direct;
+  private final int maxSizeClass;
+  private final int maxCachedPerClass;
+  private final ThreadLocal<ArrayDeque<MemoryBuffer>[]> caches;
+
+  private MemoryBufferPool(boolean direct, int maxPooledSize, int maxCachedPerClass) {
+    Preconditions.checkArgument(
+        maxPooledSize >= 1 << MIN_SIZE_CLASS,
+        "Max pooled size %s should be at least %s",
+        maxPooledSize,
+        1 << MIN_SIZE_CLASS);
+    Preconditions.checkArgument(maxCachedPerClass > 0);
+    this.direct = direct;
+    this.maxSizeClass = 31 - Integer.numberOfLeadingZeros(maxPooledSize);
+    this.maxCachedPerClass = maxCachedPerClass;
+    int numClasses = maxSizeClass - MIN_SIZE_CLASS + 1;
+    caches =
+        ThreadLocal.withInitial(
+            () -> {
+              @SuppressWarnings("unchecked")
+              ArrayDeque<MemoryBuffer>[] cache = new ArrayDeque[numClasses];
+              for (int i = 0; i < numClasses; i++) {
+                cache[i] = new ArrayDeque<>(maxCachedPerClass);
+              }
+              return cache;
+            });
+  }
+
+  /** Create a pool of heap buffers. */
+  public static MemoryBufferPool newHeapPool() {
+    return newHeapPool(DEFAULT_MAX_POOLED_SIZE, DEFAULT_MAX_CACHED_PER_CLASS);
+  }
+
+  /**
+   * Create a pool of heap buffers.
+   *
+   * @param maxPooledSize buffers larger than this size won't be retained when released.
+   * @param maxCachedPerClass max number of buffers retained by every thread for every size class.
+   */
+  public static MemoryBufferPool newHeapPool(int maxPooledSize, int maxCachedPerClass) {
+    return new MemoryBufferPool(false, maxPooledSize, maxCachedPerClass);
+  }
+
+  /** Create a pool of direct buffers. */
+  public static MemoryBufferPool newDirectPool() {
+    return newDirectPool(DEFAULT_MAX_POOLED_SIZE, DEFAULT_MAX_CACHED_PER_CLASS);
+  }
+
+  /**
+   * Create a pool of direct buffers. Note that a direct buffer will become a heap buffer if it
+   * grows, such buffers won't be retained when released.
+   *
+   * @param maxPooledSize buffers larger than this size won't be retained when released.
+   * @param maxCachedPerClass max number of buffers retained by every thread for every size class.
+   */
+  public static MemoryBufferPool newDirectPool(int maxPooledSize, int maxCachedPerClass) {
+    return new MemoryBufferPool(true, maxPooledSize, maxCachedPerClass);
+  }
+
+  public boolean isDirect() {
+    return direct;
+  }
+
+  /**
+   * Returns a buffer whose size is at least `minSize`, reader index and writer index of the buffer
+   * are zero.
+   */
+  public MemoryBuffer acquire(int minSize) {
+    Preconditions.checkArgument(minSize >= 0, "Size %s should be non-negative.", minSize);
+    // Round up to a power of two.
+    int sizeClass =
+        Math.max(MIN_SIZE_CLASS, 32 - Integer.numberOfLeadingZeros(Math.max(minSize, 1) - 1));
+    if (sizeClass <= maxSizeClass) {
+      MemoryBuffer buffer = caches.get()[sizeClass - MIN_SIZE_CLASS].pollLast();
+      if (buffer != null) {
+        return buffer;
+      }
+      return allocate(1 << sizeClass);
+    }
+    return allocate(minSize);
+  }
+
+  /**
+   * Return `buffer` to the pool of current thread. The buffer will be dropped if it's too large or
+   * the cache is full.
+   */
+  public void release(MemoryBuffer buffer) {
+    int size = buffer.size();
+    if (direct != buffer.isOffHeap() || size < 1 << MIN_SIZE_CLASS) {
+      // A direct buffer became a heap buffer after growing.
+      return;
+    }
+    // Round down to a power of two, so buffers of a size class are not smaller than class size.
+    int sizeClass = 31 - Integer.numberOfLeadingZeros(size);
+    if (sizeClass > maxSizeClass) {
+      return;
+    }
+    ArrayDeque<MemoryBuffer> cache = caches.get()[sizeClass - MIN_SIZE_CLASS];
+    if (cache.size() < maxCachedPerClass) {
+      buffer.readerIndex(0);
+      buffer.writerIndex(0);
+      buffer.setSource(null);
+      buffer.setSink(null);
+      cache.addLast(buffer);
+    }
+  }
+
+  private MemoryBuffer allocate(int size) {
+    if (direct) {
+      return MemoryBuffer.fromByteBuffer(ByteBuffer.allocateDirect(size));
+    } else {
+      return MemoryBuffer.newHeapBuffer(size);
+    }
+  }
+}
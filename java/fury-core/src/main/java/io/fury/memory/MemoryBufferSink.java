@@ -0,0 +1,36 @@
+/*
+ * Copyright 2023 The Fury Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fury.memory;
+
+/**
+ * A sink which {@link MemoryBuffer} drains written bytes to when the buffer is full instead of
+ * growing the buffer, such as an {@link java.io.OutputStream}.
+ *
+ * @see MemoryBuffer#setSink
+ * @author chaokunyang
+ */
+public interface MemoryBufferSink {
+
+  /**
+   * Drain bytes written to the buffer and make the buffer writable until {@code minSize}, i.e.
+   * {@link MemoryBuffer#size()} must be not less than {@code minSize} after this call.
+   * Implementations can point the buffer to a new memory window by {@link
+   * MemoryBuffer#pointToWindow}, bytes before the writer index may be discarded in this process, so
+   * written bytes can't be updated by index after they are drained.
+   */
+  void drain(MemoryBuffer buffer, int minSize);
+}
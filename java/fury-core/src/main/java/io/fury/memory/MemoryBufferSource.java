@@ -0,0 +1,36 @@
+/*
+ * Copyright 2023 The Fury Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fury.memory;
+
+/**
+ * A source which {@link MemoryBuffer} pulls readable bytes from lazily when the readable bytes are
+ * exhausted, such as an {@link java.io.InputStream}.
+ *
+ * @see MemoryBuffer#setSource
+ * @author chaokunyang
+ */
+public interface MemoryBufferSource {
+
+  /**
+   * Make at least {@code length} bytes readable from current {@link MemoryBuffer#readerIndex()}.
+   * Implementations can point the buffer to a new memory window by {@link
+   * MemoryBuffer#pointToWindow}, bytes before the reader index may be discarded in this process.
+   *
+   * @throws IndexOutOfBoundsException if the source doesn't have enough bytes.
+   */
+  void fill(MemoryBuffer buffer, int length);
+}
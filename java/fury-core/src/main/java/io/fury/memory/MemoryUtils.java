@@ -21,7 +21,12 @@ import io.fury.util.Platform;
 import io.fury.util.ReflectionUtils;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 
 public class MemoryUtils {
 
@@ -64,6 +69,98 @@ public class MemoryUtils {
     }
   }
 
+  /**
+   * Map the whole file into a {@link MemoryBuffer} without copying file content into heap arrays.
+   * The mapping is copy-on-write, so writes to the buffer won't change the file, but it needs write
+   * access to the file. Use {@link #mapReadOnlyFile} for files which can't be opened for writing.
+   * The file size must be less than 2GB, use {@link #mapFile(FileChannel, FileChannel.MapMode,
+   * long, int)} to map regions of larger files.
+   *
+   * @throws IllegalArgumentException if the file can't be opened for writing or is too large
+   */
+  public static MemoryBuffer mapFile(Path path) {
+    FileChannel channel;
+    try {
+      channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    } catch (AccessDeniedException e) {
+      throw new IllegalArgumentException(
+          String.format(
+              "File %s can't be opened for writing which copy-on-write mapping needs, "
+                  + "use mapReadOnlyFile instead.",
+              path),
+          e);
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+    // Writes to the buffer go to private copies of pages and won't change the file.
+    return mapWholeFile(path, channel, FileChannel.MapMode.PRIVATE);
+  }
+
+  /**
+   * Map the whole file read-only into a {@link MemoryBuffer}, which only needs read access to the
+   * file. The returned buffer must only be read from, such as by {@link
+   * io.fury.Fury#deserialize(MemoryBuffer)}: writing to it will crash the JVM since {@link
+   * MemoryBuffer} writes memory directly. The file size must be less than 2GB.
+   */
+  public static MemoryBuffer mapReadOnlyFile(Path path) {
+    FileChannel channel;
+    try {
+      channel = FileChannel.open(path, StandardOpenOption.READ);
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+    return mapWholeFile(path, channel, FileChannel.MapMode.READ_ONLY);
+  }
+
+  private static MemoryBuffer mapWholeFile(
+      Path path, FileChannel channel, FileChannel.MapMode mode) {
+    try {
+      long size = channel.size();
+      Preconditions.checkArgument(
+          size <= Integer.MAX_VALUE, "File %s of size %s is too large to map.", path, size);
+      return map(channel, mode, 0, (int) size);
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    } finally {
+      try {
+        channel.close();
+      } catch (IOException ignored) {
+        // The mapping stays valid after the channel is closed.
+      }
+    }
+  }
+
+  /**
+   * Map region {@code [position, position + size)} of the file into a {@link MemoryBuffer}. The
+   * mapping stays valid after the channel is closed. Use {@link MappedFileSink} if the region needs
+   * to grow when writing.
+   *
+   * <p>{@link FileChannel.MapMode#READ_ONLY} is not supported since writes to a {@link
+   * MemoryBuffer} can't be prevented and would crash the JVM, use {@link
+   * FileChannel.MapMode#PRIVATE} for a mapping whose writes won't change the file, or {@link
+   * #mapReadOnlyFile} if the buffer is only read from.
+   */
+  public static MemoryBuffer mapFile(
+      FileChannel channel, FileChannel.MapMode mode, long position, int size) {
+    Preconditions.checkArgument(
+        mode != FileChannel.MapMode.READ_ONLY,
+        "Read-only mapping is not supported, use MapMode.PRIVATE instead.");
+    return map(channel, mode, position, size);
+  }
+
+  private static MemoryBuffer map(
+      FileChannel channel, FileChannel.MapMode mode, long position, int size) {
+    if (size == 0) {
+      // Empty mapping doesn't have a valid address.
+      return buffer(0);
+    }
+    try {
+      return MemoryBuffer.fromByteBuffer(channel.map(mode, position, size));
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
   private static final long BAS_BUF_BUF =
       ReflectionUtils.getFieldOffsetChecked(ByteArrayOutputStream.class, "buf");
   private static final long BAS_BUF_COUNT =
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2023 The Fury Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fury.memory;
+
+import com.google.common.base.Preconditions;
+import io.fury.collection.IntArray;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A {@link MemoryBufferSink} which keeps written bytes in a chain of fixed-size segments. When the
+ * buffer is full, the buffer will be pointed to a new segment instead of growing and copying all
+ * written bytes, so writing big data won't copy data repeatedly or need double peak memory.
+ *
+ * <p>Writes in a segment take the fast path of {@link MemoryBuffer} as usual. A value which doesn't
+ * fit into the remaining bytes of a segment is written into next segment, the remaining bytes are
+ * left unused. A value larger than segment size is written into an oversized segment.
+ *
+ * <p>Usage:
+ *
+ * <pre>{@code
+ * SegmentedBufferSink sink = new SegmentedBufferSink(1 << 20);
+ * MemoryBuffer buffer = MemoryUtils.buffer(32);
+ * sink.bind(buffer);
+ * fury.serialize(buffer, obj);
+ * sink.finish(buffer);
+ * sink.writeTo(channel); // gathering write of all segments.
+ * sink.reset(); // reuse segments for next write.
+ * }</pre>
+ *
+ * <p>Note that written bytes can't be updated by index after the buffer is switched to a new
+ * segment, so data which needs back-patching such as cross-language, meta share, field size or
+ * compression is not supported, same as {@link io.fury.io.OutputStreamSink}. {@link
+ * io.fury.Fury#serialize(MemoryBuffer, Object)} rejects such configs with an {@link
+ * IllegalArgumentException} instead of corrupting data. The buffer is still indexed by int.
+ *
+ * @author chaokunyang
+ */
+public class SegmentedBufferSink implements MemoryBufferSink {
+  private static final int MAX_FREE_SEGMENTS = 16;
+
+  private final int segmentSize;
+  private final List<byte[]> segments = new ArrayList<>();
+  // Used bytes of every finished segment.
+  private final IntArray segmentLengths = new IntArray(16);
+  private final ArrayDeque<byte[]> freeSegments = new ArrayDeque<>();
+  private byte[] segment;
+  private int windowStart;
+  private long size;
+
+  /** Create a sink which allocates segments of `segmentSize`. */
+  public SegmentedBufferSink(int segmentSize) {
+    Preconditions.checkArgument(
+        segmentSize > 0, "Segment size %s should be positive.", segmentSize);
+    this.segmentSize = segmentSize;
+  }
+
+  /** Point `buffer` to a new segment, and keep following data in segments. */
+  public void bind(MemoryBuffer buffer) {
+    Preconditions.checkArgument(segments.isEmpty(), "Sink must be reset before reuse.");
+    segment = newSegment(segmentSize);
+    windowStart = 0;
+    buffer.pointToWindow(segment, 0, segment.length);
+    buffer.writerIndex(0);
+    buffer.setSink(this);
+  }
+
+  @Override
+  public void drain(MemoryBuffer buffer, int minSize) {
+    int writerIndex = buffer.writerIndex();
+    addSegment(writerIndex - windowStart);
+    windowStart = writerIndex;
+    segment = newSegment(Math.max(segmentSize, minSize - writerIndex));
+    buffer.pointToWindow(segment, windowStart, segment.length);
+  }
+
+  /** Seal written bytes of current segment and unbind `buffer` from this sink. */
+  public void finish(MemoryBuffer buffer) {
+    addSegment(buffer.writerIndex() - windowStart);
+    segment = null;
+    buffer.setSink(null);
+  }
+
+  /** Returns number of written bytes of all segments sealed by {@link #finish}. */
+  public long size() {
+    return size;
+  }
+
+  /** Returns written bytes of all segments, the returned buffers share memory with segments. */
+  public ByteBuffer[] getSegments() {
+    ByteBuffer[] buffers = new ByteBuffer[segments.size()];
+    for (int i = 0; i < buffers.length; i++) {
+      buffers[i] = ByteBuffer.wrap(segments.get(i), 0, segmentLengths.get(i));
+    }
+    return buffers;
+  }
+
+  /** Write all segments to `channel`, gathering write is used if supported by `channel`. */
+  public void writeTo(WritableByteChannel channel) throws IOException {
+    ByteBuffer[] buffers = getSegments();
+    if (channel instanceof GatheringByteChannel) {
+      GatheringByteChannel gatheringChannel = (GatheringByteChannel) channel;
+      long remaining = size;
+      int offset = 0;
+      while (remaining > 0) {
+        remaining -= gatheringChannel.write(buffers, offset, buffers.length - offset);
+        while (offset < buffers.length && !buffers[offset].hasRemaining()) {
+          offset++;
+        }
+      }
+    } else {
+      for (ByteBuffer buffer : buffers) {
+        while (buffer.hasRemaining()) {
+          channel.write(buffer);
+        }
+      }
+    }
+  }
+
+  /** Copy written bytes of all segments into a byte array. */
+  public byte[] toByteArray() {
+    Preconditions.checkArgument(size <= Integer.MAX_VALUE, "Size %s exceeds 2GB.", size);
+    byte[] bytes = new byte[(int) size];
+    int offset = 0;
+    for (int i = 0; i < segments.size(); i++) {
+      int length = segmentLengths.get(i);
+      System.arraycopy(segments.get(i), 0, bytes, offset, length);
+      offset += length;
+    }
+    return bytes;
+  }
+
+  /** Discard written data, fixed-size segments will be reused by next {@link #bind}. */
+  public void reset() {
+    for (byte[] segment : segments) {
+      if (segment.length == segmentSize && freeSegments.size() < MAX_FREE_SEGMENTS) {
+        freeSegments.add(segment);
+      }
+    }
+    segments.clear();
+    segmentLengths.clear();
+    segment = null;
+    size = 0;
+  }
+
+  private void addSegment(int length) {
+    if (length > 0) {
+      segments.add(segment);
+      segmentLengths.add(length);
+      size += length;
+    } else if (segment.length == segmentSize && freeSegments.size() < MAX_FREE_SEGMENTS) {
+      freeSegments.add(segment);
+    }
+  }
+
+  private byte[] newSegment(int length) {
+    if (length == segmentSize) {
+      byte[] segment = freeSegments.poll();
+      if (segment != null) {
+        return segment;
+      }
+    }
+    return new byte[length];
+  }
+}
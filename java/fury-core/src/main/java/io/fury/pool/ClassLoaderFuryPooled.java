@@ -17,98 +17,109 @@
 package io.fury.pool;
 
 import io.fury.Fury;
-import io.fury.util.LoggerFactory;
-import java.util.Queue;
-import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.locks.Condition;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
-import org.slf4j.Logger;
 
-/** A thread-safe object pool of {@link Fury}. */
+/**
+ * A thread-safe object pool of {@link Fury} backed by {@link StripedFuryPool}.
+ *
+ * <p>Idle instances are kept in striped slots and claimed by CAS, the pool grows elastically up to
+ * <code>maxPoolSize</code>; when all instances are in use, borrowers block until an instance is
+ * returned, see {@link StripedFuryPool}. This class adds thread affinity and borrow metrics.
+ *
+ * <p>If thread affinity is enabled, a thread will try the slot it returned its last instance to
+ * first, so it tends to get the same {@link Fury} back, which keeps caches of the instance warm.
+ */
 public class ClassLoaderFuryPooled {
+  private final StripedFuryPool pool;
 
-  private static final Logger LOG = LoggerFactory.getLogger(ClassLoaderFuryPooled.class);
-
-  private final Function<ClassLoader, Fury> furyFactory;
-
-  private final ClassLoader classLoader;
-
-  /**
-   * idle Fury cache change. by : 1. getLoaderBind() 2. returnObject(LoaderBinding) 3.
-   * addObjAndWarp()
-   */
-  private final Queue<Fury> idleCacheQueue;
-
-  /** active cache size's number change by : 1. getLoaderBind() 2. returnObject(LoaderBinding). */
-  private final AtomicInteger activeCacheNumber = new AtomicInteger(0);
-
-  /**
-   * Dynamic capacity expansion and contraction The user sets the maximum number of object pools.
-   * Math.max(maxPoolSize, CPU * 2)
-   */
-  private final int maxPoolSize;
+  /** Slot index of last returned {@link Fury} for every thread, null if affinity is disabled. */
+  private final ThreadLocal<int[]> affinitySlot;
 
-  private final Lock lock = new ReentrantLock();
-  private final Condition furyCondition = lock.newCondition();
+  private final LongAdder borrowCount = new LongAdder();
+  private final LongAdder hitCount = new LongAdder();
+  private final LongAdder waitCount = new LongAdder();
+  private final LongAdder waitTimeNanos = new LongAdder();
 
   public ClassLoaderFuryPooled(
       ClassLoader classLoader,
       Function<ClassLoader, Fury> furyFactory,
       int minPoolSize,
       int maxPoolSize) {
-    this.maxPoolSize = maxPoolSize;
-    this.furyFactory = furyFactory;
-    this.classLoader = classLoader;
-    idleCacheQueue = new ConcurrentLinkedQueue<>();
-    while (idleCacheQueue.size() < minPoolSize) {
-      addFury();
-    }
+    this(classLoader, furyFactory, minPoolSize, maxPoolSize, false);
+  }
+
+  public ClassLoaderFuryPooled(
+      ClassLoader classLoader,
+      Function<ClassLoader, Fury> furyFactory,
+      int minPoolSize,
+      int maxPoolSize,
+      boolean threadAffinity) {
+    pool = new StripedFuryPool(classLoader, furyFactory, minPoolSize, maxPoolSize);
+    affinitySlot =
+        threadAffinity ? ThreadLocal.withInitial(() -> new int[] {StripedFuryPool.probe()}) : null;
   }
 
   public Fury getFury() {
-    try {
-      lock.lock();
-      Fury fury = idleCacheQueue.poll();
-      while (fury == null) {
-        if (activeCacheNumber.get() < maxPoolSize) {
-          addFury();
-        } else {
-          furyCondition.await();
-        }
-        fury = idleCacheQueue.poll();
-        if (fury == null) {
-          continue;
-        }
-        break;
-      }
-      activeCacheNumber.incrementAndGet();
+    borrowCount.increment();
+    int start = startSlot();
+    Fury fury = pool.tryBorrow(start);
+    if (fury != null) {
+      hitCount.increment();
       return fury;
-    } catch (Exception e) {
-      LOG.error(e.getMessage(), e);
-      throw new RuntimeException(e);
-    } finally {
-      lock.unlock();
     }
+    fury = pool.tryCreate();
+    if (fury != null) {
+      return fury;
+    }
+    waitCount.increment();
+    long startTime = System.nanoTime();
+    fury = pool.awaitIdle(start);
+    waitTimeNanos.add(System.nanoTime() - startTime);
+    return fury;
   }
 
   public void returnFury(Fury fury) {
-    try {
-      lock.lock();
-      idleCacheQueue.add(fury);
-      activeCacheNumber.decrementAndGet();
-      furyCondition.signalAll();
-    } catch (Exception e) {
-      LOG.error(e.getMessage(), e);
-    } finally {
-      lock.unlock();
+    if (fury == null) {
+      return;
     }
+    int slot = pool.giveBack(fury, startSlot());
+    if (affinitySlot != null && slot >= 0) {
+      affinitySlot.get()[0] = slot;
+    }
+  }
+
+  private int startSlot() {
+    return affinitySlot != null ? affinitySlot.get()[0] : StripedFuryPool.probe();
+  }
+
+  /** Returns number of created {@link Fury}, including idle and borrowed ones. */
+  public int getPoolSize() {
+    return pool.getNumCreated();
+  }
+
+  /** Returns number of idle {@link Fury}. */
+  public int getIdleSize() {
+    return pool.idleSize();
+  }
+
+  /** Returns number of {@link #getFury} calls. */
+  public long getBorrowCount() {
+    return borrowCount.sum();
+  }
+
+  /** Returns number of {@link #getFury} calls which got an idle {@link Fury} immediately. */
+  public long getHitCount() {
+    return hitCount.sum();
+  }
+
+  /** Returns number of {@link #getFury} calls which waited for a returned {@link Fury}. */
+  public long getWaitCount() {
+    return waitCount.sum();
   }
 
-  private void addFury() {
-    Fury fury = furyFactory.apply(classLoader);
-    idleCacheQueue.add(fury);
+  /** Returns total nanoseconds borrowers waited for a returned {@link Fury}. */
+  public long getWaitTimeNanos() {
+    return waitTimeNanos.sum();
   }
 }
@@ -61,13 +61,29 @@ public class FuryPooledObjectFactory {
    */
   private final int maxPoolSize;
 
+  /**
+   * Whether a thread prefers the {@link Fury} it used last time, see {@link ClassLoaderFuryPooled}.
+   */
+  private final boolean threadAffinity;
+
   public FuryPooledObjectFactory(
       Function<ClassLoader, Fury> furyFactory,
       int minPoolSize,
       int maxPoolSize,
       long expireTime,
       TimeUnit timeUnit) {
+    this(furyFactory, minPoolSize, maxPoolSize, expireTime, timeUnit, false);
+  }
+
+  public FuryPooledObjectFactory(
+      Function<ClassLoader, Fury> furyFactory,
+      int minPoolSize,
+      int maxPoolSize,
+      long expireTime,
+      TimeUnit timeUnit,
+      boolean threadAffinity) {
     this.minPoolSize = minPoolSize;
+    this.threadAffinity = threadAffinity;
     this.maxPoolSize = maxPoolSize;
     this.furyFactory = furyFactory;
     classLoaderFuryPooledCache =
@@ -121,6 +137,11 @@ public class FuryPooledObjectFactory {
     return classLoaderLocal.get();
   }
 
+  /** Returns the pool of <code>classLoader</code>, or null if not created or expired. */
+  public ClassLoaderFuryPooled getClassLoaderFuryPooled(ClassLoader classLoader) {
+    return classLoaderFuryPooledCache.getIfPresent(classLoader);
+  }
+
   public void clearClassLoader(ClassLoader loader) {
     classLoaderFuryPooledCache.invalidate(loader);
     classLoaderLocal.remove();
@@ -131,7 +152,8 @@ public class FuryPooledObjectFactory {
         classLoaderFuryPooledCache.getIfPresent(classLoader);
     if (classLoaderFuryPooled == null) {
       classLoaderFuryPooled =
-          new ClassLoaderFuryPooled(classLoader, furyFactory, minPoolSize, maxPoolSize);
+          new ClassLoaderFuryPooled(
+              classLoader, furyFactory, minPoolSize, maxPoolSize, threadAffinity);
       classLoaderFuryPooledCache.put(classLoader, classLoaderFuryPooled);
     }
   }
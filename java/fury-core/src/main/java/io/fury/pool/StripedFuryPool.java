@@ -0,0 +1,230 @@
+/*
+ * Copyright 2023 The Fury Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fury.pool;
+
+import io.fury.Fury;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * A lock-free pool of {@link Fury} for a single {@link ClassLoader}. Idle instances are kept in a
+ * fixed number of slots, a borrower claims one by CAS starting from a slot picked by thread id, so
+ * concurrent borrowers on different carriers seldom touch the same slot.
+ *
+ * <p>If all slots are empty, a new {@link Fury} will be created until <code>maxSize</code>
+ * instances have been created, after that the borrower blocks until an instance is given back. So
+ * the number of instances is bounded by <code>maxSize</code>, which should be sized by carrier
+ * parallelism rather than the number of threads. Blocking uses {@link ReentrantLock} instead of
+ * <code>synchronized</code>, so a blocked virtual thread won't pin its carrier.
+ *
+ * <p>Note that a thread shouldn't borrow again before giving back the borrowed instance, which may
+ * block forever if the pool is exhausted.
+ *
+ * @author chaokunyang
+ */
+public class StripedFuryPool {
+  private final ClassLoader classLoader;
+  private final Function<ClassLoader, Fury> furyFactory;
+  private final AtomicReferenceArray<Fury> slots;
+  private final int mask;
+  private final int maxSize;
+  private final AtomicInteger numCreated = new AtomicInteger();
+  private final AtomicInteger numWaiters = new AtomicInteger();
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition notEmpty = lock.newCondition();
+
+  public StripedFuryPool(
+      ClassLoader classLoader, Function<ClassLoader, Fury> furyFactory, int maxSize) {
+    this(classLoader, furyFactory, 0, maxSize);
+  }
+
+  /**
+   * Create a pool which creates at most <code>maxSize</code> instances, <code>minSize</code>
+   * instances of them are created eagerly.
+   */
+  public StripedFuryPool(
+      ClassLoader classLoader, Function<ClassLoader, Fury> furyFactory, int minSize, int maxSize) {
+    if (maxSize <= 0 || minSize < 0 || minSize > maxSize) {
+      throw new IllegalArgumentException(
+          String.format("Illegal min size %s and max size %s", minSize, maxSize));
+    }
+    this.classLoader = classLoader;
+    this.furyFactory = furyFactory;
+    this.maxSize = maxSize;
+    int size = Integer.highestOneBit(maxSize);
+    if (size < maxSize) {
+      size <<= 1;
+    }
+    this.slots = new AtomicReferenceArray<>(size);
+    this.mask = size - 1;
+    for (int i = 0; i < minSize; i++) {
+      numCreated.incrementAndGet();
+      slots.set(i, furyFactory.apply(classLoader));
+    }
+  }
+
+  /** Returns default max pool size: twice of available processors. */
+  public static int defaultMaxSize() {
+    return Runtime.getRuntime().availableProcessors() * 2;
+  }
+
+  public ClassLoader getClassLoader() {
+    return classLoader;
+  }
+
+  /** Returns slot number, which is the max number of idle {@link Fury} retained by this pool. */
+  public int getNumSlots() {
+    return mask + 1;
+  }
+
+  /** Returns max number of {@link Fury} created by this pool. */
+  public int getMaxSize() {
+    return maxSize;
+  }
+
+  /** Returns number of created {@link Fury}, including idle and borrowed ones. */
+  public int getNumCreated() {
+    return numCreated.get();
+  }
+
+  /**
+   * Returns an idle {@link Fury}, or a new one if no instance is idle and the pool isn't full,
+   * otherwise block until an instance is given back.
+   */
+  public Fury borrow() {
+    return borrow(probe());
+  }
+
+  /**
+   * Same as {@link #borrow()}, but search idle instances from slot <code>startSlot</code>, which
+   * can be a slot returned by {@link #giveBack(Fury, int)} to get the same instance back.
+   */
+  public Fury borrow(int startSlot) {
+    Fury fury = tryBorrow(startSlot);
+    if (fury == null) {
+      fury = tryCreate();
+      if (fury == null) {
+        fury = awaitIdle(startSlot);
+      }
+    }
+    return fury;
+  }
+
+  /** Returns an idle {@link Fury} searched from <code>startSlot</code>, or null if none is idle. */
+  public Fury tryBorrow(int startSlot) {
+    AtomicReferenceArray<Fury> slots = this.slots;
+    int mask = this.mask;
+    for (int i = 0; i <= mask; i++) {
+      int index = (startSlot + i) & mask;
+      Fury fury = slots.get(index);
+      if (fury != null && slots.compareAndSet(index, fury, null)) {
+        return fury;
+      }
+    }
+    return null;
+  }
+
+  /** Returns a new {@link Fury}, or null if <code>maxSize</code> instances have been created. */
+  public Fury tryCreate() {
+    int created;
+    while ((created = numCreated.get()) < maxSize) {
+      if (numCreated.compareAndSet(created, created + 1)) {
+        try {
+          return furyFactory.apply(classLoader);
+        } catch (Throwable t) {
+          numCreated.decrementAndGet();
+          throw t;
+        }
+      }
+    }
+    return null;
+  }
+
+  /** Block until an instance is given back, and returns it. */
+  public Fury awaitIdle(int startSlot) {
+    lock.lock();
+    try {
+      numWaiters.incrementAndGet();
+      try {
+        while (true) {
+          // Check again after registered as waiter, otherwise the signal may be missed.
+          Fury fury = tryBorrow(startSlot);
+          if (fury != null) {
+            return fury;
+          }
+          notEmpty.awaitUninterruptibly();
+        }
+      } finally {
+        numWaiters.decrementAndGet();
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /** Give back <code>fury</code> borrowed from this pool, and wake up a blocked borrower if any. */
+  public void giveBack(Fury fury) {
+    giveBack(fury, probe());
+  }
+
+  /**
+   * Same as {@link #giveBack(Fury)}, but search an empty slot from <code>startSlot</code>.
+   *
+   * @return the slot which holds <code>fury</code> now, or -1 if the instance is dropped, which
+   *     happens only if an instance is given back twice.
+   */
+  public int giveBack(Fury fury, int startSlot) {
+    AtomicReferenceArray<Fury> slots = this.slots;
+    int mask = this.mask;
+    for (int i = 0; i <= mask; i++) {
+      int index = (startSlot + i) & mask;
+      if (slots.get(index) == null && slots.compareAndSet(index, null, fury)) {
+        if (numWaiters.get() > 0) {
+          lock.lock();
+          try {
+            notEmpty.signal();
+          } finally {
+            lock.unlock();
+          }
+        }
+        return index;
+      }
+    }
+    numCreated.decrementAndGet();
+    return -1;
+  }
+
+  /** Returns number of idle {@link Fury} in this pool. */
+  public int idleSize() {
+    int size = 0;
+    for (int i = 0; i <= mask; i++) {
+      if (slots.get(i) != null) {
+        size++;
+      }
+    }
+    return size;
+  }
+
+  /** Returns a slot picked by current thread id. */
+  public static int probe() {
+    // Fibonacci hashing to spread sequential thread ids.
+    return (int) ((Thread.currentThread().getId() * 0x9E3779B97F4A7C15L) >>> 32);
+  }
+}
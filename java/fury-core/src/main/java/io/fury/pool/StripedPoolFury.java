@@ -0,0 +1,291 @@
+/*
+ * Copyright 2023 The Fury Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fury.pool;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.fury.Fury;
+import io.fury.ThreadSafeFury;
+import io.fury.memory.MemoryBuffer;
+import io.fury.memory.MemoryBufferPool;
+import io.fury.memory.MemoryUtils;
+import io.fury.util.LoaderBinding.StagingType;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A thread safe serialization entrance for {@link Fury} backed by {@link StripedFuryPool}, which is
+ * suitable for virtual threads: {@link Fury} instances are shared by all threads and bounded by
+ * carrier parallelism instead of thread number. Borrowing an idle instance is lock-free, and a
+ * borrower waiting for an instance when the pool is exhausted won't pin its carrier thread.
+ *
+ * <p>A thread local is used only when {@link #setClassLoader} is invoked explicitly, otherwise the
+ * classloader passed by builder or the context classloader of current thread will be used.
+ *
+ * @author chaokunyang
+ */
+@ThreadSafe
+public class StripedPoolFury implements ThreadSafeFury {
+  private final Function<ClassLoader, Fury> furyFactory;
+  private final int maxPoolSize;
+  private final ClassLoader defaultClassLoader;
+  private final ThreadLocal<ClassLoader> classLoaderLocal = new ThreadLocal<>();
+  private final Map<ClassLoader, StripedFuryPool> strongPools = new ConcurrentHashMap<>();
+  private final Cache<ClassLoader, StripedFuryPool> softPools =
+      CacheBuilder.newBuilder().weakKeys().softValues().build();
+  private volatile StripedFuryPool lastPool;
+
+  public StripedPoolFury(
+      Function<ClassLoader, Fury> furyFactory, ClassLoader defaultClassLoader, int maxPoolSize) {
+    this.furyFactory = furyFactory;
+    this.defaultClassLoader = defaultClassLoader;
+    this.maxPoolSize = maxPoolSize;
+    // init and warm for current thread.
+    StripedFuryPool pool = getPool();
+    pool.giveBack(pool.borrow());
+  }
+
+  public <R> R execute(Function<Fury, R> action) {
+    StripedFuryPool pool = getPool();
+    Fury fury = pool.borrow();
+    try {
+      return action.apply(fury);
+    } finally {
+      pool.giveBack(fury);
+    }
+  }
+
+  public byte[] serialize(Object obj) {
+    StripedFuryPool pool = getPool();
+    Fury fury = pool.borrow();
+    try {
+      return fury.serialize(obj);
+    } finally {
+      pool.giveBack(fury);
+    }
+  }
+
+  @Override
+  public MemoryBuffer serialize(Object obj, long address, int size) {
+    StripedFuryPool pool = getPool();
+    Fury fury = pool.borrow();
+    try {
+      return fury.serialize(obj, address, size);
+    } finally {
+      pool.giveBack(fury);
+    }
+  }
+
+  @Override
+  public MemoryBuffer serialize(MemoryBufferPool bufferPool, Object obj) {
+    StripedFuryPool pool = getPool();
+    Fury fury = pool.borrow();
+    try {
+      return fury.serialize(bufferPool, obj);
+    } finally {
+      pool.giveBack(fury);
+    }
+  }
+
+  public MemoryBuffer serialize(MemoryBuffer buffer, Object obj) {
+    StripedFuryPool pool = getPool();
+    Fury fury = pool.borrow();
+    try {
+      return fury.serialize(buffer, obj);
+    } finally {
+      pool.giveBack(fury);
+    }
+  }
+
+  public Object deserialize(byte[] bytes) {
+    StripedFuryPool pool = getPool();
+    Fury fury = pool.borrow();
+    try {
+      return fury.deserialize(bytes);
+    } finally {
+      pool.giveBack(fury);
+    }
+  }
+
+  public Object deserialize(long address, int size) {
+    StripedFuryPool pool = getPool();
+    Fury fury = pool.borrow();
+    try {
+      return fury.deserialize(address, size);
+    } finally {
+      pool.giveBack(fury);
+    }
+  }
+
+  public Object deserialize(MemoryBuffer buffer) {
+    StripedFuryPool pool = getPool();
+    Fury fury = pool.borrow();
+    try {
+      return fury.deserialize(buffer);
+    } finally {
+      pool.giveBack(fury);
+    }
+  }
+
+  public Object deserialize(ByteBuffer byteBuffer) {
+    StripedFuryPool pool = getPool();
+    Fury fury = pool.borrow();
+    try {
+      return fury.deserialize(MemoryUtils.wrap(byteBuffer));
+    } finally {
+      pool.giveBack(fury);
+    }
+  }
+
+  @Override
+  public <T> T copy(T obj) {
+    StripedFuryPool pool = getPool();
+    Fury fury = pool.borrow();
+    try {
+      return fury.copy(obj);
+    } finally {
+      pool.giveBack(fury);
+    }
+  }
+
+  @Override
+  public byte[] serializeJavaObject(Object obj) {
+    StripedFuryPool pool = getPool();
+    Fury fury = pool.borrow();
+    try {
+      return fury.serializeJavaObject(obj);
+    } finally {
+      pool.giveBack(fury);
+    }
+  }
+
+  @Override
+  public void serializeJavaObject(MemoryBuffer buffer, Object obj) {
+    StripedFuryPool pool = getPool();
+    Fury fury = pool.borrow();
+    try {
+      fury.serializeJavaObject(buffer, obj);
+    } finally {
+      pool.giveBack(fury);
+    }
+  }
+
+  @Override
+  public <T> T deserializeJavaObject(byte[] data, Class<T> cls) {
+    StripedFuryPool pool = getPool();
+    Fury fury = pool.borrow();
+    try {
+      return fury.deserializeJavaObject(data, cls);
+    } finally {
+      pool.giveBack(fury);
+    }
+  }
+
+  @Override
+  public <T> T deserializeJavaObject(MemoryBuffer buffer, Class<T> cls) {
+    StripedFuryPool pool = getPool();
+    Fury fury = pool.borrow();
+    try {
+      return fury.deserializeJavaObject(buffer, cls);
+    } finally {
+      pool.giveBack(fury);
+    }
+  }
+
+  public void setClassLoader(ClassLoader classLoader) {
+    setClassLoader(classLoader, StagingType.SOFT_STAGING);
+  }
+
+  /**
+   * Set classloader for current thread. Pools for {@link StagingType#STRONG_STAGING} are retained
+   * until {@link #clearClassLoader} is invoked, pools for other staging types are soft referenced.
+   * {@link StagingType#NO_STAGING} discards previous pool of <code>classLoader</code>.
+   */
+  public void setClassLoader(ClassLoader classLoader, StagingType stagingType) {
+    if (classLoader == null) {
+      classLoaderLocal.remove();
+      return;
+    }
+    classLoaderLocal.set(classLoader);
+    switch (stagingType) {
+      case NO_STAGING:
+        clearPool(classLoader);
+        break;
+      case STRONG_STAGING:
+        strongPools.computeIfAbsent(classLoader, this::getSoftPool);
+        break;
+      default:
+        break;
+    }
+  }
+
+  public ClassLoader getClassLoader() {
+    ClassLoader loader = classLoaderLocal.get();
+    if (loader == null) {
+      loader = defaultClassLoader;
+      if (loader == null) {
+        loader = Thread.currentThread().getContextClassLoader();
+        if (loader == null) {
+          loader = Fury.class.getClassLoader();
+        }
+      }
+    }
+    return loader;
+  }
+
+  public void clearClassLoader(ClassLoader loader) {
+    clearPool(loader);
+    if (classLoaderLocal.get() == loader) {
+      classLoaderLocal.remove();
+    }
+  }
+
+  private void clearPool(ClassLoader loader) {
+    strongPools.remove(loader);
+    softPools.invalidate(loader);
+    StripedFuryPool pool = lastPool;
+    if (pool != null && pool.getClassLoader() == loader) {
+      lastPool = null;
+    }
+  }
+
+  private StripedFuryPool getPool() {
+    ClassLoader loader = getClassLoader();
+    StripedFuryPool pool = lastPool;
+    if (pool != null && pool.getClassLoader() == loader) {
+      return pool;
+    }
+    pool = strongPools.get(loader);
+    if (pool == null) {
+      pool = getSoftPool(loader);
+    }
+    lastPool = pool;
+    return pool;
+  }
+
+  private StripedFuryPool getSoftPool(ClassLoader loader) {
+    try {
+      return softPools.get(loader, () -> new StripedFuryPool(loader, furyFactory, maxPoolSize));
+    } catch (ExecutionException e) {
+      throw new RuntimeException(e.getCause());
+    }
+  }
+}
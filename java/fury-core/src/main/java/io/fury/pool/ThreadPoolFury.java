@@ -19,6 +19,7 @@ package io.fury.pool;
 import io.fury.Fury;
 import io.fury.ThreadSafeFury;
 import io.fury.memory.MemoryBuffer;
+import io.fury.memory.MemoryBufferPool;
 import io.fury.memory.MemoryUtils;
 import io.fury.util.LoaderBinding;
 import java.nio.ByteBuffer;
@@ -37,8 +38,19 @@ public class ThreadPoolFury implements ThreadSafeFury {
       int maxPoolSize,
       long expireTime,
       TimeUnit timeUnit) {
+    this(furyFactory, minPoolSize, maxPoolSize, expireTime, timeUnit, false);
+  }
+
+  public ThreadPoolFury(
+      Function<ClassLoader, Fury> furyFactory,
+      int minPoolSize,
+      int maxPoolSize,
+      long expireTime,
+      TimeUnit timeUnit,
+      boolean threadAffinity) {
     this.furyPooledObjectFactory =
-        new FuryPooledObjectFactory(furyFactory, minPoolSize, maxPoolSize, expireTime, timeUnit);
+        new FuryPooledObjectFactory(
+            furyFactory, minPoolSize, maxPoolSize, expireTime, timeUnit, threadAffinity);
   }
 
   public <R> R execute(Function<Fury, R> action) {
@@ -72,6 +84,17 @@ public class ThreadPoolFury implements ThreadSafeFury {
     }
   }
 
+  @Override
+  public MemoryBuffer serialize(MemoryBufferPool pool, Object obj) {
+    Fury fury = null;
+    try {
+      fury = furyPooledObjectFactory.getFury();
+      return fury.serialize(pool, obj);
+    } finally {
+      furyPooledObjectFactory.returnFury(fury);
+    }
+  }
+
   public MemoryBuffer serialize(MemoryBuffer buffer, Object obj) {
     Fury fury = null;
     try {
@@ -122,6 +145,17 @@ public class ThreadPoolFury implements ThreadSafeFury {
     }
   }
 
+  @Override
+  public <T> T copy(T obj) {
+    Fury fury = null;
+    try {
+      fury = furyPooledObjectFactory.getFury();
+      return fury.copy(obj);
+    } finally {
+      furyPooledObjectFactory.returnFury(fury);
+    }
+  }
+
   @Override
   public byte[] serializeJavaObject(Object obj) {
     Fury fury = null;
@@ -178,6 +212,14 @@ public class ThreadPoolFury implements ThreadSafeFury {
     return furyPooledObjectFactory.getClassLoader();
   }
 
+  /**
+   * Returns the pool of <code>classLoader</code> for inspecting pool size, hit count and borrow
+   * wait time, or null if the pool is not created or expired.
+   */
+  public ClassLoaderFuryPooled getClassLoaderFuryPooled(ClassLoader classLoader) {
+    return furyPooledObjectFactory.getClassLoaderFuryPooled(classLoader);
+  }
+
   public void clearClassLoader(ClassLoader loader) {
     furyPooledObjectFactory.clearClassLoader(loader);
   }
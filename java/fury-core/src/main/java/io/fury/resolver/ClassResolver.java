@@ -34,6 +34,7 @@ import io.fury.annotation.Internal;
 import io.fury.builder.CodecUtils;
 import io.fury.builder.Generated;
 import io.fury.builder.JITContext;
+import io.fury.builder.StructCodecBuilder;
 import io.fury.codegen.Expression;
 import io.fury.codegen.Expression.Invoke;
 import io.fury.codegen.Expression.Literal;
@@ -443,6 +444,41 @@ public class ClassResolver {
     register(cls);
     Preconditions.checkArgument(!typeTagToClassXLangMap.containsKey(typeTag));
     addSerializer(cls, new StructSerializer<>(fury, cls, typeTag));
+    if (fury.getConfig().isCodeGenEnabled() && StructCodecBuilder.supportCodegen(cls)) {
+      // Generated serializer reads type tag from class info registered by `StructSerializer`.
+      // If async compilation is enabled, `StructSerializer` will be used until jit finished.
+      Class<? extends Serializer> sc =
+          fury.getJITContext()
+              .registerSerializerJITCallback(
+                  () -> null,
+                  () -> CodecUtils.loadOrGenStructCodecClass(cls, fury),
+                  new JITContext.SerializerJITCallback<Class<? extends Serializer>>() {
+                    @Override
+                    public void onSuccess(Class<? extends Serializer> result) {
+                      setSerializer(cls, Serializers.newSerializer(fury, cls, result));
+                      if (classInfoCache.cls == cls) {
+                        classInfoCache = NIL_CLASS_INFO; // clear class info cache
+                      }
+                    }
+
+                    @Override
+                    public Object id() {
+                      return cls;
+                    }
+                  });
+      if (sc != null) {
+        addSerializer(cls, Serializers.newSerializer(fury, cls, sc));
+      }
+    }
+  }
+
+  /** Returns type tag of <code>cls</code> registered by {@link #register(Class, String)}. */
+  public String getTypeTag(Class<?> cls) {
+    ClassInfo classInfo = classInfoMap.get(cls);
+    if (classInfo == null || classInfo.typeTagBytes == null) {
+      return null;
+    }
+    return new String(classInfo.typeTagBytes.bytes, StandardCharsets.UTF_8);
   }
 
   /**
@@ -936,20 +972,31 @@ public class ClassResolver {
         Class<? extends Serializer> sc;
         switch (fury.getCompatibleMode()) {
           case SCHEMA_CONSISTENT:
-            sc =
-                fury.getJITContext()
-                    .registerSerializerJITCallback(
-                        () -> ObjectSerializer.class,
-                        () -> loadCodegenSerializer(fury, cls),
-                        callback);
+            sc = CodecUtils.loadPrecompiledObjectCodecClass(cls, fury);
+            if (sc == null) {
+              sc =
+                  fury.getJITContext()
+                      .registerTieredSerializerJITCallback(
+                          () -> ObjectSerializer.class,
+                          () -> loadCodegenSerializer(fury, cls),
+                          callback);
+            }
             extRegistry.getClassCtx.remove(cls);
             return sc;
           case COMPATIBLE:
+            sc =
+                shareMeta
+                    ? CodecUtils.loadPrecompiledObjectCodecClass(cls, fury)
+                    : CodecUtils.loadPrecompiledCompatibleCodecClass(cls, fury);
+            if (sc != null) {
+              extRegistry.getClassCtx.remove(cls);
+              return sc;
+            }
             // If share class meta, compatible serializer won't be necessary, class
             // definition will be sent to peer to create serializer for deserialization.
             sc =
                 fury.getJITContext()
-                    .registerSerializerJITCallback(
+                    .registerTieredSerializerJITCallback(
                         () -> shareMeta ? ObjectSerializer.class : CompatibleSerializer.class,
                         () ->
                             shareMeta
@@ -1341,12 +1388,28 @@ public class ClassResolver {
       Preconditions.checkNotNull(classId);
       return classInfo;
     }
-    Class<? extends Serializer> sc =
-        fury.getJITContext()
-            .registerSerializerJITCallback(
-                () -> MetaSharedSerializer.class,
-                () -> CodecUtils.loadOrGenMetaSharedCodecClass(fury, cls, classDef),
-                c -> classInfo.serializer = Serializers.newSerializer(fury, cls, c));
+    Class<? extends Serializer> sc = null;
+    if (fury.getConfig().isCodeGenEnabled()) {
+      sc = CodecUtils.loadPrecompiledMetaSharedCodecClass(fury, cls, classDef);
+    }
+    if (sc == null) {
+      sc =
+          fury.getJITContext()
+              .registerTieredSerializerJITCallback(
+                  () -> MetaSharedSerializer.class,
+                  () -> CodecUtils.loadOrGenMetaSharedCodecClass(fury, cls, classDef),
+                  new JITContext.SerializerJITCallback<Class<? extends Serializer>>() {
+                    @Override
+                    public void onSuccess(Class<? extends Serializer> result) {
+                      classInfo.serializer = Serializers.newSerializer(fury, cls, result);
+                    }
+
+                    @Override
+                    public Object id() {
+                      return classDef;
+                    }
+                  });
+    }
     if (sc == MetaSharedSerializer.class) {
       classInfo.serializer = new MetaSharedSerializer(fury, cls, classDef);
     } else {
@@ -205,6 +205,22 @@ public class FieldResolver {
     return new FieldResolver(fury, type, ignoreCollectionType, allFields, duplicatedFields);
   }
 
+  /**
+   * Create a resolver which contains only fields in <code>fieldNames</code>, data of other fields
+   * will be skipped when reading.
+   */
+  public static FieldResolver of(Fury fury, Class<?> type, Set<String> fieldNames) {
+    SortedMap<Field, Descriptor> allFieldsMap =
+        fury.getClassResolver().getAllDescriptorsMap(type, true);
+    Set<String> duplicatedFields = Descriptor.getSortedDuplicatedFields(type).keySet();
+    List<ClassField> fields =
+        allFieldsMap.keySet().stream()
+            .filter(f -> fieldNames.contains(f.getName()))
+            .map(ClassField::new)
+            .collect(Collectors.toList());
+    return new FieldResolver(fury, type, false, fields, duplicatedFields);
+  }
+
   private final Class<?> cls;
   private final Fury fury;
   private final RefResolver refResolver;
@@ -220,6 +236,8 @@ public class FieldResolver {
   private final short maxPrimitiveClassId;
   private final PrimitiveSerializers.IntSerializer intSerializer;
   private final PrimitiveSerializers.LongSerializer longSerializer;
+  private final boolean fieldSizeWritten;
+  private final boolean skipFieldBySize;
 
   public FieldResolver(
       Fury fury,
@@ -240,6 +258,14 @@ public class FieldResolver {
     intSerializer = (PrimitiveSerializers.IntSerializer) classResolver.getSerializer(int.class);
     longSerializer = (PrimitiveSerializers.LongSerializer) classResolver.getSerializer(long.class);
     classInfoHolder = classResolver.nilClassInfoHolder();
+    fieldSizeWritten = fury.getConfig().isFieldSizeWritten();
+    // Skipped data must not carry state which later data depends on, such as reference ids,
+    // deduplicated strings and dynamic ids of class names.
+    skipFieldBySize =
+        fieldSizeWritten
+            && !fury.trackingRef()
+            && fury.getStringTable() == null
+            && fury.getConfig().requireClassRegistration();
     // Using `comparingLong` to avoid  overflow in f1.getEncodedFieldInfo() -
     // f2.getEncodedFieldInfo().
     Comparator<FieldInfo> fieldInfoComparator =
@@ -429,7 +455,7 @@ public class FieldResolver {
       ClassInfo classInfo = classResolver.getClassInfo(classId);
       if (classId >= minPrimitiveClassId && classId <= maxPrimitiveClassId) {
         fury.readData(buffer, classInfo);
-      } else {
+      } else if (!trySkipFieldBySize(buffer)) {
         fury.readRef(buffer, classInfo.getSerializer());
       }
     } else {
@@ -438,7 +464,9 @@ public class FieldResolver {
       if ((encodedFieldInfo & 0b11) == SEPARATE_TYPES_HASH_FLAG) {
         // bit `0 0` + field name(62 bits MurmurHash3 hash) + field type + ref + n-bytes class
         // name/id.
-        skipObjectField(buffer);
+        if (!trySkipFieldBySize(buffer)) {
+          skipObjectField(buffer);
+        }
       } else {
         // bit `0 1` + end tag(62 bits) indicate the object end.
         if (encodedFieldInfo != END_TAG) {
@@ -482,12 +510,14 @@ public class FieldResolver {
         } else {
           fury.readData(buffer, classInfo);
         }
-      } else {
+      } else if (!trySkipFieldBySize(buffer)) {
         fury.readRef(buffer, classInfo.getSerializer());
       }
     } else {
       if ((partFieldInfo & 0b11) == SEPARATE_TYPES_HASH_FLAG) {
-        skipObjectField(buffer);
+        if (!trySkipFieldBySize(buffer)) {
+          skipObjectField(buffer);
+        }
       } else {
         // bit `0 1` + end tag(62 bits) indicate the object end.
         if (partFieldInfo != END_TAG) {
@@ -503,6 +533,41 @@ public class FieldResolver {
     return partFieldInfo;
   }
 
+  /**
+   * Read size of a non-primitive field value if sizes are written, and skip the value by the size
+   * if it can be skipped without deserialization.
+   *
+   * @return true if field value is skipped.
+   */
+  private boolean trySkipFieldBySize(MemoryBuffer buffer) {
+    if (!fieldSizeWritten) {
+      return false;
+    }
+    int size = buffer.readInt();
+    if (skipFieldBySize) {
+      buffer.increaseReaderIndex(size);
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * Reserve 4 bytes for size of a field value which will be written next.
+   *
+   * @return index of the reserved bytes, which should be passed to {@link #writeFieldSize} after
+   *     field value is written.
+   */
+  public static int preserveFieldSize(MemoryBuffer buffer) {
+    int sizeIndex = buffer.writerIndex();
+    buffer.increaseWriterIndex(4);
+    return sizeIndex;
+  }
+
+  /** Write size of field value written after bytes reserved by {@link #preserveFieldSize}. */
+  public static void writeFieldSize(MemoryBuffer buffer, int sizeIndex) {
+    buffer.putInt(sizeIndex, buffer.writerIndex() - sizeIndex - 4);
+  }
+
   public void skipObjectField(MemoryBuffer buffer) {
     int nextReadRefId = refResolver.tryPreserveRefId(buffer);
     if (nextReadRefId >= Fury.NOT_NULL_VALUE_FLAG) {
@@ -701,6 +766,7 @@ public class FieldResolver {
     protected final ClassResolver classResolver;
     private final FieldAccessor fieldAccessor;
     private final ClassInfoHolder classInfoHolder;
+    private final boolean sizeWritten;
 
     public FieldInfo(
         Fury fury,
@@ -720,6 +786,7 @@ public class FieldResolver {
       this.classId = classId;
       this.classResolver = fury.getClassResolver();
       this.classInfoHolder = classResolver.nilClassInfoHolder();
+      this.sizeWritten = fury.getConfig().isFieldSizeWritten() && !type.isPrimitive();
       if (field == null || field == STUB_FIELD) {
         fieldAccessor = null;
       } else {
@@ -857,6 +924,11 @@ public class FieldResolver {
     public short getEmbeddedClassId() {
       return classId;
     }
+
+    /** Returns true if a 4-byte size is written before field value. */
+    public boolean isSizeWritten() {
+      return sizeWritten;
+    }
   }
 
   public static class CollectionFieldInfo extends FieldInfo {
@@ -43,4 +43,10 @@ public class MetaContext {
    * @see ClassResolver#writeClassDefs(MemoryBuffer)
    */
   public final List<ClassDef> writingClassDefs = new ArrayList<>();
+
+  /**
+   * Strings deduplicated across serializations if string deduplication is enabled, this will be
+   * created lazily by {@link io.fury.serializer.StringSerializer}.
+   */
+  public StringTable stringTable;
 }
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2023 The Fury Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fury.resolver;
+
+import io.fury.collection.ObjectArray;
+import io.fury.collection.ObjectIntMap;
+import io.fury.exception.FuryException;
+
+/**
+ * A bounded table for string value deduplication. Strings are assigned sequential ids in the order
+ * they are first written/read, both sides add strings under same rule so that ids are consistent
+ * without writing ids explicitly. When the table is full, new strings won't be added, and will be
+ * written in full every time.
+ *
+ * <p>The table is cleared after every serialization by default, and can be kept across
+ * serializations by {@link MetaContext} if meta share mode is enabled.
+ *
+ * @author chaokunyang
+ */
+public final class StringTable {
+  private static final int NO_ID = -1;
+
+  private final int maxSize;
+  private final ObjectIntMap<String> writtenStrings = new ObjectIntMap<>(16, 0.5f);
+  private String[] readStrings = new String[16];
+  private int numReadStrings;
+
+  public StringTable(int maxSize) {
+    this.maxSize = maxSize;
+  }
+
+  /** Returns id of written <code>str</code> or -1 if <code>str</code> is not in this table. */
+  public int getWriteId(String str) {
+    return writtenStrings.get(str, NO_ID);
+  }
+
+  /** Add a new written string if the table isn't full. */
+  public void addWriteString(String str) {
+    ObjectIntMap<String> writtenStrings = this.writtenStrings;
+    int size = writtenStrings.size;
+    if (size < maxSize) {
+      writtenStrings.put(str, size);
+    }
+  }
+
+  public String getReadString(int id) {
+    if (id >= numReadStrings) {
+      throw new FuryException(
+          String.format("String id %s exceeds string table size %s", id, numReadStrings));
+    }
+    return readStrings[id];
+  }
+
+  /** Add a new read string if the table isn't full. */
+  public void addReadString(String str) {
+    int size = numReadStrings;
+    if (size < maxSize) {
+      String[] readStrings = this.readStrings;
+      if (size == readStrings.length) {
+        String[] tmp = new String[size * 2];
+        System.arraycopy(readStrings, 0, tmp, 0, size);
+        readStrings = tmp;
+        this.readStrings = tmp;
+      }
+      readStrings[size] = str;
+      numReadStrings = size + 1;
+    }
+  }
+
+  public void resetWrite() {
+    writtenStrings.clearApproximate(16);
+  }
+
+  public void resetRead() {
+    int size = numReadStrings;
+    if (size > 0) {
+      ObjectArray.clearObjectArray(readStrings, 0, size);
+      numReadStrings = 0;
+    }
+  }
+}
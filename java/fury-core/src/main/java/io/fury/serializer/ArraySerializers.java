@@ -18,6 +18,7 @@ package io.fury.serializer;
 
 import com.google.common.base.Preconditions;
 import io.fury.Fury;
+import io.fury.annotation.Packed;
 import io.fury.memory.MemoryBuffer;
 import io.fury.resolver.ClassInfo;
 import io.fury.resolver.ClassInfoHolder;
@@ -27,6 +28,7 @@ import io.fury.type.Type;
 import io.fury.type.TypeUtils;
 import io.fury.util.Platform;
 import java.lang.reflect.Array;
+import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.util.IdentityHashMap;
 
@@ -80,9 +82,19 @@ public class ArraySerializers {
     @Override
     public void write(MemoryBuffer buffer, T[] arr) {
       int len = arr.length;
-      buffer.writeInt(len);
       RefResolver refResolver = fury.getRefResolver();
       Serializer componentSerializer = this.componentTypeSerializer;
+      if (componentSerializer != null) {
+        ParallelSerialization parallelSerialization = fury.getParallelSerialization();
+        if (parallelSerialization != null && parallelSerialization.shouldWriteParallel(fury, len)) {
+          // Negative size marks elements are written by `ParallelSerialization`.
+          buffer.writeInt(~len);
+          parallelSerialization.writeElements(
+              fury, buffer, type.getComponentType(), arr, len, true);
+          return;
+        }
+      }
+      buffer.writeInt(len);
       if (componentSerializer != null) {
         for (T t : arr) {
           if (!refResolver.writeRefOrNull(buffer, t)) {
@@ -117,10 +129,28 @@ public class ArraySerializers {
       }
     }
 
+    @Override
+    public T[] copy(T[] value) {
+      T[] newArray = (T[]) Array.newInstance(type.getComponentType(), value.length);
+      fury.reference(value, newArray);
+      for (int i = 0; i < value.length; i++) {
+        newArray[i] = fury.copyObject(value[i]);
+      }
+      return newArray;
+    }
+
     @Override
     public T[] read(MemoryBuffer buffer) {
       // Some jdk8 will crash if use varint, why?
       int numElements = buffer.readInt();
+      if (numElements < 0) {
+        numElements = ~numElements;
+        Object[] value = newArray(numElements);
+        fury.getRefResolver().reference(value);
+        ParallelSerialization.getForRead(fury)
+            .readElements(fury, buffer, type.getComponentType(), value, true);
+        return (T[]) value;
+      }
       Object[] value = newArray(numElements);
       RefResolver refResolver = fury.getRefResolver();
       refResolver.reference(value);
@@ -228,6 +258,14 @@ public class ArraySerializers {
       this.elemSize = primitiveInfo.get(innerType)[1];
     }
 
+    @Override
+    public T copy(T value) {
+      int length = Array.getLength(value);
+      T newArray = (T) Array.newInstance(type.getComponentType(), length);
+      System.arraycopy(value, 0, newArray, 0, length);
+      return newArray;
+    }
+
     @Override
     public void xwrite(MemoryBuffer buffer, T value) {
       write(buffer, value);
@@ -269,6 +307,7 @@ public class ArraySerializers {
         int size = buffer.readPositiveVarInt();
         int numElements = size / elemSize;
         boolean[] values = new boolean[numElements];
+        buffer.checkReadableBytes(size);
         int readerIndex = buffer.readerIndex();
         buffer.copyToUnsafe(readerIndex, values, offset, size);
         buffer.readerIndex(readerIndex + size);
@@ -307,6 +346,7 @@ public class ArraySerializers {
         int size = buffer.readPositiveVarInt();
         int numElements = size / elemSize;
         byte[] values = new byte[numElements];
+        buffer.checkReadableBytes(size);
         int readerIndex = buffer.readerIndex();
         buffer.copyToUnsafe(readerIndex, values, offset, size);
         buffer.readerIndex(readerIndex + size);
@@ -345,6 +385,7 @@ public class ArraySerializers {
         int size = buffer.readPositiveVarInt();
         int numElements = size / elemSize;
         char[] values = new char[numElements];
+        buffer.checkReadableBytes(size);
         int readerIndex = buffer.readerIndex();
         buffer.copyToUnsafe(readerIndex, values, offset, size);
         buffer.readerIndex(readerIndex + size);
@@ -398,6 +439,7 @@ public class ArraySerializers {
         int size = buffer.readPositiveVarInt();
         int numElements = size / elemSize;
         short[] values = new short[numElements];
+        buffer.checkReadableBytes(size);
         int readerIndex = buffer.readerIndex();
         buffer.copyToUnsafe(readerIndex, values, offset, size);
         buffer.readerIndex(readerIndex + size);
@@ -407,14 +449,32 @@ public class ArraySerializers {
   }
 
   public static final class IntArraySerializer extends PrimitiveArraySerializer<int[]> {
+    private final boolean packed;
 
     public IntArraySerializer(Fury fury) {
+      this(fury, fury.getConfig().packArray());
+    }
+
+    /**
+     * Create a serializer which writes in-band data with delta/frame-of-reference bit-packing if
+     * <code>packed</code> is true, see {@link PackedArrays}.
+     */
+    public IntArraySerializer(Fury fury, boolean packed) {
       super(fury, int[].class);
+      this.packed = packed;
     }
 
     @Override
     public void write(MemoryBuffer buffer, int[] value) {
+      write(buffer, value, packed);
+    }
+
+    private void write(MemoryBuffer buffer, int[] value, boolean packed) {
       if (fury.getBufferCallback() == null) {
+        if (packed) {
+          PackedArrays.writeInts(buffer, value);
+          return;
+        }
         int size = Math.multiplyExact(value.length, elemSize);
         buffer.writePrimitiveArrayWithSizeEmbedded(value, offset, size);
       } else {
@@ -423,36 +483,73 @@ public class ArraySerializers {
       }
     }
 
+    @Override
+    public void xwrite(MemoryBuffer buffer, int[] value) {
+      // Packed encoding is java only.
+      write(buffer, value, false);
+    }
+
+    @Override
+    public int[] xread(MemoryBuffer buffer) {
+      return read(buffer, false);
+    }
+
     @Override
     public int[] read(MemoryBuffer buffer) {
-      if (fury.isPeerOutOfBandEnabled()) {
-        MemoryBuffer buf = fury.readBufferObject(buffer);
-        int size = buf.remaining();
-        int numElements = size / elemSize;
-        int[] values = new int[numElements];
-        buf.copyToUnsafe(0, values, offset, size);
-        return values;
-      } else {
-        int size = buffer.readPositiveVarInt();
-        int numElements = size / elemSize;
-        int[] values = new int[numElements];
-        int readerIndex = buffer.readerIndex();
-        buffer.copyToUnsafe(readerIndex, values, offset, size);
-        buffer.readerIndex(readerIndex + size);
-        return values;
+      return read(buffer, packed);
+    }
+
+    private int[] read(MemoryBuffer buffer, boolean packed) {
+      if (!fury.isPeerOutOfBandEnabled()) {
+        return packed ? PackedArrays.readInts(buffer) : readRaw(buffer);
       }
+      MemoryBuffer buf = fury.readBufferObject(buffer);
+      int size = buf.remaining();
+      int numElements = size / elemSize;
+      int[] values = new int[numElements];
+      buf.copyToUnsafe(0, values, offset, size);
+      return values;
+    }
+
+    private int[] readRaw(MemoryBuffer buffer) {
+      int size = buffer.readPositiveVarInt();
+      int numElements = size / elemSize;
+      int[] values = new int[numElements];
+      buffer.checkReadableBytes(size);
+      int readerIndex = buffer.readerIndex();
+      buffer.copyToUnsafe(readerIndex, values, offset, size);
+      buffer.readerIndex(readerIndex + size);
+      return values;
     }
   }
 
   public static final class LongArraySerializer extends PrimitiveArraySerializer<long[]> {
+    private final boolean packed;
 
     public LongArraySerializer(Fury fury) {
+      this(fury, fury.getConfig().packArray());
+    }
+
+    /**
+     * Create a serializer which writes in-band data with delta/frame-of-reference bit-packing if
+     * <code>packed</code> is true, see {@link PackedArrays}.
+     */
+    public LongArraySerializer(Fury fury, boolean packed) {
       super(fury, long[].class);
+      this.packed = packed;
     }
 
     @Override
     public void write(MemoryBuffer buffer, long[] value) {
+      write(buffer, value, packed);
+    }
+
+    private void write(MemoryBuffer buffer, long[] value, boolean packed) {
       if (fury.getBufferCallback() == null) {
+        if (packed) {
+          PackedArrays.writeLongs(buffer, value);
+          return;
+        }
         int size = Math.multiplyExact(value.length, elemSize);
         buffer.writePrimitiveArrayWithSizeEmbedded(value, offset, size);
       } else {
@@ -461,27 +558,62 @@ public class ArraySerializers {
       }
     }
 
+    @Override
+    public void xwrite(MemoryBuffer buffer, long[] value) {
+      // Packed encoding is java only.
+      write(buffer, value, false);
+    }
+
+    @Override
+    public long[] xread(MemoryBuffer buffer) {
+      return read(buffer, false);
+    }
+
     @Override
     public long[] read(MemoryBuffer buffer) {
-      if (fury.isPeerOutOfBandEnabled()) {
-        MemoryBuffer buf = fury.readBufferObject(buffer);
-        int size = buf.remaining();
-        int numElements = size / elemSize;
-        long[] values = new long[numElements];
-        buf.copyToUnsafe(0, values, offset, size);
-        return values;
-      } else {
-        int size = buffer.readPositiveVarInt();
-        int numElements = size / elemSize;
-        long[] values = new long[numElements];
-        int readerIndex = buffer.readerIndex();
-        buffer.copyToUnsafe(readerIndex, values, offset, size);
-        buffer.readerIndex(readerIndex + size);
-        return values;
+      return read(buffer, packed);
+    }
+
+    private long[] read(MemoryBuffer buffer, boolean packed) {
+      if (!fury.isPeerOutOfBandEnabled()) {
+        return packed ? PackedArrays.readLongs(buffer) : readRaw(buffer);
       }
+      MemoryBuffer buf = fury.readBufferObject(buffer);
+      int size = buf.remaining();
+      int numElements = size / elemSize;
+      long[] values = new long[numElements];
+      buf.copyToUnsafe(0, values, offset, size);
+      return values;
+    }
+
+    private long[] readRaw(MemoryBuffer buffer) {
+      int size = buffer.readPositiveVarInt();
+      int numElements = size / elemSize;
+      long[] values = new long[numElements];
+      buffer.checkReadableBytes(size);
+      int readerIndex = buffer.readerIndex();
+      buffer.copyToUnsafe(readerIndex, values, offset, size);
+      buffer.readerIndex(readerIndex + size);
+      return values;
     }
   }
 
+  /**
+   * Returns a packed serializer for <code>int[]</code>/<code>long[]</code> field annotated by
+   * {@link Packed}, or null if the field should use the registered serializer.
+   */
+  public static Serializer<?> getPackedFieldSerializer(Fury fury, Field field) {
+    if (field == null || fury.getConfig().packArray() || !field.isAnnotationPresent(Packed.class)) {
+      return null;
+    }
+    if (field.getType() == int[].class) {
+      return new IntArraySerializer(fury, true);
+    } else if (field.getType() == long[].class) {
+      return new LongArraySerializer(fury, true);
+    }
+    return null;
+  }
+
   public static final class FloatArraySerializer extends PrimitiveArraySerializer<float[]> {
 
     public FloatArraySerializer(Fury fury) {
@@ -512,6 +644,7 @@ public class ArraySerializers {
         int size = buffer.readPositiveVarInt();
         int numElements = size / elemSize;
         float[] values = new float[numElements];
+        buffer.checkReadableBytes(size);
         int readerIndex = buffer.readerIndex();
         buffer.copyToUnsafe(readerIndex, values, offset, size);
         buffer.readerIndex(readerIndex + size);
@@ -550,6 +683,7 @@ public class ArraySerializers {
         int size = buffer.readPositiveVarInt();
         int numElements = size / elemSize;
         double[] values = new double[numElements];
+        buffer.checkReadableBytes(size);
         int readerIndex = buffer.readerIndex();
         buffer.copyToUnsafe(readerIndex, values, offset, size);
         buffer.readerIndex(readerIndex + size);
@@ -586,6 +720,11 @@ public class ArraySerializers {
       }
     }
 
+    @Override
+    public String[] copy(String[] value) {
+      return value.clone();
+    }
+
     @Override
     public String[] read(MemoryBuffer buffer) {
       int numElements = buffer.readPositiveVarInt();
@@ -40,7 +40,11 @@ public final class CodegenSerializer {
   @SuppressWarnings("unchecked")
   public static <T> Class<Serializer<T>> loadCodegenSerializer(Fury fury, Class<T> cls) {
     try {
-      return (Class<Serializer<T>>) CodecUtils.loadOrGenObjectCodecClass(cls, fury);
+      Class<? extends Serializer<T>> sc = CodecUtils.loadPrecompiledObjectCodecClass(cls, fury);
+      if (sc == null) {
+        sc = CodecUtils.loadOrGenObjectCodecClass(cls, fury);
+      }
+      return (Class<Serializer<T>>) sc;
     } catch (Exception e) {
       String msg = String.format("Create sequential serializer failed, \nclass: %s", cls);
       throw new RuntimeException(msg, e);
@@ -50,7 +54,11 @@ public final class CodegenSerializer {
   @SuppressWarnings("unchecked")
   public static <T> Class<Serializer<T>> loadCompatibleCodegenSerializer(Fury fury, Class<T> cls) {
     try {
-      return (Class<Serializer<T>>) CodecUtils.loadOrGenCompatibleCodecClass(cls, fury);
+      Class<? extends Serializer<T>> sc = CodecUtils.loadPrecompiledCompatibleCodecClass(cls, fury);
+      if (sc == null) {
+        sc = CodecUtils.loadOrGenCompatibleCodecClass(cls, fury);
+      }
+      return (Class<Serializer<T>>) sc;
     } catch (Exception e) {
       String msg = String.format("Create compatible serializer failed, \nclass: %s", cls);
       throw new RuntimeException(msg, e);
@@ -79,6 +79,8 @@ public class CollectionSerializers {
     public static int NOT_DECL_ELEMENT_TYPE = 0b100;
     /** Whether collection elements type different. */
     public static int NOT_SAME_TYPE = 0b1000;
+    /** Whether collection elements are written in segments by {@link ParallelSerialization}. */
+    public static int PARALLEL = 0b10000;
   }
 
   /** Serializer for {@link Collection}. All collection serializer should extend this class. */
@@ -286,6 +288,16 @@ public class CollectionSerializers {
     @CodegenInvoke
     public int writeTypeNullabilityHeader(
         MemoryBuffer buffer, T value, Class<?> declareElementType, ClassInfoHolder cache) {
+      return writeTypeNullabilityHeader(buffer, value, declareElementType, cache, 0);
+    }
+
+    /** Write header with <code>sameTypeFlags</code> set if all elements are of same type. */
+    private int writeTypeNullabilityHeader(
+        MemoryBuffer buffer,
+        T value,
+        Class<?> declareElementType,
+        ClassInfoHolder cache,
+        int sameTypeFlags) {
       int bitmap = 0;
       boolean containsNull = false;
       boolean hasDifferentClass = false;
@@ -308,6 +320,7 @@ public class CollectionSerializers {
         bitmap |= Flags.NOT_SAME_TYPE | Flags.NOT_DECL_ELEMENT_TYPE;
         buffer.writeByte(bitmap);
       } else {
+        bitmap |= sameTypeFlags;
         // Write class in case peer doesn't have this class.
         if (!fury.getConfig().shareMetaContext() && elemClass == declareElementType) {
           buffer.writeByte(bitmap);
@@ -347,6 +360,18 @@ public class CollectionSerializers {
       }
     }
 
+    /**
+     * Returns <code>collection</code> cleared to be filled with <code>numElements</code> elements
+     * if it can be reused, otherwise returns {@link #newCollection}. The default implementation
+     * never reuses <code>collection</code>.
+     *
+     * @param collection collection to be reused, may be null or a collection of other type.
+     */
+    public Collection clearOrNewCollection(
+        MemoryBuffer buffer, int numElements, Collection collection) {
+      return newCollection(buffer, numElements);
+    }
+
     public T onCollectionRead(Collection collection) {
       return (T) collection;
     }
@@ -362,6 +387,10 @@ public class CollectionSerializers {
     }
 
     protected final void writeElements(Fury fury, MemoryBuffer buffer, T value) {
+      if (elemSerializer == null && shouldWriteParallel(fury, value.size())) {
+        writeParallel(fury, buffer, value);
+        return;
+      }
       int flags = writeElementsHeader(buffer, value);
       Serializer serializer = this.elemSerializer;
       // clear the elemSerializer to avoid conflict if the nested
@@ -379,6 +408,34 @@ public class CollectionSerializers {
       }
     }
 
+    private boolean shouldWriteParallel(Fury fury, int numElements) {
+      ParallelSerialization parallelSerialization = fury.getParallelSerialization();
+      return parallelSerialization != null
+          && getElementGenericType(fury) == null
+          && parallelSerialization.shouldWriteParallel(fury, numElements);
+    }
+
+    /**
+     * Write elements by {@link ParallelSerialization} if they are of same type. The header must be
+     * written before elements since the buffer may be flushed to a stream while writing.
+     */
+    private void writeParallel(Fury fury, MemoryBuffer buffer, T value) {
+      int flags =
+          writeTypeNullabilityHeader(buffer, value, null, elementClassInfoHolder, Flags.PARALLEL);
+      if ((flags & Flags.PARALLEL) == Flags.PARALLEL) {
+        fury.getParallelSerialization()
+            .writeElements(
+                fury,
+                buffer,
+                elementClassInfoHolder.classInfo.getCls(),
+                value.toArray(),
+                value.size(),
+                (flags & Flags.HAS_NULL) == Flags.HAS_NULL);
+      } else {
+        generalJavaWrite(fury, buffer, value, null, flags);
+      }
+    }
+
     // TODO use generics for compatible serializer.
     private static <T extends Collection> void compatibleWrite(
         Fury fury, MemoryBuffer buffer, T value, Serializer serializer, int flags) {
@@ -531,6 +588,28 @@ public class CollectionSerializers {
       return onCollectionRead(collection);
     }
 
+    /** Read elements into collection returned by {@link #clearOrNewCollection}. */
+    protected final T readCollectionInto(MemoryBuffer buffer, Collection target) {
+      int numElements = buffer.readPositiveVarInt();
+      Collection collection = clearOrNewCollection(buffer, numElements, target);
+      if (numElements != 0) {
+        readElements(fury, buffer, collection, numElements);
+      }
+      return onCollectionRead(collection);
+    }
+
+    /**
+     * Deep copy elements of <code>from</code> into the new collection <code>to</code> by {@link
+     * Fury#copyObject}.
+     */
+    protected final T copyElements(Collection from, Collection to) {
+      fury.reference(from, to);
+      for (Object elem : from) {
+        to.add(fury.copyObject(elem));
+      }
+      return (T) to;
+    }
+
     private void readElements(
         Fury fury, MemoryBuffer buffer, Collection collection, int numElements) {
       int flags = buffer.readByte();
@@ -615,7 +694,20 @@ public class CollectionSerializers {
         Serializer serializer;
         ClassResolver classResolver = fury.getClassResolver();
         if ((flags & Flags.NOT_DECL_ELEMENT_TYPE) == Flags.NOT_DECL_ELEMENT_TYPE) {
-          serializer = classResolver.readClassInfo(buffer, elementClassInfoHolder).getSerializer();
+          ClassInfo classInfo = classResolver.readClassInfo(buffer, elementClassInfoHolder);
+          if ((flags & Flags.PARALLEL) == Flags.PARALLEL) {
+            Object[] elements = new Object[numElements];
+            ParallelSerialization.getForRead(fury)
+                .readElements(
+                    fury,
+                    buffer,
+                    classInfo.getCls(),
+                    elements,
+                    (flags & Flags.HAS_NULL) == Flags.HAS_NULL);
+            collection.addAll(Arrays.asList(elements));
+            return;
+          }
+          serializer = classInfo.getSerializer();
         } else {
           Preconditions.checkNotNull(elemGenericType);
           serializer = elemGenericType.getSerializer(classResolver);
@@ -733,6 +825,29 @@ public class CollectionSerializers {
       fury.getRefResolver().reference(arrayList);
       return arrayList;
     }
+
+    @Override
+    public Collection clearOrNewCollection(
+        MemoryBuffer buffer, int numElements, Collection collection) {
+      if (collection == null || collection.getClass() != ArrayList.class) {
+        return newCollection(buffer, numElements);
+      }
+      ArrayList arrayList = (ArrayList) collection;
+      arrayList.clear();
+      arrayList.ensureCapacity(numElements);
+      fury.getRefResolver().reference(arrayList);
+      return arrayList;
+    }
+
+    @Override
+    public ArrayList readInto(MemoryBuffer buffer, ArrayList target) {
+      return readCollectionInto(buffer, target);
+    }
+
+    @Override
+    public ArrayList copy(ArrayList value) {
+      return copyElements(value, new ArrayList(value.size()));
+    }
   }
 
   public static final class ArraysAsListSerializer extends CollectionSerializer<List<?>> {
@@ -804,6 +919,27 @@ public class CollectionSerializers {
       fury.getRefResolver().reference(hashSet);
       return hashSet;
     }
+
+    @Override
+    public Collection clearOrNewCollection(
+        MemoryBuffer buffer, int numElements, Collection collection) {
+      if (collection == null || collection.getClass() != HashSet.class) {
+        return newCollection(buffer, numElements);
+      }
+      collection.clear();
+      fury.getRefResolver().reference(collection);
+      return collection;
+    }
+
+    @Override
+    public HashSet readInto(MemoryBuffer buffer, HashSet target) {
+      return readCollectionInto(buffer, target);
+    }
+
+    @Override
+    public HashSet copy(HashSet value) {
+      return copyElements(value, new HashSet(value.size()));
+    }
   }
 
   public static final class LinkedHashSetSerializer extends CollectionSerializer<LinkedHashSet> {
@@ -822,6 +958,27 @@ public class CollectionSerializers {
       fury.getRefResolver().reference(hashSet);
       return hashSet;
     }
+
+    @Override
+    public Collection clearOrNewCollection(
+        MemoryBuffer buffer, int numElements, Collection collection) {
+      if (collection == null || collection.getClass() != LinkedHashSet.class) {
+        return newCollection(buffer, numElements);
+      }
+      collection.clear();
+      fury.getRefResolver().reference(collection);
+      return collection;
+    }
+
+    @Override
+    public LinkedHashSet readInto(MemoryBuffer buffer, LinkedHashSet target) {
+      return readCollectionInto(buffer, target);
+    }
+
+    @Override
+    public LinkedHashSet copy(LinkedHashSet value) {
+      return copyElements(value, new LinkedHashSet(value.size()));
+    }
   }
 
   public static class SortedSetSerializer<T extends SortedSet> extends CollectionSerializer<T> {
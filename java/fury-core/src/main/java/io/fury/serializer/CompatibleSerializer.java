@@ -18,6 +18,7 @@ package io.fury.serializer;
 
 import com.google.common.base.Preconditions;
 import io.fury.Fury;
+import io.fury.builder.JITContext;
 import io.fury.memory.MemoryBuffer;
 import io.fury.resolver.ClassInfo;
 import io.fury.resolver.ClassResolver;
@@ -53,6 +54,8 @@ public final class CompatibleSerializer<T> extends CompatibleSerializerBase<T> {
   private final boolean isRecord;
   private final MethodHandle constructor;
   private final RecordInfo recordInfo;
+  // Not null if tiered jit compilation is pending for this class.
+  private JITContext.TieredTask tieredTask;
 
   public CompatibleSerializer(Fury fury, Class<T> cls) {
     super(fury, cls);
@@ -62,6 +65,7 @@ public final class CompatibleSerializer<T> extends CompatibleSerializerBase<T> {
     // as data serializer.
     classResolver.setSerializerIfAbsent(cls, this);
     fieldResolver = classResolver.getFieldResolver(cls);
+    tieredTask = fury.getJITContext().getTieredTask(cls);
     isRecord = RecordUtils.isRecord(type);
     if (isRecord) {
       constructor = RecordUtils.getRecordConstructor(type).f1;
@@ -89,6 +93,9 @@ public final class CompatibleSerializer<T> extends CompatibleSerializerBase<T> {
 
   @Override
   public void write(MemoryBuffer buffer, T value) {
+    if (tieredTask != null && !tieredTask.hit()) {
+      tieredTask = null;
+    }
     for (FieldResolver.FieldInfo fieldInfo : fieldResolver.getEmbedTypes4Fields()) {
       buffer.writeInt((int) fieldInfo.getEncodedFieldInfo());
       readAndWriteFieldValue(buffer, fieldInfo, value);
@@ -126,6 +133,7 @@ public final class CompatibleSerializer<T> extends CompatibleSerializerBase<T> {
     }
     for (FieldResolver.FieldInfo fieldInfo : fieldResolver.getSeparateTypesHashFields()) {
       buffer.writeLong(fieldInfo.getEncodedFieldInfo());
+      int sizeIndex = fieldInfo.isSizeWritten() ? FieldResolver.preserveFieldSize(buffer) : -1;
       Object value = vals[index++];
       if (!fury.getRefResolver().writeRefOrNull(buffer, value)) {
         byte fieldType = fieldInfo.getFieldType();
@@ -134,6 +142,9 @@ public final class CompatibleSerializer<T> extends CompatibleSerializerBase<T> {
         ClassInfo classInfo = fieldInfo.getClassInfo(value.getClass());
         fury.writeNonRef(buffer, value, classInfo);
       }
+      if (sizeIndex >= 0) {
+        FieldResolver.writeFieldSize(buffer, sizeIndex);
+      }
     }
     buffer.writeLong(fieldResolver.getEndTag());
   }
@@ -146,6 +157,8 @@ public final class CompatibleSerializer<T> extends CompatibleSerializerBase<T> {
         fury, buffer, targetObject, fieldAccessor, classId)) {
       Object fieldValue;
       fieldValue = fieldAccessor.getObject(targetObject);
+      // primitive field values are written above, sizes are written for other values only.
+      int sizeIndex = fieldInfo.isSizeWritten() ? FieldResolver.preserveFieldSize(buffer) : -1;
       if (ObjectSerializer.writeBasicObjectFieldValueFailed(fury, buffer, fieldValue, classId)) {
         if (classId == ClassResolver.NO_CLASS_ID) { // SEPARATE_TYPES_HASH
           writeSeparateFieldValue(fieldInfo, buffer, fieldValue);
@@ -155,12 +168,16 @@ public final class CompatibleSerializer<T> extends CompatibleSerializerBase<T> {
           fury.writeRef(buffer, fieldValue, serializer);
         }
       }
+      if (sizeIndex >= 0) {
+        FieldResolver.writeFieldSize(buffer, sizeIndex);
+      }
     }
   }
 
   private void writeFieldValue(
       FieldResolver.FieldInfo fieldInfo, MemoryBuffer buffer, Object fieldValue) {
     short classId = fieldInfo.getEmbeddedClassId();
+    int sizeIndex = fieldInfo.isSizeWritten() ? FieldResolver.preserveFieldSize(buffer) : -1;
     // PRIMITIVE fields, not need for null check.
     switch (classId) {
       case ClassResolver.PRIMITIVE_BOOLEAN_CLASS_ID:
@@ -204,6 +221,9 @@ public final class CompatibleSerializer<T> extends CompatibleSerializerBase<T> {
           fury.writeRef(buffer, fieldValue, serializer);
         }
     }
+    if (sizeIndex >= 0) {
+      FieldResolver.writeFieldSize(buffer, sizeIndex);
+    }
   }
 
   private void writeSeparateFieldValue(
@@ -288,6 +308,9 @@ public final class CompatibleSerializer<T> extends CompatibleSerializerBase<T> {
   @SuppressWarnings("unchecked")
   @Override
   public T read(MemoryBuffer buffer) {
+    if (tieredTask != null && !tieredTask.hit()) {
+      tieredTask = null;
+    }
     if (isRecord) {
       Object[] fieldValues = new Object[fieldResolver.getNumFields()];
       readFields(buffer, fieldValues);
@@ -548,6 +571,9 @@ public final class CompatibleSerializer<T> extends CompatibleSerializerBase<T> {
       FieldResolver.FieldInfo fieldInfo, MemoryBuffer buffer, Object targetObject) {
     FieldAccessor fieldAccessor = fieldInfo.getFieldAccessor();
     short classId = fieldInfo.getEmbeddedClassId();
+    if (fieldInfo.isSizeWritten()) {
+      buffer.increaseReaderIndex(4);
+    }
     if (ObjectSerializer.readPrimitiveFieldValueFailed(
             fury, buffer, targetObject, fieldAccessor, classId)
         && ObjectSerializer.readBasicObjectFieldValueFailed(
@@ -566,6 +592,9 @@ public final class CompatibleSerializer<T> extends CompatibleSerializerBase<T> {
 
   private Object readFieldValue(FieldResolver.FieldInfo fieldInfo, MemoryBuffer buffer) {
     short classId = fieldInfo.getEmbeddedClassId();
+    if (fieldInfo.isSizeWritten()) {
+      buffer.increaseReaderIndex(4);
+    }
     // PRIMITIVE fields, not need for null check.
     switch (classId) {
       case ClassResolver.PRIMITIVE_BOOLEAN_CLASS_ID:
@@ -438,6 +438,26 @@ public class MapSerializers {
       return onMapRead(map);
     }
 
+    /**
+     * Deep copy entries of <code>from</code> into the new map <code>to</code> by {@link
+     * Fury#copyObject}.
+     */
+    protected final T copyEntries(Map<?, ?> from, Map to) {
+      fury.reference(from, to);
+      for (Map.Entry<?, ?> entry : from.entrySet()) {
+        to.put(fury.copyObject(entry.getKey()), fury.copyObject(entry.getValue()));
+      }
+      return (T) to;
+    }
+
+    /** Read entries into map returned by {@link #clearOrNewMap}. */
+    protected final T readMapInto(MemoryBuffer buffer, Map target) {
+      int size = buffer.readPositiveVarInt();
+      Map map = clearOrNewMap(buffer, size, target);
+      readElements(buffer, size, map);
+      return onMapRead(map);
+    }
+
     @Override
     public T xread(MemoryBuffer buffer) {
       int size = buffer.readPositiveVarInt();
@@ -714,6 +734,17 @@ public class MapSerializers {
       }
     }
 
+    /**
+     * Returns <code>map</code> cleared to be filled with <code>numElements</code> entries if it can
+     * be reused, otherwise returns {@link #newMap}. The default implementation never reuses <code>
+     * map</code>.
+     *
+     * @param map map to be reused, may be null or a map of other type.
+     */
+    public Map clearOrNewMap(MemoryBuffer buffer, int numElements, Map map) {
+      return newMap(buffer, numElements);
+    }
+
     public T onMapRead(Map map) {
       return (T) map;
     }
@@ -796,6 +827,26 @@ public class MapSerializers {
       fury.getRefResolver().reference(hashMap);
       return hashMap;
     }
+
+    @Override
+    public Map clearOrNewMap(MemoryBuffer buffer, int size, Map map) {
+      if (map == null || map.getClass() != HashMap.class) {
+        return newMap(buffer, size);
+      }
+      map.clear();
+      fury.getRefResolver().reference(map);
+      return map;
+    }
+
+    @Override
+    public HashMap readInto(MemoryBuffer buffer, HashMap target) {
+      return readMapInto(buffer, target);
+    }
+
+    @Override
+    public HashMap copy(HashMap value) {
+      return copyEntries(value, new HashMap(value.size()));
+    }
   }
 
   public static final class LinkedHashMapSerializer extends MapSerializer<LinkedHashMap> {
@@ -814,6 +865,26 @@ public class MapSerializers {
       fury.getRefResolver().reference(hashMap);
       return hashMap;
     }
+
+    @Override
+    public Map clearOrNewMap(MemoryBuffer buffer, int size, Map map) {
+      if (map == null || map.getClass() != LinkedHashMap.class) {
+        return newMap(buffer, size);
+      }
+      map.clear();
+      fury.getRefResolver().reference(map);
+      return map;
+    }
+
+    @Override
+    public LinkedHashMap readInto(MemoryBuffer buffer, LinkedHashMap target) {
+      return readMapInto(buffer, target);
+    }
+
+    @Override
+    public LinkedHashMap copy(LinkedHashMap value) {
+      return copyEntries(value, new LinkedHashMap(value.size()));
+    }
   }
 
   public static final class LazyMapSerializer extends MapSerializer<LazyMap> {
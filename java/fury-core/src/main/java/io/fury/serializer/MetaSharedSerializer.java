@@ -18,6 +18,7 @@ package io.fury.serializer;
 
 import com.google.common.base.Preconditions;
 import io.fury.Fury;
+import io.fury.builder.JITContext;
 import io.fury.builder.MetaSharedCodecBuilder;
 import io.fury.collection.Tuple2;
 import io.fury.collection.Tuple3;
@@ -81,6 +82,8 @@ public class MetaSharedSerializer<T> extends Serializer<T> {
   private final RecordInfo recordInfo;
   private Serializer<T> serializer;
   private final ClassInfoHolder classInfoHolder;
+  // Not null if tiered jit compilation is pending for this class.
+  private JITContext.TieredTask tieredTask;
 
   public MetaSharedSerializer(Fury fury, Class<T> type, ClassDef classDef) {
     super(fury, type);
@@ -109,6 +112,7 @@ public class MetaSharedSerializer<T> extends Serializer<T> {
     otherFields = infos.f1;
     containerFields = infos.f2;
     classInfoHolder = fury.getClassResolver().nilClassInfoHolder();
+    tieredTask = fury.getJITContext().getTieredTask(classDef);
     if (isRecord) {
       List<String> fieldNames =
           descriptorGrouper.getSortedDescriptors().stream()
@@ -132,6 +136,9 @@ public class MetaSharedSerializer<T> extends Serializer<T> {
 
   @Override
   public T read(MemoryBuffer buffer) {
+    if (tieredTask != null && !tieredTask.hit()) {
+      tieredTask = null;
+    }
     if (isRecord) {
       Object[] fieldValues =
           new Object[finalFields.length + otherFields.length + containerFields.length];
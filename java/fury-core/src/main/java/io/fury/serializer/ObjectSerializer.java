@@ -18,8 +18,11 @@ package io.fury.serializer;
 
 import static io.fury.type.TypeUtils.getRawType;
 
+import com.google.common.base.Preconditions;
 import com.google.common.reflect.TypeToken;
 import io.fury.Fury;
+import io.fury.builder.FieldTypeProfile;
+import io.fury.builder.JITContext;
 import io.fury.collection.Tuple2;
 import io.fury.collection.Tuple3;
 import io.fury.exception.FuryException;
@@ -44,6 +47,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -80,6 +84,10 @@ public final class ObjectSerializer<T> extends Serializer<T> {
   private final GenericTypeField[] containerFields;
   private final MethodHandle constructor;
   private final int classVersionHash;
+  // Not null if tiered jit compilation is pending for this class.
+  private JITContext.TieredTask tieredTask;
+  // Runtime types of `otherFields` recorded before tiered jit promotion.
+  private FieldTypeProfile typeProfile;
 
   public ObjectSerializer(Fury fury, Class<T> cls) {
     this(fury, cls, true);
@@ -93,6 +101,7 @@ public final class ObjectSerializer<T> extends Serializer<T> {
     // Use `setSerializerIfAbsent` to avoid overwriting existing serializer for class when used
     // as data serializer.
     classResolver.setSerializerIfAbsent(cls, this);
+    tieredTask = fury.getJITContext().getTieredTask(cls);
     Collection<Descriptor> descriptors =
         fury.getClassResolver().getAllDescriptorsMap(cls, resolveParent).values();
     DescriptorGrouper descriptorGrouper =
@@ -121,6 +130,16 @@ public final class ObjectSerializer<T> extends Serializer<T> {
     isFinal = infos.f0.f1;
     otherFields = infos.f1;
     containerFields = infos.f2;
+    if (tieredTask != null && resolveParent) {
+      String[] fieldKeys =
+          descriptorGrouper.getOtherDescriptors().stream()
+              .map(d -> d.getDeclaringClass() + d.getName())
+              .toArray(String[]::new);
+      FieldTypeProfile profile = new FieldTypeProfile(fieldKeys);
+      if (fury.getJITContext().registerFieldTypeProfile(cls, profile)) {
+        typeProfile = profile;
+      }
+    }
   }
 
   static Tuple3<Tuple2<FinalTypeField[], boolean[]>, GenericTypeField[], GenericTypeField[]>
@@ -194,6 +213,10 @@ public final class ObjectSerializer<T> extends Serializer<T> {
 
   @Override
   public void write(MemoryBuffer buffer, T value) {
+    if (tieredTask != null && !tieredTask.hit()) {
+      tieredTask = null;
+      typeProfile = null;
+    }
     Fury fury = this.fury;
     RefResolver refResolver = this.refResolver;
     ClassResolver classResolver = this.classResolver;
@@ -202,9 +225,15 @@ public final class ObjectSerializer<T> extends Serializer<T> {
     }
     // write order: primitive,boxed,final,other,collection,map
     writeFinalFields(buffer, value, fury, refResolver, classResolver);
-    for (GenericTypeField fieldInfo : otherFields) {
+    GenericTypeField[] otherFields = this.otherFields;
+    FieldTypeProfile typeProfile = this.typeProfile;
+    for (int i = 0; i < otherFields.length; i++) {
+      GenericTypeField fieldInfo = otherFields[i];
       FieldAccessor fieldAccessor = fieldInfo.fieldAccessor;
       Object fieldValue = fieldAccessor.getObject(value);
+      if (typeProfile != null) {
+        typeProfile.record(i, fieldValue);
+      }
       if (fieldInfo.trackingRef) {
         fury.writeRef(buffer, fieldValue, fieldInfo.classInfoHolder);
       } else {
@@ -229,7 +258,7 @@ public final class ObjectSerializer<T> extends Serializer<T> {
       if (writePrimitiveFieldValueFailed(fury, buffer, value, fieldAccessor, classId)) {
         Object fieldValue = fieldAccessor.getObject(value);
         if (writeBasicObjectFieldValueFailed(fury, buffer, fieldValue, classId)) {
-          Serializer<Object> serializer = fieldInfo.classInfo.getSerializer();
+          Serializer<Object> serializer = fieldInfo.getSerializer();
           if (!metaContextShareEnabled || isFinal[i]) {
             // whether tracking ref is recorded in `fieldInfo.serializer`, so it's still
             // consistent with jit serializer.
@@ -298,6 +327,10 @@ public final class ObjectSerializer<T> extends Serializer<T> {
 
   @Override
   public T read(MemoryBuffer buffer) {
+    if (tieredTask != null && !tieredTask.hit()) {
+      tieredTask = null;
+      typeProfile = null;
+    }
     if (isRecord) {
       Object[] fields = readFields(buffer);
       RecordUtils.remapping(recordInfo, fields);
@@ -314,6 +347,84 @@ public final class ObjectSerializer<T> extends Serializer<T> {
     return readAndSetFields(buffer, obj);
   }
 
+  /**
+   * Read fields into <code>target</code>. Primitive fields are overwritten in place, collection/map
+   * fields are cleared and refilled if possible, other fields are set to new objects. Records are
+   * immutable, so a new record will be returned.
+   */
+  @Override
+  public T readInto(MemoryBuffer buffer, T target) {
+    if (isRecord) {
+      return read(buffer);
+    }
+    refResolver.reference(target);
+    return readAndSetFields(buffer, target, true);
+  }
+
+  /**
+   * Copy fields into a new object. Primitive fields are copied by value and other fields are deep
+   * copied by {@link Fury#copyObject}. Records fall back to {@link Serializer#copy}.
+   */
+  @Override
+  public T copy(T value) {
+    if (isRecord) {
+      return super.copy(value);
+    }
+    T newObj = newBean(constructor, type);
+    fury.reference(value, newObj);
+    copyFields(fury, finalFields, value, newObj);
+    copyFields(fury, otherFields, value, newObj);
+    copyFields(fury, containerFields, value, newObj);
+    return newObj;
+  }
+
+  private static void copyFields(
+      Fury fury, InternalFieldInfo[] fieldInfos, Object from, Object to) {
+    for (InternalFieldInfo fieldInfo : fieldInfos) {
+      FieldAccessor fieldAccessor = fieldInfo.fieldAccessor;
+      if (fieldAccessor == null) {
+        continue;
+      }
+      if (copyPrimitiveFieldValueFailed(
+          from, to, fieldAccessor.getFieldOffset(), fieldInfo.classId)) {
+        Object fieldValue = fieldAccessor.getObject(from);
+        fieldAccessor.putObject(to, fury.copyObject(fieldValue));
+      }
+    }
+  }
+
+  private static boolean copyPrimitiveFieldValueFailed(
+      Object from, Object to, long fieldOffset, short classId) {
+    switch (classId) {
+      case ClassResolver.PRIMITIVE_BOOLEAN_CLASS_ID:
+        Platform.putBoolean(to, fieldOffset, Platform.getBoolean(from, fieldOffset));
+        return false;
+      case ClassResolver.PRIMITIVE_BYTE_CLASS_ID:
+        Platform.putByte(to, fieldOffset, Platform.getByte(from, fieldOffset));
+        return false;
+      case ClassResolver.PRIMITIVE_CHAR_CLASS_ID:
+        Platform.putChar(to, fieldOffset, Platform.getChar(from, fieldOffset));
+        return false;
+      case ClassResolver.PRIMITIVE_SHORT_CLASS_ID:
+        Platform.putShort(to, fieldOffset, Platform.getShort(from, fieldOffset));
+        return false;
+      case ClassResolver.PRIMITIVE_INT_CLASS_ID:
+        Platform.putInt(to, fieldOffset, Platform.getInt(from, fieldOffset));
+        return false;
+      case ClassResolver.PRIMITIVE_FLOAT_CLASS_ID:
+        Platform.putFloat(to, fieldOffset, Platform.getFloat(from, fieldOffset));
+        return false;
+      case ClassResolver.PRIMITIVE_LONG_CLASS_ID:
+        Platform.putLong(to, fieldOffset, Platform.getLong(from, fieldOffset));
+        return false;
+      case ClassResolver.PRIMITIVE_DOUBLE_CLASS_ID:
+        Platform.putDouble(to, fieldOffset, Platform.getDouble(from, fieldOffset));
+        return false;
+      default:
+        return true;
+    }
+  }
+
   public Object[] readFields(MemoryBuffer buffer) {
     Fury fury = this.fury;
     RefResolver refResolver = this.refResolver;
@@ -341,8 +452,12 @@ public final class ObjectSerializer<T> extends Serializer<T> {
         fieldValues[counter++] = fieldValue;
       }
     }
-    for (GenericTypeField fieldInfo : otherFields) {
-      Object fieldValue = readOtherFieldValue(fury, fieldInfo, buffer);
+    FieldTypeProfile typeProfile = this.typeProfile;
+    for (int i = 0; i < otherFields.length; i++) {
+      Object fieldValue = readOtherFieldValue(fury, otherFields[i], buffer);
+      if (typeProfile != null) {
+        typeProfile.record(i, fieldValue);
+      }
       fieldValues[counter++] = fieldValue;
     }
     Generics generics = fury.getGenerics();
@@ -354,6 +469,10 @@ public final class ObjectSerializer<T> extends Serializer<T> {
   }
 
   public T readAndSetFields(MemoryBuffer buffer, T obj) {
+    return readAndSetFields(buffer, obj, false);
+  }
+
+  private T readAndSetFields(MemoryBuffer buffer, T obj, boolean reuseContainers) {
     Fury fury = this.fury;
     RefResolver refResolver = this.refResolver;
     ClassResolver classResolver = this.classResolver;
@@ -376,20 +495,105 @@ public final class ObjectSerializer<T> extends Serializer<T> {
         fieldAccessor.putObject(obj, fieldValue);
       }
     }
-    for (GenericTypeField fieldInfo : otherFields) {
+    FieldTypeProfile typeProfile = this.typeProfile;
+    for (int i = 0; i < otherFields.length; i++) {
+      GenericTypeField fieldInfo = otherFields[i];
       Object fieldValue = readOtherFieldValue(fury, fieldInfo, buffer);
+      if (typeProfile != null) {
+        typeProfile.record(i, fieldValue);
+      }
       FieldAccessor fieldAccessor = fieldInfo.fieldAccessor;
       fieldAccessor.putObject(obj, fieldValue);
     }
     Generics generics = fury.getGenerics();
     for (GenericTypeField fieldInfo : containerFields) {
-      Object fieldValue = readContainerFieldValue(fury, generics, fieldInfo, buffer);
       FieldAccessor fieldAccessor = fieldInfo.fieldAccessor;
+      Object fieldValue;
+      if (reuseContainers) {
+        Object container = fieldAccessor.getObject(obj);
+        fieldValue = readContainerFieldValueInto(fury, generics, fieldInfo, buffer, container);
+      } else {
+        fieldValue = readContainerFieldValue(fury, generics, fieldInfo, buffer);
+      }
       fieldAccessor.putObject(obj, fieldValue);
     }
     return obj;
   }
 
+  /**
+   * Returns whether fields are projected in read order: primitive,boxed,final,other,collection,map.
+   *
+   * @param fieldNames names of projected fields.
+   */
+  public boolean[] getProjectedFields(Set<String> fieldNames) {
+    boolean[] projected =
+        new boolean[finalFields.length + otherFields.length + containerFields.length];
+    int counter = 0;
+    for (InternalFieldInfo[] fieldInfos :
+        new InternalFieldInfo[][] {finalFields, otherFields, containerFields}) {
+      for (InternalFieldInfo fieldInfo : fieldInfos) {
+        String name = fieldInfo.qualifiedFieldName;
+        projected[counter++] = fieldNames.contains(name.substring(name.lastIndexOf('.') + 1));
+      }
+    }
+    return projected;
+  }
+
+  /**
+   * Read an object and set only fields whose <code>projected</code> flag is true, other fields will
+   * be skipped. Primitive fields and strings are skipped without decoding values, other skipped
+   * fields are still read since the data doesn't record their sizes.
+   *
+   * @see #getProjectedFields
+   */
+  public T readProjected(MemoryBuffer buffer, boolean[] projected) {
+    Preconditions.checkArgument(!isRecord, "Projection on record %s is not supported", type);
+    Fury fury = this.fury;
+    RefResolver refResolver = this.refResolver;
+    ClassResolver classResolver = this.classResolver;
+    T obj = newBean(constructor, type);
+    refResolver.reference(obj);
+    if (fury.checkClassVersion()) {
+      int hash = buffer.readInt();
+      checkClassVersion(fury, hash, classVersionHash);
+    }
+    int counter = 0;
+    FinalTypeField[] finalFields = this.finalFields;
+    boolean metaContextShareEnabled = fury.getConfig().shareMetaContext();
+    for (int i = 0; i < finalFields.length; i++) {
+      FinalTypeField fieldInfo = finalFields[i];
+      boolean isFinal = !metaContextShareEnabled || this.isFinal[i];
+      FieldAccessor fieldAccessor = fieldInfo.fieldAccessor;
+      short classId = fieldInfo.classId;
+      if (projected[counter++]) {
+        if (readPrimitiveFieldValueFailed(fury, buffer, obj, fieldAccessor, classId)
+            && readBasicObjectFieldValueFailed(fury, buffer, obj, fieldAccessor, classId)) {
+          Object fieldValue =
+              readFinalObjectFieldValue(
+                  fury, refResolver, classResolver, fieldInfo, isFinal, buffer);
+          fieldAccessor.putObject(obj, fieldValue);
+        }
+      } else if (skipPrimitiveFieldValueFailed(fury, buffer, classId)
+          && skipBasicObjectFieldValueFailed(fury, buffer, classId)) {
+        readFinalObjectFieldValue(fury, refResolver, classResolver, fieldInfo, isFinal, buffer);
+      }
+    }
+    for (GenericTypeField fieldInfo : otherFields) {
+      Object fieldValue = readOtherFieldValue(fury, fieldInfo, buffer);
+      if (projected[counter++]) {
+        fieldInfo.fieldAccessor.putObject(obj, fieldValue);
+      }
+    }
+    Generics generics = fury.getGenerics();
+    for (GenericTypeField fieldInfo : containerFields) {
+      Object fieldValue = readContainerFieldValue(fury, generics, fieldInfo, buffer);
+      if (projected[counter++]) {
+        fieldInfo.fieldAccessor.putObject(obj, fieldValue);
+      }
+    }
+    return obj;
+  }
+
   /**
    * Read final object field value. Note that primitive field value can't be read by this method,
    * because primitive field doesn't write null flag.
@@ -401,7 +605,7 @@ public final class ObjectSerializer<T> extends Serializer<T> {
       FinalTypeField fieldInfo,
       boolean isFinal,
       MemoryBuffer buffer) {
-    Serializer<Object> serializer = fieldInfo.classInfo.getSerializer();
+    Serializer<Object> serializer = fieldInfo.getSerializer();
     Object fieldValue;
     if (isFinal) {
       // whether tracking ref is recorded in `fieldInfo.serializer`, so it's still
@@ -465,6 +669,31 @@ public final class ObjectSerializer<T> extends Serializer<T> {
     return fieldValue;
   }
 
+  /** Read container field value into <code>container</code> if it can be reused. */
+  static Object readContainerFieldValueInto(
+      Fury fury,
+      Generics generics,
+      GenericTypeField fieldInfo,
+      MemoryBuffer buffer,
+      Object container) {
+    Object fieldValue;
+    if (fieldInfo.trackingRef) {
+      generics.pushGenericType(fieldInfo.genericType);
+      fieldValue = fury.readRefInto(buffer, fieldInfo.classInfoHolder, container);
+      generics.popGenericType();
+    } else {
+      byte headFlag = buffer.readByte();
+      if (headFlag == Fury.NULL_FLAG) {
+        fieldValue = null;
+      } else {
+        generics.pushGenericType(fieldInfo.genericType);
+        fieldValue = fury.readNonRefInto(buffer, fieldInfo.classInfoHolder, container);
+        generics.popGenericType();
+      }
+    }
+    return fieldValue;
+  }
+
   static boolean writePrimitiveFieldValueFailed(
       Fury fury,
       MemoryBuffer buffer,
@@ -852,6 +1081,60 @@ public final class ObjectSerializer<T> extends Serializer<T> {
     }
   }
 
+  static boolean skipPrimitiveFieldValueFailed(Fury fury, MemoryBuffer buffer, short classId) {
+    switch (classId) {
+      case ClassResolver.PRIMITIVE_BOOLEAN_CLASS_ID:
+      case ClassResolver.PRIMITIVE_BYTE_CLASS_ID:
+        buffer.increaseReaderIndex(1);
+        return false;
+      case ClassResolver.PRIMITIVE_CHAR_CLASS_ID:
+      case ClassResolver.PRIMITIVE_SHORT_CLASS_ID:
+        buffer.increaseReaderIndex(2);
+        return false;
+      case ClassResolver.PRIMITIVE_INT_CLASS_ID:
+        if (fury.compressInt()) {
+          buffer.readVarInt();
+        } else {
+          buffer.increaseReaderIndex(4);
+        }
+        return false;
+      case ClassResolver.PRIMITIVE_FLOAT_CLASS_ID:
+        buffer.increaseReaderIndex(4);
+        return false;
+      case ClassResolver.PRIMITIVE_LONG_CLASS_ID:
+        fury.readLong(buffer);
+        return false;
+      case ClassResolver.PRIMITIVE_DOUBLE_CLASS_ID:
+        buffer.increaseReaderIndex(8);
+        return false;
+      default:
+        return true;
+    }
+  }
+
+  static boolean skipBasicObjectFieldValueFailed(Fury fury, MemoryBuffer buffer, short classId) {
+    if (!fury.isBasicTypesRefIgnored()) {
+      return true; // let common path handle this.
+    }
+    if (classId == ClassResolver.STRING_CLASS_ID) {
+      fury.skipJavaStringRef(buffer);
+      return false;
+    }
+    if (classId >= ClassResolver.BOOLEAN_CLASS_ID && classId <= ClassResolver.DOUBLE_CLASS_ID) {
+      if (buffer.readByte() != Fury.NULL_FLAG) {
+        // boxed types are written in same order as primitive types.
+        short primitiveClassId =
+            (short)
+                (classId
+                    - ClassResolver.BOOLEAN_CLASS_ID
+                    + ClassResolver.PRIMITIVE_BOOLEAN_CLASS_ID);
+        skipPrimitiveFieldValueFailed(fury, buffer, primitiveClassId);
+      }
+      return false;
+    }
+    return true;
+  }
+
   static <T> T newBean(MethodHandle constructor, Class<T> type) {
     if (constructor != null) {
       try {
@@ -890,9 +1173,17 @@ public final class ObjectSerializer<T> extends Serializer<T> {
 
   static final class FinalTypeField extends InternalFieldInfo {
     final ClassInfo classInfo;
+    // Serializer specified by field annotation such as `Packed`, null if not specified.
+    private final Serializer<Object> fieldSerializer;
 
+    @SuppressWarnings("unchecked")
     private FinalTypeField(Class<?> type, String fieldName, FieldAccessor accessor, Fury fury) {
       super(getRegisteredClassId(fury, type), fieldName, accessor);
+      fieldSerializer =
+          accessor != null
+              ? (Serializer<Object>)
+                  ArraySerializers.getPackedFieldSerializer(fury, accessor.getField())
+              : null;
       // invoke `copy` to avoid ObjectSerializer construct clear serializer by `clearSerializer`.
       if (type == FinalObjectTypeStub.class) {
         // `FinalObjectTypeStub` has no fields, using its `classInfo`
@@ -902,6 +1193,11 @@ public final class ObjectSerializer<T> extends Serializer<T> {
         classInfo = fury.getClassResolver().getClassInfo(type);
       }
     }
+
+    Serializer<Object> getSerializer() {
+      Serializer<Object> serializer = fieldSerializer;
+      return serializer != null ? serializer : classInfo.getSerializer();
+    }
   }
 
   static final class GenericTypeField extends InternalFieldInfo {
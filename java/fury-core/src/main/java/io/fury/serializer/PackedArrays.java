@@ -0,0 +1,351 @@
+/*
+ * Copyright 2023 The Fury Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fury.serializer;
+
+import io.fury.memory.MemoryBuffer;
+
+/**
+ * Packed encoding for <code>int[]</code> and <code>long[]</code>. Elements are encoded in blocks of
+ * {@link #BLOCK_SIZE}, every block picks the narrower one of two encodings:
+ *
+ * <ul>
+ *   <li>Delta: first value as varint, following values as zigzag deltas of previous value.
+ *   <li>Frame of reference: min value as varint, all values as unsigned offsets to min value.
+ * </ul>
+ *
+ * <p>Encoded values are bit-packed with the same bit width in a block. Sorted ids and timestamps
+ * get narrow deltas, small counters get narrow offsets, random data costs only a few header bytes
+ * more than raw memory.
+ *
+ * <p>Format: | num elements (varint) | blocks |, every block is | mode << 7 | bit width (1 byte) |
+ * first/min value (varint) | packed bits |.
+ *
+ * @author chaokunyang
+ */
+final class PackedArrays {
+  static final int BLOCK_SIZE = 128;
+  private static final int DELTA_MODE = 0;
+  private static final int FOR_MODE = 1;
+
+  static void writeInts(MemoryBuffer buffer, int[] values) {
+    int numElements = values.length;
+    buffer.writePositiveVarInt(numElements);
+    for (int start = 0; start < numElements; start += BLOCK_SIZE) {
+      int end = Math.min(start + BLOCK_SIZE, numElements);
+      int first = values[start];
+      int min = first, max = first;
+      int deltaBits = 0;
+      int prev = first;
+      for (int i = start + 1; i < end; i++) {
+        int v = values[i];
+        int delta = v - prev;
+        deltaBits |= (delta << 1) ^ (delta >> 31);
+        min = Math.min(min, v);
+        max = Math.max(max, v);
+        prev = v;
+      }
+      int deltaWidth = 32 - Integer.numberOfLeadingZeros(deltaBits);
+      // unsigned range of values never exceed 32 bits.
+      int forWidth = 64 - Long.numberOfLeadingZeros((long) max - min);
+      if (deltaWidth < forWidth) {
+        buffer.writeByte((byte) (DELTA_MODE << 7 | deltaWidth));
+        buffer.writeVarInt(first);
+        if (deltaWidth > 0) {
+          packInts(buffer, values, start + 1, end, first, true, deltaWidth);
+        }
+      } else {
+        buffer.writeByte((byte) (FOR_MODE << 7 | forWidth));
+        buffer.writeVarInt(min);
+        if (forWidth > 0) {
+          packInts(buffer, values, start, end, min, false, forWidth);
+        }
+      }
+    }
+  }
+
+  private static void packInts(
+      MemoryBuffer buffer, int[] values, int start, int end, int base, boolean delta, int width) {
+    int numBytes = (int) (((long) (end - start) * width + 7) >>> 3);
+    // Reserve 4 more bytes since the last int may be written partially.
+    buffer.ensure(buffer.writerIndex() + numBytes + 4);
+    int writerIndex = buffer.writerIndex();
+    int pos = writerIndex;
+    long acc = 0;
+    int bits = 0;
+    for (int i = start; i < end; i++) {
+      int v = values[i];
+      long packed;
+      if (delta) {
+        int d = v - base;
+        packed = ((d << 1) ^ (d >> 31)) & 0xFFFFFFFFL;
+        base = v;
+      } else {
+        packed = (v - base) & 0xFFFFFFFFL;
+      }
+      acc |= packed << bits;
+      bits += width;
+      if (bits >= 32) {
+        buffer.putInt(pos, (int) acc);
+        pos += 4;
+        acc >>>= 32;
+        bits -= 32;
+      }
+    }
+    if (bits > 0) {
+      buffer.putInt(pos, (int) acc);
+    }
+    buffer.writerIndex(writerIndex + numBytes);
+  }
+
+  static int[] readInts(MemoryBuffer buffer) {
+    int numElements = buffer.readPositiveVarInt();
+    int[] values = new int[numElements];
+    for (int start = 0; start < numElements; start += BLOCK_SIZE) {
+      int end = Math.min(start + BLOCK_SIZE, numElements);
+      int header = buffer.readByte() & 0xFF;
+      int width = header & 0x7F;
+      int base = buffer.readVarInt();
+      if (header >>> 7 == DELTA_MODE) {
+        values[start] = base;
+        if (width == 0) {
+          for (int i = start + 1; i < end; i++) {
+            values[i] = base;
+          }
+        } else {
+          unpackInts(buffer, values, start + 1, end, base, true, width);
+        }
+      } else {
+        if (width == 0) {
+          for (int i = start; i < end; i++) {
+            values[i] = base;
+          }
+        } else {
+          unpackInts(buffer, values, start, end, base, false, width);
+        }
+      }
+    }
+    return values;
+  }
+
+  private static void unpackInts(
+      MemoryBuffer buffer, int[] values, int start, int end, int base, boolean delta, int width) {
+    if (width > 32) {
+      throw new IllegalArgumentException("Illegal bit width " + width);
+    }
+    int numBytes = (int) (((long) (end - start) * width + 7) >>> 3);
+    buffer.checkReadableBytes(numBytes);
+    int pos = buffer.readerIndex();
+    int endPos = pos + numBytes;
+    long mask = (1L << width) - 1;
+    long acc = 0;
+    int bits = 0;
+    for (int i = start; i < end; i++) {
+      if (bits < width) {
+        if (endPos - pos >= 4) {
+          acc |= (buffer.getInt(pos) & 0xFFFFFFFFL) << bits;
+          pos += 4;
+          bits += 32;
+        } else {
+          while (bits < width) {
+            acc |= (buffer.get(pos++) & 0xFFL) << bits;
+            bits += 8;
+          }
+        }
+      }
+      int packed = (int) (acc & mask);
+      acc >>>= width;
+      bits -= width;
+      if (delta) {
+        base += (packed >>> 1) ^ -(packed & 1);
+        values[i] = base;
+      } else {
+        values[i] = base + packed;
+      }
+    }
+    buffer.readerIndex(endPos);
+  }
+
+  static void writeLongs(MemoryBuffer buffer, long[] values) {
+    int numElements = values.length;
+    buffer.writePositiveVarInt(numElements);
+    for (int start = 0; start < numElements; start += BLOCK_SIZE) {
+      int end = Math.min(start + BLOCK_SIZE, numElements);
+      long first = values[start];
+      long min = first, max = first;
+      long deltaBits = 0;
+      long prev = first;
+      for (int i = start + 1; i < end; i++) {
+        long v = values[i];
+        long delta = v - prev;
+        deltaBits |= (delta << 1) ^ (delta >> 63);
+        min = Math.min(min, v);
+        max = Math.max(max, v);
+        prev = v;
+      }
+      int deltaWidth = 64 - Long.numberOfLeadingZeros(deltaBits);
+      // `max - min` is taken as unsigned.
+      int forWidth = 64 - Long.numberOfLeadingZeros(max - min);
+      if (deltaWidth < forWidth) {
+        buffer.writeByte((byte) (DELTA_MODE << 7 | deltaWidth));
+        buffer.writeVarLong(first);
+        if (deltaWidth > 0) {
+          packLongs(buffer, values, start + 1, end, first, true, deltaWidth);
+        }
+      } else {
+        buffer.writeByte((byte) (FOR_MODE << 7 | forWidth));
+        buffer.writeVarLong(min);
+        if (forWidth > 0) {
+          packLongs(buffer, values, start, end, min, false, forWidth);
+        }
+      }
+    }
+  }
+
+  private static void packLongs(
+      MemoryBuffer buffer, long[] values, int start, int end, long base, boolean delta, int width) {
+    int numBytes = (int) (((long) (end - start) * width + 7) >>> 3);
+    buffer.ensure(buffer.writerIndex() + numBytes + 4);
+    int writerIndex = buffer.writerIndex();
+    int pos = writerIndex;
+    long acc = 0;
+    int bits = 0;
+    // Values wider than 32 bits are packed as a low 32 bits part and a high part.
+    int lowWidth = Math.min(width, 32);
+    int highWidth = width - lowWidth;
+    for (int i = start; i < end; i++) {
+      long v = values[i];
+      long packed;
+      if (delta) {
+        long d = v - base;
+        packed = (d << 1) ^ (d >> 63);
+        base = v;
+      } else {
+        packed = v - base;
+      }
+      acc |= (packed & 0xFFFFFFFFL) << bits;
+      bits += lowWidth;
+      if (bits >= 32) {
+        buffer.putInt(pos, (int) acc);
+        pos += 4;
+        acc >>>= 32;
+        bits -= 32;
+      }
+      if (highWidth > 0) {
+        acc |= (packed >>> 32) << bits;
+        bits += highWidth;
+        if (bits >= 32) {
+          buffer.putInt(pos, (int) acc);
+          pos += 4;
+          acc >>>= 32;
+          bits -= 32;
+        }
+      }
+    }
+    if (bits > 0) {
+      buffer.putInt(pos, (int) acc);
+    }
+    buffer.writerIndex(writerIndex + numBytes);
+  }
+
+  static long[] readLongs(MemoryBuffer buffer) {
+    int numElements = buffer.readPositiveVarInt();
+    long[] values = new long[numElements];
+    for (int start = 0; start < numElements; start += BLOCK_SIZE) {
+      int end = Math.min(start + BLOCK_SIZE, numElements);
+      int header = buffer.readByte() & 0xFF;
+      int width = header & 0x7F;
+      long base = buffer.readVarLong();
+      if (header >>> 7 == DELTA_MODE) {
+        values[start] = base;
+        if (width == 0) {
+          for (int i = start + 1; i < end; i++) {
+            values[i] = base;
+          }
+        } else {
+          unpackLongs(buffer, values, start + 1, end, base, true, width);
+        }
+      } else {
+        if (width == 0) {
+          for (int i = start; i < end; i++) {
+            values[i] = base;
+          }
+        } else {
+          unpackLongs(buffer, values, start, end, base, false, width);
+        }
+      }
+    }
+    return values;
+  }
+
+  private static void unpackLongs(
+      MemoryBuffer buffer, long[] values, int start, int end, long base, boolean delta, int width) {
+    if (width > 64) {
+      throw new IllegalArgumentException("Illegal bit width " + width);
+    }
+    int numBytes = (int) (((long) (end - start) * width + 7) >>> 3);
+    buffer.checkReadableBytes(numBytes);
+    int pos = buffer.readerIndex();
+    int endPos = pos + numBytes;
+    int lowWidth = Math.min(width, 32);
+    int highWidth = width - lowWidth;
+    long lowMask = (1L << lowWidth) - 1;
+    long highMask = (1L << highWidth) - 1;
+    long acc = 0;
+    int bits = 0;
+    for (int i = start; i < end; i++) {
+      if (bits < lowWidth) {
+        if (endPos - pos >= 4) {
+          acc |= (buffer.getInt(pos) & 0xFFFFFFFFL) << bits;
+          pos += 4;
+          bits += 32;
+        } else {
+          while (bits < lowWidth) {
+            acc |= (buffer.get(pos++) & 0xFFL) << bits;
+            bits += 8;
+          }
+        }
+      }
+      long packed = acc & lowMask;
+      acc >>>= lowWidth;
+      bits -= lowWidth;
+      if (highWidth > 0) {
+        if (bits < highWidth) {
+          if (endPos - pos >= 4) {
+            acc |= (buffer.getInt(pos) & 0xFFFFFFFFL) << bits;
+            pos += 4;
+            bits += 32;
+          } else {
+            while (bits < highWidth) {
+              acc |= (buffer.get(pos++) & 0xFFL) << bits;
+              bits += 8;
+            }
+          }
+        }
+        packed |= (acc & highMask) << 32;
+        acc >>>= highWidth;
+        bits -= highWidth;
+      }
+      if (delta) {
+        base += (packed >>> 1) ^ -(packed & 1);
+        values[i] = base;
+      } else {
+        values[i] = base + packed;
+      }
+    }
+    buffer.readerIndex(endPos);
+  }
+}
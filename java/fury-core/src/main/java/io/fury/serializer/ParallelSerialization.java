@@ -0,0 +1,276 @@
+/*
+ * Copyright 2023 The Fury Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fury.serializer;
+
+import com.google.common.base.Preconditions;
+import io.fury.Fury;
+import io.fury.builder.JITContext;
+import io.fury.exception.FuryException;
+import io.fury.memory.MemoryBuffer;
+import io.fury.memory.MemoryUtils;
+import io.fury.util.Platform;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Serialize elements of large collections and object arrays in parallel on a {@link ForkJoinPool}.
+ * Elements are split into segments, every segment is written by a worker {@link Fury} bound to the
+ * pool thread into a separate buffer. Segments are stitched together with their sizes, so that
+ * deserialization can read segments in parallel too.
+ *
+ * <p>Only root collections/arrays whose elements are of the same final type are serialized in
+ * parallel, and reference tracking must be disabled. Every segment is serialized with a fresh
+ * serialization state, so the fury which deserializes the data must be set with a {@link
+ * ParallelSerialization} too. Worker furies are created by <code>furyFactory</code>, they must
+ * register same classes and serializers as the fury which uses this object.
+ *
+ * @see Fury#setParallelSerialization
+ * @author chaokunyang
+ */
+@ThreadSafe
+public final class ParallelSerialization {
+  public static final int DEFAULT_MIN_PARALLEL_ELEMENTS = 1 << 16;
+
+  private final ForkJoinPool pool;
+  private final Function<ClassLoader, Fury> furyFactory;
+  private final int minParallelElements;
+  private final ThreadLocal<Worker> workers = new ThreadLocal<>();
+
+  /** Fury bound to a pool thread and the buffer reused by segments written on that thread. */
+  private static final class Worker {
+    private final Fury fury;
+    private MemoryBuffer buffer;
+
+    private Worker(Fury fury) {
+      this.fury = fury;
+    }
+  }
+
+  public ParallelSerialization(Function<ClassLoader, Fury> furyFactory) {
+    this(ForkJoinPool.commonPool(), furyFactory, DEFAULT_MIN_PARALLEL_ELEMENTS);
+  }
+
+  public ParallelSerialization(
+      ForkJoinPool pool, Function<ClassLoader, Fury> furyFactory, int minParallelElements) {
+    Preconditions.checkArgument(minParallelElements > 0);
+    this.pool = pool;
+    this.furyFactory = furyFactory;
+    this.minParallelElements = minParallelElements;
+  }
+
+  /**
+   * Whether elements of a collection/array of size <code>numElements</code> which is being written
+   * by <code>fury</code> should be written by {@link #writeElements}.
+   */
+  public boolean shouldWriteParallel(Fury fury, int numElements) {
+    return numElements >= minParallelElements
+        && fury.getDepth() == 1
+        && !fury.trackingRef()
+        && !fury.getConfig().shareMetaContext();
+  }
+
+  /**
+   * Write <code>numElements</code> elements of <code>elemClass</code> in segments. If <code>
+   * nullable</code> is true, a null flag will be written before every element.
+   */
+  public void writeElements(
+      Fury fury,
+      MemoryBuffer buffer,
+      Class<?> elemClass,
+      Object[] elements,
+      int numElements,
+      boolean nullable) {
+    int numSegments = Math.min(pool.getParallelism() * 2, numElements);
+    int segmentSize = (numElements + numSegments - 1) / numSegments;
+    numSegments = (numElements + segmentSize - 1) / segmentSize;
+    ClassLoader classLoader = fury.getClassLoader();
+    List<Callable<byte[]>> tasks = new ArrayList<>(numSegments);
+    for (int i = 0; i < numSegments; i++) {
+      int start = i * segmentSize;
+      int end = Math.min(start + segmentSize, numElements);
+      tasks.add(() -> writeSegment(classLoader, elemClass, elements, start, end, nullable));
+    }
+    List<byte[]> segments = getResults(pool.invokeAll(tasks));
+    buffer.writePositiveVarInt(numSegments);
+    int totalSize = 0;
+    for (int i = 0; i < numSegments; i++) {
+      int start = i * segmentSize;
+      int size = segments.get(i).length;
+      buffer.writePositiveVarInt(Math.min(start + segmentSize, numElements) - start);
+      buffer.writePositiveVarInt(size);
+      totalSize += size;
+    }
+    int writerIndex = buffer.writerIndex();
+    buffer.ensure(writerIndex + totalSize);
+    for (byte[] segment : segments) {
+      buffer.put(writerIndex, segment, 0, segment.length);
+      writerIndex += segment.length;
+    }
+    buffer.writerIndex(writerIndex);
+  }
+
+  private byte[] writeSegment(
+      ClassLoader classLoader,
+      Class<?> elemClass,
+      Object[] elements,
+      int start,
+      int end,
+      boolean nullable) {
+    Worker worker = getWorker(classLoader);
+    Fury fury = worker.fury;
+    JITContext jitContext = fury.getJITContext();
+    int bufferSizeLimitBytes = fury.getConfig().getBufferSizeLimitBytes();
+    MemoryBuffer buffer = worker.buffer;
+    if (buffer == null) {
+      // Estimate 16 bytes per element, use long to avoid overflow for large segments.
+      long estimatedSize = (long) (end - start) * 16;
+      buffer = MemoryUtils.buffer((int) Math.min(estimatedSize, bufferSizeLimitBytes));
+      worker.buffer = buffer;
+    }
+    buffer.writerIndex(0);
+    try {
+      jitContext.lock();
+      // Elements are not root objects, nested collections shouldn't be written in parallel.
+      fury.incDepth(1);
+      Serializer serializer = fury.getClassResolver().getSerializer(elemClass);
+      for (int i = start; i < end; i++) {
+        Object elem = elements[i];
+        if (nullable) {
+          if (elem == null) {
+            buffer.writeByte(Fury.NULL_FLAG);
+            continue;
+          }
+          buffer.writeByte(Fury.NOT_NULL_VALUE_FLAG);
+        }
+        serializer.write(buffer, elem);
+      }
+      // Worker buffer is reused by next segment on this thread, copy data out before that.
+      return buffer.getBytes(0, buffer.writerIndex());
+    } finally {
+      fury.resetWrite();
+      jitContext.unlock();
+      // Don't retain memory of a big segment forever, same as Fury#shrinkBuffer.
+      if (buffer.size() > bufferSizeLimitBytes) {
+        buffer.pointTo(new byte[bufferSizeLimitBytes], 0, bufferSizeLimitBytes);
+      }
+    }
+  }
+
+  /**
+   * Read elements written by {@link #writeElements} into <code>elements</code>, which should have
+   * enough capacity.
+   */
+  public void readElements(
+      Fury fury, MemoryBuffer buffer, Class<?> elemClass, Object[] elements, boolean nullable) {
+    int numSegments = buffer.readPositiveVarInt();
+    int[] numSegmentElements = new int[numSegments];
+    int[] segmentSizes = new int[numSegments];
+    int totalSize = 0;
+    for (int i = 0; i < numSegments; i++) {
+      numSegmentElements[i] = buffer.readPositiveVarInt();
+      segmentSizes[i] = buffer.readPositiveVarInt();
+      totalSize += segmentSizes[i];
+    }
+    // Pull all segments into memory if the buffer is backed by a stream.
+    buffer.checkReadableBytes(totalSize);
+    ClassLoader classLoader = fury.getClassLoader();
+    List<Callable<Object>> tasks = new ArrayList<>(numSegments);
+    int offset = buffer.readerIndex();
+    int start = 0;
+    for (int i = 0; i < numSegments; i++) {
+      MemoryBuffer segment = buffer.slice(offset, segmentSizes[i]);
+      int segmentStart = start;
+      int end = start + numSegmentElements[i];
+      tasks.add(
+          () ->
+              readSegment(classLoader, segment, elemClass, elements, segmentStart, end, nullable));
+      offset += segmentSizes[i];
+      start = end;
+    }
+    getResults(pool.invokeAll(tasks));
+    buffer.readerIndex(offset);
+  }
+
+  private Object readSegment(
+      ClassLoader classLoader,
+      MemoryBuffer buffer,
+      Class<?> elemClass,
+      Object[] elements,
+      int start,
+      int end,
+      boolean nullable) {
+    Fury fury = getWorker(classLoader).fury;
+    JITContext jitContext = fury.getJITContext();
+    try {
+      jitContext.lock();
+      fury.incDepth(1);
+      Serializer serializer = fury.getClassResolver().getSerializer(elemClass);
+      for (int i = start; i < end; i++) {
+        if (nullable && buffer.readByte() == Fury.NULL_FLAG) {
+          elements[i] = null;
+        } else {
+          elements[i] = serializer.read(buffer);
+        }
+      }
+      return null;
+    } finally {
+      fury.resetRead();
+      jitContext.unlock();
+    }
+  }
+
+  private Worker getWorker(ClassLoader classLoader) {
+    Worker worker = workers.get();
+    if (worker == null || worker.fury.getClassLoader() != classLoader) {
+      worker = new Worker(furyFactory.apply(classLoader));
+      workers.set(worker);
+    }
+    return worker;
+  }
+
+  private static <T> List<T> getResults(List<Future<T>> futures) {
+    List<T> results = new ArrayList<>(futures.size());
+    for (Future<T> future : futures) {
+      try {
+        results.add(future.get());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new FuryException(e);
+      } catch (ExecutionException e) {
+        Platform.throwException(e.getCause());
+      }
+    }
+    return results;
+  }
+
+  /** Returns the {@link ParallelSerialization} of <code>fury</code> for reading parallel data. */
+  static ParallelSerialization getForRead(Fury fury) {
+    ParallelSerialization parallelSerialization = fury.getParallelSerialization();
+    if (parallelSerialization == null) {
+      throw new FuryException(
+          "Data is serialized in parallel, set a ParallelSerialization by "
+              + "Fury#setParallelSerialization to deserialize it.");
+    }
+    return parallelSerialization;
+  }
+}
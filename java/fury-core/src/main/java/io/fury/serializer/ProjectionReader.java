@@ -0,0 +1,124 @@
+/*
+ * Copyright 2023 The Fury Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fury.serializer;
+
+import io.fury.Fury;
+import io.fury.Projection;
+import io.fury.annotation.Internal;
+import io.fury.builder.Generated;
+import io.fury.config.CompatibleMode;
+import io.fury.memory.MemoryBuffer;
+import io.fury.resolver.FieldResolver;
+import io.fury.util.ReflectionUtils;
+import io.fury.util.record.RecordUtils;
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Field;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Reader which deserializes only projected fields of an object.
+ *
+ * <ul>
+ *   <li>For data written by {@link ObjectSerializer} or generated object serializers, unwanted
+ *       fields are skipped by {@link ObjectSerializer#readProjected}.
+ *   <li>For data written by {@link CompatibleSerializer} or generated compatible serializers, a
+ *       {@link CompatibleSerializer} with projected fields only is used, and unwanted fields are
+ *       skipped as removed fields.
+ *   <li>For other serializers such as custom serializers, the object can't be projected, see {@link
+ *       #isProjectable()}.
+ * </ul>
+ *
+ * @author chaokunyang
+ */
+@Internal
+@SuppressWarnings("unchecked")
+public final class ProjectionReader<T> {
+  private final Fury fury;
+  private final Class<T> type;
+  private final ObjectSerializer<T> objectSerializer;
+  private final boolean[] projectedFields;
+  private final CompatibleSerializer<T> compatibleSerializer;
+  private final MethodHandle constructor;
+
+  public ProjectionReader(Fury fury, Projection<T> projection, Serializer<?> serializer) {
+    this.fury = fury;
+    Class<T> type = projection.getType();
+    this.type = type;
+    Set<String> fieldNames = projection.getFieldNames();
+    Set<String> allFieldNames =
+        fury.getClassResolver().getAllDescriptorsMap(type, true).keySet().stream()
+            .map(Field::getName)
+            .collect(Collectors.toSet());
+    for (String fieldName : fieldNames) {
+      if (!allFieldNames.contains(fieldName)) {
+        throw new IllegalArgumentException(
+            String.format("Class %s doesn't have field %s", type, fieldName));
+      }
+    }
+    boolean isRecord = RecordUtils.isRecord(type);
+    if (!isRecord
+        && (serializer instanceof ObjectSerializer
+            || serializer instanceof Generated.GeneratedObjectSerializer)) {
+      // Generated object serializers have same data layout as `ObjectSerializer`.
+      objectSerializer =
+          serializer instanceof ObjectSerializer
+              ? (ObjectSerializer<T>) serializer
+              : new ObjectSerializer<>(fury, type);
+      projectedFields = objectSerializer.getProjectedFields(fieldNames);
+      compatibleSerializer = null;
+      constructor = null;
+    } else if (!isRecord && isCompatibleLayout(fury, serializer)) {
+      objectSerializer = null;
+      projectedFields = null;
+      compatibleSerializer =
+          new CompatibleSerializer<>(fury, type, FieldResolver.of(fury, type, fieldNames));
+      constructor = ReflectionUtils.getExecutableNoArgConstructorHandle(type);
+    } else {
+      objectSerializer = null;
+      projectedFields = null;
+      compatibleSerializer = null;
+      constructor = null;
+    }
+  }
+
+  private static boolean isCompatibleLayout(Fury fury, Serializer<?> serializer) {
+    return serializer instanceof CompatibleSerializer
+        || serializer instanceof Generated.GeneratedCompatibleSerializer
+        // compatible codecs generated for classes extend `GeneratedSerializer` directly.
+        || (fury.getConfig().getCompatibleMode() == CompatibleMode.COMPATIBLE
+            && serializer.getClass().getSuperclass() == Generated.GeneratedSerializer.class);
+  }
+
+  /**
+   * Returns false if data layout of the serializer is unknown, the whole object should be read by
+   * the serializer.
+   */
+  public boolean isProjectable() {
+    return objectSerializer != null || compatibleSerializer != null;
+  }
+
+  public T read(MemoryBuffer buffer) {
+    if (objectSerializer != null) {
+      return objectSerializer.readProjected(buffer, projectedFields);
+    } else {
+      T obj = ObjectSerializer.newBean(constructor, type);
+      fury.getRefResolver().reference(obj);
+      return compatibleSerializer.readAndSetFields(buffer, obj);
+    }
+  }
+}
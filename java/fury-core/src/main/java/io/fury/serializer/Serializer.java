@@ -16,10 +16,23 @@
 
 package io.fury.serializer;
 
+import com.google.common.collect.ImmutableSet;
 import com.google.common.primitives.Primitives;
 import io.fury.Fury;
 import io.fury.config.Language;
 import io.fury.memory.MemoryBuffer;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.net.URL;
+import java.nio.charset.Charset;
+import java.util.Currency;
+import java.util.Locale;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.regex.Pattern;
 import javax.annotation.concurrent.NotThreadSafe;
 
 /**
@@ -32,10 +45,27 @@ import javax.annotation.concurrent.NotThreadSafe;
  */
 @NotThreadSafe
 public abstract class Serializer<T> {
+  private static final ImmutableSet<Class<?>> IMMUTABLE_TYPES =
+      ImmutableSet.of(
+          String.class,
+          Class.class,
+          BigInteger.class,
+          BigDecimal.class,
+          UUID.class,
+          Locale.class,
+          URL.class,
+          URI.class,
+          Pattern.class,
+          Currency.class,
+          OptionalInt.class,
+          OptionalLong.class,
+          OptionalDouble.class);
+
   protected final Fury fury;
   protected final Class<T> type;
   protected final boolean isJava;
   protected final boolean needToWriteRef;
+  protected final boolean immutable;
 
   public void write(MemoryBuffer buffer, T value) {
     throw new UnsupportedOperationException();
@@ -45,6 +75,31 @@ public abstract class Serializer<T> {
     throw new UnsupportedOperationException();
   }
 
+  /**
+   * Read data into <code>target</code> and return it instead of allocating a new object. The
+   * returned object may be a new object if this serializer can't reuse <code>target</code>, the
+   * default implementation always returns {@link #read}.
+   *
+   * @param target an object whose class is the same as {@link #getType()}.
+   */
+  public T readInto(MemoryBuffer buffer, T target) {
+    return read(buffer);
+  }
+
+  /**
+   * Deep copy <code>value</code>. Nested objects should be copied by {@link Fury#copyObject}, and
+   * the new object should be registered by {@link Fury#reference} before copying nested objects if
+   * they may reference it. The default implementation returns <code>value</code> for {@link
+   * #isImmutable() immutable} types, and copies other types by serializing <code>value</code> into
+   * a buffer and reading it back.
+   */
+  public T copy(T value) {
+    if (immutable) {
+      return value;
+    }
+    return fury.copyBySerialization(this, value);
+  }
+
   /**
    * Returns {@link Fury#NOT_SUPPORT_CROSS_LANGUAGE} if the serializer doesn't support
    * cross-language serialization. Return a number in range (0, 32767) if the serializer support
@@ -80,6 +135,7 @@ public abstract class Serializer<T> {
     } else {
       needToWriteRef = false;
     }
+    this.immutable = isImmutable(type);
   }
 
   public Serializer(Fury fury, Class<T> type, boolean needToWriteRef) {
@@ -87,6 +143,7 @@ public abstract class Serializer<T> {
     this.type = type;
     this.isJava = fury.getLanguage() == Language.JAVA;
     this.needToWriteRef = needToWriteRef;
+    this.immutable = isImmutable(type);
   }
 
   public final boolean needToWriteRef() {
@@ -96,4 +153,24 @@ public abstract class Serializer<T> {
   public Class<T> getType() {
     return type;
   }
+
+  /** Returns true if objects of this type can be shared instead of copied by {@link #copy}. */
+  public final boolean isImmutable() {
+    return immutable;
+  }
+
+  private static boolean isImmutable(Class<?> type) {
+    if (type == null) {
+      return false;
+    }
+    if (type.isPrimitive() || Primitives.isWrapperType(type) || Enum.class.isAssignableFrom(type)) {
+      return true;
+    }
+    if (IMMUTABLE_TYPES.contains(type) || Charset.class.isAssignableFrom(type)) {
+      return true;
+    }
+    // `java.time` values are immutable, including `ZoneRegion` which is not public.
+    Package pkg = type.getPackage();
+    return pkg != null && pkg.getName().equals("java.time");
+  }
 }
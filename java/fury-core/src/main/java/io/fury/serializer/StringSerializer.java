@@ -26,6 +26,8 @@ import io.fury.codegen.Expression.Invoke;
 import io.fury.codegen.Expression.StaticInvoke;
 import io.fury.memory.MemoryBuffer;
 import io.fury.memory.MemoryUtils;
+import io.fury.resolver.MetaContext;
+import io.fury.resolver.StringTable;
 import io.fury.type.Type;
 import io.fury.util.MathUtils;
 import io.fury.util.Platform;
@@ -92,12 +94,18 @@ public final class StringSerializer extends Serializer<String> {
   }
 
   private final boolean compressString;
+  // Null if string deduplication is disabled.
+  private final StringTable stringTable;
+  private final boolean shareStringTable;
   private byte[] byteArray = new byte[DEFAULT_BUFFER_SIZE];
   private int smoothByteArrayLength = DEFAULT_BUFFER_SIZE;
 
   public StringSerializer(Fury fury) {
     super(fury, String.class, fury.trackingRef() && !fury.isStringRefIgnored());
     compressString = fury.compressString();
+    // Table is shared by all string serializers of current fury.
+    stringTable = fury.getStringTable();
+    shareStringTable = stringTable != null && fury.getConfig().shareMetaContext();
   }
 
   @Override
@@ -135,6 +143,9 @@ public final class StringSerializer extends Serializer<String> {
 
   public Expression writeStringExpr(Expression strSerializer, Expression buffer, Expression str) {
     if (isJava) {
+      if (stringTable != null) {
+        return new Invoke(strSerializer, "writeJavaString", buffer, str);
+      }
       if (STRING_VALUE_FIELD_IS_BYTES) {
         return new StaticInvoke(StringSerializer.class, "writeJDK11String", buffer, str);
       } else {
@@ -179,6 +190,9 @@ public final class StringSerializer extends Serializer<String> {
 
   public Expression readStringExpr(Expression strSerializer, Expression buffer) {
     if (isJava) {
+      if (stringTable != null) {
+        return new Invoke(strSerializer, "readJavaString", STRING_TYPE, buffer);
+      }
       if (STRING_VALUE_FIELD_IS_BYTES) {
         // Expression coder = inlineInvoke(buffer, "readByte", BYTE_TYPE);
         // Expression value = inlineInvoke(buffer, "readBytesWithSizeEmbedded", BINARY_TYPE);
@@ -206,7 +220,8 @@ public final class StringSerializer extends Serializer<String> {
   // Invoked by jit.
   public String readJava11String(MemoryBuffer buffer) {
     byte[] heapMemory = buffer.getHeapMemory();
-    if (heapMemory != null) {
+    // Inlined reads skip bounds check, which can't pull data from a buffer source.
+    if (heapMemory != null && buffer.getSource() == null) {
       final int targetIndex = buffer.unsafeHeapReaderIndex();
       int arrIndex = targetIndex;
       byte coder = heapMemory[arrIndex++];
@@ -280,6 +295,14 @@ public final class StringSerializer extends Serializer<String> {
 
   // Invoked by fury JIT
   public void writeJavaString(MemoryBuffer buffer, String value) {
+    if (stringTable != null) {
+      writeDeduplicatedString(buffer, value);
+    } else {
+      writeJavaStringValue(buffer, value);
+    }
+  }
+
+  private void writeJavaStringValue(MemoryBuffer buffer, String value) {
     if (STRING_VALUE_FIELD_IS_BYTES) {
       writeJDK11String(buffer, value);
     } else {
@@ -302,13 +325,25 @@ public final class StringSerializer extends Serializer<String> {
 
   public static boolean isAscii(char[] chars) {
     int numChars = chars.length;
-    int vectorizedLen = numChars >> 2;
-    int vectorizedChars = vectorizedLen << 2;
-    int endOffset = Platform.CHAR_ARRAY_OFFSET + (vectorizedChars << 1);
+    // check 16 chars per iteration with a single branch, and 4 chars per iteration for remaining
+    // chars. See benchmark in CompressStringSuite.asciiSuperWordCheck.
+    int unrolledChars = numChars & ~15;
+    int vectorizedChars = numChars & ~3;
+    long offset = Platform.CHAR_ARRAY_OFFSET;
+    long unrolledEnd = offset + ((long) unrolledChars << 1);
+    long endOffset = offset + ((long) vectorizedChars << 1);
     boolean isAscii = true;
-    for (int offset = Platform.CHAR_ARRAY_OFFSET; offset < endOffset; offset += 8) {
-      // check 4 chars in a vectorized way, 4 times faster than scalar check loop.
-      // See benchmark in CompressStringSuite.asciiSuperWordCheck.
+    for (; offset < unrolledEnd; offset += 32) {
+      long multiChars =
+          Platform.getLong(chars, offset)
+              | Platform.getLong(chars, offset + 8)
+              | Platform.getLong(chars, offset + 16)
+              | Platform.getLong(chars, offset + 24);
+      if ((multiChars & MULTI_CHARS_NON_ASCII_MASK) != 0) {
+        return false;
+      }
+    }
+    for (; offset < endOffset; offset += 8) {
       long multiChars = Platform.getLong(chars, offset);
       if ((multiChars & MULTI_CHARS_NON_ASCII_MASK) != 0) {
         isAscii = false;
@@ -328,6 +363,14 @@ public final class StringSerializer extends Serializer<String> {
 
   // Invoked by fury JIT
   public String readJavaString(MemoryBuffer buffer) {
+    if (stringTable != null) {
+      return readDeduplicatedString(buffer);
+    } else {
+      return readJavaStringValue(buffer);
+    }
+  }
+
+  private String readJavaStringValue(MemoryBuffer buffer) {
     if (STRING_VALUE_FIELD_IS_BYTES) {
       return readJava11String(buffer);
     } else {
@@ -352,6 +395,65 @@ public final class StringSerializer extends Serializer<String> {
     }
   }
 
+  /** Skip a string written by {@link #writeJavaString} without decoding it. */
+  public void skipJavaString(MemoryBuffer buffer) {
+    // Deduplicated strings must be read to fill string table, and utf16 strings on big-endian
+    // platforms don't record size in bytes.
+    if (stringTable != null || !Platform.IS_LITTLE_ENDIAN) {
+      readJavaString(buffer);
+      return;
+    }
+    if (STRING_VALUE_FIELD_IS_BYTES || compressString) {
+      // skip coder
+      buffer.increaseReaderIndex(1);
+    }
+    buffer.increaseReaderIndex(buffer.readPositiveVarInt());
+  }
+
+  /**
+   * Write a varint header before string: <code>id << 1 | 1</code> if an equal string has been
+   * written, string value will be skipped; or 0 followed by string value, and the string will be
+   * added to the string table if it's not full.
+   */
+  private void writeDeduplicatedString(MemoryBuffer buffer, String value) {
+    StringTable stringTable = getStringTable();
+    int id = stringTable.getWriteId(value);
+    if (id >= 0) {
+      buffer.writePositiveVarInt((id << 1) | 1);
+    } else {
+      buffer.writeByte(0);
+      writeJavaStringValue(buffer, value);
+      stringTable.addWriteString(value);
+    }
+  }
+
+  private String readDeduplicatedString(MemoryBuffer buffer) {
+    StringTable stringTable = getStringTable();
+    int header = buffer.readPositiveVarInt();
+    if ((header & 0b1) != 0) {
+      return stringTable.getReadString(header >>> 1);
+    } else {
+      String str = readJavaStringValue(buffer);
+      stringTable.addReadString(str);
+      return str;
+    }
+  }
+
+  private StringTable getStringTable() {
+    if (shareStringTable) {
+      MetaContext metaContext = fury.getSerializationContext().getMetaContext();
+      if (metaContext != null) {
+        StringTable stringTable = metaContext.stringTable;
+        if (stringTable == null) {
+          stringTable = new StringTable(fury.getConfig().getStringTableSize());
+          metaContext.stringTable = stringTable;
+        }
+        return stringTable;
+      }
+    }
+    return stringTable;
+  }
+
   public static void writeJDK11String(MemoryBuffer buffer, String value) {
     byte[] bytes = (byte[]) Platform.getObject(value, STRING_VALUE_FIELD_OFFSET);
     byte coder = Platform.getByte(value, STRING_CODER_FIELD_OFFSET);
@@ -394,18 +496,14 @@ public final class StringSerializer extends Serializer<String> {
       targetArray[arrIndex++] = LATIN1;
       arrIndex += MemoryUtils.writePositiveVarInt(targetArray, arrIndex, strLen);
       writerIndex += arrIndex - targetIndex + strLen;
-      for (int i = 0; i < strLen; i++) {
-        targetArray[arrIndex + i] = (byte) chars[i];
-      }
+      compressLatin1(chars, targetArray, arrIndex, strLen);
       buffer.unsafeWriterIndex(writerIndex);
     } else {
       buffer.unsafePut(writerIndex++, LATIN1);
       writerIndex += buffer.unsafePutPositiveVarInt(writerIndex, strLen);
       final byte[] tmpArray = getByteArray(strLen);
       // Write to heap memory then copy is 60% faster than unsafe write to direct memory.
-      for (int i = 0; i < strLen; i++) {
-        tmpArray[i] = (byte) chars[i];
-      }
+      compressLatin1(chars, tmpArray, 0, strLen);
       buffer.put(writerIndex, tmpArray, 0, strLen);
       writerIndex += strLen;
       buffer.unsafeWriterIndex(writerIndex);
@@ -457,23 +555,76 @@ public final class StringSerializer extends Serializer<String> {
   private char[] readAsciiChars(MemoryBuffer buffer) {
     final int numBytes = buffer.readPositiveVarInt();
     char[] chars = new char[numBytes];
+    buffer.checkReadableBytes(numBytes);
     byte[] targetArray = buffer.getHeapMemory();
     if (targetArray != null) {
-      int srcIndex = buffer.unsafeHeapReaderIndex();
-      for (int i = 0; i < numBytes; i++) {
-        chars[i] = (char) (targetArray[srcIndex++] & 0xff);
-      }
+      inflateLatin1(targetArray, buffer.unsafeHeapReaderIndex(), chars, numBytes);
       buffer.increaseReaderIndexUnsafe(numBytes);
     } else {
       byte[] byteArray = getByteArray(numBytes);
       buffer.readBytes(byteArray, 0, numBytes);
-      for (int i = 0; i < numBytes; i++) {
-        chars[i] = (char) (byteArray[i] & 0xff);
-      }
+      inflateLatin1(byteArray, 0, chars, numBytes);
     }
     return chars;
   }
 
+  /**
+   * Narrow first <code>numChars</code> latin1 <code>chars</code> into <code>target</code> from
+   * <code>targetIndex</code>. 8 chars are narrowed per iteration on little-endian platforms by
+   * packing the low bytes of two 4-char words into one 8-byte word.
+   */
+  public static void compressLatin1(char[] chars, byte[] target, int targetIndex, int numChars) {
+    int i = 0;
+    if (Platform.IS_LITTLE_ENDIAN) {
+      long srcOffset = Platform.CHAR_ARRAY_OFFSET;
+      long targetOffset = Platform.BYTE_ARRAY_OFFSET + targetIndex;
+      for (int vectorizedChars = numChars & ~7; i < vectorizedChars; i += 8) {
+        long lo = narrowLatin1Word(Platform.getLong(chars, srcOffset + ((long) i << 1)));
+        long hi = narrowLatin1Word(Platform.getLong(chars, srcOffset + ((long) i << 1) + 8));
+        Platform.putLong(target, targetOffset + i, lo | (hi << 32));
+      }
+    }
+    for (; i < numChars; i++) {
+      target[targetIndex + i] = (byte) chars[i];
+    }
+  }
+
+  // Gather low bytes of 4 little-endian chars into the low 4 bytes.
+  private static long narrowLatin1Word(long word) {
+    return (word & 0xFFL)
+        | ((word >>> 8) & 0xFF00L)
+        | ((word >>> 16) & 0xFF0000L)
+        | ((word >>> 24) & 0xFF000000L);
+  }
+
+  /**
+   * Inflate <code>numBytes</code> latin1 bytes of <code>src</code> from <code>srcIndex</code> into
+   * <code>chars</code>. 8 bytes are inflated per iteration on little-endian platforms by spreading
+   * every 4 bytes to a 4-char word.
+   */
+  public static void inflateLatin1(byte[] src, int srcIndex, char[] chars, int numBytes) {
+    int i = 0;
+    if (Platform.IS_LITTLE_ENDIAN) {
+      long srcOffset = Platform.BYTE_ARRAY_OFFSET + srcIndex;
+      long targetOffset = Platform.CHAR_ARRAY_OFFSET;
+      for (int vectorizedBytes = numBytes & ~7; i < vectorizedBytes; i += 8) {
+        long word = Platform.getLong(src, srcOffset + i);
+        long charsOffset = targetOffset + ((long) i << 1);
+        Platform.putLong(chars, charsOffset, inflateLatin1Word(word & 0xFFFFFFFFL));
+        Platform.putLong(chars, charsOffset + 8, inflateLatin1Word(word >>> 32));
+      }
+    }
+    for (; i < numBytes; i++) {
+      chars[i] = (char) (src[srcIndex + i] & 0xff);
+    }
+  }
+
+  // Spread low 4 bytes to 4 little-endian chars.
+  private static long inflateLatin1Word(long word) {
+    word = (word | (word << 16)) & 0x0000FFFF0000FFFFL;
+    return (word | (word << 8)) & 0x00FF00FF00FF00FFL;
+  }
+
   private char[] readUTF16Chars(MemoryBuffer buffer, byte coder) {
     if (coder != UTF16) {
       throw new UnsupportedOperationException(String.format("Unsupported coder %s", coder));
@@ -485,9 +636,9 @@ public final class StringSerializer extends Serializer<String> {
       // FIXME JDK11 utf16 string uses little-endian order.
       buffer.readChars(chars, Platform.CHAR_ARRAY_OFFSET, numBytes);
     } else {
+      buffer.checkReadableBytes(numBytes);
       final byte[] targetArray = buffer.getHeapMemory();
       if (targetArray != null) {
-        buffer.checkReadableBytes(numBytes);
         int charIndex = 0;
         for (int i = buffer.unsafeHeapReaderIndex(), end = i + numBytes; i < end; i += 2) {
           char c =
@@ -691,6 +842,7 @@ public final class StringSerializer extends Serializer<String> {
 
   public String readUTF8String(MemoryBuffer buffer) {
     int numBytes = buffer.readPositiveVarInt();
+    buffer.checkReadableBytes(numBytes);
     final byte[] targetArray = buffer.getHeapMemory();
     if (targetArray != null) {
       String str =
@@ -39,6 +39,7 @@ import java.util.Comparator;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 import org.slf4j.Logger;
 
 /**
@@ -76,8 +77,7 @@ public class StructSerializer<T> extends Serializer<T> {
     }
     this.constructor = ctr;
     fieldAccessors =
-        Descriptor.getFields(cls).stream()
-            .sorted(Comparator.comparing(Field::getName))
+        getSortedFields(cls).stream()
             .map(FieldAccessor::createAccessor)
             .toArray(FieldAccessor[]::new);
     fieldGenerics = buildFieldGenerics(TypeToken.of(cls), fieldAccessors);
@@ -85,6 +85,13 @@ public class StructSerializer<T> extends Serializer<T> {
     genericTypesCache.put(null, fieldGenerics);
   }
 
+  /** Returns fields of struct <code>cls</code> in serialization order. */
+  public static List<Field> getSortedFields(Class<?> cls) {
+    return Descriptor.getFields(cls).stream()
+        .sorted(Comparator.comparing(Field::getName))
+        .collect(Collectors.toList());
+  }
+
   private static <T> GenericType[] buildFieldGenerics(
       TypeToken<T> type, FieldAccessor[] fieldAccessors) {
     return Arrays.stream(fieldAccessors)
@@ -92,6 +99,13 @@ public class StructSerializer<T> extends Serializer<T> {
         .toArray(GenericType[]::new);
   }
 
+  /** Build generic types for fields returned by {@link #getSortedFields}. */
+  public static GenericType[] buildFieldGenerics(TypeToken<?> type, List<Field> fields) {
+    return fields.stream()
+        .map(field -> GenericType.build(type, field.getGenericType()))
+        .toArray(GenericType[]::new);
+  }
+
   @Override
   public void write(MemoryBuffer buffer, T value) {
     xwrite(buffer, value);
@@ -118,7 +132,7 @@ public class StructSerializer<T> extends Serializer<T> {
     //  Maybe need to serialize fields name too.
     int typeHash = this.typeHash;
     if (typeHash == 0) {
-      typeHash = computeStructHash();
+      typeHash = computeStructHash(fury, fieldGenerics);
       this.typeHash = typeHash;
     }
     buffer.writeInt(typeHash);
@@ -163,7 +177,7 @@ public class StructSerializer<T> extends Serializer<T> {
   public T xread(MemoryBuffer buffer) {
     int typeHash = this.typeHash;
     if (typeHash == 0) {
-      typeHash = computeStructHash();
+      typeHash = computeStructHash(fury, fieldGenerics);
       this.typeHash = typeHash;
     }
     int newHash = buffer.readInt();
@@ -188,7 +202,7 @@ public class StructSerializer<T> extends Serializer<T> {
       Object fieldValue = fury.xreadRefByNullableSerializer(buffer, serializer);
       fieldAccessor.set(obj, fieldValue);
       if (hasGenerics) {
-        generics.pushGenericType(fieldGeneric);
+        generics.popGenericType();
       }
     }
     return obj;
@@ -205,16 +219,21 @@ public class StructSerializer<T> extends Serializer<T> {
     return Platform.newInstance(type);
   }
 
-  int computeStructHash() {
+  /**
+   * Compute struct hash which will be checked by peer to ensure struct schema consistency.
+   *
+   * @param fieldGenerics generic types of struct fields in serialization order.
+   */
+  public static int computeStructHash(Fury fury, GenericType[] fieldGenerics) {
     int hash = 17;
     for (GenericType fieldGeneric : fieldGenerics) {
-      hash = computeFieldHash(hash, fieldGeneric);
+      hash = computeFieldHash(fury, hash, fieldGeneric);
     }
     Preconditions.checkState(hash != 0);
     return hash;
   }
 
-  int computeFieldHash(int hash, GenericType fieldGeneric) {
+  private static int computeFieldHash(Fury fury, int hash, GenericType fieldGeneric) {
     int id;
     if (fieldGeneric.getTypeToken().isSubtypeOf(List.class)) {
       // TODO(chaokunyang) add list element type into schema hash
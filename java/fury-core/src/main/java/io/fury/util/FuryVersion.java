@@ -0,0 +1,53 @@
+/*
+ * Copyright 2023 The Fury Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fury.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Properties;
+import org.slf4j.Logger;
+
+/**
+ * Version of the fury library on the classpath, used to reject code generated ahead of time by an
+ * incompatible fury.
+ *
+ * @author chaokunyang
+ */
+public class FuryVersion {
+  private static final Logger LOG = LoggerFactory.getLogger(FuryVersion.class);
+  private static final String VERSION_PROPERTIES_PATH = "fury/version.properties";
+
+  public static final String VERSION = loadVersion();
+
+  private static String loadVersion() {
+    try (InputStream is =
+        FuryVersion.class.getClassLoader().getResourceAsStream(VERSION_PROPERTIES_PATH)) {
+      if (is != null) {
+        Properties properties = new Properties();
+        properties.load(is);
+        String version = properties.getProperty("version");
+        if (StringUtils.isNotBlank(version) && !version.startsWith("${")) {
+          return version;
+        }
+      }
+    } catch (IOException e) {
+      LOG.warn("Read fury version from {} failed", VERSION_PROPERTIES_PATH, e);
+    }
+    String version = FuryVersion.class.getPackage().getImplementationVersion();
+    return version != null ? version : "unknown";
+  }
+}
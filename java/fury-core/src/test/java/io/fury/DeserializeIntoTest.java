@@ -0,0 +1,177 @@
+/*
+ * Copyright 2023 The Fury Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fury;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import com.google.common.collect.ImmutableMap;
+import io.fury.builder.Generated;
+import io.fury.memory.MemoryBuffer;
+import io.fury.memory.MemoryUtils;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.Data;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+public class DeserializeIntoTest extends FuryTestBase {
+
+  @Data
+  public static class Inner {
+    public String name;
+    public int value;
+  }
+
+  @Data
+  public static class Quote {
+    public int id;
+    public long ts;
+    public double price;
+    public boolean flag;
+    public Integer boxedInt;
+    public String symbol;
+    public Inner inner;
+    public List<String> tags;
+    public Set<Integer> ids;
+    public Map<String, Integer> counts;
+    public List<Inner> inners;
+  }
+
+  private static Quote createQuote(int i) {
+    Quote quote = new Quote();
+    quote.id = i;
+    quote.ts = 1L << 40 | i;
+    quote.price = i * 1.5;
+    quote.flag = i % 2 == 0;
+    quote.boxedInt = i % 2 == 0 ? null : i;
+    quote.symbol = "symbol" + i;
+    quote.inner = new Inner();
+    quote.inner.name = "inner" + i;
+    quote.inner.value = i;
+    quote.tags = new ArrayList<>(Arrays.asList("a" + i, "b"));
+    quote.ids = new HashSet<>(Arrays.asList(i, i + 1, i + 2));
+    quote.counts = new HashMap<>(ImmutableMap.of("k" + i, i));
+    quote.inners = new ArrayList<>(Arrays.asList(quote.inner, new Inner()));
+    return quote;
+  }
+
+  @DataProvider
+  public static Object[][] furyConfig() {
+    return new Object[][] {{false, false}, {false, true}, {true, false}, {true, true}};
+  }
+
+  private static Fury createFury(boolean codegen, boolean refTracking) {
+    return Fury.builder()
+        .withCodegen(codegen)
+        .withRefTracking(refTracking)
+        .requireClassRegistration(false)
+        .build();
+  }
+
+  @Test(dataProvider = "furyConfig")
+  public void testDeserializeInto(boolean codegen, boolean refTracking) throws Exception {
+    Fury fury = createFury(codegen, refTracking);
+    Quote target = createQuote(100);
+    List<String> tags = target.tags;
+    Set<Integer> ids = target.ids;
+    Map<String, Integer> counts = target.counts;
+    for (int i = 0; i < 3; i++) {
+      Quote quote = createQuote(i);
+      Quote result = fury.deserializeInto(fury.serialize(quote), target);
+      assertSame(result, target);
+      assertEquals(result, quote);
+      assertSame(result.tags, tags);
+      assertSame(result.ids, ids);
+      assertSame(result.counts, counts);
+    }
+    // null fields in data are set to null.
+    Quote quote = new Quote();
+    quote.id = 7;
+    Quote result = fury.deserializeInto(fury.serialize(quote), target);
+    assertSame(result, target);
+    assertEquals(result, quote);
+    assertNull(result.tags);
+    if (codegen) {
+      Class<?> serializerClass = fury.getClassResolver().getSerializerClass(Quote.class);
+      assertTrue(Generated.class.isAssignableFrom(serializerClass));
+      serializerClass.getDeclaredMethod("readInto", MemoryBuffer.class, Object.class);
+    }
+  }
+
+  @Test(dataProvider = "furyConfig")
+  public void testDeserializeIntoContainerOfOtherType(boolean codegen, boolean refTracking) {
+    Fury fury = createFury(codegen, refTracking);
+    Quote target = createQuote(100);
+    target.tags = new LinkedList<>(target.tags);
+    Quote quote = createQuote(1);
+    Quote result = fury.deserializeInto(fury.serialize(quote), target);
+    assertSame(result, target);
+    assertEquals(result, quote);
+    assertEquals(result.tags.getClass(), ArrayList.class);
+  }
+
+  @Test
+  public void testDeserializeIntoObjectOfOtherType() {
+    Fury fury = createFury(false, false);
+    Quote quote = createQuote(1);
+    Object result = fury.deserializeInto(fury.serialize(quote), new Inner());
+    assertEquals(result, quote);
+    Inner inner = new Inner();
+    assertNull(fury.deserializeInto(fury.serialize(null), inner));
+  }
+
+  @Test
+  public void testDeserializeIntoCollection() {
+    Fury fury = createFury(false, false);
+    List<Object> list = new ArrayList<>(Arrays.asList(1, 2, 3));
+    List<Object> result = fury.deserializeInto(fury.serialize(Arrays.asList("a", "b")), list);
+    assertNotSame(result, list);
+    result = fury.deserializeInto(fury.serialize(new ArrayList<>(Arrays.asList("a", "b"))), list);
+    assertSame(result, list);
+    assertEquals(list, Arrays.asList("a", "b"));
+    Map<Object, Object> map = new HashMap<>(ImmutableMap.of(1, 2));
+    Map<Object, Object> mapResult =
+        fury.deserializeInto(fury.serialize(new HashMap<>(ImmutableMap.of("k", "v"))), map);
+    assertSame(mapResult, map);
+    assertEquals(map, ImmutableMap.of("k", "v"));
+  }
+
+  @Test
+  public void testDeserializeIntoBuffer() {
+    Fury fury = createFury(true, false);
+    MemoryBuffer buffer = MemoryUtils.buffer(32);
+    Quote target = new Quote();
+    for (int i = 0; i < 3; i++) {
+      buffer.writerIndex(0);
+      buffer.readerIndex(0);
+      Quote quote = createQuote(i);
+      fury.serialize(buffer, quote);
+      assertSame(fury.deserializeInto(buffer, target), target);
+      assertEquals(target, quote);
+    }
+  }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2023 The Fury Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fury;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import com.google.common.collect.ImmutableMap;
+import io.fury.builder.Generated;
+import io.fury.config.Language;
+import io.fury.test.bean.BeanA;
+import io.fury.test.bean.Cyclic;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import lombok.Data;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+public class FuryCopyTest extends FuryTestBase {
+
+  @Data
+  public static class Inner {
+    public String name;
+    public int value;
+  }
+
+  @Data
+  public static class Quote {
+    public int id;
+    public double price;
+    public Long boxedLong;
+    public String symbol;
+    public Date date;
+    public Inner inner;
+    public int[] levels;
+    public List<Inner> inners;
+    public Map<String, Inner> innerMap;
+    public LinkedList<String> linkedList;
+  }
+
+  private static Quote createQuote() {
+    Quote quote = new Quote();
+    quote.id = 1;
+    quote.price = 1.5;
+    quote.boxedLong = 1L << 40;
+    quote.symbol = "symbol";
+    quote.date = new Date();
+    quote.inner = new Inner();
+    quote.inner.name = "inner";
+    quote.inner.value = 2;
+    quote.levels = new int[] {1, 2, 3};
+    quote.inners = new ArrayList<>(Arrays.asList(quote.inner, new Inner()));
+    quote.innerMap = new HashMap<>(ImmutableMap.of("k", quote.inner));
+    quote.linkedList = new LinkedList<>(Arrays.asList("a", "b"));
+    return quote;
+  }
+
+  @DataProvider
+  public static Object[][] furyConfig() {
+    return new Object[][] {{false, false}, {false, true}, {true, false}, {true, true}};
+  }
+
+  private static Fury createFury(boolean codegen, boolean refTracking) {
+    return Fury.builder()
+        .withLanguage(Language.JAVA)
+        .withCodegen(codegen)
+        .withRefTracking(refTracking)
+        .requireClassRegistration(false)
+        .build();
+  }
+
+  @Test(dataProvider = "furyConfig")
+  public void testCopy(boolean codegen, boolean refTracking) throws Exception {
+    Fury fury = createFury(codegen, refTracking);
+    Quote quote = createQuote();
+    for (int i = 0; i < 2; i++) {
+      Quote copy = fury.copy(quote);
+      assertEquals(copy, quote);
+      assertNotSame(copy, quote);
+      assertNotSame(copy.inner, quote.inner);
+      assertNotSame(copy.levels, quote.levels);
+      assertNotSame(copy.inners, quote.inners);
+      assertNotSame(copy.innerMap, quote.innerMap);
+      assertNotSame(copy.linkedList, quote.linkedList);
+      assertNotSame(copy.date, quote.date);
+      assertSame(copy.symbol, quote.symbol);
+      assertSame(copy.boxedLong, quote.boxedLong);
+      if (refTracking) {
+        assertSame(copy.inners.get(0), copy.inner);
+        assertSame(copy.innerMap.get("k"), copy.inner);
+      } else {
+        assertNotSame(copy.inners.get(0), copy.inner);
+      }
+    }
+    if (codegen) {
+      Class<?> serializerClass = fury.getClassResolver().getSerializerClass(Quote.class);
+      assertTrue(Generated.class.isAssignableFrom(serializerClass));
+      serializerClass.getDeclaredMethod("copy", Object.class);
+    }
+  }
+
+  @Test(dataProvider = "enableCodegen")
+  public void testCopyCyclic(boolean codegen) {
+    Fury fury = createFury(codegen, true);
+    Cyclic cyclic = Cyclic.create(true);
+    Cyclic copy = fury.copy(cyclic);
+    assertNotSame(copy, cyclic);
+    assertSame(copy.cyclic, copy);
+    assertEquals(copy, cyclic);
+    Object[] array = new Object[2];
+    array[0] = array;
+    array[1] = cyclic;
+    Object[] arrayCopy = fury.copy(array);
+    assertSame(arrayCopy[0], arrayCopy);
+    assertSame(((Cyclic) arrayCopy[1]).cyclic, arrayCopy[1]);
+  }
+
+  @Test
+  public void testCopyImmutable() {
+    Fury fury = createFury(false, true);
+    for (Object o :
+        new Object[] {
+          "abc", 1, 1L << 40, BigDecimal.TEN, LocalDate.now(), Instant.now(), Language.JAVA
+        }) {
+      assertSame(fury.copy(o), o);
+    }
+  }
+
+  @Test(dataProvider = "enableCodegen")
+  public void testCopyBeanA(boolean codegen) {
+    Fury fury = createFury(codegen, false);
+    BeanA beanA = BeanA.createBeanA(3);
+    BeanA copy = fury.copy(beanA);
+    assertEquals(copy, beanA);
+    assertNotSame(copy, beanA);
+    // fallback copy mixed with direct copy in one graph.
+    List<Object> list = new ArrayList<>(Arrays.asList(beanA, new Date(), new StringBuilder("a")));
+    List<Object> listCopy = fury.copy(list);
+    assertEquals(listCopy.get(0), beanA);
+    assertEquals(listCopy.get(1), list.get(1));
+    assertEquals(listCopy.get(2).toString(), "a");
+    assertEquals(fury.copy(list).get(1), list.get(1));
+  }
+
+  @Test
+  public void testThreadSafeCopy() {
+    ThreadSafeFury fury =
+        Fury.builder()
+            .withLanguage(Language.JAVA)
+            .withRefTracking(true)
+            .requireClassRegistration(false)
+            .buildThreadSafeFury();
+    Quote quote = createQuote();
+    Quote copy = fury.copy(quote);
+    assertEquals(copy, quote);
+    assertSame(copy.inners.get(0), copy.inner);
+  }
+}
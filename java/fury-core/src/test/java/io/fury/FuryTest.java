@@ -18,6 +18,7 @@ package io.fury;
 
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertThrows;
 import static org.testng.Assert.assertTrue;
 
@@ -29,6 +30,7 @@ import io.fury.config.FuryBuilder;
 import io.fury.config.Language;
 import io.fury.exception.InsecureException;
 import io.fury.memory.MemoryBuffer;
+import io.fury.memory.MemoryBufferPool;
 import io.fury.memory.MemoryUtils;
 import io.fury.serializer.ArraySerializersTest;
 import io.fury.serializer.ObjectSerializer;
@@ -39,9 +41,12 @@ import io.fury.test.bean.Struct;
 import io.fury.type.Descriptor;
 import io.fury.util.DateTimeUtils;
 import io.fury.util.Platform;
+import io.fury.util.ReflectionUtils;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.Serializable;
 import java.lang.invoke.MethodHandles;
 import java.math.BigDecimal;
@@ -500,6 +505,144 @@ public class FuryTest extends FuryTestBase {
     assertEquals(newObj, beanA);
   }
 
+  @Test
+  public void testSerializeToPooledBuffer() {
+    Fury fury = Fury.builder().requireClassRegistration(false).build();
+    MemoryBufferPool pool = MemoryBufferPool.newHeapPool();
+    BeanA beanA = BeanA.createBeanA(2);
+    MemoryBuffer buffer = fury.serialize(pool, beanA);
+    assertEquals(fury.deserialize(buffer), beanA);
+    pool.release(buffer);
+    MemoryBuffer buffer2 = fury.serialize(pool, beanA);
+    assertEquals(fury.deserialize(buffer2), beanA);
+    pool.release(buffer2);
+    // buffer is acquired by last serialized size, so it won't grow again.
+    MemoryBuffer buffer3 = fury.serialize(pool, beanA);
+    assertSame(buffer3, buffer2);
+    assertEquals(fury.deserialize(buffer3), beanA);
+    pool.release(buffer3);
+    // internal buffer shouldn't be retained after serializing big object.
+    byte[] bytes = fury.serialize(new byte[4 * 1024 * 1024]);
+    assertEquals(fury.deserialize(bytes), new byte[4 * 1024 * 1024]);
+    MemoryBuffer internalBuffer =
+        (MemoryBuffer) ReflectionUtils.getObjectFieldValue(fury, "buffer");
+    assertEquals(internalBuffer.size(), 1024 * 1024);
+  }
+
+  @Test
+  public void testBufferSizeLimit() {
+    Fury fury =
+        Fury.builder()
+            .requireClassRegistration(false)
+            .withBufferSizeLimitBytes(8 * 1024 * 1024)
+            .build();
+    byte[] bytes = fury.serialize(new byte[4 * 1024 * 1024]);
+    assertEquals(fury.deserialize(bytes), new byte[4 * 1024 * 1024]);
+    MemoryBuffer internalBuffer =
+        (MemoryBuffer) ReflectionUtils.getObjectFieldValue(fury, "buffer");
+    // Buffer under the limit is retained to serialize next big object.
+    assertTrue(internalBuffer.size() > 4 * 1024 * 1024);
+    byte[] heapMemory = internalBuffer.getHeapMemory();
+    fury.serialize(new byte[4 * 1024 * 1024]);
+    assertSame(internalBuffer.getHeapMemory(), heapMemory);
+    assertThrows(IllegalArgumentException.class, () -> Fury.builder().withBufferSizeLimitBytes(0));
+  }
+
+  @Test(dataProvider = "referenceTrackingConfig")
+  public void testDeserializeFragments(boolean referenceTracking) {
+    Fury fury =
+        Fury.builder().withRefTracking(referenceTracking).requireClassRegistration(false).build();
+    List<Object> value = ImmutableList.of(BeanA.createBeanA(2), "abc", new long[100]);
+    byte[] bytes = fury.serialize(value);
+    for (int fragmentSize : new int[] {1, 3, 7, 64, bytes.length}) {
+      int numFragments = (bytes.length + fragmentSize - 1) / fragmentSize;
+      ByteBuffer[] fragments = new ByteBuffer[numFragments];
+      for (int i = 0; i < numFragments; i++) {
+        int length = Math.min(fragmentSize, bytes.length - i * fragmentSize);
+        if (i % 2 == 0) {
+          fragments[i] = ByteBuffer.wrap(bytes, i * fragmentSize, length);
+        } else {
+          fragments[i] = ByteBuffer.allocateDirect(length);
+          fragments[i].put(bytes, i * fragmentSize, length).flip();
+        }
+      }
+      List<?> newValue = (List<?>) fury.deserialize(fragments);
+      assertEquals(newValue.get(0), value.get(0));
+      assertEquals(newValue.get(1), value.get(1));
+      assertEquals((long[]) newValue.get(2), (long[]) value.get(2));
+      assertEquals(fragments[0].position(), 0);
+    }
+  }
+
+  /** An input stream which returns at most 3 bytes for every read to test partial reads. */
+  private static InputStream slowStream(byte[] bytes) {
+    return new FilterInputStream(new ByteArrayInputStream(bytes)) {
+      @Override
+      public int read(byte[] b, int off, int len) throws IOException {
+        return super.read(b, off, Math.min(len, 3));
+      }
+    };
+  }
+
+  @Test(dataProvider = "refTrackingAndCompressNumber")
+  public void testStreamBufferSize(boolean refTracking, boolean compressNumber) {
+    Fury fury =
+        Fury.builder()
+            .withRefTracking(refTracking)
+            .withNumberCompressed(compressNumber)
+            .withStreamBufferSize(16)
+            .requireClassRegistration(false)
+            .build();
+    BeanA beanA = BeanA.createBeanA(2);
+    int[] ints = new int[1000];
+    for (int i = 0; i < ints.length; i++) {
+      ints[i] = i;
+    }
+    StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < 100; i++) {
+      builder.append("abc").append(i).append('\u4e2d');
+    }
+    String str = builder.toString();
+    ByteArrayOutputStream bas = new ByteArrayOutputStream();
+    fury.serialize(bas, beanA);
+    fury.serialize(bas, ints);
+    fury.serialize(bas, str);
+    fury.serialize(bas, Arrays.asList(str, beanA, str), o -> true);
+    fury.serialize(bas, ints, o -> true);
+    fury.serializeJavaObject(bas, beanA);
+    fury.serializeJavaObjectAndClass(bas, beanA);
+    byte[] bytes = bas.toByteArray();
+    // Data are written in chunks whose size is at most the stream buffer size.
+    int header = MemoryBuffer.fromByteArray(bytes).readInt();
+    assertTrue(header < 0 && header >= ~16);
+    Fury defaultFury =
+        Fury.builder()
+            .withRefTracking(refTracking)
+            .withNumberCompressed(compressNumber)
+            .requireClassRegistration(false)
+            .build();
+    for (Fury f : new Fury[] {fury, defaultFury}) {
+      for (InputStream stream :
+          new InputStream[] {slowStream(bytes), new ByteArrayInputStream(bytes)}) {
+        assertEquals(f.deserialize(stream), beanA);
+        assertEquals(f.deserialize(stream), ints);
+        assertEquals(f.deserialize(stream), str);
+        assertEquals(
+            f.deserialize(stream, Collections.emptyList()), Arrays.asList(str, beanA, str));
+        assertEquals(f.deserialize(stream, Collections.emptyList()), ints);
+        assertEquals(f.deserializeJavaObject(stream, BeanA.class), beanA);
+        assertEquals(f.deserializeJavaObjectAndClass(stream), beanA);
+      }
+    }
+    // Data written without stream buffer can be read by a fury with stream buffer.
+    bas.reset();
+    defaultFury.serialize(bas, beanA);
+    defaultFury.serialize(bas, ints);
+    InputStream stream = slowStream(bas.toByteArray());
+    assertEquals(fury.deserialize(stream), beanA);
+    assertEquals(fury.deserialize(stream), ints);
+  }
+
   @Test
   public void testJavaOutputStream() throws IOException {
     Fury fury = Fury.builder().requireClassRegistration(false).build();
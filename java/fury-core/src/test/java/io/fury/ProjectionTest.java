@@ -0,0 +1,155 @@
+/*
+ * Copyright 2023 The Fury Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fury;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+import com.google.common.collect.ImmutableMap;
+import io.fury.config.CompatibleMode;
+import io.fury.memory.MemoryBuffer;
+import io.fury.memory.MemoryUtils;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+public class ProjectionTest extends FuryTestBase {
+
+  public static class Inner {
+    public String name;
+    public int[] values;
+  }
+
+  public static class Bean {
+    public int id;
+    public long ts;
+    public double score;
+    public boolean flag;
+    public Integer boxedInt;
+    public Long boxedLong;
+    public String name;
+    public String description;
+    public Inner inner;
+    public Object object;
+    public List<String> tags;
+    public Map<String, Integer> counts;
+  }
+
+  private static Bean createBean(int i) {
+    Bean bean = new Bean();
+    bean.id = i;
+    bean.ts = 1L << 40 | i;
+    bean.score = i * 1.5;
+    bean.flag = true;
+    bean.boxedInt = i % 2 == 0 ? null : i;
+    bean.boxedLong = (long) -i;
+    bean.name = "name" + i;
+    bean.description = "你好, Fury " + i;
+    bean.inner = new Inner();
+    bean.inner.name = "inner" + i;
+    bean.inner.values = new int[] {i, i + 1};
+    bean.object = bean.inner;
+    bean.tags = new ArrayList<>(Arrays.asList("a" + i, "b"));
+    bean.counts = new HashMap<>(ImmutableMap.of("k" + i, i));
+    return bean;
+  }
+
+  @DataProvider
+  public static Object[][] projectionConfig() {
+    List<Object[]> configs = new ArrayList<>();
+    for (boolean codegen : new boolean[] {false, true}) {
+      for (boolean refTracking : new boolean[] {false, true}) {
+        for (CompatibleMode mode : CompatibleMode.values()) {
+          configs.add(new Object[] {codegen, refTracking, mode});
+        }
+      }
+    }
+    return configs.toArray(new Object[0][]);
+  }
+
+  @Test(dataProvider = "projectionConfig")
+  public void testProjection(boolean codegen, boolean refTracking, CompatibleMode mode) {
+    Fury fury =
+        Fury.builder()
+            .withCodegen(codegen)
+            .withRefTracking(refTracking)
+            .withCompatibleMode(mode)
+            .requireClassRegistration(false)
+            .build();
+    MemoryBuffer buffer = MemoryUtils.buffer(64);
+    for (int i = 0; i < 3; i++) {
+      fury.serialize(buffer, createBean(i));
+    }
+    Projection<Bean> projection = Projection.of(Bean.class, "ts", "name", "inner", "counts");
+    for (int i = 0; i < 3; i++) {
+      Bean bean = fury.deserializeProjected(buffer, projection);
+      Bean expected = createBean(i);
+      assertEquals(bean.ts, expected.ts);
+      assertEquals(bean.name, expected.name);
+      assertEquals(bean.inner.name, expected.inner.name);
+      assertEquals(bean.inner.values, expected.inner.values);
+      assertEquals(bean.counts, expected.counts);
+      assertEquals(bean.id, 0);
+      assertEquals(bean.score, 0.0);
+      Assert.assertFalse(bean.flag);
+      assertNull(bean.boxedInt);
+      assertNull(bean.boxedLong);
+      assertNull(bean.description);
+      assertNull(bean.object);
+      assertNull(bean.tags);
+    }
+    assertEquals(buffer.readerIndex(), buffer.writerIndex());
+    // projection doesn't affect normal deserialization.
+    Bean bean = (Bean) fury.deserialize(fury.serialize(createBean(5)));
+    assertEquals(bean.description, createBean(5).description);
+  }
+
+  @Test
+  public void testProjectionWithStringDeduplication() {
+    Fury fury =
+        Fury.builder().requireClassRegistration(false).withStringDeduplication(true).build();
+    Bean bean = createBean(1);
+    bean.description = bean.name;
+    bean.tags.add(bean.name);
+    byte[] bytes = fury.serialize(bean);
+    Bean newBean = fury.deserializeProjected(bytes, Projection.of(Bean.class, "tags"));
+    assertNull(newBean.name);
+    assertEquals(newBean.tags, bean.tags);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testProjectionUnknownField() {
+    Fury fury = Fury.builder().requireClassRegistration(false).build();
+    fury.deserializeProjected(
+        fury.serialize(createBean(1)), Projection.of(Bean.class, "id", "unknown"));
+  }
+
+  @Test
+  public void testProjectionCustomSerializer() {
+    Fury fury = Fury.builder().requireClassRegistration(false).build();
+    List<String> list = new ArrayList<>(Arrays.asList("a", "b"));
+    // the whole object is read if the layout is unknown.
+    assertEquals(
+        fury.deserializeProjected(fury.serialize(list), Projection.of(ArrayList.class, "size")),
+        list);
+  }
+}
@@ -99,6 +99,37 @@ public class ThreadSafeFuryTest extends FuryTestBase {
     assertFalse(hasException);
   }
 
+  @Test
+  public void testStripedPoolSerialize() throws Exception {
+    BeanA beanA = BeanA.createBeanA(2);
+    ThreadSafeFury fury =
+        Fury.builder()
+            .withLanguage(Language.JAVA)
+            .withRefTracking(true)
+            .requireClassRegistration(false)
+            .withAsyncCompilation(true)
+            .buildStripedThreadSafeFury(4);
+    ExecutorService executorService = Executors.newFixedThreadPool(32);
+    for (int i = 0; i < 2000; i++) {
+      executorService.execute(
+          () -> {
+            for (int j = 0; j < 10; j++) {
+              try {
+                assertEquals(fury.deserialize(fury.serialize(beanA)), beanA);
+                fury.setClassLoader(beanA.getClass().getClassLoader());
+                assertEquals(fury.deserialize(fury.serialize(beanA)), beanA);
+              } catch (Exception e) {
+                hasException = true;
+                e.printStackTrace();
+              }
+            }
+          });
+    }
+    executorService.shutdown();
+    assertTrue(executorService.awaitTermination(30, TimeUnit.SECONDS));
+    assertFalse(hasException);
+  }
+
   @Test
   public void testSerializeWithMetaShare() throws InterruptedException {
     ThreadSafeFury fury1 =
@@ -270,7 +301,8 @@ public class ThreadSafeFuryTest extends FuryTestBase {
     for (ThreadSafeFury fury :
         new ThreadSafeFury[] {
           Fury.builder().requireClassRegistration(false).buildThreadSafeFury(),
-          Fury.builder().requireClassRegistration(false).buildThreadSafeFuryPool(2, 2)
+          Fury.builder().requireClassRegistration(false).buildThreadSafeFuryPool(2, 2),
+          Fury.builder().requireClassRegistration(false).buildStripedThreadSafeFury(2)
         }) {
       byte[] bytes = fury.serializeJavaObject("abc");
       Assert.assertEquals(fury.deserializeJavaObject(bytes, String.class), "abc");
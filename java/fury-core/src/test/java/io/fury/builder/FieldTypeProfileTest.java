@@ -0,0 +1,48 @@
+/*
+ * Copyright 2023 The Fury Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fury.builder;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedList;
+import org.testng.annotations.Test;
+
+public class FieldTypeProfileTest {
+
+  @Test
+  public void testDominantType() {
+    FieldTypeProfile profile = new FieldTypeProfile(new String[] {"f1", "f2", "f3", "f4"});
+    for (int i = 0; i < 10; i++) {
+      profile.record(0, new ArrayList<>());
+      profile.record(1, i % 2 == 0 ? new ArrayList<>() : new LinkedList<>());
+      profile.record(2, i % 3 == 0 ? new LinkedList<>() : new ArrayList<>());
+    }
+    profile.record(0, null);
+    profile.record(3, new ArrayList<>());
+    profile.record(3, new LinkedList<>());
+    profile.record(3, new HashSet<>());
+    assertEquals(profile.getDominantType("f1"), ArrayList.class);
+    assertNull(profile.getDominantType("f2"));
+    assertEquals(profile.getDominantType("f3"), ArrayList.class);
+    // No majority type exists, the candidate is the last type which isn't cancelled out.
+    assertEquals(profile.getDominantType("f4"), HashSet.class);
+    assertNull(profile.getDominantType("f5"));
+  }
+}
@@ -25,9 +25,12 @@ import io.fury.FuryTestBase;
 import io.fury.config.CompatibleMode;
 import io.fury.config.Language;
 import io.fury.resolver.MetaContext;
+import io.fury.serializer.CompatibleSerializer;
+import io.fury.serializer.ObjectSerializer;
 import io.fury.serializer.Serializer;
 import io.fury.test.bean.BeanA;
 import io.fury.test.bean.BeanB;
+import io.fury.test.bean.Foo;
 import io.fury.util.LoggerFactory;
 import java.util.List;
 import org.slf4j.Logger;
@@ -121,4 +124,90 @@ public class JITContextTest extends FuryTestBase {
     fury.getSerializationContext().setMetaContext(context);
     assertEquals(fury.deserialize(bytes2), beanA);
   }
+
+  @Test(dataProvider = "config1")
+  public void testTieredCompilation(boolean referenceTracking, CompatibleMode compatibleMode)
+      throws InterruptedException {
+    int threshold = 10;
+    Fury fury =
+        Fury.builder()
+            .withLanguage(Language.JAVA)
+            .withRefTracking(referenceTracking)
+            .withCompatibleMode(compatibleMode)
+            .requireClassRegistration(false)
+            .withAsyncCompilation(true)
+            .withJITThreshold(threshold)
+            .build();
+    Class<?> interpreterClass =
+        compatibleMode == CompatibleMode.COMPATIBLE
+            ? CompatibleSerializer.class
+            : ObjectSerializer.class;
+    Foo foo = Foo.create();
+    // Both serialization and deserialization are counted as invocations.
+    for (int i = 0; i < threshold / 2 - 1; i++) {
+      assertEquals(fury.deserialize(fury.serialize(foo)), foo);
+    }
+    assertEquals(getSerializer(fury, Foo.class).getClass(), interpreterClass);
+    assertEquals(fury.getJITContext().getNumPending(), 1);
+    assertEquals(fury.getJITContext().getNumPromoted(), 0);
+    assertEquals(fury.deserialize(fury.serialize(foo)), foo);
+    assertEquals(fury.getJITContext().getNumPending(), 0);
+    assertEquals(fury.getJITContext().getNumPromoted(), 1);
+    while (!(getSerializer(fury, Foo.class) instanceof Generated)) {
+      LOG.info("Waiting {} serializer to be jit.", Foo.class);
+      Thread.sleep(100);
+    }
+    assertEquals(fury.deserialize(fury.serialize(foo)), foo);
+  }
+
+  public static class PolymorphicFields {
+    public Object f1;
+    public CharSequence f2;
+    public Number f3;
+  }
+
+  @Test
+  public void testProfiledFieldTypes() throws InterruptedException {
+    int threshold = 10;
+    Fury fury =
+        Fury.builder()
+            .withLanguage(Language.JAVA)
+            .requireClassRegistration(false)
+            .withAsyncCompilation(true)
+            .withJITThreshold(threshold)
+            .build();
+    PolymorphicFields o = new PolymorphicFields();
+    o.f1 = BeanB.createBeanB(2);
+    o.f2 = "abc";
+    o.f3 = 1;
+    for (int i = 0; i < threshold; i++) {
+      serDeCheckProfiledFields(fury, o);
+    }
+    FieldTypeProfile profile = fury.getJITContext().getFieldTypeProfile(PolymorphicFields.class);
+    String prefix = PolymorphicFields.class.getName();
+    assertEquals(profile.getDominantType(prefix + "f1"), BeanB.class);
+    assertEquals(profile.getDominantType(prefix + "f2"), String.class);
+    assertEquals(profile.getDominantType(prefix + "f3"), Integer.class);
+    while (!(getSerializer(fury, PolymorphicFields.class) instanceof Generated)) {
+      LOG.info("Waiting {} serializer to be jit.", PolymorphicFields.class);
+      Thread.sleep(100);
+    }
+    serDeCheckProfiledFields(fury, o);
+    // guard miss.
+    o.f1 = BeanA.createBeanA(2);
+    o.f2 = new StringBuilder("abc");
+    o.f3 = 1L;
+    serDeCheckProfiledFields(fury, o);
+    o.f1 = null;
+    o.f2 = null;
+    o.f3 = null;
+    serDeCheckProfiledFields(fury, o);
+  }
+
+  private void serDeCheckProfiledFields(Fury fury, PolymorphicFields o) {
+    PolymorphicFields o2 = (PolymorphicFields) fury.deserialize(fury.serialize(o));
+    assertEquals(o2.f1, o.f1);
+    assertEquals(o2.f2 == null ? null : o2.f2.toString(), o.f2 == null ? null : o.f2.toString());
+    assertEquals(o2.f3, o.f3);
+  }
 }
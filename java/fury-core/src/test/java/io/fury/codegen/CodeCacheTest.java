@@ -0,0 +1,85 @@
+/*
+ * Copyright 2023 The Fury Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fury.codegen;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertNull;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import org.testng.annotations.Test;
+
+public class CodeCacheTest {
+
+  private static CompileUnit unit(int value) {
+    return new CompileUnit(
+        "demo.cache",
+        "A",
+        ""
+            + "package demo.cache;\n"
+            + "public class A {\n"
+            + "  public static int value() { return "
+            + value
+            + "; }\n"
+            + "}");
+  }
+
+  @Test
+  public void testStoreAndLoad() throws Exception {
+    Path dir = Files.createTempDirectory("fury_code_cache");
+    CompileUnit unit = unit(1);
+    String key = CodeCache.cacheKey(unit);
+    assertEquals(CodeCache.cacheKey(unit(1)), key);
+    // Changed code is addressed by a new key.
+    assertNotEquals(CodeCache.cacheKey(unit(2)), key);
+    assertNull(CodeCache.load(dir.toString(), key, unit));
+    Map<String, byte[]> classes = JaninoUtils.toBytecode(getClass().getClassLoader(), unit);
+    CodeCache.store(dir.toString(), key, classes);
+    Map<String, byte[]> loaded = CodeCache.load(dir.toString(), key, unit);
+    assertEquals(loaded.keySet(), classes.keySet());
+    for (Map.Entry<String, byte[]> entry : classes.entrySet()) {
+      assertEquals(loaded.get(entry.getKey()), entry.getValue());
+    }
+    // Cached entry doesn't contain class of other unit.
+    assertNull(
+        CodeCache.load(dir.toString(), key, new CompileUnit("demo.cache", "B", "class B {}")));
+  }
+
+  @Test
+  public void testCompileWithCache() throws Exception {
+    Path dir = Files.createTempDirectory("fury_code_cache");
+    System.setProperty("FURY_CODE_CACHE_DIR", dir.toString());
+    try {
+      CompileUnit unit = unit(3);
+      Map<String, byte[]> classes = JaninoUtils.toBytecode(getClass().getClassLoader(), unit);
+      Path cacheFile = dir.resolve(CodeCache.cacheKey(unit) + ".classes");
+      assertEquals(Files.exists(cacheFile), true);
+      Files.write(cacheFile, new byte[] {1, 2, 3, 4});
+      // Corrupted cache is ignored and replaced.
+      assertEquals(
+          JaninoUtils.toBytecode(getClass().getClassLoader(), unit).keySet(), classes.keySet());
+      Class<?> cls =
+          JaninoUtils.compile(getClass().getClassLoader(), unit).loadClass("demo.cache.A");
+      assertEquals(cls.getMethod("value").invoke(null), 3);
+      assertEquals(CodeCache.load(dir.toString(), CodeCache.cacheKey(unit), unit).size(), 1);
+    } finally {
+      System.clearProperty("FURY_CODE_CACHE_DIR");
+    }
+  }
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright 2023 The Fury Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fury.compress;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import io.fury.Fury;
+import io.fury.FuryTestBase;
+import io.fury.config.Language;
+import io.fury.exception.FuryException;
+import io.fury.memory.MemoryBuffer;
+import io.fury.memory.MemoryUtils;
+import io.fury.resolver.MetaContext;
+import io.fury.test.bean.BeanA;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+public class CompressionCodecTest extends FuryTestBase {
+
+  private static byte[] repetitiveBytes(int size) {
+    StringBuilder builder = new StringBuilder();
+    for (int i = 0; builder.length() < size; i++) {
+      builder.append("abc").append(i % 100).append(',');
+    }
+    return Arrays.copyOf(builder.toString().getBytes(StandardCharsets.UTF_8), size);
+  }
+
+  private static byte[] randomBytes(int size) {
+    byte[] bytes = new byte[size];
+    new Random(7).nextBytes(bytes);
+    return bytes;
+  }
+
+  @DataProvider
+  public static Object[][] sizes() {
+    return new Object[][] {{0}, {1}, {12}, {13}, {100}, {1000}, {70000}, {300000}};
+  }
+
+  @Test(dataProvider = "sizes")
+  public void testLZ4RoundTrip(int size) {
+    LZ4CompressionCodec codec = LZ4CompressionCodec.INSTANCE;
+    byte[][] inputs = {repetitiveBytes(size), randomBytes(size), new byte[size]};
+    // Hash table is reused across blocks without clearing.
+    Object context = codec.newCompressContext();
+    for (byte[] input : inputs) {
+      int offset = 3;
+      byte[] src = new byte[input.length + offset];
+      System.arraycopy(input, 0, src, offset, input.length);
+      byte[] compressed = new byte[codec.maxCompressedLength(size) + offset];
+      int compressedSize = codec.compress(src, offset, size, compressed, offset, context);
+      assertTrue(compressedSize <= codec.maxCompressedLength(size));
+      assertTrue(size <= codec.maxDecompressedLength(compressedSize));
+      byte[] output = new byte[size + offset];
+      codec.decompress(compressed, offset, compressedSize, output, offset, size);
+      assertEquals(Arrays.copyOfRange(output, offset, output.length), input);
+    }
+    if (size >= 1000) {
+      assertTrue(
+          codec.compress(inputs[0], 0, size, new byte[codec.maxCompressedLength(size)], 0)
+              < size / 2);
+    }
+  }
+
+  @Test
+  public void testLZ4Malformed() {
+    LZ4CompressionCodec codec = LZ4CompressionCodec.INSTANCE;
+    byte[] input = repetitiveBytes(1000);
+    byte[] compressed = new byte[codec.maxCompressedLength(input.length)];
+    int size = codec.compress(input, 0, input.length, compressed, 0);
+    Assert.assertThrows(
+        FuryException.class,
+        () -> codec.decompress(compressed, 0, size - 1, new byte[1000], 0, 1000));
+    Assert.assertThrows(
+        FuryException.class, () -> codec.decompress(compressed, 0, size, new byte[999], 0, 999));
+  }
+
+  @Test
+  public void testBlockMalformed() {
+    BlockCompressor compressor = new BlockCompressor(LZ4CompressionCodec.INSTANCE, 1024);
+    MemoryBuffer buffer = MemoryUtils.buffer(64);
+    buffer.writeBytes(new byte[100000]);
+    assertTrue(compressor.compress(buffer, 0));
+    assertEquals(compressor.decompress(buffer, 0).getBytes(0, 100000), new byte[100000]);
+    // uncompressed size is much larger than compressed data can produce.
+    assertMalformed(compressor, 1 << 30, 10, 10 << 1 | 1);
+    assertMalformed(compressor, -1);
+    // empty block
+    assertMalformed(compressor, 10, 0, 1);
+    // stored block size doesn't match
+    assertMalformed(compressor, 10, 10, 5 << 1 | 1);
+    // compressed block size exceeds remaining data
+    assertMalformed(compressor, 10, 10, 1000 << 1);
+    assertMalformed(compressor, 10, 10, 0);
+  }
+
+  private static void assertMalformed(BlockCompressor compressor, int... varInts) {
+    MemoryBuffer buffer = MemoryUtils.buffer(64);
+    buffer.writeByte(LZ4CompressionCodec.CODEC_ID);
+    for (int value : varInts) {
+      buffer.writePositiveVarInt(value);
+    }
+    buffer.writeBytes(new byte[10]);
+    Assert.assertThrows(FuryException.class, () -> compressor.decompress(buffer, 0));
+  }
+
+  private static List<Object> newData() {
+    List<Object> data = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      data.add("str" + i % 10);
+      data.add(BeanA.createBeanA(2));
+    }
+    return data;
+  }
+
+  @Test
+  public void testCompressPayload() {
+    Fury fury =
+        Fury.builder()
+            .withCompressionCodec(LZ4CompressionCodec.INSTANCE)
+            .withCompressionBlockSize(1024)
+            .requireClassRegistration(false)
+            .build();
+    Fury rawFury = Fury.builder().requireClassRegistration(false).build();
+    List<Object> data = newData();
+    byte[] bytes = fury.serialize(data);
+    assertTrue(bytes.length < rawFury.serialize(data).length / 2);
+    assertEquals(fury.deserialize(bytes), data);
+    // Small payload is written as it is.
+    assertEquals(fury.serialize("abc"), rawFury.serialize("abc"));
+    assertEquals(fury.deserialize(rawFury.serialize(data)), data);
+    Assert.assertThrows(NullPointerException.class, () -> rawFury.deserialize(bytes));
+    // off-heap buffer
+    MemoryBuffer buffer = MemoryUtils.wrap(ByteBuffer.allocateDirect(bytes.length * 4));
+    fury.serialize(buffer, data);
+    fury.serialize(buffer, data);
+    assertEquals(fury.deserialize(buffer), data);
+    assertEquals(fury.deserialize(buffer), data);
+  }
+
+  @Test
+  public void testCompressStream() {
+    Fury fury =
+        Fury.builder()
+            .withCompressionCodec(LZ4CompressionCodec.INSTANCE)
+            .withStreamBufferSize(16)
+            .requireClassRegistration(false)
+            .build();
+    List<Object> data = newData();
+    ByteArrayOutputStream bas = new ByteArrayOutputStream();
+    fury.serialize(bas, data);
+    fury.serialize(bas, data);
+    ByteArrayInputStream stream = new ByteArrayInputStream(bas.toByteArray());
+    assertEquals(fury.deserialize(stream), data);
+    assertEquals(fury.deserialize(stream), data);
+  }
+
+  @Test
+  public void testCompressWithOffsets() {
+    List<Object> data = newData();
+    Fury fury =
+        Fury.builder()
+            .withCompressionCodec(LZ4CompressionCodec.INSTANCE)
+            .withMetaContextShare(true)
+            .requireClassRegistration(false)
+            .build();
+    MemoryBuffer buffer = MemoryUtils.buffer(32);
+    buffer.writeInt(1);
+    fury.getSerializationContext().setMetaContext(new MetaContext());
+    fury.serialize(buffer, data);
+    buffer.readInt();
+    fury.getSerializationContext().setMetaContext(new MetaContext());
+    assertEquals(fury.deserialize(buffer), data);
+    Fury xlangFury =
+        Fury.builder()
+            .withLanguage(Language.XLANG)
+            .withCompressionCodec(LZ4CompressionCodec.INSTANCE)
+            .requireClassRegistration(false)
+            .build();
+    List<String> strings = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      strings.add("str" + i % 10);
+    }
+    assertEquals(xlangFury.deserialize(xlangFury.serialize(strings)), strings);
+  }
+
+  @Test
+  public void testOutOfBandBuffersNotCompressed() {
+    Fury fury =
+        Fury.builder()
+            .withCompressionCodec(LZ4CompressionCodec.INSTANCE)
+            .requireClassRegistration(false)
+            .build();
+    List<Object> data = new ArrayList<>(newData());
+    byte[] bytes = repetitiveBytes(10000);
+    data.add(bytes);
+    data.add(bytes.clone());
+    List<Object> newData = (List<Object>) serDeOutOfBand(new AtomicInteger(), fury, fury, data);
+    assertEquals(newData.subList(0, 200), data.subList(0, 200));
+    assertEquals(newData.get(200), bytes);
+    assertEquals(newData.get(201), bytes);
+    assertFalse(newData.get(200) == bytes);
+  }
+}
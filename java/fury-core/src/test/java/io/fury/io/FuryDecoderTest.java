@@ -0,0 +1,126 @@
+/*
+ * Copyright 2023 The Fury Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fury.io;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import io.fury.Fury;
+import io.fury.test.bean.BeanA;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+public class FuryDecoderTest {
+
+  @DataProvider
+  public static Object[][] streamBufferSize() {
+    return new Object[][] {{0}, {32}};
+  }
+
+  private static List<Object> createObjects() {
+    List<Object> objects = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      objects.add(BeanA.createBeanA(2));
+      objects.add("str" + i);
+      objects.add(null);
+      objects.add(new int[i * 10]);
+    }
+    return objects;
+  }
+
+  private static byte[] serialize(int streamBufferSize, List<Object> objects) {
+    Fury fury =
+        Fury.builder()
+            .withStreamBufferSize(streamBufferSize)
+            .requireClassRegistration(false)
+            .build();
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    // Use a non-ByteArrayOutputStream to enable chunked output.
+    OutputStream stream =
+        new OutputStream() {
+          @Override
+          public void write(int b) {
+            bos.write(b);
+          }
+
+          @Override
+          public void write(byte[] b, int off, int len) {
+            bos.write(b, off, len);
+          }
+        };
+    for (Object object : objects) {
+      fury.serialize(stream, object);
+    }
+    return bos.toByteArray();
+  }
+
+  @Test(dataProvider = "streamBufferSize")
+  public void testDecodeSplitInput(int streamBufferSize) {
+    List<Object> objects = createObjects();
+    byte[] bytes = serialize(streamBufferSize, objects);
+    Fury fury = Fury.builder().requireClassRegistration(false).build();
+    for (int step : new int[] {1, 3, 7, 100, bytes.length}) {
+      FuryDecoder decoder = new FuryDecoder(fury);
+      List<Object> out = new ArrayList<>();
+      for (int i = 0; i < bytes.length; i += step) {
+        decoder.decode(bytes, i, Math.min(step, bytes.length - i), out);
+      }
+      assertFalse(decoder.hasPartialPayload());
+      assertEquals(out.size(), objects.size());
+      for (int i = 0; i < objects.size(); i++) {
+        if (objects.get(i) instanceof int[]) {
+          assertEquals((int[]) out.get(i), (int[]) objects.get(i));
+        } else {
+          assertEquals(out.get(i), objects.get(i));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testNeedMoreInput() {
+    byte[] bytes = serialize(0, createObjects().subList(0, 1));
+    Fury fury = Fury.builder().requireClassRegistration(false).build();
+    FuryDecoder decoder = new FuryDecoder(fury);
+    List<Object> out = new ArrayList<>();
+    ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+    direct.put(bytes).flip();
+    direct.limit(bytes.length - 1);
+    assertEquals(decoder.decode(direct, out), 0);
+    assertTrue(decoder.hasPartialPayload());
+    direct.limit(bytes.length);
+    assertEquals(decoder.decode(direct, out), 1);
+    assertEquals(out.get(0), BeanA.createBeanA(2));
+    // Decode in place from a complete direct buffer.
+    direct.position(0);
+    assertEquals(decoder.decode(direct.asReadOnlyBuffer(), out), 1);
+    direct.position(0);
+    assertEquals(decoder.decode(direct, out), 1);
+    assertEquals(out.get(2), BeanA.createBeanA(2));
+    assertFalse(decoder.hasPartialPayload());
+    decoder.decode(ByteBuffer.wrap(bytes, 0, 10), out);
+    assertTrue(decoder.hasPartialPayload());
+    decoder.reset();
+    assertFalse(decoder.hasPartialPayload());
+  }
+}
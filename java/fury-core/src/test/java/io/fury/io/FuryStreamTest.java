@@ -0,0 +1,141 @@
+/*
+ * Copyright 2023 The Fury Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fury.io;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+import io.fury.Fury;
+import io.fury.config.CompatibleMode;
+import io.fury.memory.MemoryBuffer;
+import io.fury.resolver.MetaContext;
+import io.fury.serializer.Serializer;
+import io.fury.test.bean.BeanA;
+import io.fury.test.bean.BeanB;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+public class FuryStreamTest {
+
+  @DataProvider
+  public static Object[][] shareMeta() {
+    return new Object[][] {{false}, {true}};
+  }
+
+  private static Fury createFury(boolean shareMeta) {
+    return Fury.builder()
+        .withMetaContextShare(shareMeta)
+        .withCompatibleMode(
+            shareMeta ? CompatibleMode.COMPATIBLE : CompatibleMode.SCHEMA_CONSISTENT)
+        .requireClassRegistration(false)
+        .build();
+  }
+
+  private static List<Object> createObjects() {
+    List<Object> objects = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      objects.add(BeanA.createBeanA(2));
+      objects.add(BeanB.createBeanB(2));
+      objects.add("str" + i);
+      objects.add(null);
+    }
+    return objects;
+  }
+
+  @Test(dataProvider = "shareMeta")
+  public void testWriteRead(boolean shareMeta) throws IOException {
+    Fury fury = createFury(shareMeta);
+    List<Object> objects = createObjects();
+    ByteArrayOutputStream bas = new ByteArrayOutputStream();
+    int numChunks;
+    try (FuryStreamWriter writer = new FuryStreamWriter(fury, bas, 4096)) {
+      for (Object object : objects) {
+        writer.write(object);
+      }
+      numChunks = writer.getNumChunks();
+    }
+    byte[] data = bas.toByteArray();
+    FuryStreamReader reader = new FuryStreamReader(fury, data);
+    assertTrue(reader.getNumChunks() > 1);
+    assertTrue(reader.getNumChunks() >= numChunks);
+    assertEquals(reader.getNumObjects(), objects.size());
+    // sequential scan.
+    for (Object object : objects) {
+      assertTrue(reader.hasNext());
+      assertEquals(reader.next(), object);
+    }
+    assertFalse(reader.hasNext());
+    // random access.
+    for (int i : new int[] {objects.size() - 1, 0, 201, 5, 6, 200, 4, objects.size() - 2}) {
+      assertEquals(reader.read(i), objects.get(i));
+    }
+    // chunks can be scanned in parallel.
+    List<Object> newObjects =
+        IntStream.range(0, reader.getNumChunks())
+            .parallel()
+            .mapToObj(i -> reader.newReader(createFury(shareMeta)).readChunk(i))
+            .flatMap(List::stream)
+            .collect(Collectors.toList());
+    assertEquals(newObjects, objects);
+    if (shareMeta) {
+      // class meta are written once for every chunk.
+      int size = 0;
+      for (Object object : objects) {
+        fury.getSerializationContext().setMetaContext(new MetaContext());
+        size += fury.serialize(object).length;
+      }
+      assertTrue(data.length < size);
+    }
+  }
+
+  public static class FailedObject {}
+
+  @Test(dataProvider = "shareMeta")
+  public void testWriteFailure(boolean shareMeta) throws IOException {
+    Fury fury = createFury(shareMeta);
+    fury.registerSerializer(
+        FailedObject.class,
+        new Serializer<FailedObject>(fury, FailedObject.class) {
+          @Override
+          public void write(MemoryBuffer buffer, FailedObject value) {
+            buffer.writeLong(-1);
+            throw new IllegalStateException("Failed");
+          }
+        });
+    List<Object> objects = createObjects();
+    ByteArrayOutputStream bas = new ByteArrayOutputStream();
+    try (FuryStreamWriter writer = new FuryStreamWriter(fury, bas, 4096)) {
+      for (Object object : objects) {
+        writer.write(object);
+        assertThrows(IllegalStateException.class, () -> writer.write(new FailedObject()));
+      }
+    }
+    FuryStreamReader reader = new FuryStreamReader(fury, bas.toByteArray());
+    assertEquals(reader.getNumObjects(), objects.size());
+    for (Object object : objects) {
+      assertEquals(reader.next(), object);
+    }
+  }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2023 The Fury Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fury.memory;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import org.testng.annotations.Test;
+
+public class MemoryBufferPoolTest {
+
+  @Test
+  public void testHeapPool() {
+    MemoryBufferPool pool = MemoryBufferPool.newHeapPool(1024, 2);
+    MemoryBuffer buffer = pool.acquire(100);
+    assertFalse(buffer.isOffHeap());
+    assertEquals(buffer.size(), 128);
+    buffer.writeInt(1);
+    buffer.readInt();
+    pool.release(buffer);
+    MemoryBuffer buffer2 = pool.acquire(65);
+    assertSame(buffer2, buffer);
+    assertEquals(buffer2.readerIndex(), 0);
+    assertEquals(buffer2.writerIndex(), 0);
+    // size class is rounded up.
+    assertNotSame(pool.acquire(129), buffer);
+    pool.release(buffer2);
+    // grown buffer is returned to a larger size class.
+    MemoryBuffer buffer3 = pool.acquire(100);
+    buffer3.ensure(300);
+    pool.release(buffer3);
+    assertSame(pool.acquire(512), buffer3);
+    // buffers larger than max pooled size are not retained.
+    MemoryBuffer large = pool.acquire(2000);
+    assertEquals(large.size(), 2000);
+    pool.release(large);
+    assertNotSame(pool.acquire(2000), large);
+  }
+
+  @Test
+  public void testMaxCached() {
+    MemoryBufferPool pool = MemoryBufferPool.newHeapPool(1024, 2);
+    MemoryBuffer buffer1 = pool.acquire(64);
+    MemoryBuffer buffer2 = pool.acquire(64);
+    MemoryBuffer buffer3 = pool.acquire(64);
+    pool.release(buffer1);
+    pool.release(buffer2);
+    pool.release(buffer3);
+    assertSame(pool.acquire(64), buffer2);
+    assertSame(pool.acquire(64), buffer1);
+    assertNotSame(pool.acquire(64), buffer3);
+  }
+
+  @Test
+  public void testDirectPool() {
+    MemoryBufferPool pool = MemoryBufferPool.newDirectPool();
+    MemoryBuffer buffer = pool.acquire(100);
+    assertTrue(buffer.isOffHeap());
+    pool.release(buffer);
+    assertSame(pool.acquire(100), buffer);
+    // direct buffer become heap buffer after growing, which won't be retained.
+    buffer.writerIndex(buffer.size());
+    buffer.ensure(buffer.size() + 1);
+    assertFalse(buffer.isOffHeap());
+    pool.release(buffer);
+    assertNotSame(pool.acquire(100), buffer);
+  }
+}
@@ -19,8 +19,20 @@ package io.fury.memory;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertTrue;
 
+import io.fury.Fury;
+import io.fury.compress.LZ4CompressionCodec;
+import io.fury.config.Language;
 import io.fury.util.Platform;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
 import java.util.Random;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -575,4 +587,269 @@ public class MemoryBufferTest {
     assertEquals(value, varLong);
     assertEquals(buf.slice(readerIndex, buf.readerIndex() - readerIndex).readSliLong(), value);
   }
+
+  @Test
+  public void testSourceAndSink() {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    byte[][] window = {new byte[8]};
+    int[] windowStart = {0};
+    MemoryBuffer buffer = MemoryBuffer.newHeapBuffer(8);
+    buffer.pointToWindow(window[0], 0, 8);
+    buffer.writerIndex(0);
+    // Drain written bytes and switch to a new window every time.
+    buffer.setSink(
+        (buf, minSize) -> {
+          out.write(window[0], 0, buf.writerIndex() - windowStart[0]);
+          windowStart[0] = buf.writerIndex();
+          window[0] = new byte[Math.max(8, minSize - buf.writerIndex())];
+          buf.pointToWindow(window[0], windowStart[0], window[0].length);
+        });
+    byte[] bytes = new byte[100];
+    for (int i = 0; i < 100; i++) {
+      buffer.writeByte((byte) i);
+      buffer.writeInt(i);
+      buffer.writeLong(i * 1000000000000L);
+      buffer.writeVarInt(-i * 100000);
+      buffer.writeVarLong(-i * 1000000000000L);
+      buffer.writeSliLong(i % 2 == 0 ? i : i * 1000000000000L);
+      buffer.writePositiveVarIntAligned(i * 1000);
+      buffer.writeDouble(i / 3.0);
+      buffer.writeBytesWithSizeEmbedded(bytes);
+    }
+    out.write(window[0], 0, buffer.writerIndex() - windowStart[0]);
+    byte[] data = out.toByteArray();
+    assertEquals(data.length, buffer.writerIndex());
+
+    MemoryBuffer readBuffer = MemoryBuffer.newHeapBuffer(8);
+    readBuffer.pointToWindow(new byte[0], 0, 0);
+    readBuffer.readerIndex(0);
+    // Only make the required bytes readable, previous bytes are discarded.
+    readBuffer.setSource(
+        (buf, length) -> {
+          int readerIndex = buf.readerIndex();
+          if (readerIndex + length > data.length) {
+            throw new IndexOutOfBoundsException();
+          }
+          buf.pointToWindow(
+              Arrays.copyOfRange(data, readerIndex, readerIndex + length), readerIndex, length);
+        });
+    for (int i = 0; i < 100; i++) {
+      assertEquals(readBuffer.readByte(), (byte) i);
+      assertEquals(readBuffer.readInt(), i);
+      assertEquals(readBuffer.readLong(), i * 1000000000000L);
+      assertEquals(readBuffer.readVarInt(), -i * 100000);
+      assertEquals(readBuffer.readVarLong(), -i * 1000000000000L);
+      assertEquals(readBuffer.readSliLong(), i % 2 == 0 ? i : i * 1000000000000L);
+      assertEquals(readBuffer.readPositiveAlignedVarInt(), i * 1000);
+      assertEquals(readBuffer.readDouble(), i / 3.0);
+      assertEquals(readBuffer.readBytesWithSizeEmbedded(), bytes);
+    }
+    assertEquals(readBuffer.readerIndex(), data.length);
+    Assert.assertThrows(IndexOutOfBoundsException.class, readBuffer::readByte);
+  }
+
+  @Test
+  public void testMappedFile() throws IOException {
+    Path path = Files.createTempFile("fury_mapped_file", ".bin");
+    try (FileChannel channel =
+        FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      MappedFileSink sink = new MappedFileSink(channel, 0, 1024);
+      MemoryBuffer buffer = sink.map();
+      assertTrue(buffer.isOffHeap());
+      for (int i = 0; i < 10000; i++) {
+        buffer.writeInt(i);
+        buffer.writePositiveVarLong(i * 1000000L);
+      }
+      // Data is written to the file directly instead of heap.
+      assertTrue(buffer.isOffHeap());
+      assertTrue(buffer.size() >= buffer.writerIndex());
+      for (int i = 0; i < 10000; i++) {
+        assertEquals(buffer.readInt(), i);
+        assertEquals(buffer.readPositiveVarLong(), i * 1000000L);
+      }
+      sink.finish(buffer, true);
+      assertEquals(Files.size(path), buffer.writerIndex());
+    }
+    MemoryBuffer buffer = MemoryUtils.mapFile(path);
+    assertTrue(buffer.isOffHeap());
+    for (int i = 0; i < 10000; i++) {
+      assertEquals(buffer.readInt(), i);
+      assertEquals(buffer.readPositiveVarLong(), i * 1000000L);
+    }
+    assertEquals(buffer.remaining(), 0);
+    Files.delete(path);
+  }
+
+  @Test
+  public void testMapReadOnlyFile() throws IOException {
+    Path path = Files.createTempFile("fury_mapped_file", ".bin");
+    Fury fury = Fury.builder().requireClassRegistration(false).build();
+    Files.write(path, fury.serialize("abc"));
+    MemoryBuffer buffer = MemoryUtils.mapReadOnlyFile(path);
+    assertTrue(buffer.isOffHeap());
+    assertEquals(fury.deserialize(buffer), "abc");
+    assertEquals(buffer.remaining(), 0);
+    Files.delete(path);
+  }
+
+  @Test
+  public void testMappedFileMultiSinks() throws IOException {
+    Path path = Files.createTempFile("fury_mapped_file", ".bin");
+    try (FileChannel channel =
+        FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      MappedFileSink sink1 = new MappedFileSink(channel, 0, 16);
+      MemoryBuffer buffer1 = sink1.map();
+      for (int i = 0; i < 100; i++) {
+        buffer1.writeLong(i);
+      }
+      buffer1.writeByte(-1);
+      sink1.finish(buffer1);
+      // Data after written bytes of `sink1` is kept when not truncated.
+      assertTrue(Files.size(path) > buffer1.writerIndex());
+      MappedFileSink sink2 = new MappedFileSink(channel, buffer1.writerIndex(), 16);
+      MemoryBuffer buffer2 = sink2.map();
+      for (int i = 0; i < 100; i++) {
+        buffer2.writeLong(-i);
+      }
+      sink2.finish(buffer2, true);
+      assertEquals(Files.size(path), buffer1.writerIndex() + buffer2.writerIndex());
+    }
+    MemoryBuffer buffer = MemoryUtils.mapFile(path);
+    for (int i = 0; i < 100; i++) {
+      assertEquals(buffer.readLong(), i);
+    }
+    assertEquals(buffer.readByte(), -1);
+    for (int i = 0; i < 100; i++) {
+      assertEquals(buffer.readLong(), -i);
+    }
+    assertEquals(buffer.remaining(), 0);
+    Files.delete(path);
+  }
+
+  @Test
+  public void testMapFileCorner() throws IOException {
+    Path path = Files.createTempFile("fury_mapped_file", ".bin");
+    assertEquals(MemoryUtils.mapFile(path).remaining(), 0);
+    assertEquals(MemoryUtils.mapReadOnlyFile(path).remaining(), 0);
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      Assert.assertThrows(
+          IllegalArgumentException.class,
+          () -> MemoryUtils.mapFile(channel, MapMode.READ_ONLY, 0, 0));
+    }
+    Files.delete(path);
+  }
+
+  @Test
+  public void testSinkUnsupportedProtocol() throws IOException {
+    Path path = Files.createTempFile("fury_mapped_file", ".bin");
+    try (FileChannel channel =
+        FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      MemoryBuffer buffer = new MappedFileSink(channel, 0, 1024).map();
+      Fury fury =
+          Fury.builder().withLanguage(Language.XLANG).requireClassRegistration(false).build();
+      Assert.assertThrows(IllegalArgumentException.class, () -> fury.serialize(buffer, "abc"));
+      Fury javaFury = Fury.builder().requireClassRegistration(false).build();
+      javaFury.serialize(buffer, "abc");
+      assertEquals(javaFury.deserialize(buffer), "abc");
+    }
+    Files.delete(path);
+  }
+
+  @Test
+  public void testByteBuffersSource() {
+    MemoryBuffer data = MemoryUtils.buffer(8);
+    for (int i = 0; i < 100; i++) {
+      data.writeInt(i);
+      data.writeVarLong(-i * 1000000000000L);
+      data.writeDouble(i / 3.0);
+    }
+    byte[] bytes = data.getBytes(0, data.writerIndex());
+    ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+    direct.put(bytes).flip();
+    ByteBuffer[] fragments = new ByteBuffer[5];
+    int fragmentSize = bytes.length / 4;
+    for (int i = 0; i < 4; i++) {
+      direct.position(i * fragmentSize).limit(i * fragmentSize + fragmentSize);
+      fragments[i] = i % 2 == 0 ? direct.slice() : ByteBuffer.wrap(bytes).slice();
+      if (i % 2 != 0) {
+        fragments[i].position(i * fragmentSize).limit(i * fragmentSize + fragmentSize);
+      }
+    }
+    fragments[4] = ByteBuffer.wrap(bytes, 4 * fragmentSize, bytes.length - 4 * fragmentSize);
+    ByteBuffersSource source = new ByteBuffersSource(fragments);
+    assertEquals(source.size(), bytes.length);
+    MemoryBuffer buffer = MemoryUtils.buffer(8);
+    source.bind(buffer);
+    for (int i = 0; i < 100; i++) {
+      assertEquals(buffer.readInt(), i);
+      assertEquals(buffer.readVarLong(), -i * 1000000000000L);
+      assertEquals(buffer.readDouble(), i / 3.0);
+    }
+    Assert.assertThrows(IndexOutOfBoundsException.class, buffer::readByte);
+  }
+
+  @Test
+  public void testSegmentedBufferSink() throws IOException {
+    SegmentedBufferSink sink = new SegmentedBufferSink(64);
+    MemoryBuffer buffer = MemoryUtils.buffer(8);
+    byte[] bytes = new byte[100];
+    for (int round = 0; round < 2; round++) {
+      sink.bind(buffer);
+      for (int i = 0; i < 100; i++) {
+        buffer.writeInt(i);
+        buffer.writeVarLong(-i * 1000000000000L);
+        if (i % 10 == 0) {
+          // Larger than segment size.
+          buffer.writeBytesWithSizeEmbedded(bytes);
+        }
+      }
+      sink.finish(buffer);
+      assertTrue(sink.getSegments().length > 1);
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      sink.writeTo(Channels.newChannel(out));
+      assertEquals(out.toByteArray(), sink.toByteArray());
+      assertEquals(sink.size(), out.size());
+      Path path = Files.createTempFile("fury_segmented", ".bin");
+      try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+        sink.writeTo(channel);
+      }
+      MemoryBuffer readBuffer = MemoryUtils.wrap(Files.readAllBytes(path));
+      Files.delete(path);
+      for (int i = 0; i < 100; i++) {
+        assertEquals(readBuffer.readInt(), i);
+        assertEquals(readBuffer.readVarLong(), -i * 1000000000000L);
+        if (i % 10 == 0) {
+          assertEquals(readBuffer.readBytesWithSizeEmbedded(), bytes);
+        }
+      }
+      assertEquals(readBuffer.remaining(), 0);
+      sink.reset();
+    }
+  }
+
+  @Test
+  public void testSegmentedBufferSinkUnsupportedProtocol() {
+    SegmentedBufferSink sink = new SegmentedBufferSink(64);
+    MemoryBuffer buffer = MemoryUtils.buffer(8);
+    sink.bind(buffer);
+    Fury[] furys = {
+      Fury.builder()
+          .withCompressionCodec(LZ4CompressionCodec.INSTANCE)
+          .requireClassRegistration(false)
+          .build(),
+      Fury.builder().withMetaContextShare(true).requireClassRegistration(false).build(),
+      Fury.builder().withLanguage(Language.XLANG).requireClassRegistration(false).build()
+    };
+    byte[] bytes = new byte[1000];
+    for (Fury fury : furys) {
+      Assert.assertThrows(IllegalArgumentException.class, () -> fury.serialize(buffer, bytes));
+      Assert.assertThrows(
+          IllegalArgumentException.class, () -> fury.serializeJavaObject(buffer, bytes));
+    }
+    assertEquals(buffer.writerIndex(), 0);
+    Fury fury = Fury.builder().requireClassRegistration(false).build();
+    fury.serialize(buffer, bytes);
+    sink.finish(buffer);
+    assertEquals(fury.deserialize(sink.toByteArray()), bytes);
+  }
 }
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2023 The Fury Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fury.pool;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import io.fury.Fury;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.testng.annotations.Test;
+
+public class ClassLoaderFuryPooledTest {
+
+  private static ClassLoaderFuryPooled createPool(int min, int max, boolean threadAffinity) {
+    return new ClassLoaderFuryPooled(
+        ClassLoaderFuryPooledTest.class.getClassLoader(),
+        loader -> Fury.builder().withClassLoader(loader).build(),
+        min,
+        max,
+        threadAffinity);
+  }
+
+  @Test
+  public void testElasticGrowth() {
+    ClassLoaderFuryPooled pool = createPool(1, 3, false);
+    assertEquals(pool.getPoolSize(), 1);
+    Fury fury1 = pool.getFury();
+    Fury fury2 = pool.getFury();
+    Fury fury3 = pool.getFury();
+    assertEquals(pool.getPoolSize(), 3);
+    assertEquals(pool.getIdleSize(), 0);
+    assertEquals(pool.getBorrowCount(), 3);
+    assertEquals(pool.getHitCount(), 1);
+    pool.returnFury(fury1);
+    pool.returnFury(fury2);
+    pool.returnFury(fury3);
+    assertEquals(pool.getIdleSize(), 3);
+    pool.returnFury(pool.getFury());
+    assertEquals(pool.getPoolSize(), 3);
+    assertEquals(pool.getHitCount(), 2);
+    assertEquals(pool.getWaitCount(), 0);
+  }
+
+  @Test(timeOut = 60_000)
+  public void testWaitReturned() {
+    ClassLoaderFuryPooled pool = createPool(1, 1, false);
+    Fury fury = pool.getFury();
+    CompletableFuture<Fury> future = CompletableFuture.supplyAsync(pool::getFury);
+    try {
+      future.get(100, TimeUnit.MILLISECONDS);
+      throw new AssertionError("Pool exhausted, borrow should wait");
+    } catch (Exception ignored) {
+      // expected timeout
+    }
+    pool.returnFury(fury);
+    assertSame(future.join(), fury);
+    assertEquals(pool.getPoolSize(), 1);
+    assertEquals(pool.getWaitCount(), 1);
+    assertTrue(pool.getWaitTimeNanos() > 0);
+  }
+
+  @Test
+  public void testThreadAffinity() {
+    ClassLoaderFuryPooled pool = createPool(4, 4, true);
+    Fury fury = pool.getFury();
+    pool.returnFury(fury);
+    for (int i = 0; i < 10; i++) {
+      Fury f = pool.getFury();
+      assertSame(f, fury);
+      pool.returnFury(f);
+    }
+  }
+}
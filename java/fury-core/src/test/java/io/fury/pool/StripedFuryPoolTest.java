@@ -0,0 +1,131 @@
+/*
+ * Copyright 2023 The Fury Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fury.pool;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import io.fury.Fury;
+import io.fury.util.Platform;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+
+public class StripedFuryPoolTest {
+
+  @Test
+  public void testBorrowAndGiveBack() {
+    AtomicInteger created = new AtomicInteger();
+    StripedFuryPool pool =
+        new StripedFuryPool(
+            getClass().getClassLoader(),
+            loader -> {
+              created.incrementAndGet();
+              return Fury.builder().withClassLoader(loader).build();
+            },
+            3);
+    assertEquals(pool.getNumSlots(), 4);
+    assertEquals(pool.getMaxSize(), 3);
+    Fury fury = pool.borrow();
+    assertEquals(created.get(), 1);
+    pool.giveBack(fury);
+    assertEquals(pool.idleSize(), 1);
+    assertSame(pool.borrow(), fury);
+    assertEquals(pool.idleSize(), 0);
+    List<Fury> furyList = new ArrayList<>();
+    furyList.add(fury);
+    for (int i = 0; i < 2; i++) {
+      Fury f = pool.borrow();
+      assertNotSame(f, fury);
+      furyList.add(f);
+    }
+    assertEquals(created.get(), 3);
+    furyList.forEach(pool::giveBack);
+    assertEquals(pool.idleSize(), 3);
+    for (int i = 0; i < 3; i++) {
+      pool.borrow();
+    }
+    assertEquals(created.get(), 3);
+  }
+
+  @Test(timeOut = 60000)
+  public void testBorrowBlockWhenExhausted() throws Exception {
+    AtomicInteger created = new AtomicInteger();
+    StripedFuryPool pool =
+        new StripedFuryPool(
+            getClass().getClassLoader(),
+            loader -> {
+              created.incrementAndGet();
+              return Fury.builder().withClassLoader(loader).build();
+            },
+            1);
+    Fury fury = pool.borrow();
+    CompletableFuture<Fury> future = CompletableFuture.supplyAsync(pool::borrow);
+    Thread.sleep(100);
+    // no instance is created beyond max size, the borrower waits for a given back instance.
+    assertFalse(future.isDone());
+    pool.giveBack(fury);
+    assertSame(future.get(), fury);
+    assertEquals(created.get(), 1);
+  }
+
+  @Test(timeOut = 60000)
+  public void testVirtualThreads() throws Exception {
+    if (Platform.JAVA_VERSION < 21) {
+      throw new SkipException("Virtual threads require jdk21+");
+    }
+    AtomicInteger created = new AtomicInteger();
+    StripedFuryPool pool =
+        new StripedFuryPool(
+            getClass().getClassLoader(),
+            loader -> {
+              created.incrementAndGet();
+              return Fury.builder().withClassLoader(loader).requireClassRegistration(false).build();
+            },
+            2);
+    ExecutorService executor =
+        (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    List<CompletableFuture<Void>> futures = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      int value = i;
+      futures.add(
+          CompletableFuture.runAsync(
+              () -> {
+                Fury fury = pool.borrow();
+                try {
+                  assertEquals(fury.deserialize(fury.serialize(value)), value);
+                } finally {
+                  pool.giveBack(fury);
+                }
+              },
+              executor));
+    }
+    CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get();
+    executor.shutdown();
+    assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    assertTrue(created.get() <= 2);
+  }
+}
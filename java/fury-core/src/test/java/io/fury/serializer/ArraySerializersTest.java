@@ -150,4 +150,25 @@ public class ArraySerializersTest extends FuryTestBase {
       assertEquals(arraysData, serDeOutOfBand(counter, fury1, fury2, arraysData));
     }
   }
+
+  @Test(dataProvider = "referenceTrackingConfig")
+  public void testXlangIntLongArrayZeroCopy(boolean referenceTracking) {
+    FuryBuilder builder =
+        Fury.builder()
+            .withLanguage(Language.XLANG)
+            .withRefTracking(referenceTracking)
+            .withArrayPacked(true)
+            .requireClassRegistration(false);
+    Fury fury1 = builder.build();
+    Fury fury2 = builder.build();
+    AtomicInteger counter = new AtomicInteger(0);
+    int[] ints = {1, -2, 3, Integer.MAX_VALUE, Integer.MIN_VALUE};
+    long[] longs = {1, -2, 3, Long.MAX_VALUE, Long.MIN_VALUE};
+    for (int i = 0; i < 4; i++) {
+      // Buffer callback is invoked every time, and the odd ones are written out-of-band.
+      assertEquals(serDeOutOfBand(counter, fury1, fury1, ints), ints);
+      assertEquals(serDeOutOfBand(counter, fury1, fury2, longs), longs);
+    }
+    assertEquals(counter.get(), 8);
+  }
 }
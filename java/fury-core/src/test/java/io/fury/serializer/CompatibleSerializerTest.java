@@ -38,6 +38,7 @@ import java.util.Map;
 import java.util.stream.Collectors;
 import lombok.Data;
 import org.testng.Assert;
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 public class CompatibleSerializerTest extends FuryTestBase {
@@ -399,4 +400,55 @@ public class CompatibleSerializerTest extends FuryTestBase {
     Class<?> structClass = Struct.createNumberStructClass("CompatibleCompressIntStruct", 2);
     serDeCheck(fury, Struct.createPOJO(structClass));
   }
+
+  @DataProvider
+  public static Object[][] fieldSizeConfig() {
+    return new Object[][] {
+      {false, false, false},
+      {false, true, false},
+      {true, false, false},
+      {true, true, false},
+      {false, false, true},
+      {false, true, true},
+      {true, false, true},
+      {true, true, true}
+    };
+  }
+
+  @Test(dataProvider = "fieldSizeConfig")
+  public void testFieldSizeWritten(
+      boolean referenceTracking, boolean codegen, boolean requireClassRegistration)
+      throws Exception {
+    BeanA beanA = BeanA.createBeanA(2);
+    Class<?> cls = createCompatibleClass1();
+    Object newBeanA = cls.newInstance();
+    ReflectionUtils.unsafeCopy(beanA, newBeanA);
+    Fury fury = fieldSizeFury(referenceTracking, codegen, requireClassRegistration, BeanA.class);
+    // Use different serializers for peers to check that jit and interpreter mode are consistent.
+    Fury newFury = fieldSizeFury(referenceTracking, !codegen, requireClassRegistration, cls);
+    serDeCheck(fury, beanA);
+    // `fury` skips fields added in `cls` by size.
+    Object deserialized = fury.deserialize(newFury.serialize(newBeanA));
+    Assert.assertEquals(deserialized.getClass(), BeanA.class);
+    Assert.assertTrue(ReflectionUtils.objectCommonFieldsEquals(deserialized, newBeanA));
+    Object obj = newFury.deserialize(fury.serialize(beanA));
+    Assert.assertTrue(ReflectionUtils.objectCommonFieldsEquals(obj, newBeanA));
+  }
+
+  private static Fury fieldSizeFury(
+      boolean referenceTracking, boolean codegen, boolean requireClassRegistration, Class<?> cls) {
+    Fury fury =
+        Fury.builder()
+            .withLanguage(Language.JAVA)
+            .withRefTracking(referenceTracking)
+            .withCodegen(codegen)
+            .withCompatibleMode(CompatibleMode.COMPATIBLE)
+            .withFieldSizeWritten(true)
+            .requireClassRegistration(requireClassRegistration)
+            .withClassLoader(cls.getClassLoader())
+            .build();
+    fury.register(cls);
+    fury.register(BeanB.class);
+    return fury;
+  }
 }
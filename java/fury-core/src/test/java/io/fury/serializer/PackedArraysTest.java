@@ -0,0 +1,175 @@
+/*
+ * Copyright 2023 The Fury Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fury.serializer;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import io.fury.Fury;
+import io.fury.FuryTestBase;
+import io.fury.annotation.Packed;
+import io.fury.memory.MemoryBuffer;
+import io.fury.memory.MemoryUtils;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.Data;
+import org.testng.annotations.Test;
+
+public class PackedArraysTest extends FuryTestBase {
+
+  private static int[][] intsCases() {
+    Random random = new Random(17);
+    int[] sorted = new int[1000];
+    for (int i = 1; i < sorted.length; i++) {
+      sorted[i] = sorted[i - 1] + random.nextInt(100);
+    }
+    int[] counters = new int[300];
+    for (int i = 0; i < counters.length; i++) {
+      counters[i] = 1000 + random.nextInt(16);
+    }
+    int[] randoms = new int[257];
+    for (int i = 0; i < randoms.length; i++) {
+      randoms[i] = random.nextInt();
+    }
+    return new int[][] {
+      {},
+      {1},
+      {Integer.MIN_VALUE, Integer.MAX_VALUE, 0, -1, Integer.MIN_VALUE},
+      new int[129],
+      sorted,
+      counters,
+      randoms
+    };
+  }
+
+  private static long[][] longsCases() {
+    Random random = new Random(17);
+    long[] timestamps = new long[1000];
+    timestamps[0] = 1700000000000L;
+    for (int i = 1; i < timestamps.length; i++) {
+      timestamps[i] = timestamps[i - 1] + random.nextInt(1000);
+    }
+    long[] randoms = new long[257];
+    for (int i = 0; i < randoms.length; i++) {
+      randoms[i] = random.nextLong();
+    }
+    long[] wide = new long[200];
+    for (int i = 0; i < wide.length; i++) {
+      wide[i] = random.nextLong() >>> (i % 40);
+    }
+    return new long[][] {
+      {},
+      {1},
+      {Long.MIN_VALUE, Long.MAX_VALUE, 0, -1, Long.MIN_VALUE, Integer.MAX_VALUE},
+      new long[129],
+      timestamps,
+      randoms,
+      wide
+    };
+  }
+
+  @Test
+  public void testPackInts() {
+    for (int[] ints : intsCases()) {
+      MemoryBuffer buffer = MemoryUtils.buffer(8);
+      buffer.writeByte(1);
+      PackedArrays.writeInts(buffer, ints);
+      buffer.writeByte(2);
+      buffer.readByte();
+      assertEquals(PackedArrays.readInts(buffer), ints);
+      assertEquals(buffer.readByte(), 2);
+      assertEquals(buffer.readerIndex(), buffer.writerIndex());
+    }
+    int[] sorted = intsCases()[4];
+    MemoryBuffer buffer = MemoryUtils.buffer(8);
+    PackedArrays.writeInts(buffer, sorted);
+    assertTrue(buffer.writerIndex() < sorted.length * 4 / 3, String.valueOf(buffer.writerIndex()));
+  }
+
+  @Test
+  public void testPackLongs() {
+    for (long[] longs : longsCases()) {
+      MemoryBuffer buffer = MemoryUtils.buffer(8);
+      buffer.writeByte(1);
+      PackedArrays.writeLongs(buffer, longs);
+      buffer.writeByte(2);
+      buffer.readByte();
+      assertEquals(PackedArrays.readLongs(buffer), longs);
+      assertEquals(buffer.readByte(), 2);
+      assertEquals(buffer.readerIndex(), buffer.writerIndex());
+    }
+    long[] timestamps = longsCases()[4];
+    MemoryBuffer buffer = MemoryUtils.buffer(8);
+    PackedArrays.writeLongs(buffer, timestamps);
+    assertTrue(buffer.writerIndex() < timestamps.length * 2, String.valueOf(buffer.writerIndex()));
+  }
+
+  @Test
+  public void testArrayPacked() {
+    Fury fury = Fury.builder().withArrayPacked(true).requireClassRegistration(false).build();
+    for (int[] ints : intsCases()) {
+      serDeCheck(fury, ints);
+    }
+    for (long[] longs : longsCases()) {
+      serDeCheck(fury, longs);
+    }
+    long[] timestamps = longsCases()[4];
+    assertTrue(fury.serialize(timestamps).length < getJavaFury().serialize(timestamps).length / 3);
+    // out-of-band buffers are not packed.
+    assertEquals(serDeOutOfBand(new AtomicInteger(), fury, fury, timestamps), timestamps);
+    // stream with small chunks
+    Fury streamFury =
+        Fury.builder()
+            .withArrayPacked(true)
+            .withStreamBufferSize(16)
+            .requireClassRegistration(false)
+            .build();
+    ByteArrayOutputStream bas = new ByteArrayOutputStream();
+    streamFury.serialize(bas, timestamps);
+    streamFury.serialize(bas, intsCases()[4]);
+    ByteArrayInputStream stream = new ByteArrayInputStream(bas.toByteArray());
+    assertEquals(streamFury.deserialize(stream), timestamps);
+    assertEquals(streamFury.deserialize(stream), intsCases()[4]);
+  }
+
+  @Data
+  public static class PackedFields {
+    @Packed public int[] ids;
+    @Packed public long[] timestamps;
+    public long[] raw;
+    @Packed public long[] nullArray;
+  }
+
+  @Test(dataProvider = "enableCodegen")
+  public void testPackedField(boolean codegen) {
+    Fury fury = Fury.builder().withCodegen(codegen).requireClassRegistration(false).build();
+    PackedFields fields = new PackedFields();
+    fields.ids = intsCases()[4];
+    fields.timestamps = longsCases()[4];
+    fields.raw = Arrays.copyOf(fields.timestamps, 10);
+    byte[] bytes = fury.serialize(fields);
+    assertEquals(fury.deserialize(bytes), fields);
+    assertTrue(bytes.length < (fields.ids.length * 4 + fields.timestamps.length * 8) / 3);
+    // data can be read by interpreter and jit serializer.
+    Fury fury2 = Fury.builder().withCodegen(!codegen).requireClassRegistration(false).build();
+    assertEquals(fury2.deserialize(bytes), fields);
+    assertEquals(fury.deserialize(fury2.serialize(fields)), fields);
+  }
+}
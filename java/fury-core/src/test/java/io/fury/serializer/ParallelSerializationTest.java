@@ -0,0 +1,146 @@
+/*
+ * Copyright 2023 The Fury Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fury.serializer;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertThrows;
+
+import io.fury.Fury;
+import io.fury.FuryTestBase;
+import io.fury.config.Language;
+import io.fury.exception.FuryException;
+import io.fury.memory.MemoryBuffer;
+import io.fury.memory.MemoryUtils;
+import io.fury.test.bean.BeanA;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import lombok.Data;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+
+public class ParallelSerializationTest extends FuryTestBase {
+  private final ForkJoinPool pool = new ForkJoinPool(4);
+
+  @AfterClass
+  public void shutdown() {
+    pool.shutdown();
+  }
+
+  @Data
+  public static final class Item {
+    public int id;
+    public String name;
+    public List<String> tags;
+  }
+
+  private static Fury createFury(boolean codegen) {
+    return Fury.builder()
+        .withLanguage(Language.JAVA)
+        .withCodegen(codegen)
+        .withRefTracking(false)
+        .requireClassRegistration(false)
+        .withStreamBufferSize(64)
+        .build();
+  }
+
+  private Fury createParallelFury(boolean codegen) {
+    Fury fury = createFury(codegen);
+    fury.setParallelSerialization(
+        new ParallelSerialization(pool, loader -> createFury(codegen), 10));
+    return fury;
+  }
+
+  private static List<Item> createItems(int size) {
+    List<Item> items = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      Item item = new Item();
+      item.id = i;
+      item.name = "item" + i % 7;
+      item.tags = new ArrayList<>(Arrays.asList("a" + i, "b"));
+      items.add(item);
+    }
+    return items;
+  }
+
+  @Test(dataProvider = "enableCodegen")
+  public void testCollection(boolean codegen) {
+    Fury fury = createParallelFury(codegen);
+    List<Item> items = createItems(1000);
+    byte[] bytes = fury.serialize(items);
+    assertNotEquals(bytes, createFury(codegen).serialize(items));
+    assertEquals(fury.deserialize(bytes), items);
+    items.set(5, null);
+    assertEquals(fury.deserialize(fury.serialize(items)), items);
+    HashSet<Item> set = new HashSet<>(createItems(100));
+    assertEquals(fury.deserialize(fury.serialize(set)), set);
+    // Small collections are written sequentially.
+    List<Item> smallList = createItems(5);
+    assertEquals(fury.serialize(smallList), createFury(codegen).serialize(smallList));
+    // Collections of different types are written sequentially.
+    List<Object> objects = new ArrayList<>(createItems(100));
+    objects.add(BeanA.createBeanA(2));
+    assertEquals(fury.serialize(objects), createFury(codegen).serialize(objects));
+    // Nested collections are written sequentially.
+    Item item = new Item();
+    item.tags = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      item.tags.add("tag" + i);
+    }
+    assertEquals(fury.serialize(item), createFury(codegen).serialize(item));
+  }
+
+  @Test(dataProvider = "enableCodegen")
+  public void testArray(boolean codegen) {
+    Fury fury = createParallelFury(codegen);
+    Item[] items = createItems(1000).toArray(new Item[0]);
+    items[3] = null;
+    byte[] bytes = fury.serialize(items);
+    assertNotEquals(bytes, createFury(codegen).serialize(items));
+    assertEquals((Item[]) fury.deserialize(bytes), items);
+    String[][] strings = new String[20][];
+    for (int i = 0; i < strings.length; i++) {
+      strings[i] = new String[] {"a" + i, null};
+    }
+    assertEquals((String[][]) fury.deserialize(fury.serialize(strings)), strings);
+  }
+
+  @Test
+  public void testStream() {
+    Fury fury = createParallelFury(true);
+    List<Item> items = createItems(1000);
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    fury.serialize(outputStream, items);
+    fury.serialize(outputStream, items);
+    ByteArrayInputStream inputStream = new ByteArrayInputStream(outputStream.toByteArray());
+    assertEquals(fury.deserialize(inputStream), items);
+    assertEquals(fury.deserialize(inputStream), items);
+  }
+
+  @Test
+  public void testReadWithoutParallelSerialization() {
+    Fury fury = createParallelFury(false);
+    MemoryBuffer buffer = MemoryUtils.buffer(32);
+    fury.serialize(buffer, createItems(100));
+    assertThrows(FuryException.class, () -> createFury(false).deserialize(buffer));
+  }
+}
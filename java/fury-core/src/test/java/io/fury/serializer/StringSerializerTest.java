@@ -25,9 +25,11 @@ import com.google.common.base.Strings;
 import io.fury.Fury;
 import io.fury.FuryTestBase;
 import io.fury.collection.Tuple2;
+import io.fury.config.CompatibleMode;
 import io.fury.config.Language;
 import io.fury.memory.MemoryBuffer;
 import io.fury.memory.MemoryUtils;
+import io.fury.resolver.MetaContext;
 import io.fury.util.MathUtils;
 import io.fury.util.Platform;
 import io.fury.util.ReflectionUtils;
@@ -35,7 +37,10 @@ import io.fury.util.StringUtils;
 import java.lang.reflect.Field;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentLinkedQueue;
@@ -368,6 +373,24 @@ public class StringSerializerTest extends FuryTestBase {
     assertFalse(StringSerializer.isAscii("Javaone Keynote\u1234".toCharArray()));
   }
 
+  @Test
+  public void testCompressAndInflateLatin1() {
+    for (int len = 0; len < 40; len++) {
+      char[] chars = new char[len];
+      for (int i = 0; i < len; i++) {
+        chars[i] = (char) ((i * 37 + len) & 0xff);
+      }
+      byte[] bytes = new byte[len + 3];
+      StringSerializer.compressLatin1(chars, bytes, 3, len);
+      for (int i = 0; i < len; i++) {
+        assertEquals(bytes[i + 3], (byte) chars[i]);
+      }
+      char[] inflated = new char[len];
+      StringSerializer.inflateLatin1(bytes, 3, inflated, len);
+      assertEquals(inflated, chars);
+    }
+  }
+
   @Test
   public void testReadUtf8String() {
     Fury fury = getJavaFury();
@@ -386,4 +409,106 @@ public class StringSerializerTest extends FuryTestBase {
       assertEquals(buffer.readerIndex(), buffer.writerIndex());
     }
   }
+
+  public static class StringFields {
+    public String f1;
+    public String f2;
+    public List<String> f3;
+
+    @Override
+    public boolean equals(Object o) {
+      if (!(o instanceof StringFields)) {
+        return false;
+      }
+      StringFields that = (StringFields) o;
+      return Objects.equals(f1, that.f1)
+          && Objects.equals(f2, that.f2)
+          && Objects.equals(f3, that.f3);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(f1, f2, f3);
+    }
+  }
+
+  private static List<StringFields> createStringFieldsList() {
+    List<StringFields> list = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      StringFields o = new StringFields();
+      // distinct instances with equal values.
+      o.f1 = new String("tag-" + i % 5);
+      o.f2 = i % 7 == 0 ? null : new String("你好-" + i % 3);
+      o.f3 = new ArrayList<>(Arrays.asList(new String("tag-" + i % 5), "v" + i));
+      list.add(o);
+    }
+    return list;
+  }
+
+  @Test(dataProvider = "enableCodegen")
+  public void testStringDeduplication(boolean enableCodegen) {
+    List<StringFields> list = createStringFieldsList();
+    Fury fury =
+        Fury.builder()
+            .withCodegen(enableCodegen)
+            .requireClassRegistration(false)
+            .withStringDeduplication(true)
+            .build();
+    Fury fury2 = Fury.builder().withCodegen(enableCodegen).requireClassRegistration(false).build();
+    byte[] bytes = fury.serialize(list);
+    Assert.assertTrue(bytes.length < fury2.serialize(list).length);
+    List<StringFields> newList = (List<StringFields>) fury.deserialize(bytes);
+    assertEquals(newList, list);
+    // equal strings are read as same instance.
+    Assert.assertSame(newList.get(0).f1, newList.get(5).f1);
+    Assert.assertSame(newList.get(0).f1, newList.get(0).f3.get(0));
+    // table is reset after every serialization.
+    assertEquals(fury.serialize(list), bytes);
+    assertEquals(fury.deserialize(bytes), list);
+    assertEquals(fury.deserialize(fury.serialize("abc")), "abc");
+  }
+
+  @Test
+  public void testStringDeduplicationTableSize() {
+    Fury fury =
+        Fury.builder()
+            .requireClassRegistration(false)
+            .withStringDeduplication(true)
+            .withStringTableSize(2)
+            .build();
+    List<String> list = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      list.add(new String("str" + i % 4));
+    }
+    List<String> newList = (List<String>) serDe(fury, list);
+    assertEquals(newList, list);
+    Assert.assertSame(newList.get(0), newList.get(4));
+    Assert.assertNotSame(newList.get(2), newList.get(6));
+  }
+
+  @Test
+  public void testStringDeduplicationWithMetaContext() {
+    Fury fury =
+        Fury.builder()
+            .requireClassRegistration(false)
+            .withCompatibleMode(CompatibleMode.COMPATIBLE)
+            .withMetaContextShare(true)
+            .withStringDeduplication(true)
+            .build();
+    List<StringFields> list = createStringFieldsList();
+    MetaContext writeContext = new MetaContext();
+    MetaContext readContext = new MetaContext();
+    fury.getSerializationContext().setMetaContext(writeContext);
+    byte[] bytes1 = fury.serialize(list);
+    fury.getSerializationContext().setMetaContext(writeContext);
+    byte[] bytes2 = fury.serialize(list);
+    // strings written by first serialization are shared by later serialization.
+    Assert.assertTrue(bytes2.length < bytes1.length);
+    fury.getSerializationContext().setMetaContext(readContext);
+    assertEquals(fury.deserialize(bytes1), list);
+    fury.getSerializationContext().setMetaContext(readContext);
+    List<StringFields> newList = (List<StringFields>) fury.deserialize(bytes2);
+    assertEquals(newList, list);
+    Assert.assertSame(newList.get(0).f1, readContext.stringTable.getReadString(0));
+  }
 }
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2023 The Fury Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fury.serializer;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import com.google.common.collect.ImmutableMap;
+import io.fury.Fury;
+import io.fury.FuryTestBase;
+import io.fury.builder.Generated;
+import io.fury.config.Language;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Data;
+import org.testng.annotations.Test;
+
+public class StructSerializerTest extends FuryTestBase {
+
+  @Data
+  public static class Inner {
+    public int f1;
+    public String f2;
+  }
+
+  @Data
+  public static class Struct {
+    public boolean f1;
+    public byte f2;
+    public short f3;
+    public int f4;
+    public long f5;
+    public float f6;
+    public double f7;
+    public String f8;
+    public List<String> f9;
+    public Map<String, Integer> f10;
+    public Inner f11;
+    public Object f12;
+    public Integer f13;
+    public int[] f14;
+  }
+
+  private static Fury newFury(boolean codegen) {
+    Fury fury =
+        Fury.builder()
+            .withLanguage(Language.XLANG)
+            .withRefTracking(true)
+            .withCodegen(codegen)
+            .requireClassRegistration(false)
+            .build();
+    fury.register(Inner.class, "test.Inner");
+    fury.register(Struct.class, "test.Struct");
+    return fury;
+  }
+
+  private static Struct newStruct() {
+    Struct struct = new Struct();
+    struct.f1 = true;
+    struct.f2 = Byte.MIN_VALUE;
+    struct.f3 = Short.MAX_VALUE;
+    struct.f4 = -1;
+    struct.f5 = Long.MAX_VALUE;
+    struct.f6 = 1.0f / 3;
+    struct.f7 = 1.0 / 3;
+    struct.f8 = "abc";
+    struct.f9 = new ArrayList<>(Arrays.asList("a", "b", null));
+    struct.f10 = new HashMap<>(ImmutableMap.of("k1", 1, "k2", 2));
+    Inner inner = new Inner();
+    inner.f1 = 10;
+    inner.f2 = "inner";
+    struct.f11 = inner;
+    struct.f12 = inner;
+    struct.f13 = null;
+    struct.f14 = new int[] {1, 2, 3};
+    return struct;
+  }
+
+  @Test
+  public void testStructCodegen() {
+    Fury codegenFury = newFury(true);
+    Fury interpreterFury = newFury(false);
+    assertTrue(
+        codegenFury.getClassResolver().getSerializer(Struct.class) instanceof Generated,
+        codegenFury.getClassResolver().getSerializer(Struct.class).getClass().getName());
+    assertTrue(
+        interpreterFury.getClassResolver().getSerializer(Struct.class) instanceof StructSerializer);
+    Struct struct = newStruct();
+    byte[] bytes1 = codegenFury.serialize(struct);
+    byte[] bytes2 = interpreterFury.serialize(struct);
+    assertEquals(bytes1, bytes2);
+    assertEquals(codegenFury.deserialize(bytes1), struct);
+    assertEquals(codegenFury.deserialize(bytes2), struct);
+    assertEquals(interpreterFury.deserialize(bytes1), struct);
+    Struct empty = new Struct();
+    assertEquals(serDe(codegenFury, empty), empty);
+    assertEquals(codegenFury.serialize(empty), interpreterFury.serialize(empty));
+  }
+
+  @Test(timeOut = 60000)
+  public void testStructAsyncCodegen() throws InterruptedException {
+    Fury fury =
+        Fury.builder()
+            .withLanguage(Language.XLANG)
+            .withRefTracking(true)
+            .withAsyncCompilation(true)
+            .requireClassRegistration(false)
+            .build();
+    fury.register(Inner.class, "test.Inner");
+    fury.register(Struct.class, "test.Struct");
+    Struct struct = newStruct();
+    // Struct serializer is used before jit finished.
+    byte[] bytes = fury.serialize(struct);
+    assertEquals(fury.deserialize(bytes), struct);
+    while (!(fury.getClassResolver().getSerializer(Struct.class) instanceof Generated)) {
+      Thread.sleep(10);
+    }
+    assertEquals(fury.serialize(struct), bytes);
+    assertEquals(fury.deserialize(bytes), struct);
+    assertEquals(fury.getClassResolver().getTypeTag(Struct.class), "test.Struct");
+  }
+}
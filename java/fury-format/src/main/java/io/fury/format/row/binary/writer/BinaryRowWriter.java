@@ -20,6 +20,7 @@ import static io.fury.memory.BitUtils.calculateBitmapWidthInBytes;
 
 import io.fury.format.row.binary.BinaryRow;
 import io.fury.memory.MemoryBuffer;
+import io.fury.memory.MemoryBufferPool;
 import io.fury.memory.MemoryUtils;
 import java.math.BigDecimal;
 import org.apache.arrow.vector.types.pojo.ArrowType;
@@ -41,7 +42,20 @@ public class BinaryRowWriter extends BinaryWriter {
   private final int fixedSize;
 
   public BinaryRowWriter(Schema schema) {
-    super(MemoryUtils.buffer(schema.getFields().size() * 32), 0);
+    this(schema, MemoryUtils.buffer(schema.getFields().size() * 32));
+  }
+
+  /**
+   * Create a writer whose buffer is acquired from <code>pool</code>. The buffer can be released by
+   * {@code pool.release(writer.getBuffer())} when the writer and rows pointed to the buffer are not
+   * used any more.
+   */
+  public BinaryRowWriter(Schema schema, MemoryBufferPool pool) {
+    this(schema, pool.acquire(schema.getFields().size() * 32));
+  }
+
+  private BinaryRowWriter(Schema schema, MemoryBuffer buffer) {
+    super(buffer, 0);
     super.startIndex = 0;
     this.schema = schema;
     this.headerInBytes = calculateBitmapWidthInBytes(schema.getFields().size());
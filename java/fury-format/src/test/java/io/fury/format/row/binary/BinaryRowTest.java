@@ -16,10 +16,14 @@
 
 package io.fury.format.row.binary;
 
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+
 import io.fury.format.row.binary.writer.BinaryArrayWriter;
 import io.fury.format.row.binary.writer.BinaryRowWriter;
 import io.fury.format.type.DataTypes;
 import io.fury.memory.MemoryBuffer;
+import io.fury.memory.MemoryBufferPool;
 import io.fury.memory.MemoryUtils;
 import io.fury.util.LoggerFactory;
 import io.fury.util.Platform;
@@ -247,4 +251,23 @@ public class BinaryRowTest {
     BinaryRow row = writer.getRow();
     System.out.println("row " + row);
   }
+
+  @Test
+  public void testPooledWriter() {
+    Schema schema =
+        new Schema(
+            Arrays.asList(
+                DataTypes.field("f1", DataTypes.int64()), DataTypes.field("f2", DataTypes.utf8())));
+    MemoryBufferPool pool = MemoryBufferPool.newHeapPool();
+    BinaryRowWriter writer = new BinaryRowWriter(schema, pool);
+    writer.reset();
+    writer.write(0, 10L);
+    writer.write(1, "str");
+    BinaryRow row = writer.getRow();
+    assertEquals(row.getLong(0), 10L);
+    assertEquals(row.getString(1), "str");
+    MemoryBuffer buffer = writer.getBuffer();
+    pool.release(buffer);
+    assertSame(new BinaryRowWriter(schema, pool).getBuffer(), buffer);
+  }
 }
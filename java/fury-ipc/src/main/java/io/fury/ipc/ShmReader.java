@@ -0,0 +1,116 @@
+/*
+ * Copyright 2023 The Fury Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fury.ipc;
+
+import io.fury.Fury;
+import io.fury.memory.MemoryBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Consumer of a {@link ShmRingBuffer}. Frames written by {@link ShmWriter} are deserialized in
+ * place from the shared region, out-of-band buffers are passed to {@link Fury} as slices of the
+ * region without copying.
+ *
+ * <p>Deserialized {@link java.nio.ByteBuffer}s point to the shared region, and the region of a
+ * frame will be reused by the writer once the frame is released, so objects are passed to a handler
+ * and must not retain such buffers after the handler returns.
+ *
+ * <p>This class is not thread-safe, there should be only one reader for a ring buffer.
+ *
+ * @author chaokunyang
+ */
+public class ShmReader {
+  private final Fury fury;
+  private final ShmRingBuffer ring;
+  private final MemoryBuffer data;
+  private final int capacity;
+  private final List<MemoryBuffer> outOfBandBuffers = new ArrayList<>();
+  private long readPosition;
+  // Cached write position to avoid reading the position written by producer for every read.
+  private long writePosition;
+
+  public ShmReader(Fury fury, ShmRingBuffer ring) {
+    this.fury = fury;
+    this.ring = ring;
+    capacity = ring.capacity();
+    data = ring.buffer().slice(ShmRingBuffer.DATA_OFFSET, capacity);
+    readPosition = ring.readPositionVolatile();
+    writePosition = ring.writePositionVolatile();
+  }
+
+  /**
+   * Read next object if available and pass it to <code>handler</code> without blocking.
+   *
+   * @return false if no object is available.
+   */
+  public boolean poll(Consumer<Object> handler) {
+    while (true) {
+      if (readPosition == writePosition) {
+        writePosition = ring.writePositionVolatile();
+        if (readPosition == writePosition) {
+          return false;
+        }
+      }
+      int offset = (int) (readPosition & (capacity - 1));
+      int frameSize = data.getInt(offset);
+      if (frameSize == ShmWriter.END_OF_RING) {
+        release(capacity - offset);
+        continue;
+      }
+      try {
+        handler.accept(readFrame(offset, frameSize));
+      } finally {
+        release(ShmWriter.FRAME_HEADER_SIZE + frameSize);
+      }
+      return true;
+    }
+  }
+
+  /** Read next object and pass it to <code>handler</code>, spin until an object is available. */
+  public void read(Consumer<Object> handler) {
+    while (!poll(handler)) {
+      Thread.yield();
+    }
+  }
+
+  private Object readFrame(int offset, int frameSize) {
+    MemoryBuffer data = this.data;
+    int inBandSize = data.getInt(offset + 4);
+    int start = offset + ShmWriter.FRAME_HEADER_SIZE;
+    int end = start + frameSize;
+    List<MemoryBuffer> outOfBandBuffers = this.outOfBandBuffers;
+    outOfBandBuffers.clear();
+    int index = (start + inBandSize + 7) & ~7;
+    while (index < end) {
+      int size = data.getInt(index);
+      outOfBandBuffers.add(data.slice(index + 8, size));
+      index = (index + 8 + size + 7) & ~7;
+    }
+    try {
+      return fury.deserialize(data.slice(start, inBandSize), outOfBandBuffers);
+    } finally {
+      outOfBandBuffers.clear();
+    }
+  }
+
+  private void release(int size) {
+    readPosition += size;
+    ring.putReadPositionOrdered(readPosition);
+  }
+}
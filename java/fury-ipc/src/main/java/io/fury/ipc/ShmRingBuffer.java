@@ -0,0 +1,177 @@
+/*
+ * Copyright 2023 The Fury Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fury.ipc;
+
+import com.google.common.base.Preconditions;
+import io.fury.memory.MemoryBuffer;
+import io.fury.util.Platform;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A single-producer/single-consumer ring buffer in a memory-mapped file, which can be shared by
+ * processes on same host. Data is written by {@link ShmWriter} and read by {@link ShmReader}.
+ *
+ * <p>Layout of the file:
+ *
+ * <pre>
+ * | 4-byte magic | 4-byte capacity | padding | 8-byte write position at 64 |
+ * | 8-byte read position at 128 | padding | data region of `capacity` bytes at 192 |
+ * </pre>
+ *
+ * <p>Positions are monotonic byte counters, so the region is empty if they are equal. The write
+ * position is updated by the producer only and the read position by the consumer only, they are
+ * placed in different cache lines to avoid false sharing.
+ *
+ * @author chaokunyang
+ */
+public class ShmRingBuffer implements Closeable {
+  static final int MAGIC_NUMBER = 0x46534852;
+  private static final int CAPACITY_OFFSET = 4;
+  private static final int WRITE_POSITION_OFFSET = 64;
+  private static final int READ_POSITION_OFFSET = 128;
+  static final int DATA_OFFSET = 192;
+
+  private final FileChannel channel;
+  private final MappedByteBuffer mappedBuffer;
+  private final MemoryBuffer buffer;
+  private final int capacity;
+  private final long address;
+
+  private ShmRingBuffer(FileChannel channel, MappedByteBuffer mappedBuffer) {
+    this.channel = channel;
+    this.mappedBuffer = mappedBuffer;
+    buffer = MemoryBuffer.fromByteBuffer(mappedBuffer);
+    address = buffer.getAddress();
+    capacity = buffer.getInt(CAPACITY_OFFSET);
+  }
+
+  /**
+   * Create a ring buffer in <code>file</code>, existing content of the file will be discarded.
+   *
+   * @param capacity size of the data region, must be a power of two and multiple of 8.
+   */
+  public static ShmRingBuffer create(Path file, int capacity) {
+    Preconditions.checkArgument(
+        capacity >= 64 && Integer.bitCount(capacity) == 1,
+        "Capacity %s should be a power of two not less than 64.",
+        capacity);
+    FileChannel channel = open(file, true);
+    try {
+      channel.truncate(0);
+      MappedByteBuffer mappedBuffer =
+          channel.map(FileChannel.MapMode.READ_WRITE, 0, DATA_OFFSET + capacity);
+      MemoryBuffer buffer = MemoryBuffer.fromByteBuffer(mappedBuffer);
+      buffer.putLong(WRITE_POSITION_OFFSET, 0);
+      buffer.putLong(READ_POSITION_OFFSET, 0);
+      buffer.putInt(CAPACITY_OFFSET, capacity);
+      // Write magic number last, so a partially initialized file won't be opened.
+      buffer.putInt(0, MAGIC_NUMBER);
+      return new ShmRingBuffer(channel, mappedBuffer);
+    } catch (IOException e) {
+      closeQuietly(channel);
+      throw new RuntimeException(e);
+    }
+  }
+
+  /** Open a ring buffer created by {@link #create} in another process or thread. */
+  public static ShmRingBuffer open(Path file) {
+    FileChannel channel = open(file, false);
+    try {
+      long size = channel.size();
+      Preconditions.checkArgument(size > DATA_OFFSET, "File %s is not a ring buffer.", file);
+      MappedByteBuffer mappedBuffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+      MemoryBuffer buffer = MemoryBuffer.fromByteBuffer(mappedBuffer);
+      Preconditions.checkArgument(
+          buffer.getInt(0) == MAGIC_NUMBER, "File %s is not a ring buffer.", file);
+      Preconditions.checkArgument(
+          buffer.getInt(CAPACITY_OFFSET) + DATA_OFFSET == size, "File %s is truncated.", file);
+      return new ShmRingBuffer(channel, mappedBuffer);
+    } catch (IOException | RuntimeException e) {
+      closeQuietly(channel);
+      if (e instanceof RuntimeException) {
+        throw (RuntimeException) e;
+      }
+      throw new RuntimeException(e);
+    }
+  }
+
+  private static FileChannel open(Path file, boolean create) {
+    try {
+      if (create) {
+        return FileChannel.open(
+            file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+      } else {
+        return FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+      }
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private static void closeQuietly(FileChannel channel) {
+    try {
+      channel.close();
+    } catch (IOException ignored) {
+      // ignore
+    }
+  }
+
+  public int capacity() {
+    return capacity;
+  }
+
+  /** Returns the mapped file, data region starts at {@link #DATA_OFFSET}. */
+  MemoryBuffer buffer() {
+    return buffer;
+  }
+
+  /** Returns address of data region. */
+  long dataAddress() {
+    return address + DATA_OFFSET;
+  }
+
+  long readPositionVolatile() {
+    return Platform.UNSAFE.getLongVolatile(null, address + READ_POSITION_OFFSET);
+  }
+
+  void putReadPositionOrdered(long position) {
+    Platform.UNSAFE.putOrderedLong(null, address + READ_POSITION_OFFSET, position);
+  }
+
+  long writePositionVolatile() {
+    return Platform.UNSAFE.getLongVolatile(null, address + WRITE_POSITION_OFFSET);
+  }
+
+  void putWritePositionOrdered(long position) {
+    Platform.UNSAFE.putOrderedLong(null, address + WRITE_POSITION_OFFSET, position);
+  }
+
+  /**
+   * Close the file channel. The mapping is released when this object is garbage collected, so
+   * objects deserialized in place must not be used after close.
+   */
+  @Override
+  public void close() throws IOException {
+    mappedBuffer.force();
+    channel.close();
+  }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2023 The Fury Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fury.ipc;
+
+import io.fury.Fury;
+import io.fury.memory.MemoryBuffer;
+import io.fury.memory.MemoryBufferSink;
+import io.fury.memory.MemoryUtils;
+import io.fury.serializer.BufferObject;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Producer of a {@link ShmRingBuffer}. Objects are serialized by {@link Fury} into the shared
+ * region directly, {@link BufferObject}s such as {@link java.nio.ByteBuffer}s and primitive arrays
+ * are written out-of-band after the serialized data in same frame, so {@link ShmReader} can read
+ * them in place without copying.
+ *
+ * <p>Frame layout, frames are aligned to 8 bytes:
+ *
+ * <pre>
+ * | 4-byte frame size | 4-byte in-band size | in-band data | out-of-band buffers |
+ * out-of-band buffer: | 4-byte size | 4-byte padding | buffer data |
+ * </pre>
+ *
+ * <p>A frame size of -1 marks the end of ring, next frame starts at beginning of the ring.
+ *
+ * <p>This class is not thread-safe, there should be only one writer for a ring buffer.
+ *
+ * @author chaokunyang
+ */
+public class ShmWriter {
+  static final int FRAME_HEADER_SIZE = 8;
+  static final int END_OF_RING = -1;
+  // Buffers smaller than this are copied in-band.
+  private static final int OUT_OF_BAND_THRESHOLD = 64;
+  private static final FrameOverflowException OVERFLOW = new FrameOverflowException();
+  private static final MemoryBufferSink OVERFLOW_SINK =
+      (buffer, minSize) -> {
+        throw OVERFLOW;
+      };
+
+  private final Fury fury;
+  private final ShmRingBuffer ring;
+  private final int capacity;
+  private final long dataAddress;
+  private final List<BufferObject> bufferObjects = new ArrayList<>();
+  private long writePosition;
+  // Cached read position to avoid reading the position written by consumer for every write.
+  private long readPosition;
+
+  public ShmWriter(Fury fury, ShmRingBuffer ring) {
+    this.fury = fury;
+    this.ring = ring;
+    capacity = ring.capacity();
+    dataAddress = ring.dataAddress();
+    writePosition = ring.writePositionVolatile();
+    readPosition = ring.readPositionVolatile();
+  }
+
+  /**
+   * Write <code>obj</code> into the ring buffer without blocking.
+   *
+   * @return false if the ring buffer doesn't have enough free space.
+   * @throws IllegalArgumentException if the serialized <code>obj</code> is larger than capacity.
+   */
+  public boolean offer(Object obj) {
+    while (true) {
+      long free = capacity - (writePosition - readPosition);
+      int offset = (int) (writePosition & (capacity - 1));
+      int contiguous = capacity - offset;
+      int available = (int) Math.min(free, contiguous);
+      if (available > FRAME_HEADER_SIZE && tryWrite(obj, offset, available)) {
+        return true;
+      }
+      if (free < capacity) {
+        long position = ring.readPositionVolatile();
+        if (position != readPosition) {
+          // Consumer made progress, try again with new free space.
+          readPosition = position;
+          continue;
+        }
+      }
+      if (contiguous < free) {
+        // Frame doesn't fit into the tail of the ring, skip the tail.
+        MemoryBuffer.fromNativeAddress(dataAddress + offset, contiguous).putInt(0, END_OF_RING);
+        writePosition += contiguous;
+        ring.putWritePositionOrdered(writePosition);
+        continue;
+      }
+      if (free == capacity) {
+        throw new IllegalArgumentException(
+            String.format("Object %s is larger than ring capacity %d", obj, capacity));
+      }
+      return false;
+    }
+  }
+
+  /** Write <code>obj</code> into the ring buffer, spin until enough free space is available. */
+  public void write(Object obj) {
+    while (!offer(obj)) {
+      Thread.yield();
+    }
+  }
+
+  private boolean tryWrite(Object obj, int offset, int available) {
+    MemoryBuffer buffer = MemoryUtils.buffer(dataAddress + offset, available);
+    buffer.setSink(OVERFLOW_SINK);
+    List<BufferObject> bufferObjects = this.bufferObjects;
+    bufferObjects.clear();
+    try {
+      buffer.writerIndex(FRAME_HEADER_SIZE);
+      fury.serialize(
+          buffer,
+          obj,
+          o -> {
+            if (o.totalBytes() < OUT_OF_BAND_THRESHOLD) {
+              return true;
+            }
+            bufferObjects.add(o);
+            return false;
+          });
+      int inBandSize = buffer.writerIndex() - FRAME_HEADER_SIZE;
+      align(buffer);
+      for (BufferObject bufferObject : bufferObjects) {
+        int size = bufferObject.totalBytes();
+        buffer.ensure(buffer.writerIndex() + 8 + size);
+        buffer.writeInt(size);
+        buffer.writeInt(0);
+        bufferObject.writeTo(buffer);
+        align(buffer);
+      }
+      int frameSize = buffer.writerIndex();
+      buffer.putInt(0, frameSize - FRAME_HEADER_SIZE);
+      buffer.putInt(4, inBandSize);
+      writePosition += frameSize;
+      // Publish the frame after its data is written.
+      ring.putWritePositionOrdered(writePosition);
+      return true;
+    } catch (FrameOverflowException e) {
+      return false;
+    } finally {
+      bufferObjects.clear();
+    }
+  }
+
+  private static void align(MemoryBuffer buffer) {
+    int writerIndex = buffer.writerIndex();
+    int aligned = (writerIndex + 7) & ~7;
+    if (aligned != writerIndex) {
+      buffer.ensure(aligned);
+      buffer.writerIndex(aligned);
+    }
+  }
+
+  /** Thrown when a frame exceeds available space, stack trace is not filled for fast rethrow. */
+  private static final class FrameOverflowException extends RuntimeException {
+    private FrameOverflowException() {
+      super("Frame overflow", null, false, false);
+    }
+  }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2023 The Fury Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fury.ipc;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+import io.fury.Fury;
+import io.fury.test.bean.BeanA;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.testng.annotations.Test;
+
+public class ShmRingBufferTest {
+
+  private static Fury createFury() {
+    return Fury.builder().requireClassRegistration(false).build();
+  }
+
+  private static Object createObject(int i) {
+    switch (i % 4) {
+      case 0:
+        return BeanA.createBeanA(2);
+      case 1:
+        ByteBuffer buffer = ByteBuffer.allocate(i % 200);
+        for (int j = 0; j < buffer.limit(); j++) {
+          buffer.put(j, (byte) (i + j));
+        }
+        return buffer;
+      case 2:
+        int[] ints = new int[i % 100];
+        for (int j = 0; j < ints.length; j++) {
+          ints[j] = i * j;
+        }
+        return ints;
+      default:
+        return "str" + i;
+    }
+  }
+
+  private static void checkObject(int i, Object obj) {
+    Object expected = createObject(i);
+    if (expected instanceof int[]) {
+      assertEquals((int[]) obj, (int[]) expected);
+    } else {
+      assertEquals(obj, expected);
+    }
+  }
+
+  @Test
+  public void testWriteRead() throws Exception {
+    Path path = Files.createTempFile("fury_ring", ".bin");
+    try (ShmRingBuffer writerRing = ShmRingBuffer.create(path, 1024);
+        ShmRingBuffer readerRing = ShmRingBuffer.open(path)) {
+      ShmWriter writer = new ShmWriter(createFury(), writerRing);
+      ShmReader reader = new ShmReader(createFury(), readerRing);
+      assertFalse(reader.poll(o -> {}));
+      assertTrue(writer.offer(createObject(1)));
+      List<Object> objects = new ArrayList<>();
+      assertTrue(reader.poll(objects::add));
+      assertEquals(objects.size(), 1);
+      checkObject(1, objects.get(0));
+      // Out-of-band ByteBuffer is read from shared memory in place.
+      writer.offer(createObject(101));
+      reader.poll(
+          o -> {
+            assertTrue(((ByteBuffer) o).isDirect());
+            checkObject(101, o);
+          });
+      // Fill the ring until it's full.
+      int count = 0;
+      while (writer.offer(createObject(0))) {
+        count++;
+      }
+      assertTrue(count > 0);
+      for (int i = 0; i < count; i++) {
+        assertTrue(reader.poll(o -> checkObject(0, o)));
+      }
+      assertFalse(reader.poll(o -> {}));
+      assertThrows(IllegalArgumentException.class, () -> writer.offer(new byte[2048]));
+    } finally {
+      Files.delete(path);
+    }
+  }
+
+  @Test
+  public void testConcurrentWriteRead() throws Exception {
+    Path path = Files.createTempFile("fury_ring", ".bin");
+    int numObjects = 20000;
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try (ShmRingBuffer writerRing = ShmRingBuffer.create(path, 4096);
+        ShmRingBuffer readerRing = ShmRingBuffer.open(path)) {
+      Future<?> future =
+          executor.submit(
+              () -> {
+                ShmWriter writer = new ShmWriter(createFury(), writerRing);
+                for (int i = 0; i < numObjects; i++) {
+                  writer.write(createObject(i));
+                }
+              });
+      ShmReader reader = new ShmReader(createFury(), readerRing);
+      for (int i = 0; i < numObjects; i++) {
+        int index = i;
+        reader.read(o -> checkObject(index, o));
+      }
+      future.get();
+      assertFalse(reader.poll(o -> {}));
+    } finally {
+      executor.shutdown();
+      Files.delete(path);
+    }
+  }
+}